@@ -77,7 +77,6 @@ rem works with dependencies that are not fully modularized, yet.
 
 echo creating java runtime image
 call "%JAVA_HOME%\bin\jlink" ^
-  --strip-native-commands ^
   --no-header-files ^
   --no-man-pages ^
   --compress=2 ^
@@ -88,6 +87,35 @@ call "%JAVA_HOME%\bin\jlink" ^
   --output target\java-runtime
 echo success creating custom java-runtime on target/java-runtime
 
+rem ------ CLASS DATA SHARING -------------------------------------------------
+rem Archive the classes loaded until the first window is painted, so they are
+rem mapped on start instead of loaded and verified. The runtime image gets the
+rem default archive of its own classes, the application archive is layered on
+rem top by a training run, which exits once the window is painted. Without the
+rem archive the application still starts, skip it with NAYANIKA_CDS=false.
+rem The native commands are only needed for the training run.
+
+mkdir target\installer\cds
+set cds_options=
+IF NOT "%NAYANIKA_CDS%"=="false" (
+  echo creating class data sharing archive
+  call target\java-runtime\bin\java -Xshare:dump > NUL
+  call target\java-runtime\bin\java ^
+    -Xms64m ^
+    -Xmx256m ^
+    -XX:+UseSerialGC ^
+    -XX:ArchiveClassesAtExit=target\installer\cds\nayanika.jsa ^
+    -Dnayanika.startup.exit=true ^
+    --module %MAIN_MODULE%/%MAIN_CLASS%
+)
+IF EXIST target\installer\cds\nayanika.jsa (
+  set cds_options=--input target\installer\cds --java-options -XX:SharedArchiveFile=$APPDIR\nayanika.jsa
+  echo success creating class data sharing archive on target/installer/cds
+) ELSE (
+  echo no class data sharing archive
+)
+del /Q target\java-runtime\bin\*.exe
+
 rem ------ PACKAGING ----------------------------------------------------------
 rem In the end we will find the package inside the target/installer directory.
 
@@ -107,6 +135,7 @@ call "%JAVA_HOME%\bin\jpackage" ^
   --java-options -Xms64m ^
   --java-options -Xmx256m ^
   --java-options -XX:+UseSerialGC ^
+  %cds_options% ^
   --runtime-image target\java-runtime ^
   --module %MAIN_MODULE%/%MAIN_CLASS% ^
   %EXTRA_ARGUMENTS% ^
@@ -84,7 +84,6 @@ echo "manual modules: ${manual_modules}"
 
 echo "creating java runtime image"
 $JAVA_HOME/bin/jlink \
-  --strip-native-commands \
   --no-header-files \
   --no-man-pages  \
   --compress=2  \
@@ -95,6 +94,40 @@ $JAVA_HOME/bin/jlink \
   --output target/java-runtime
 echo "success creating custom java-runtime on target/java-runtime"
 
+# ------ CLASS DATA SHARING -------------------------------------------------
+# Archive the classes loaded until the first window is painted, so they are
+# mapped on start instead of loaded and verified. The runtime image gets the
+# default archive of its own classes, the application archive is layered on
+# top by a training run, which exits once the window is painted. The training
+# run needs a display, xvfb-run is used when there is none. Without the
+# archive the application still starts, skip it with NAYANIKA_CDS=false.
+# The native commands are only needed for the training run.
+
+mkdir -p target/installer/cds
+cds_options=""
+if [ "${NAYANIKA_CDS}" != "false" ]; then
+  echo "creating class data sharing archive"
+  display_server=""
+  if [ -z "${DISPLAY}" ] && command -v xvfb-run > /dev/null; then
+    display_server="xvfb-run -a"
+  fi
+  target/java-runtime/bin/java -Xshare:dump > /dev/null
+  ${display_server} target/java-runtime/bin/java \
+    -Xms64m \
+    -Xmx256m \
+    -XX:+UseSerialGC \
+    -XX:ArchiveClassesAtExit=target/installer/cds/nayanika.jsa \
+    -Dnayanika.startup.exit=true \
+    --module ${MAIN_MODULE}/${MAIN_CLASS}
+fi
+if [ -f target/installer/cds/nayanika.jsa ]; then
+  cds_options="--input target/installer/cds --java-options -XX:SharedArchiveFile=\$APPDIR/nayanika.jsa"
+  echo "success creating class data sharing archive on target/installer/cds"
+else
+  echo "no class data sharing archive"
+fi
+rm -rfd ./target/java-runtime/bin
+
 # ------ PACKAGING ----------------------------------------------------------
 # In the end we will find the package inside the target/installer directory.
 
@@ -114,6 +147,7 @@ $JAVA_HOME/bin/jpackage \
   --java-options -Xms64m \
   --java-options -Xmx256m \
   --java-options -XX:+UseSerialGC \
+  ${cds_options} \
   --runtime-image target/java-runtime \
   --module ${MAIN_MODULE}/${MAIN_CLASS} \
   ${EXTRA_ARGUMENTS} \
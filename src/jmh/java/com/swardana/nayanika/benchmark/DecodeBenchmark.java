@@ -0,0 +1,109 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.benchmark;
+
+import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.base.gallery.StaticPicture;
+
+import javafx.scene.image.Image;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of decoding a picture.
+ * <p>
+ *     Decode the generated pictures on their full resolution, and to fit a
+ *     full HD frame as the picture frame does.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class DecodeBenchmark {
+
+    private static final int FRAME_WIDTH = 1920;
+    private static final int FRAME_HEIGHT = 1080;
+
+    @Param({"jpg", "png", "bmp"})
+    private String format;
+
+    @Param({"640x480", "1920x1080", "6000x4000"})
+    private String size;
+
+    private Picture picture;
+
+    /**
+     * Generate the picture fixture, when not yet generated.
+     */
+    @Setup
+    public void setUp() {
+        var dimension = this.size.split("x");
+        var file = Fixtures.picture(
+            this.format,
+            Integer.parseInt(dimension[0]),
+            Integer.parseInt(dimension[1])
+        );
+        this.picture = new StaticPicture(file.getFileName().toString(), file.toFile());
+    }
+
+    /**
+     * Decode the picture on its full resolution.
+     *
+     * @return the decoded picture.
+     * @throws IOException if fail to read the picture.
+     */
+    @Benchmark
+    public Image full() throws IOException {
+        try (var stream = this.picture.read()) {
+            return new Image(stream);
+        }
+    }
+
+    /**
+     * Decode the picture to fit the frame.
+     *
+     * @return the decoded picture.
+     * @throws IOException if fail to read the picture.
+     */
+    @Benchmark
+    public Image fitted() throws IOException {
+        try (var stream = this.picture.read()) {
+            return new Image(stream, FRAME_WIDTH, FRAME_HEIGHT, true, true);
+        }
+    }
+
+}
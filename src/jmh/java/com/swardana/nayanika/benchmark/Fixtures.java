@@ -0,0 +1,199 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.benchmark;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javax.imageio.ImageIO;
+
+/**
+ * The synthetic benchmark fixtures.
+ * <p>
+ *     The folders and pictures are generated once, under the
+ *     {@code nayanika.benchmark.fixtures} system property directory or the
+ *     temporary directory, and reused by the later runs. A fixture is
+ *     regenerated when its completion marker is missing.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public final class Fixtures {
+
+    private static final String MARKER = ".complete";
+    private static final int FOLDER_SIZE = 1000;
+    private static final int OTHER_FILE_RATIO = 10;
+    private static final int NOISE = 24;
+
+    private static final String[] FORMATS = {
+        "IMG_%d.JPG",
+        "DSC%05d.jpg",
+        "scan-%d-page%d.png",
+        "holiday %d (%d).jpeg",
+        "Screenshot from 2021-08-%2$02d %1$d.png",
+        "drawing-%d.bmp",
+        "animation_%d_%d.gif",
+    };
+
+    private Fixtures() {
+    }
+
+    /**
+     * Generate the unique picture names, in a random order.
+     *
+     * @param count the number of names.
+     * @return the picture names.
+     */
+    public static List<String> names(final int count) {
+        var random = new Random(count);
+        var names = new ArrayList<String>(count);
+        for (int i = 0; i < count; i++) {
+            var format = FORMATS[random.nextInt(FORMATS.length)];
+            names.add(String.format(format, i, random.nextInt(31)));
+        }
+        return names;
+    }
+
+    /**
+     * A flat folder of empty picture files.
+     * <p>
+     *     Every tenth file is not a picture, to be skipped by the search.
+     * </p>
+     *
+     * @param count the number of picture files.
+     * @return the folder.
+     */
+    public static Path folder(final int count) {
+        var folder = directory().resolve("folder-" + count);
+        if (!Files.exists(folder.resolve(MARKER))) {
+            write(folder, names(count));
+            complete(folder);
+        }
+        return folder;
+    }
+
+    /**
+     * A folder tree of empty picture files.
+     * <p>
+     *     The files are spread on the sub-folders of a thousand files each.
+     * </p>
+     *
+     * @param count the number of picture files.
+     * @return the root folder of the tree.
+     */
+    public static Path tree(final int count) {
+        var tree = directory().resolve("tree-" + count);
+        if (!Files.exists(tree.resolve(MARKER))) {
+            var names = names(count);
+            for (int i = 0; i < count; i += FOLDER_SIZE) {
+                var folder = tree.resolve(String.format("%04d", i / FOLDER_SIZE));
+                write(folder, names.subList(i, Math.min(count, i + FOLDER_SIZE)));
+            }
+            complete(tree);
+        }
+        return tree;
+    }
+
+    /**
+     * A generated picture.
+     * <p>
+     *     The picture is a colour gradient with a little noise, it compresses
+     *     like a photo rather than a flat colour.
+     * </p>
+     *
+     * @param format the picture format, {@code jpg}, {@code png} or {@code bmp}.
+     * @param width the picture width.
+     * @param height the picture height.
+     * @return the picture file.
+     */
+    public static Path picture(final String format, final int width, final int height) {
+        var folder = directory().resolve("pictures");
+        var file = folder.resolve(String.format("%dx%d.%s", width, height, format));
+        if (!Files.exists(file)) {
+            try {
+                Files.createDirectories(folder);
+                var temp = Files.createTempFile(folder, "picture", ".tmp");
+                if (!ImageIO.write(gradient(width, height), format, temp.toFile())) {
+                    throw new IOException("No picture writer for the format: " + format);
+                }
+                Files.move(temp, file);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException("Fail to generate the picture fixture!", ex);
+            }
+        }
+        return file;
+    }
+
+    private static BufferedImage gradient(final int width, final int height) {
+        var random = new Random((long) width * height);
+        var img = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column++) {
+                var red = Math.min(255, column * 255 / width + random.nextInt(NOISE));
+                var green = Math.min(255, row * 255 / height + random.nextInt(NOISE));
+                var blue = Math.min(
+                    255, (column + row) * 127 / (width + height) + random.nextInt(NOISE)
+                );
+                img.setRGB(column, row, red << 16 | green << 8 | blue);
+            }
+        }
+        return img;
+    }
+
+    private static Path directory() {
+        var base = System.getProperty(
+            "nayanika.benchmark.fixtures",
+            Paths.get(System.getProperty("java.io.tmpdir"), "nayanika-benchmark").toString()
+        );
+        return Paths.get(base);
+    }
+
+    private static void write(final Path folder, final List<String> names) {
+        try {
+            Files.createDirectories(folder);
+            for (int i = 0; i < names.size(); i++) {
+                var name = names.get(i);
+                Files.deleteIfExists(folder.resolve(name));
+                Files.createFile(folder.resolve(name));
+                if (i % OTHER_FILE_RATIO == 0) {
+                    Files.deleteIfExists(folder.resolve(name + ".xmp"));
+                    Files.createFile(folder.resolve(name + ".xmp"));
+                }
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Fail to generate the folder fixture!", ex);
+        }
+    }
+
+    private static void complete(final Path folder) {
+        try {
+            Files.deleteIfExists(folder.resolve(MARKER));
+            Files.createFile(folder.resolve(MARKER));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Fail to complete the fixture!", ex);
+        }
+    }
+
+}
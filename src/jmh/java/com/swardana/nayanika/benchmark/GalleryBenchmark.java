@@ -0,0 +1,103 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.benchmark;
+
+import com.swardana.nayanika.base.gallery.AscendingSortedPictures;
+import com.swardana.nayanika.base.gallery.Gallery;
+import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.base.gallery.PictureGallery;
+import com.swardana.nayanika.base.gallery.StaticPicture;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of moving the gallery to a picture.
+ * <p>
+ *     Move the sorted gallery with {@link Gallery#current(Picture)} to random
+ *     pictures, the pictures are looked up by an equal picture instance, as
+ *     opened from the file chooser.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class GalleryBenchmark {
+
+    private static final int TARGETS = 1024;
+
+    @Param({"1000", "100000", "1000000"})
+    private int count;
+
+    private Gallery gallery;
+    private Picture[] targets;
+    private int next;
+
+    /**
+     * Build the gallery and pick the target pictures.
+     */
+    @Setup
+    public void setUp() {
+        var pictures = new ArrayList<Picture>(this.count);
+        for (final var name : Fixtures.names(this.count)) {
+            pictures.add(new StaticPicture(name, new File(name)));
+        }
+        this.gallery = new PictureGallery(
+            "benchmark",
+            new AscendingSortedPictures(pictures).sorted()
+        );
+        var random = new Random(this.count);
+        this.targets = new Picture[TARGETS];
+        for (int i = 0; i < TARGETS; i++) {
+            var name = pictures.get(random.nextInt(this.count)).name();
+            this.targets[i] = new StaticPicture(name, new File(name));
+        }
+    }
+
+    /**
+     * Move the gallery to the next target picture.
+     *
+     * @return the gallery index.
+     */
+    @Benchmark
+    public int current() {
+        this.gallery.current(this.targets[this.next++ % TARGETS]);
+        return this.gallery.index();
+    }
+
+}
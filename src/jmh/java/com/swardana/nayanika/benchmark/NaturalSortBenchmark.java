@@ -0,0 +1,100 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.benchmark;
+
+import com.swardana.nayanika.base.gallery.AscendingSortedPictures;
+import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.base.gallery.StaticPicture;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of sorting the pictures in the natural order.
+ * <p>
+ *     Compare the sort on the precomputed keys of
+ *     {@link AscendingSortedPictures#sorted()} with the sort computing the
+ *     keys on every comparison of {@link AscendingSortedPictures#order()}.
+ *     The names mimic the camera, scanner and edited picture names, see
+ *     {@link Fixtures#names(int)}.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class NaturalSortBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int count;
+
+    private List<Picture> pictures;
+
+    /**
+     * Generate the un-ordered picture names.
+     */
+    @Setup
+    public void setUp() {
+        this.pictures = new ArrayList<>(this.count);
+        for (final var name : Fixtures.names(this.count)) {
+            this.pictures.add(new StaticPicture(name, new File(name)));
+        }
+    }
+
+    /**
+     * Sort on the keys computed once per picture.
+     *
+     * @return the sorted pictures.
+     */
+    @Benchmark
+    public List<Picture> precomputedKeys() {
+        return new AscendingSortedPictures(this.pictures).sorted();
+    }
+
+    /**
+     * Sort computing the keys on every comparison.
+     *
+     * @return the sorted pictures.
+     */
+    @Benchmark
+    public List<Picture> keysPerComparison() {
+        var sorted = new ArrayList<>(this.pictures);
+        sorted.sort(new AscendingSortedPictures(this.pictures).order());
+        return sorted;
+    }
+
+}
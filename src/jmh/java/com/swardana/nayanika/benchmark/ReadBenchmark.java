@@ -0,0 +1,137 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.benchmark;
+
+import com.swardana.nayanika.base.gallery.MappedPicture;
+import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.base.gallery.StaticPicture;
+
+import javafx.scene.image.Image;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Benchmark of reading a picture byte data.
+ * <p>
+ *     Compare the file stream of {@link StaticPicture} against the file
+ *     channel of {@link MappedPicture}, by hashing the picture bytes and by
+ *     decoding the picture. The mapped picture hash its byte buffer directly.
+ * </p>
+ * <p>
+ *     The pictures are read from the fixtures directory, to measure a network
+ *     mount point the fixtures to it, e.g.
+ *     {@code -Djmh.args="ReadBenchmark -jvmArgsAppend -Dnayanika.benchmark.fixtures=/mnt/share"}.
+ *     The pictures stay on the page cache between the iterations, drop the
+ *     cache beforehand to measure a cold read.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ReadBenchmark {
+
+    private static final int CHUNK = 8192;
+
+    @Param({"stream", "mapped"})
+    private String reader;
+
+    @Param({"jpg", "bmp"})
+    private String format;
+
+    @Param({"1920x1080", "6000x4000"})
+    private String size;
+
+    private Picture picture;
+
+    /**
+     * Generate the picture fixture, when not yet generated.
+     */
+    @Setup
+    public void setUp() {
+        var dimension = this.size.split("x");
+        var file = Fixtures.picture(
+            this.format,
+            Integer.parseInt(dimension[0]),
+            Integer.parseInt(dimension[1])
+        );
+        var name = file.getFileName().toString();
+        if ("mapped".equals(this.reader)) {
+            this.picture = new MappedPicture(name, file);
+        } else {
+            this.picture = new StaticPicture(name, file.toFile());
+        }
+    }
+
+    /**
+     * Hash the picture byte data.
+     *
+     * @return the picture checksum.
+     * @throws IOException if fail to read the picture.
+     */
+    @Benchmark
+    public long checksum() throws IOException {
+        var crc = new CRC32();
+        if (this.picture instanceof MappedPicture mapped) {
+            crc.update(mapped.buffer());
+        } else {
+            try (var stream = this.picture.read()) {
+                var chunk = new byte[CHUNK];
+                var read = stream.read(chunk);
+                while (read >= 0) {
+                    crc.update(chunk, 0, read);
+                    read = stream.read(chunk);
+                }
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Decode the picture on its full resolution.
+     *
+     * @return the decoded picture.
+     * @throws IOException if fail to read the picture.
+     */
+    @Benchmark
+    public Image decode() throws IOException {
+        try (var stream = this.picture.read()) {
+            return new Image(stream);
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.benchmark;
+
+import com.swardana.nayanika.base.gallery.FolderStorage;
+import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.base.gallery.RecursiveFolderStorage;
+import com.swardana.nayanika.base.gallery.SupportedPicture;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of searching the pictures on a folder.
+ * <p>
+ *     Search a flat folder with {@link FolderStorage} and a folder tree, of a
+ *     thousand files each sub-folder, with {@link RecursiveFolderStorage}.
+ *     Every tenth file on the fixtures is not a picture.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class StorageBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int count;
+
+    private Path folder;
+    private Path tree;
+
+    /**
+     * Generate the folder fixtures, when not yet generated.
+     */
+    @Setup
+    public void setUp() {
+        this.folder = Fixtures.folder(this.count);
+        this.tree = Fixtures.tree(this.count);
+    }
+
+    /**
+     * Search a flat folder.
+     *
+     * @return the found pictures.
+     */
+    @Benchmark
+    public List<Picture> folder() {
+        return new FolderStorage(this.folder).search(SupportedPicture.ALL);
+    }
+
+    /**
+     * Search a folder tree.
+     *
+     * @return the found pictures.
+     */
+    @Benchmark
+    public List<Picture> recursiveFolder() {
+        return new RecursiveFolderStorage(this.tree).search(SupportedPicture.ALL);
+    }
+
+}
@@ -19,32 +19,119 @@
 package com.swardana.nayanika;
 
 import com.swardana.nayanika.base.BuildVersion;
+import com.swardana.nayanika.base.StartupTiming;
 import com.swardana.nayanika.base.ThreadExecutor;
+import com.swardana.nayanika.base.gallery.GalleryExhibition;
+import com.swardana.nayanika.base.gallery.StaticPicture;
+import com.swardana.nayanika.base.gallery.SupportedPicture;
+import com.swardana.nayanika.base.gallery.TraversalOption;
+import com.swardana.nayanika.command.OpenGallery;
+import com.swardana.nayanika.control.ExhibitionControl;
 import com.swardana.nayanika.gui.AppVisual;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 /**
  * The bootstrap class for Nayanika application.
+ * <p>
+ *     The picture, or the folder, given as the first launch argument is
+ *     opened, e.g. {@code nayanika picture.jpg} or a picture opened from the
+ *     file manager through the installer file associations.
+ * </p>
+ * <p>
+ *     The sub-folders of the opened folder are searched as well with the
+ *     {@code --depth} launch parameter, the maximum folder depth, and
+ *     followed through the symbolic links or including the hidden ones with
+ *     the {@code --traversal} launch parameter, e.g.
+ *     {@code nayanika --depth=3 --traversal=follow_links,include_hidden photos}.
+ * </p>
+ * <p>
+ *     The window is shown before the non-critical startup work, see
+ *     {@link StartupTiming}. With the {@code nayanika.startup.exit} system
+ *     property the application exits once the window is painted, used by the
+ *     installer build to archive the startup classes.
+ * </p>
+ * <p>
+ *     The launch argument is opened while the window is being created, its
+ *     gallery is exhibited on the JavaFX Application Thread once the window
+ *     is shown.
+ * </p>
  *
  * @author Sukma Wardana
  */
 public class NayanikaApp extends Application {
 
+    private static final Logger LOGGER = Logger.getLogger(NayanikaApp.class.getName());
+
+    private static final double WIDTH = 600;
+    private static final double HEIGHT = 480;
+
+    private ExhibitionControl exhibition;
+    private OpenGallery openGallery;
+    private List<Runnable> pending;
+
+    /**
+     * Open the picture, or the folder, given as the launch argument.
+     * <p>
+     *     The folder search and the picture decode are started on the
+     *     picture pools while the window is being created. The picture is
+     *     decoded to fit the launch window.
+     * </p>
+     *
+     * @throws Exception if the initialization fails.
+     */
+    @Override
+    public void init() throws Exception {
+        super.init();
+        this.pending = new ArrayList<>();
+        this.exhibition = new ExhibitionControl(new GalleryExhibition());
+        this.openGallery = new OpenGallery(
+            this.exhibition, ThreadExecutor.getInstance().ioExecutor(), this::publish
+        );
+        this.searchOptions();
+        var file = this.argument();
+        if (file != null) {
+            LOGGER.log(
+                Level.INFO,
+                "Open the launch argument. [file={0}]",
+                new Object[]{file.toString()}
+            );
+            if (file.isFile()) {
+                this.exhibition.preload(new StaticPicture(file.getName(), file), WIDTH, HEIGHT);
+            }
+            this.openGallery.execute(file, SupportedPicture.ALL);
+        }
+    }
+
     @Override
     public void start(final Stage stage) throws Exception {
         var title = I18N.INSTANCE.message("this.name")
             + "-"
             + BuildVersion.getInstance().buildVersion();
-        var app = new AppVisual(stage);
-        var scene = new Scene(app, 600, 480);
+        var app = new AppVisual(stage, this.exhibition, this.openGallery);
+        var scene = new Scene(app, WIDTH, HEIGHT);
         scene.getStylesheets().add(AppPlatform.CSS_STYLE);
         stage.setScene(scene);
         stage.setTitle(title);
-        stage.getIcons().add(new Image(AppPlatform.ICON));
         stage.show();
+
+        var timing = StartupTiming.getInstance();
+        timing.shown(scene);
+        timing.defer(() -> stage.getIcons().add(new Image(AppPlatform.ICON)));
+        this.publishPending();
+        if (Boolean.getBoolean("nayanika.startup.exit")) {
+            // a training run, e.g. to archive the loaded classes at exit.
+            timing.defer(Platform::exit);
+        }
     }
 
     @Override
@@ -53,4 +140,71 @@ public class NayanikaApp extends Application {
         ThreadExecutor.getInstance().shutdown();
     }
 
+    /**
+     * Publish on the JavaFX Application Thread, held until the window is
+     * shown.
+     *
+     * @param task the task to publish, e.g. the launch gallery exhibition.
+     */
+    private synchronized void publish(final Runnable task) {
+        if (this.pending == null) {
+            Platform.runLater(task);
+        } else {
+            this.pending.add(task);
+        }
+    }
+
+    /**
+     * Publish the tasks held until the window is shown, in order.
+     */
+    private synchronized void publishPending() {
+        this.pending.forEach(Platform::runLater);
+        this.pending = null;
+    }
+
+    /**
+     * Apply the folder search launch parameters to the open gallery command.
+     */
+    private void searchOptions() {
+        var named = this.getParameters().getNamed();
+        try {
+            if (named.containsKey("depth")) {
+                this.openGallery.depth(Integer.parseInt(named.get("depth")));
+            }
+            if (named.containsKey("traversal")) {
+                this.openGallery.traversal(TraversalOption.parse(named.get("traversal")));
+            }
+        } catch (final IllegalArgumentException ex) {
+            LOGGER.log(
+                Level.WARNING,
+                "Ignore the invalid folder search parameter. [params={0}]",
+                new Object[]{named.toString()}
+            );
+        }
+    }
+
+    /**
+     * The picture, or the folder, given as the first launch argument, e.g.
+     * when the picture is opened from the file manager.
+     *
+     * @return the existing file, or {@code null} if there is none.
+     */
+    private File argument() {
+        File result = null;
+        var args = this.getParameters().getUnnamed();
+        if (!args.isEmpty()) {
+            var file = new File(args.get(0));
+            if (file.exists()) {
+                result = file;
+            } else {
+                LOGGER.log(
+                    Level.WARNING,
+                    "The launch argument doesn't exist. [file={0}]",
+                    new Object[]{file.toString()}
+                );
+            }
+        }
+        return result;
+    }
+
 }
@@ -0,0 +1,82 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base;
+
+/**
+ * A picture thumbnail browser.
+ * <p>
+ *     Browse the gallery pictures through their thumbnails, either on a single
+ *     row filmstrip along the picture frame or on a grid replacing it.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public interface Browser {
+
+    /**
+     * Display the thumbnail filmstrip along the picture frame.
+     * <p>
+     *     This operation will change {@link #layout()} to
+     *     {@link Layout#FILMSTRIP}.
+     * </p>
+     */
+    void showFilmstrip();
+
+    /**
+     * Display the thumbnail grid instead of the picture frame.
+     * <p>
+     *     This operation will change {@link #layout()} to {@link Layout#GRID}.
+     * </p>
+     */
+    void showGrid();
+
+    /**
+     * Hide the thumbnail browser.
+     * <p>
+     *     This operation will change {@link #layout()} to
+     *     {@link Layout#HIDDEN}.
+     * </p>
+     */
+    void hideBrowser();
+
+    /**
+     * The displayed thumbnail browser layout.
+     *
+     * @return the browser layout.
+     */
+    Layout layout();
+
+    /**
+     * The thumbnail browser layout.
+     */
+    enum Layout {
+        /**
+         * The browser is not displayed.
+         */
+        HIDDEN,
+        /**
+         * A single row of thumbnails along the picture frame.
+         */
+        FILMSTRIP,
+        /**
+         * Rows of thumbnails instead of the picture frame.
+         */
+        GRID
+    }
+
+}
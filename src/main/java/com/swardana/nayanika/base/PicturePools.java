@@ -0,0 +1,66 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base;
+
+import java.util.concurrent.Executor;
+
+/**
+ * The executors a picture is loaded on.
+ * <p>
+ *     The picture byte data is read on the fetcher executor, which could
+ *     wait on many slow reads at once, then the picture is decoded on the
+ *     decoder executor, which is bound to the processors.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public final class PicturePools {
+
+    private final Executor fetcher;
+    private final Executor decoder;
+
+    /**
+     * Creates new PicturePools.
+     *
+     * @param fetcher the background executor to read the picture byte data.
+     * @param decoder the background executor to decode the picture.
+     */
+    public PicturePools(final Executor fetcher, final Executor decoder) {
+        this.fetcher = fetcher;
+        this.decoder = decoder;
+    }
+
+    /**
+     * The background executor to read the picture byte data.
+     *
+     * @return the fetcher executor.
+     */
+    public Executor fetcher() {
+        return this.fetcher;
+    }
+
+    /**
+     * The background executor to decode the picture.
+     *
+     * @return the decoder executor.
+     */
+    public Executor decoder() {
+        return this.decoder;
+    }
+
+}
@@ -19,6 +19,7 @@
 package com.swardana.nayanika.base;
 
 import com.swardana.nayanika.base.gallery.Gallery;
+import com.swardana.nayanika.base.slideshow.PlayOrder;
 
 /**
  * A slide-show presentation.
@@ -41,6 +42,20 @@ public interface Presentation {
      */
     void time(double time);
 
+    /**
+     * Update the current play order for presentation slide.
+     *
+     * @param order the new active play order.
+     */
+    void order(PlayOrder order);
+
+    /**
+     * The current play order for presentation slide.
+     *
+     * @return the active play order.
+     */
+    PlayOrder order();
+
     /**
      * Start play the slide-show presentation.
      * <p>
@@ -0,0 +1,164 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.base;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Nayanika startup timing.
+ * <p>
+ *     A singleton to log the startup milestones, the window shown, the first
+ *     window painted and the first picture painted, in milliseconds since the
+ *     Java virtual machine is started.
+ * </p>
+ * <p>
+ *     The non-critical startup work is deferred until the window is painted
+ *     for the first time, so it doesn't delay the first window. The startup
+ *     milestones are observed on the JavaFX Application Thread.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public final class StartupTiming {
+
+    private static final Logger LOGGER = Logger.getLogger(StartupTiming.class.getName());
+
+    private static StartupTiming instance;
+
+    private final long started;
+    private final List<Runnable> deferred;
+
+    private boolean painted;
+    private boolean picturePainted;
+
+    private StartupTiming() {
+        this.started = ProcessHandle.current().info().startInstant()
+            .map(Instant::toEpochMilli)
+            .orElseGet(System::currentTimeMillis);
+        this.deferred = new ArrayList<>();
+    }
+
+    public static StartupTiming getInstance() {
+        if (instance == null) {
+            instance = new StartupTiming();
+        }
+        return instance;
+    }
+
+    /**
+     * Mark the primary window is shown.
+     * <p>
+     *     The deferred work runs right after the window is painted.
+     * </p>
+     *
+     * @param scene the primary window scene.
+     */
+    public void shown(final Scene scene) {
+        LOGGER.log(
+            Level.INFO,
+            "The window is shown. [elapsed={0} ms]",
+            new Object[]{this.elapsed()}
+        );
+        this.afterPulse(scene, () -> {
+            LOGGER.log(
+                Level.INFO,
+                "The window is painted. [elapsed={0} ms]",
+                new Object[]{this.elapsed()}
+            );
+            this.painted = true;
+            this.deferred.forEach(Platform::runLater);
+            this.deferred.clear();
+        });
+    }
+
+    /**
+     * Mark the first picture is shown.
+     * <p>
+     *     Only the first picture is logged once it is painted, the later
+     *     pictures are ignored.
+     * </p>
+     *
+     * @param scene the scene showing the picture.
+     */
+    public void pictureShown(final Scene scene) {
+        if (!this.picturePainted && scene != null) {
+            this.picturePainted = true;
+            this.afterPulse(scene, () -> LOGGER.log(
+                Level.INFO,
+                "The first picture is painted. [elapsed={0} ms]",
+                new Object[]{this.elapsed()}
+            ));
+        }
+    }
+
+    /**
+     * Defer the non-critical startup work until the window is painted.
+     * <p>
+     *     The work runs later on the JavaFX Application Thread, right away if
+     *     the window is already painted.
+     * </p>
+     *
+     * @param task the non-critical startup work.
+     */
+    public void defer(final Runnable task) {
+        if (this.painted) {
+            Platform.runLater(task);
+        } else {
+            this.deferred.add(task);
+        }
+    }
+
+    private long elapsed() {
+        return System.currentTimeMillis() - this.started;
+    }
+
+    /**
+     * Run the action once, on the next pulse the scene is laid out and going
+     * to be rendered.
+     * <p>
+     *     The pulse listener is removed later, the scene doesn't allow it to
+     *     be removed while the pulse listeners are being called.
+     * </p>
+     *
+     * @param scene the scene.
+     * @param action the action.
+     */
+    private void afterPulse(final Scene scene, final Runnable action) {
+        scene.addPostLayoutPulseListener(new Runnable() {
+            private boolean done;
+
+            @Override
+            public void run() {
+                if (!this.done) {
+                    this.done = true;
+                    Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+                    action.run();
+                }
+            }
+        });
+    }
+
+}
@@ -0,0 +1,301 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.base;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded and instrumented thread pool.
+ * <p>
+ *     The pool runs up to a fixed number of daemon threads, which are stopped
+ *     once idle for a while, and keeps up to a fixed number of pending tasks.
+ *     A task submitted to a full pool is rejected with
+ *     {@link RejectedExecutionException}, the submitter decides whether to
+ *     drop it or to fail it.
+ * </p>
+ * <p>
+ *     The pending tasks are taken in submission order, in reverse submission
+ *     order, or by their {@link TaskPriority} and then in submission order.
+ * </p>
+ * <p>
+ *     The pool counts its rejected tasks, the time the tasks wait on the
+ *     queue and the time they run.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public final class TaskPool extends ThreadPoolExecutor {
+
+    private static final long KEEP_ALIVE = 60L;
+
+    private final String name;
+    private final AtomicLong sequence;
+    private final LongAdder rejected;
+    private final LongAdder finished;
+    private final LongAdder waiting;
+    private final LongAdder running;
+
+    /**
+     * Creates new TaskPool.
+     *
+     * @param name the pool name, prefix of its thread names.
+     * @param threads the maximum number of threads.
+     * @param queue the pending tasks queue.
+     */
+    TaskPool(final String name, final int threads, final BlockingQueue<Runnable> queue) {
+        super(
+            threads, threads,
+            KEEP_ALIVE, TimeUnit.SECONDS,
+            queue,
+            daemon(name),
+            (task, pool) -> {
+                ((TaskPool) pool).rejected.increment();
+                throw new RejectedExecutionException("The " + name + " pool is full!");
+            }
+        );
+        this.allowCoreThreadTimeOut(true);
+        this.name = name;
+        this.sequence = new AtomicLong();
+        this.rejected = new LongAdder();
+        this.finished = new LongAdder();
+        this.waiting = new LongAdder();
+        this.running = new LongAdder();
+    }
+
+    /**
+     * Creates a pool which takes the pending tasks in submission order.
+     *
+     * @param name the pool name.
+     * @param threads the maximum number of threads.
+     * @param capacity the maximum number of pending tasks.
+     * @return the first in first out pool.
+     */
+    public static TaskPool fifo(final String name, final int threads, final int capacity) {
+        return new TaskPool(name, threads, new LinkedBlockingQueue<>(capacity));
+    }
+
+    /**
+     * Creates a pool which takes the most recently submitted task first.
+     *
+     * @param name the pool name.
+     * @param threads the maximum number of threads.
+     * @param capacity the maximum number of pending tasks.
+     * @return the last in first out pool.
+     */
+    public static TaskPool lifo(final String name, final int threads, final int capacity) {
+        return new TaskPool(name, threads, new LastInFirstOutQueue(capacity));
+    }
+
+    /**
+     * Creates a pool which takes the pending tasks by their priority.
+     *
+     * @param name the pool name.
+     * @param threads the maximum number of threads.
+     * @param capacity the maximum number of pending tasks.
+     * @return the priority pool.
+     */
+    public static TaskPool priority(final String name, final int threads, final int capacity) {
+        return new TaskPool(name, threads, new BoundedPriorityQueue(capacity));
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        super.execute(new Task(task, this.sequence.getAndIncrement()));
+    }
+
+    /**
+     * The pool name.
+     *
+     * @return the pool name.
+     */
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * The number of pending tasks.
+     *
+     * @return the queue depth.
+     */
+    public int queued() {
+        return this.getQueue().size();
+    }
+
+    /**
+     * The number of rejected tasks.
+     *
+     * @return the rejected task count.
+     */
+    public long rejected() {
+        return this.rejected.sum();
+    }
+
+    /**
+     * The average time the finished tasks waited on the queue.
+     *
+     * @return the average waiting time in milliseconds.
+     */
+    public double averageWait() {
+        return average(this.waiting.sum(), this.finished.sum());
+    }
+
+    /**
+     * The average time the finished tasks ran.
+     *
+     * @return the average running time in milliseconds.
+     */
+    public double averageRun() {
+        return average(this.running.sum(), this.finished.sum());
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s[threads=%d, active=%d, queued=%d, completed=%d, rejected=%d,"
+                + " wait=%.1fms, run=%.1fms]",
+            this.name, this.getPoolSize(), this.getActiveCount(), this.queued(),
+            this.getCompletedTaskCount(), this.rejected(), this.averageWait(), this.averageRun()
+        );
+    }
+
+    @Override
+    protected void beforeExecute(final Thread thread, final Runnable task) {
+        if (task instanceof Task timed) {
+            timed.started = System.nanoTime();
+        }
+    }
+
+    @Override
+    protected void afterExecute(final Runnable task, final Throwable error) {
+        if (task instanceof Task timed) {
+            this.waiting.add(timed.started - timed.submitted);
+            this.running.add(System.nanoTime() - timed.started);
+            this.finished.increment();
+        }
+    }
+
+    private static double average(final long nanos, final long count) {
+        var result = 0.0;
+        if (count > 0) {
+            result = nanos / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+        return result;
+    }
+
+    private static ThreadFactory daemon(final String name) {
+        var count = new AtomicInteger();
+        return task -> {
+            var thread = new Thread(task, "nayanika-" + name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * A submitted task, with its priority, submission order and timing.
+     */
+    private static final class Task implements Runnable, Comparable<Task> {
+
+        private final Runnable task;
+        private final TaskPriority priority;
+        private final long order;
+        private final long submitted;
+        private long started;
+
+        Task(final Runnable task, final long order) {
+            this.task = task;
+            this.priority = TaskPriority.from(task);
+            this.order = order;
+            this.submitted = System.nanoTime();
+        }
+
+        @Override
+        public void run() {
+            this.task.run();
+        }
+
+        @Override
+        public int compareTo(final Task other) {
+            var result = this.priority.compareTo(other.priority);
+            if (result == 0) {
+                result = Long.compare(this.order, other.order);
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * A task queue that takes the most recently offered task first.
+     */
+    private static final class LastInFirstOutQueue extends LinkedBlockingDeque<Runnable> {
+
+        private static final long serialVersionUID = 1L;
+
+        LastInFirstOutQueue(final int capacity) {
+            super(capacity);
+        }
+
+        @Override
+        public boolean offer(final Runnable task) {
+            return this.offerFirst(task);
+        }
+
+    }
+
+    /**
+     * A priority task queue that refuses to keep more than its capacity.
+     */
+    private static final class BoundedPriorityQueue extends PriorityBlockingQueue<Runnable> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        BoundedPriorityQueue(final int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public boolean offer(final Runnable task) {
+            var result = false;
+            if (this.size() < this.capacity) {
+                result = super.offer(task);
+            }
+            return result;
+        }
+
+        @Override
+        public int remainingCapacity() {
+            return Math.max(0, this.capacity - this.size());
+        }
+
+    }
+
+}
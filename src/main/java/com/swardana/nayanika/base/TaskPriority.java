@@ -0,0 +1,88 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.base;
+
+/**
+ * A task priority.
+ * <p>
+ *     The priority is honoured by the priority {@link TaskPool}, any other
+ *     executor runs the prioritized task as a plain task. The task without a
+ *     priority is treated as {@link #VISIBLE}.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public enum TaskPriority {
+
+    /**
+     * The task of what the user is currently waiting for.
+     */
+    VISIBLE,
+
+    /**
+     * The task of what the user might need later, e.g. prefetching.
+     */
+    BACKGROUND;
+
+    /**
+     * Prioritize a task.
+     *
+     * @param task the task to run.
+     * @return the prioritized task.
+     */
+    public Runnable task(final Runnable task) {
+        return new PrioritizedTask(task, this);
+    }
+
+    /**
+     * The priority of a task.
+     *
+     * @param task the task to run.
+     * @return the task priority, or {@link #VISIBLE} if the task is not
+     *         prioritized.
+     */
+    public static TaskPriority from(final Runnable task) {
+        var result = VISIBLE;
+        if (task instanceof PrioritizedTask prioritized) {
+            result = prioritized.priority;
+        }
+        return result;
+    }
+
+    /**
+     * A task with its priority.
+     */
+    private static final class PrioritizedTask implements Runnable {
+
+        private final Runnable task;
+        private final TaskPriority priority;
+
+        PrioritizedTask(final Runnable task, final TaskPriority priority) {
+            this.task = task;
+            this.priority = priority;
+        }
+
+        @Override
+        public void run() {
+            this.task.run();
+        }
+
+    }
+
+}
@@ -18,8 +18,9 @@
 
 package com.swardana.nayanika.base;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -27,8 +28,34 @@ import java.util.logging.Logger;
 /**
  * A thread pool executor.
  * <p>
- *     A singleton for {@link ExecutorService} instance with cached
- *     thread pool.
+ *     A singleton for the bounded {@link TaskPool} of each kind of task, so a
+ *     burst of one kind doesn't starve the others nor spawn unbounded threads.
+ *     Every pool rejects the task submitted when its queue is full.
+ * </p>
+ * <p>
+ *     The I/O executor searches the opened folders and fetches the picture
+ *     byte data, its threads mostly wait on the file system. It starts a
+ *     virtual thread for each task when {@link VirtualThreads} are
+ *     available, so thousands of folders on a slow network share could be
+ *     searched at once, otherwise it is a bounded pool.
+ * </p>
+ * <p>
+ *     The decode executor decodes the pictures, up to the number of
+ *     processors at once. The {@link TaskPriority#VISIBLE} picture is decoded
+ *     before the {@link TaskPriority#BACKGROUND} prefetch.
+ * </p>
+ * <p>
+ *     The thumbnail executor is a separate bounded thread pool, its most
+ *     recently submitted task runs first, so the thumbnails on view are loaded
+ *     before the ones requested while scrolling past them.
+ * </p>
+ * <p>
+ *     The watch executor runs the long living folder watches, apart from the
+ *     other tasks, so they don't hold back the shutdown.
+ * </p>
+ * <p>
+ *     The pool metrics are logged on shutdown, and could be read anytime from
+ *     the {@link #pools()}, except the virtual threads.
  * </p>
  *
  * @author Sukma Wardana
@@ -37,11 +64,21 @@ public final class ThreadExecutor {
 
     private static final Logger LOGGER = Logger.getLogger(ThreadExecutor.class.getName());
 
-    private final ExecutorService executor = Executors.newCachedThreadPool(r -> {
-        var thread = new Thread(r);
-        thread.setDaemon(true);
-        return thread;
-    });
+    private static final int PROCESSORS = Runtime.getRuntime().availableProcessors();
+    private static final int IO_THREADS = 16;
+    private static final int DECODE_THREADS = Math.min(PROCESSORS, 4);
+    private static final int THUMBNAIL_THREADS = Math.max(1, PROCESSORS / 2);
+    private static final int WATCH_THREADS = 2;
+
+    private final ExecutorService ioExecutor = ioExecutor(VirtualThreads.executor());
+
+    private final TaskPool decodeExecutor = TaskPool.priority("decode", DECODE_THREADS, 64);
+
+    private final TaskPool thumbnailExecutor = TaskPool.lifo(
+        "thumbnail", THUMBNAIL_THREADS, 256
+    );
+
+    private final TaskPool watchExecutor = TaskPool.fifo("watch", WATCH_THREADS, 8);
 
     private ThreadExecutor(){}
 
@@ -49,34 +86,78 @@ public final class ThreadExecutor {
         return ThreadExecutorHelper.INSTANCE;
     }
 
-    public ExecutorService executor() {
-        return this.executor;
+    public ExecutorService ioExecutor() {
+        return this.ioExecutor;
+    }
+
+    public ExecutorService decodeExecutor() {
+        return this.decodeExecutor;
+    }
+
+    public ExecutorService thumbnailExecutor() {
+        return this.thumbnailExecutor;
+    }
+
+    public ExecutorService watchExecutor() {
+        return this.watchExecutor;
+    }
+
+    public PicturePools picturePools() {
+        return new PicturePools(this.ioExecutor, this.decodeExecutor);
+    }
+
+    public List<TaskPool> pools() {
+        var result = new ArrayList<TaskPool>();
+        if (this.ioExecutor instanceof TaskPool pool) {
+            result.add(pool);
+        }
+        result.addAll(List.of(this.decodeExecutor, this.thumbnailExecutor, this.watchExecutor));
+        return result;
     }
 
     public void shutdown() {
+        for (final var pool : this.pools()) {
+            LOGGER.log(Level.FINE, "Executor metrics. [pool={0}]", pool);
+        }
+
+        LOGGER.log(Level.FINE, "Cancel the pending decode and thumbnail tasks.");
+        this.decodeExecutor.shutdownNow();
+        this.thumbnailExecutor.shutdownNow();
+
+        LOGGER.log(Level.FINE, "Stop the folder watches.");
+        this.watchExecutor.shutdownNow();
+
         LOGGER.log(Level.FINE, "Disable new tasks from being submitted.");
-        this.executor.shutdown();
+        this.ioExecutor.shutdown();
 
         try {
             LOGGER.log(Level.FINE, "Wait a while for existing tasks to terminate.");
-            if (!this.executor.awaitTermination(60, TimeUnit.SECONDS)) {
+            if (!this.ioExecutor.awaitTermination(60, TimeUnit.SECONDS)) {
                 LOGGER.log(Level.FINE, "Cancel currently executing tasks.");
-                this.executor.shutdownNow();
+                this.ioExecutor.shutdownNow();
 
                 LOGGER.log(Level.FINE, "Wait a while for tasks to respond to being cancelled.");
-                if (!this.executor.awaitTermination(60, TimeUnit.SECONDS)) {
+                if (!this.ioExecutor.awaitTermination(60, TimeUnit.SECONDS)) {
                     LOGGER.log(Level.WARNING, "The executor service did not terminate.");
                 }
             }
         } catch (final InterruptedException ex) {
             LOGGER.log(Level.FINE, "(Re-)Cancel if current thread also interrupted.");
-            this.executor.shutdown();
+            this.ioExecutor.shutdown();
 
             LOGGER.log(Level.FINE, "Preserve interrupt status.");
             Thread.currentThread().interrupt();
         }
     }
 
+    private static ExecutorService ioExecutor(final ExecutorService virtual) {
+        ExecutorService result = virtual;
+        if (result == null) {
+            result = TaskPool.fifo("io", IO_THREADS, 1024);
+        }
+        return result;
+    }
+
     private static class ThreadExecutorHelper {
         private static final ThreadExecutor INSTANCE = new ThreadExecutor();
     }
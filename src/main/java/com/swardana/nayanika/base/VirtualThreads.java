@@ -0,0 +1,98 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.base;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The virtual threads of the running Java platform.
+ * <p>
+ *     The application is built for a Java platform without virtual threads,
+ *     the virtual thread per task executor is looked up when the application
+ *     runs. It is not available on an older Java platform, nor when the
+ *     {@code nayanika.executor.virtual} system property is {@code false}.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public final class VirtualThreads {
+
+    private static final Logger LOGGER = Logger.getLogger(VirtualThreads.class.getName());
+
+    private static final Method FACTORY = factory();
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Check whether the virtual threads are available or not.
+     *
+     * @return {@code true} if the virtual threads are available.
+     */
+    public static boolean available() {
+        return FACTORY != null;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task.
+     *
+     * @return the virtual thread per task executor, or {@code null} if the
+     *         virtual threads are not available.
+     */
+    public static ExecutorService executor() {
+        ExecutorService result = null;
+        if (FACTORY != null) {
+            result = create(FACTORY);
+        }
+        return result;
+    }
+
+    private static Method factory() {
+        Method result = null;
+        if (Boolean.parseBoolean(System.getProperty("nayanika.executor.virtual", "true"))) {
+            try {
+                var method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                // the preview virtual threads refuse to start when not enabled.
+                create(method).shutdown();
+                result = method;
+            } catch (final NoSuchMethodException | UnsupportedOperationException ex) {
+                LOGGER.log(
+                    Level.FINE,
+                    "The virtual threads are not available. [java={0}]",
+                    new Object[]{Runtime.version()}
+                );
+            }
+        }
+        return result;
+    }
+
+    private static ExecutorService create(final Method factory) {
+        try {
+            return (ExecutorService) factory.invoke(null);
+        } catch (final IllegalAccessException | InvocationTargetException ex) {
+            throw new UnsupportedOperationException("Fail to create virtual threads!", ex);
+        }
+    }
+
+}
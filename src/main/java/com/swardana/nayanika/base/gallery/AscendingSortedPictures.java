@@ -18,16 +18,19 @@
 
 package com.swardana.nayanika.base.gallery;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * An ascending sort algorithm.
  * <p>
- *     Sort pictures in ascending order by picture name.
+ *     Sort pictures in ascending natural order by picture name, see
+ *     {@link NaturalSortKey}. The sort key of every picture is computed once
+ *     before the sort instead of on every comparison.
  * </p>
  *
  * @author Sukma Wardana
@@ -49,10 +52,15 @@ public class AscendingSortedPictures implements SortedPictures {
 
     @Override
     public final List<Picture> sorted() {
-        var comparator = new NumberAsNameComparator();
-        List<Picture> sorted = this.pictures.stream()
-            .sorted(comparator)
-            .collect(Collectors.toList());
+        var keyed = new KeyedPicture[this.pictures.size()];
+        for (int i = 0; i < keyed.length; i++) {
+            keyed[i] = new KeyedPicture(this.pictures.get(i));
+        }
+        Arrays.sort(keyed);
+        var sorted = new ArrayList<Picture>(keyed.length);
+        for (final var each : keyed) {
+            sorted.add(each.picture);
+        }
         if (LOGGER.isLoggable(Level.FINER)) {
             LOGGER.log(Level.FINER, "Pictures before sort in ascending order:");
             this.pictures.forEach(
@@ -75,42 +83,43 @@ public class AscendingSortedPictures implements SortedPictures {
         return sorted;
     }
 
-    final class NumberAsNameComparator implements Comparator<Picture> {
+    @Override
+    public final Comparator<Picture> order() {
+        return new NumberAsNameComparator();
+    }
 
-        private static final String DIGIT_AND_DECIMAL_REGEX = "[^\\d]";
+    /**
+     * Compare the pictures in the natural order of their names.
+     * <p>
+     *     The sort keys are computed on every comparison, fit for merging the
+     *     sorted pictures, use {@link #sorted()} to sort them instead.
+     * </p>
+     */
+    final class NumberAsNameComparator implements Comparator<Picture> {
 
         @Override
         public int compare(final Picture first, final Picture second) {
-            int result;
-            if (this.isNumber(first.name()) && this.isNumber(second.name())) {
-                result = this.number(first.name()) - this.number(second.name());
-            } else {
-                result = first.name().compareTo(second.name());
-            }
-            return result;
+            return new NaturalSortKey(first.name()).compareTo(new NaturalSortKey(second.name()));
         }
 
-        private boolean isNumber(final String name) {
-            boolean result = false;
-            var temp = name.replaceAll(DIGIT_AND_DECIMAL_REGEX, "");
-            if (!"".equals(temp)) {
-                try {
-                    Integer.parseInt(temp);
-                    result = true;
-                } catch (final NumberFormatException ex) {
-                    result = false;
-                }
-            }
-            return result;
+    }
+
+    /**
+     * A picture with its precomputed sort key.
+     */
+    private static final class KeyedPicture implements Comparable<KeyedPicture> {
+
+        private final NaturalSortKey key;
+        private final Picture picture;
+
+        KeyedPicture(final Picture picture) {
+            this.key = new NaturalSortKey(picture.name());
+            this.picture = picture;
         }
 
-        private int number(final String name) {
-            var number = name.replaceAll(DIGIT_AND_DECIMAL_REGEX, "");
-            int result = 1;
-            if (!number.isEmpty()) {
-                result = Integer.parseInt(number);
-            }
-            return result;
+        @Override
+        public int compareTo(final KeyedPicture other) {
+            return this.key.compareTo(other.key);
         }
 
     }
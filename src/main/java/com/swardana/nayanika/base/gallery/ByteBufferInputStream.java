@@ -0,0 +1,96 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.base.gallery;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An input stream over a byte buffer.
+ * <p>
+ *     The bytes are read from the buffer as is, without system calls. The
+ *     stream doesn't own any resource, closing it does nothing.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+    private int marked;
+
+    /**
+     * Creates new ByteBufferInputStream.
+     *
+     * @param buffer the buffer to read, from its position up to its limit.
+     */
+    public ByteBufferInputStream(final ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.marked = buffer.position();
+    }
+
+    @Override
+    public int read() {
+        var result = -1;
+        if (this.buffer.hasRemaining()) {
+            result = this.buffer.get() & 0xFF;
+        }
+        return result;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) {
+        var result = -1;
+        if (length == 0) {
+            result = 0;
+        } else if (this.buffer.hasRemaining()) {
+            result = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, result);
+        }
+        return result;
+    }
+
+    @Override
+    public long skip(final long count) {
+        var skipped = (int) Math.max(0, Math.min(count, this.buffer.remaining()));
+        this.buffer.position(this.buffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return this.buffer.remaining();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(final int limit) {
+        this.marked = this.buffer.position();
+    }
+
+    @Override
+    public synchronized void reset() {
+        this.buffer.position(this.marked);
+    }
+
+}
@@ -24,13 +24,16 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * A computer folder.
  * <p>
- *     Find pictures inside the computer folder.
+ *     Find pictures inside the computer folder. The pictures could be found
+ *     in batches, so a folder with a huge number of files doesn't need to be
+ *     listed completely before showing its pictures.
  * </p>
  *
  * @author Sukma Wardana
@@ -39,7 +42,10 @@ public class FolderStorage implements Storage {
 
     private static final Logger LOGGER = Logger.getLogger(FolderStorage.class.getName());
 
+    private static final int BATCH_SIZE = 256;
+
     private final Path directory;
+    private final int batchSize;
 
     /**
      * Creates new FolderStorage.
@@ -47,11 +53,32 @@ public class FolderStorage implements Storage {
      * @param dir the folder directory.
      */
     public FolderStorage(final Path dir) {
+        this(dir, BATCH_SIZE);
+    }
+
+    /**
+     * Creates new FolderStorage.
+     *
+     * @param dir the folder directory.
+     * @param batchSize the number of pictures on each found batch.
+     */
+    public FolderStorage(final Path dir, final int batchSize) {
         this.directory = dir;
+        this.batchSize = batchSize;
     }
 
     @Override
     public final List<Picture> search(final SupportedPicture filter) {
+        var pictures = new ArrayList<Picture>();
+        this.search(filter, pictures::addAll);
+        return pictures;
+    }
+
+    @Override
+    public final void search(
+        final SupportedPicture filter,
+        final Consumer<List<Picture>> batches
+    ) {
         final DirectoryStream<Path> stream;
         try {
             stream = Files.newDirectoryStream(this.directory, filter.pattern());
@@ -69,26 +96,12 @@ public class FolderStorage implements Storage {
                 "Search pictures in directory. [dir={0}]",
                 new Object[]{this.directory.toString()}
             );
-            var pictures = new ArrayList<Picture>();
-            for (final var path : stream) {
-                pictures.add(
-                    new StaticPicture(
-                        path.getFileName().toString(),
-                        path.toFile()
-                    )
-                );
-                LOGGER.log(
-                    Level.FINE,
-                    "Add picture into collection. [picture={0}]",
-                    new Object[]{path.toString()}
-                );
-            }
+            var found = this.search(stream, batches);
             LOGGER.log(
                 Level.INFO,
                 "Pictures from directory successfully add to collections. [dir={0}, picSize={1}]",
-                new Object[]{this.directory.toString(), pictures.size()}
+                new Object[]{this.directory.toString(), found}
             );
-            return pictures;
         } finally {
             try {
                 stream.close();
@@ -103,4 +116,42 @@ public class FolderStorage implements Storage {
         }
     }
 
+    /**
+     * Hand over the pictures of the directory stream in batches.
+     *
+     * @param stream the directory stream.
+     * @param batches the consumer of each batch of pictures.
+     * @return the number of pictures found.
+     */
+    private int search(
+        final DirectoryStream<Path> stream,
+        final Consumer<List<Picture>> batches
+    ) {
+        var found = 0;
+        var batch = new ArrayList<Picture>(this.batchSize);
+        for (final var path : stream) {
+            batch.add(
+                new StaticPicture(
+                    path.getFileName().toString(),
+                    path.toFile()
+                )
+            );
+            LOGGER.log(
+                Level.FINE,
+                "Add picture into collection. [picture={0}]",
+                new Object[]{path.toString()}
+            );
+            if (batch.size() == this.batchSize) {
+                found += batch.size();
+                batches.accept(batch);
+                batch = new ArrayList<>(this.batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            found += batch.size();
+            batches.accept(batch);
+        }
+        return found;
+    }
+
 }
@@ -0,0 +1,280 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.base.gallery;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A live watch of a gallery folder.
+ * <p>
+ *     The pictures created on or deleted from the folder are applied to the
+ *     gallery, the created pictures are merged into the gallery order and the
+ *     deleted pictures are removed. A renamed picture is a deleted and a
+ *     created picture.
+ * </p>
+ * <p>
+ *     The folder events are coalesced until the folder is quiet for a
+ *     moment, or up to a second, and each touched file is checked once on
+ *     the file system, so a storm of events is applied as a single change.
+ *     When the events are lost, the folder is listed again and compared with
+ *     the pictures known so far, without sorting the whole folder again.
+ * </p>
+ * <p>
+ *     Only the folder itself is watched, not its sub-folders.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public final class FolderWatch implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(FolderWatch.class.getName());
+
+    private static final long QUIET = 100;
+    private static final long LATENCY = 1000;
+
+    private final Path directory;
+    private final SupportedPicture filter;
+    private final PathMatcher matcher;
+    private final Set<Path> known;
+    private final WatchService service;
+
+    /**
+     * Creates new FolderWatch.
+     * <p>
+     *     The folder is watched since created, the events are kept until
+     *     {@link #watch(Gallery)} applies them.
+     * </p>
+     *
+     * @param dir the gallery folder.
+     * @param filter the supported picture filter.
+     * @throws IOException if the folder could not be watched.
+     */
+    public FolderWatch(final Path dir, final SupportedPicture filter) throws IOException {
+        this.directory = dir.toAbsolutePath().normalize();
+        this.filter = filter;
+        this.matcher = this.directory.getFileSystem().getPathMatcher("glob:" + filter.pattern());
+        this.known = ConcurrentHashMap.newKeySet();
+        this.service = this.directory.getFileSystem().newWatchService();
+        try {
+            this.directory.register(
+                this.service,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_DELETE
+            );
+        } catch (final IOException ex) {
+            this.service.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Tell the pictures already part of the gallery.
+     * <p>
+     *     The pictures outside of the watched folder are ignored.
+     * </p>
+     *
+     * @param pictures the gallery pictures.
+     */
+    public void found(final List<Picture> pictures) {
+        for (final var pic : pictures) {
+            var path = pic.path();
+            if (path != null) {
+                path = path.toAbsolutePath().normalize();
+                if (this.directory.equals(path.getParent())) {
+                    this.known.add(path);
+                }
+            }
+        }
+    }
+
+    /**
+     * Apply the folder changes to the gallery until closed.
+     * <p>
+     *     This operation blocks the current thread. The gallery is changed on
+     *     the current thread, see {@link Gallery#merge(List, java.util.Comparator)}
+     *     and {@link Gallery#remove(List)}.
+     * </p>
+     *
+     * @param gallery the gallery of the folder pictures.
+     */
+    public void watch(final Gallery gallery) {
+        LOGGER.log(
+            Level.FINE,
+            "Watch the gallery folder. [dir={0}]",
+            new Object[]{this.directory.toString()}
+        );
+        try {
+            var valid = true;
+            while (valid) {
+                valid = this.coalesce(gallery, this.service.take());
+            }
+            LOGGER.log(
+                Level.INFO,
+                "The gallery folder is no longer accessible. [dir={0}]",
+                new Object[]{this.directory.toString()}
+            );
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final ClosedWatchServiceException ex) {
+            LOGGER.log(Level.FINE, "The gallery folder watch is closed.");
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.service.close();
+        } catch (final IOException ex) {
+            LOGGER.log(Level.WARNING, "Fail to close the gallery folder watch!", ex);
+        }
+    }
+
+    private boolean coalesce(
+        final Gallery gallery,
+        final WatchKey first
+    ) throws InterruptedException {
+        var touched = new LinkedHashSet<Path>();
+        var overflow = this.drain(first, touched);
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(LATENCY);
+        var key = this.service.poll(QUIET, TimeUnit.MILLISECONDS);
+        while (key != null) {
+            overflow |= this.drain(key, touched);
+            key = null;
+            if (System.nanoTime() < deadline) {
+                key = this.service.poll(QUIET, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (overflow) {
+            this.rescan(gallery);
+        } else {
+            this.apply(gallery, touched);
+        }
+        return first.isValid();
+    }
+
+    private boolean drain(final WatchKey key, final Set<Path> touched) {
+        var overflow = false;
+        for (final var event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                overflow = true;
+            } else {
+                touched.add(this.directory.resolve((Path) event.context()));
+            }
+        }
+        key.reset();
+        return overflow;
+    }
+
+    private void apply(final Gallery gallery, final Set<Path> touched) {
+        var created = new ArrayList<Picture>();
+        var deleted = new ArrayList<Picture>();
+        for (final var path : touched) {
+            if (this.matcher.matches(path.getFileName())) {
+                this.reconcile(path, created, deleted);
+            }
+        }
+        publish(gallery, created, deleted);
+    }
+
+    private void reconcile(
+        final Path path,
+        final List<Picture> created,
+        final List<Picture> deleted
+    ) {
+        if (Files.isRegularFile(path)) {
+            if (this.known.add(path)) {
+                created.add(picture(path));
+            }
+        } else if (this.known.remove(path)) {
+            deleted.add(picture(path));
+        }
+    }
+
+    private void rescan(final Gallery gallery) {
+        LOGGER.log(
+            Level.INFO,
+            "Lost the gallery folder events, list the folder again. [dir={0}]",
+            new Object[]{this.directory.toString()}
+        );
+        var listed = new HashSet<Path>();
+        try (var stream = Files.newDirectoryStream(this.directory, this.filter.pattern())) {
+            stream.forEach(listed::add);
+        } catch (final IOException ex) {
+            LOGGER.log(Level.WARNING, "Fail to list the gallery folder again!", ex);
+            listed.addAll(this.known);
+        }
+        var created = new ArrayList<Picture>();
+        var deleted = new ArrayList<Picture>();
+        for (final var path : listed) {
+            if (this.known.add(path)) {
+                created.add(picture(path));
+            }
+        }
+        var iterator = this.known.iterator();
+        while (iterator.hasNext()) {
+            var path = iterator.next();
+            if (!listed.contains(path)) {
+                iterator.remove();
+                deleted.add(picture(path));
+            }
+        }
+        publish(gallery, created, deleted);
+    }
+
+    private static void publish(
+        final Gallery gallery,
+        final List<Picture> created,
+        final List<Picture> deleted
+    ) {
+        if (!deleted.isEmpty()) {
+            gallery.remove(deleted);
+        }
+        if (!created.isEmpty()) {
+            var sorted = new AscendingSortedPictures(created);
+            gallery.merge(sorted.sorted(), sorted.order());
+        }
+        LOGGER.log(
+            Level.FINE,
+            "Applied the gallery folder changes. [created={0}, deleted={1}]",
+            new Object[]{created.size(), deleted.size()}
+        );
+    }
+
+    private static Picture picture(final Path path) {
+        return new StaticPicture(path.getFileName().toString(), path.toFile());
+    }
+
+}
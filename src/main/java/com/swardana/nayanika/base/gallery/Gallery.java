@@ -18,6 +18,9 @@
 
 package com.swardana.nayanika.base.gallery;
 
+import java.util.Comparator;
+import java.util.List;
+
 /**
  * A picture gallery.
  * <p>
@@ -72,12 +75,40 @@ public interface Gallery extends Iterable<Picture> {
      */
     Picture current();
 
+    /**
+     * Get the picture at the given position of this gallery.
+     * <p>
+     *     This operation will not affect the state of this gallery.
+     * </p>
+     *
+     * @param index the position of the picture, start from {@code 0}.
+     * @return the picture at the given position.
+     * @throws IndexOutOfBoundsException if the position is out of this
+     * gallery range.
+     */
+    Picture picture(int index);
+
+    /**
+     * The position of the current active picture on this gallery.
+     *
+     * @return the current active picture position, start from {@code 0}.
+     */
+    int index();
+
+    /**
+     * The number of pictures on this gallery.
+     *
+     * @return the number of pictures.
+     */
+    int size();
+
     /**
      * Update the current active picture on this gallery.
      * <p>
      *     Change the current active picture with new one. Attention, the new
      *     picture must be part of this gallery, otherwise will throws
-     *     {@link IllegalArgumentException}.
+     *     {@link IllegalArgumentException}. The picture is looked up by its
+     *     file path, or by its name if it is not a file.
      * </p>
      * <p>
      *     Changing the current active picture will affect gallery state:
@@ -94,6 +125,35 @@ public interface Gallery extends Iterable<Picture> {
      */
     void current(Picture pic);
 
+    /**
+     * Merge more pictures into this gallery.
+     * <p>
+     *     The pictures are merged into the gallery order, a picture with the
+     *     same file path as the gallery picture is already part of the gallery.
+     *     The current active picture stays the same, but its position could
+     *     change. Used when the gallery pictures are found in batches.
+     * </p>
+     *
+     * @param sorted the pictures sorted in the gallery order.
+     * @param order the gallery order.
+     */
+    void merge(List<Picture> sorted, Comparator<Picture> order);
+
+    /**
+     * Remove pictures from this gallery.
+     * <p>
+     *     The pictures are looked up by their file path, the pictures which
+     *     are not part of this gallery are ignored. The current active picture
+     *     stays the same, but its position could change. When the current
+     *     active picture itself is removed, the next picture becomes the
+     *     current active picture, or the last picture if there is no next one.
+     *     Used when the pictures are deleted from the gallery folder.
+     * </p>
+     *
+     * @param pictures the pictures to remove.
+     */
+    void remove(List<Picture> pictures);
+
     /**
      * Update the current active picture to the next picture from this gallery.
      * <p>
@@ -0,0 +1,132 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.base.gallery;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A picture read through a file channel.
+ * <p>
+ *     The picture file of at least {@code nayanika.picture.map} bytes, one
+ *     megabyte by default, is memory mapped, its bytes are paged in by the
+ *     operating system as they are read. The smaller picture file is read
+ *     whole with a single bulk read, instead of the small reads of a file
+ *     stream.
+ * </p>
+ * <p>
+ *     Both the byte data stream and the byte buffer read the picture bytes
+ *     without copying them into an intermediate buffer. Attention, a mapped
+ *     picture file is released only when its buffer is garbage collected,
+ *     some file systems don't allow to delete the file meanwhile.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public class MappedPicture implements Picture {
+
+    private static final long MAP_THRESHOLD = Long.getLong("nayanika.picture.map", 1L << 20);
+
+    private final String name;
+    private final Path file;
+    private final Path key;
+
+    /**
+     * Creates new MappedPicture.
+     *
+     * @param name the picture name, could have extension as well.
+     * @param pic the {@link Path} of this picture.
+     */
+    public MappedPicture(final String name, final Path pic) {
+        this.name = name;
+        this.file = pic;
+        this.key = pic.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public final String name() {
+        return this.name;
+    }
+
+    @Override
+    public final InputStream read() throws IOException {
+        return new ByteBufferInputStream(this.buffer());
+    }
+
+    @Override
+    public final Path path() {
+        return this.file;
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        var result = this == obj;
+        if (!result && obj instanceof MappedPicture other) {
+            result = this.key.equals(other.key);
+        }
+        return result;
+    }
+
+    @Override
+    public final int hashCode() {
+        return this.key.hashCode();
+    }
+
+    /**
+     * Read byte data of this picture.
+     * <p>
+     *     Each call reads the picture again into a new read-only buffer, from
+     *     the first byte of the picture up to its limit.
+     * </p>
+     *
+     * @return the read-only byte data buffer.
+     * @throws IOException if fail to read this picture byte data.
+     */
+    public final ByteBuffer buffer() throws IOException {
+        final ByteBuffer result;
+        try (var channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+            var size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("The picture is too large to read: " + this.file);
+            }
+            if (size >= MAP_THRESHOLD) {
+                result = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                result = readFully(channel, (int) size).asReadOnlyBuffer();
+            }
+        }
+        return result;
+    }
+
+    private static ByteBuffer readFully(
+        final FileChannel channel, final int size
+    ) throws IOException {
+        var buffer = ByteBuffer.allocate(size);
+        var read = 0;
+        while (buffer.hasRemaining() && read >= 0) {
+            read = channel.read(buffer);
+        }
+        return buffer.flip();
+    }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.base.gallery;
+
+/**
+ * A natural order sort key of a picture name.
+ * <p>
+ *     The name is split into runs of digits and runs of non-digits once, when
+ *     the key is created. The keys compare the runs in order, the digit runs
+ *     by their numeric value of any length and the other runs ignoring the
+ *     letter case, so {@code img2} comes before {@code img10}. A digit run
+ *     comes before a non-digit run, the key with fewer runs comes first and
+ *     the names are compared as is on a tie.
+ * </p>
+ * <p>
+ *     Comparing the keys doesn't allocate, the runs are kept as offsets into
+ *     the name, a start and an end offset each. The start offset of a digit
+ *     run skips its leading zeros and is kept bitwise complemented to tell it
+ *     apart from a non-digit run.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+final class NaturalSortKey implements Comparable<NaturalSortKey> {
+
+    private final String name;
+    private final int[] runs;
+
+    /**
+     * Creates new NaturalSortKey.
+     *
+     * @param name the picture name.
+     */
+    NaturalSortKey(final String name) {
+        this.name = name;
+        this.runs = runs(name);
+    }
+
+    /**
+     * The picture name.
+     *
+     * @return the picture name.
+     */
+    String name() {
+        return this.name;
+    }
+
+    @Override
+    public int compareTo(final NaturalSortKey other) {
+        var result = 0;
+        var count = Math.min(this.runs.length, other.runs.length);
+        for (int i = 0; result == 0 && i < count; i += 2) {
+            result = this.compareRun(other, i);
+        }
+        if (result == 0) {
+            result = Integer.compare(this.runs.length, other.runs.length);
+        }
+        if (result == 0) {
+            result = this.name.compareTo(other.name);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        var result = false;
+        if (this == obj) {
+            result = true;
+        } else if (obj instanceof NaturalSortKey) {
+            result = this.name.equals(((NaturalSortKey) obj).name);
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+    private int compareRun(final NaturalSortKey other, final int index) {
+        var first = this.runs[index];
+        var second = other.runs[index];
+        int result;
+        if (first < 0 && second < 0) {
+            result = this.compareNumber(other, index);
+        } else if (first < 0 || second < 0) {
+            result = Integer.compare(first, second);
+        } else {
+            result = this.compareText(other, index);
+        }
+        return result;
+    }
+
+    private int compareNumber(final NaturalSortKey other, final int index) {
+        var start = ~this.runs[index];
+        var otherStart = ~other.runs[index];
+        var length = this.runs[index + 1] - start;
+        var result = Integer.compare(length, other.runs[index + 1] - otherStart);
+        for (int i = 0; result == 0 && i < length; i++) {
+            result = Character.compare(
+                this.name.charAt(start + i),
+                other.name.charAt(otherStart + i)
+            );
+        }
+        return result;
+    }
+
+    private int compareText(final NaturalSortKey other, final int index) {
+        var start = this.runs[index];
+        var otherStart = other.runs[index];
+        var length = this.runs[index + 1] - start;
+        var otherLength = other.runs[index + 1] - otherStart;
+        var result = 0;
+        for (int i = 0; result == 0 && i < Math.min(length, otherLength); i++) {
+            result = compareIgnoreCase(
+                this.name.charAt(start + i),
+                other.name.charAt(otherStart + i)
+            );
+        }
+        if (result == 0) {
+            result = Integer.compare(length, otherLength);
+        }
+        return result;
+    }
+
+    private static int compareIgnoreCase(final char first, final char second) {
+        var result = 0;
+        if (first != second) {
+            result = Character.compare(
+                Character.toLowerCase(Character.toUpperCase(first)),
+                Character.toLowerCase(Character.toUpperCase(second))
+            );
+        }
+        return result;
+    }
+
+    private static int[] runs(final String name) {
+        var count = 0;
+        for (int start = 0; start < name.length(); start = end(name, start)) {
+            count++;
+        }
+        var runs = new int[count * 2];
+        var index = 0;
+        for (int start = 0; start < name.length(); start = runs[index - 1]) {
+            var end = end(name, start);
+            if (isDigit(name.charAt(start))) {
+                runs[index] = ~significant(name, start, end);
+            } else {
+                runs[index] = start;
+            }
+            runs[index + 1] = end;
+            index += 2;
+        }
+        return runs;
+    }
+
+    private static int end(final String name, final int start) {
+        var digit = isDigit(name.charAt(start));
+        var end = start + 1;
+        while (end < name.length() && isDigit(name.charAt(end)) == digit) {
+            end++;
+        }
+        return end;
+    }
+
+    private static int significant(final String name, final int start, final int end) {
+        var significant = start;
+        while (significant < end && name.charAt(significant) == '0') {
+            significant++;
+        }
+        return significant;
+    }
+
+    private static boolean isDigit(final char character) {
+        return character >= '0' && character <= '9';
+    }
+
+}
@@ -20,9 +20,15 @@ package com.swardana.nayanika.base.gallery;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 
 /**
  * A picture.
+ * <p>
+ *     A picture file is identified by its normalized absolute path, the same
+ *     file opened again is an equal picture, so it finds its decoded images
+ *     on the caches.
+ * </p>
  *
  * @author Sukma Wardana
  */
@@ -47,4 +53,16 @@ public interface Picture {
      */
     InputStream read() throws IOException;
 
+    /**
+     * Picture file path.
+     * <p>
+     *     Get the file path of this picture, so the picture could be
+     *     identified on the file system.
+     * </p>
+     *
+     * @return the picture file path, or {@code null} if this picture is not
+     *         a file.
+     */
+    Path path();
+
 }
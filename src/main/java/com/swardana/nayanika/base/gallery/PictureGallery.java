@@ -18,19 +18,37 @@
 
 package com.swardana.nayanika.base.gallery;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 
 /**
  * A picture gallery.
+ * <p>
+ *     Keep an index of the picture positions, so the current active picture
+ *     is updated without searching the whole gallery. The picture is
+ *     identified by its absolute file path, or by its name if it is not a
+ *     file, so the pictures with the same name on different folders are
+ *     told apart. The index is rebuilt on the next lookup after the gallery
+ *     content changed.
+ * </p>
+ * <p>
+ *     A few pictures are merged by a binary search insertion into the
+ *     gallery order, more pictures are merged in a single pass.
+ * </p>
  *
  * @author Sukma Wardana
  */
 public class PictureGallery implements Gallery {
 
     private final String location;
-    private final List<Picture> pictures;
-    private final int lastIndex;
+    private List<Picture> pictures;
+    private Map<Object, Integer> positions;
     private int index;
 
     /**
@@ -41,8 +59,7 @@ public class PictureGallery implements Gallery {
      */
     public PictureGallery(final String location, final List<Picture> pictures) {
         this.location = location;
-        this.pictures = pictures;
-        this.lastIndex = pictures.size() - 1;
+        this.pictures = new ArrayList<>(pictures);
         this.index = 0;
     }
 
@@ -58,7 +75,7 @@ public class PictureGallery implements Gallery {
 
     @Override
     public final void last() {
-        this.index = lastIndex;
+        this.index = this.lastIndex();
     }
 
     @Override
@@ -66,21 +83,64 @@ public class PictureGallery implements Gallery {
         return this.pictures.get(index);
     }
 
+    @Override
+    public final Picture picture(final int idx) {
+        return this.pictures.get(idx);
+    }
+
+    @Override
+    public final int index() {
+        return this.index;
+    }
+
+    @Override
+    public final int size() {
+        return this.pictures.size();
+    }
+
     @Override
     public final void current(final Picture pic) {
-        boolean isFound = false;
-        for (int i=0; i <= this.lastIndex; i++) {
-            if (pic.name().equals(this.pictures.get(i).name())) {
-                this.index = i;
-                isFound = true;
-                break;
-            }
-        }
-        if (!isFound) {
+        var position = this.positions().get(identity(pic));
+        if (position == null) {
             throw new IllegalArgumentException(
                 "The new picture is not part of this picture gallery!"
             );
         }
+        this.index = position;
+    }
+
+    @Override
+    public final void merge(final List<Picture> sorted, final Comparator<Picture> order) {
+        var depth = Integer.SIZE - Integer.numberOfLeadingZeros(this.pictures.size());
+        if ((long) sorted.size() * depth < this.pictures.size()) {
+            for (final var pic : sorted) {
+                this.insert(pic, order);
+            }
+        } else {
+            this.mergeAll(sorted, order);
+        }
+    }
+
+    @Override
+    public final void remove(final List<Picture> removed) {
+        var lookup = this.positions();
+        var found = new TreeSet<Integer>(Comparator.reverseOrder());
+        for (final var pic : removed) {
+            var position = lookup.get(identity(pic));
+            if (position != null) {
+                found.add(position);
+            }
+        }
+        for (final int position : found) {
+            this.pictures.remove(position);
+            if (position < this.index) {
+                this.index--;
+            }
+        }
+        if (!found.isEmpty()) {
+            this.index = Math.max(0, Math.min(this.index, this.lastIndex()));
+            this.positions = null;
+        }
     }
 
     @Override
@@ -104,7 +164,7 @@ public class PictureGallery implements Gallery {
 
     @Override
     public final boolean isLast() {
-        return this.index == lastIndex;
+        return this.index == this.lastIndex();
     }
 
     @Override
@@ -117,4 +177,124 @@ public class PictureGallery implements Gallery {
         return this.pictures.iterator();
     }
 
+    private int lastIndex() {
+        return this.pictures.size() - 1;
+    }
+
+    /**
+     * Merge the sorted pictures with the gallery pictures in one pass, the
+     * pictures already on the gallery are skipped and the current active
+     * picture is kept.
+     *
+     * @param sorted the pictures to merge, sorted by the order.
+     * @param order the gallery picture order.
+     */
+    private void mergeAll(final List<Picture> sorted, final Comparator<Picture> order) {
+        var merged = new ArrayList<Picture>(this.pictures.size() + sorted.size());
+        var current = 0;
+        var added = 0;
+        var existing = 0;
+        while (added < sorted.size() || existing < this.pictures.size()) {
+            if (added < sorted.size() && this.contains(sorted.get(added))) {
+                added++;
+            } else if (existing == this.pictures.size()) {
+                merged.add(sorted.get(added++));
+            } else if (added == sorted.size()) {
+                current = this.keep(merged, existing++, current);
+            } else if (order.compare(sorted.get(added), this.pictures.get(existing)) < 0) {
+                merged.add(sorted.get(added++));
+            } else {
+                current = this.keep(merged, existing++, current);
+            }
+        }
+        this.pictures = merged;
+        this.positions = null;
+        this.index = current;
+    }
+
+    private void insert(final Picture pic, final Comparator<Picture> order) {
+        var position = Collections.binarySearch(this.pictures, pic, order);
+        if (position < 0) {
+            this.insert(-position - 1, pic);
+        } else if (!this.isAround(position, pic, order)) {
+            this.insert(position, pic);
+        }
+    }
+
+    private void insert(final int position, final Picture pic) {
+        this.pictures.add(position, pic);
+        if (position <= this.index && this.pictures.size() > 1) {
+            this.index++;
+        }
+        this.positions = null;
+    }
+
+    private boolean isAround(
+        final int position,
+        final Picture pic,
+        final Comparator<Picture> order
+    ) {
+        var size = this.pictures.size();
+        var found = false;
+        for (int i = position; !found && i >= 0 && this.isTie(i, pic, order); i--) {
+            found = identity(pic).equals(identity(this.pictures.get(i)));
+        }
+        for (int i = position + 1; !found && i < size && this.isTie(i, pic, order); i++) {
+            found = identity(pic).equals(identity(this.pictures.get(i)));
+        }
+        return found;
+    }
+
+    private boolean isTie(final int position, final Picture pic, final Comparator<Picture> order) {
+        return order.compare(this.pictures.get(position), pic) == 0;
+    }
+
+    private Map<Object, Integer> positions() {
+        if (this.positions == null) {
+            this.positions = positions(this.pictures);
+        }
+        return this.positions;
+    }
+
+    private static Map<Object, Integer> positions(final List<Picture> pictures) {
+        var positions = new HashMap<Object, Integer>(pictures.size() * 4 / 3 + 1);
+        for (int i = 0; i < pictures.size(); i++) {
+            positions.putIfAbsent(identity(pictures.get(i)), i);
+        }
+        return positions;
+    }
+
+    private static Object identity(final Picture pic) {
+        final Object result;
+        var path = pic.path();
+        if (path == null) {
+            result = pic.name();
+        } else {
+            result = path.toAbsolutePath().normalize();
+        }
+        return result;
+    }
+
+    private boolean contains(final Picture pic) {
+        return this.positions().containsKey(identity(pic));
+    }
+
+    /**
+     * Keep the gallery picture on the merged pictures, follow the current
+     * active picture to its merged position.
+     *
+     * @param merged the merged pictures.
+     * @param existing the position of the gallery picture.
+     * @param current the merged position of the current active picture.
+     * @return the merged position of the current active picture.
+     */
+    private int keep(final List<Picture> merged, final int existing, final int current) {
+        var result = current;
+        if (existing == this.index) {
+            result = merged.size();
+        }
+        merged.add(this.pictures.get(existing));
+        return result;
+    }
+
 }
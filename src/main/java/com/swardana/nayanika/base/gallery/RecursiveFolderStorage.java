@@ -0,0 +1,325 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.gallery;
+
+import com.swardana.nayanika.base.VirtualThreads;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A computer folder and its sub-folders.
+ * <p>
+ *     Find pictures inside the computer folder and its sub-folders up to a
+ *     maximum depth. Each folder is searched on its own virtual thread when
+ *     the {@link VirtualThreads} are available, so the folders on a slow
+ *     network share are waited on at once. Otherwise each folder is searched
+ *     as a fork/join task, so the sub-folders are searched in parallel on a
+ *     work-stealing pool of the search, the blocking folder reads never hold
+ *     the common pool threads.
+ * </p>
+ * <p>
+ *     The picture name is its path relative to the searched folder, so the
+ *     pictures with the same file name on different sub-folders are still
+ *     different pictures.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public class RecursiveFolderStorage implements Storage {
+
+    private static final Logger LOGGER = Logger.getLogger(
+        RecursiveFolderStorage.class.getName()
+    );
+
+    private static final int BATCH_SIZE = 256;
+
+    private final Path directory;
+    private final int maxDepth;
+    private final Set<TraversalOption> options;
+
+    /**
+     * Creates new RecursiveFolderStorage.
+     * <p>
+     *     Search every sub-folder, without following the symbolic link and
+     *     skip the hidden folder and picture.
+     * </p>
+     *
+     * @param dir the folder directory.
+     */
+    public RecursiveFolderStorage(final Path dir) {
+        this(dir, Integer.MAX_VALUE, EnumSet.noneOf(TraversalOption.class));
+    }
+
+    /**
+     * Creates new RecursiveFolderStorage.
+     *
+     * @param dir the folder directory.
+     * @param maxDepth the maximum folder depth to search, {@code 1} only
+     *                 search the folder itself.
+     * @param options the folder traversal options.
+     */
+    public RecursiveFolderStorage(
+        final Path dir,
+        final int maxDepth,
+        final Set<TraversalOption> options
+    ) {
+        this.directory = dir;
+        this.maxDepth = maxDepth;
+        this.options = options;
+    }
+
+    @Override
+    public final List<Picture> search(final SupportedPicture filter) {
+        var pictures = new ArrayList<Picture>();
+        this.search(filter, pictures::addAll);
+        return pictures;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     The batches are handed over from the pool threads, one batch at a
+     *     time.
+     * </p>
+     */
+    @Override
+    public final void search(
+        final SupportedPicture filter,
+        final Consumer<List<Picture>> batches
+    ) {
+        if (!Files.isDirectory(this.directory)) {
+            throw new RuntimeException(
+                "Search pictures in directory is fail.",
+                new IOException("Not a directory: " + this.directory)
+            );
+        }
+        LOGGER.log(
+            Level.FINE,
+            "Search pictures in directory tree. [dir={0}, max-depth={1}, options={2}]",
+            new Object[]{this.directory.toString(), this.maxDepth, this.options}
+        );
+        var search = new Search(filter, batches);
+        search.visit(this.directory);
+        var virtual = VirtualThreads.executor();
+        if (virtual == null) {
+            var pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+            try {
+                pool.invoke(new FolderSearch(search, this.directory, 1));
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            try {
+                new FolderThreads(search, virtual).search(this.directory);
+            } finally {
+                virtual.shutdown();
+            }
+        }
+        LOGGER.log(
+            Level.INFO,
+            "Pictures from directory tree successfully add to collections. [dir={0}, picSize={1}]",
+            new Object[]{this.directory.toString(), search.found.get()}
+        );
+    }
+
+    /**
+     * The state shared by every folder search task of one search.
+     */
+    private final class Search {
+
+        private final PathMatcher matcher;
+        private final Consumer<List<Picture>> batches;
+        private final Set<Object> visited;
+        private final AtomicInteger found;
+
+        Search(final SupportedPicture filter, final Consumer<List<Picture>> batches) {
+            this.matcher = FileSystems.getDefault().getPathMatcher("glob:" + filter.pattern());
+            this.batches = batches;
+            this.visited = ConcurrentHashMap.newKeySet();
+            this.found = new AtomicInteger();
+        }
+
+        void handOver(final List<Picture> batch) {
+            this.found.addAndGet(batch.size());
+            synchronized (this.batches) {
+                this.batches.accept(batch);
+            }
+        }
+
+        void visit(final Path folder) {
+            try {
+                this.visited.add(folder.toRealPath());
+            } catch (final IOException ex) {
+                LOGGER.log(
+                    Level.FINE,
+                    "Fail to resolve the real folder path. [dir={0}]",
+                    new Object[]{folder.toString()}
+                );
+            }
+        }
+
+        boolean isVisible(final Path path) throws IOException {
+            return options.contains(TraversalOption.INCLUDE_HIDDEN) || !Files.isHidden(path);
+        }
+
+        boolean isFolder(final Path path) throws IOException {
+            boolean result;
+            if (options.contains(TraversalOption.FOLLOW_LINKS)) {
+                result = Files.isDirectory(path)
+                    && this.visited.add(path.toRealPath());
+            } else {
+                result = Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS);
+            }
+            return result;
+        }
+
+        boolean isPicture(final Path path) {
+            return Files.isRegularFile(path) && this.matcher.matches(path.getFileName());
+        }
+
+        /**
+         * Search a folder, without its sub-folders.
+         *
+         * @param folder the folder to search.
+         * @param depth the folder depth.
+         * @return the sub-folders to search.
+         */
+        List<Path> search(final Path folder, final int depth) {
+            var subFolders = new ArrayList<Path>();
+            var batch = new ArrayList<Picture>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder)) {
+                for (final var path : stream) {
+                    var visible = this.isVisible(path);
+                    if (visible && depth < maxDepth && this.isFolder(path)) {
+                        subFolders.add(path);
+                    } else if (visible && this.isPicture(path)) {
+                        batch.add(
+                            new StaticPicture(
+                                directory.relativize(path).toString(),
+                                path.toFile()
+                            )
+                        );
+                    }
+                    if (batch.size() == BATCH_SIZE) {
+                        this.handOver(batch);
+                        batch = new ArrayList<>();
+                    }
+                }
+            } catch (final IOException ex) {
+                LOGGER.log(
+                    Level.WARNING,
+                    "Skip the folder that could not be searched. [dir={0}]",
+                    new Object[]{folder.toString()}
+                );
+            }
+            if (!batch.isEmpty()) {
+                this.handOver(batch);
+            }
+            return subFolders;
+        }
+
+    }
+
+    /**
+     * A folder search task, fork a task for each of its sub-folders.
+     */
+    private final class FolderSearch extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Search search;
+        private final Path folder;
+        private final int depth;
+
+        FolderSearch(final Search search, final Path folder, final int depth) {
+            this.search = search;
+            this.folder = folder;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            var subFolders = new ArrayList<FolderSearch>();
+            for (final var path : this.search.search(this.folder, this.depth)) {
+                subFolders.add(new FolderSearch(this.search, path, this.depth + 1));
+            }
+            invokeAll(subFolders);
+        }
+
+    }
+
+    /**
+     * A folder search on a thread per folder, wait until every sub-folder is
+     * searched.
+     */
+    private final class FolderThreads {
+
+        private final Search search;
+        private final Executor executor;
+        private final AtomicInteger pending;
+        private final CompletableFuture<Void> done;
+
+        FolderThreads(final Search search, final Executor executor) {
+            this.search = search;
+            this.executor = executor;
+            this.pending = new AtomicInteger();
+            this.done = new CompletableFuture<>();
+        }
+
+        void search(final Path folder) {
+            this.fork(folder, 1);
+            this.done.join();
+        }
+
+        private void fork(final Path folder, final int depth) {
+            this.pending.incrementAndGet();
+            CompletableFuture.runAsync(() -> {
+                for (final var path : this.search.search(folder, depth)) {
+                    this.fork(path, depth + 1);
+                }
+            }, this.executor).whenComplete((searched, ex) -> {
+                if (ex != null) {
+                    this.done.completeExceptionally(ex);
+                } else if (this.pending.decrementAndGet() == 0) {
+                    this.done.complete(null);
+                }
+            });
+        }
+
+    }
+
+}
@@ -18,6 +18,7 @@
 
 package com.swardana.nayanika.base.gallery;
 
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -37,4 +38,11 @@ public interface SortedPictures {
      */
     List<Picture> sorted();
 
+    /**
+     * The order of the sorted picture.
+     *
+     * @return the comparator of the sorted picture.
+     */
+    Comparator<Picture> order();
+
 }
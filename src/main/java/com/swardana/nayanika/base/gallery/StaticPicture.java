@@ -22,6 +22,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 
 /**
  * A picture with static data.
@@ -32,6 +33,7 @@ public class StaticPicture implements Picture {
 
     private final String name;
     private final File file;
+    private final Path key;
 
     /**
      * Creates new StaticPicture.
@@ -42,6 +44,7 @@ public class StaticPicture implements Picture {
     public StaticPicture(final String name, final File pic) {
         this.name = name;
         this.file = pic;
+        this.key = pic.toPath().toAbsolutePath().normalize();
     }
 
     @Override
@@ -54,4 +57,23 @@ public class StaticPicture implements Picture {
         return new FileInputStream(this.file);
     }
 
+    @Override
+    public final Path path() {
+        return this.file.toPath();
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        var result = this == obj;
+        if (!result && obj instanceof StaticPicture other) {
+            result = this.key.equals(other.key);
+        }
+        return result;
+    }
+
+    @Override
+    public final int hashCode() {
+        return this.key.hashCode();
+    }
+
 }
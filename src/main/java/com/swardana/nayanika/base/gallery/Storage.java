@@ -19,6 +19,7 @@
 package com.swardana.nayanika.base.gallery;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * A storage.
@@ -38,4 +39,19 @@ public interface Storage {
      */
     List<Picture> search(SupportedPicture filter);
 
+    /**
+     * Search supported picture on the storage in batches.
+     * <p>
+     *     Each batch of pictures is handed over as soon as it is found, so
+     *     the pictures could be shown before the whole storage is searched.
+     *     By default, every picture is handed over in one batch.
+     * </p>
+     *
+     * @param filter the applied filter to get the supported picture.
+     * @param batches the consumer of each batch of pictures.
+     */
+    default void search(SupportedPicture filter, Consumer<List<Picture>> batches) {
+        batches.accept(this.search(filter));
+    }
+
 }
@@ -0,0 +1,59 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.gallery;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The folder traversal options.
+ *
+ * @author Sukma Wardana
+ */
+public enum TraversalOption {
+
+    /**
+     * Follow the symbolic link to the folder, a folder reached twice through
+     * the links is only searched once.
+     */
+    FOLLOW_LINKS,
+    /**
+     * Search the hidden folder and picture as well.
+     */
+    INCLUDE_HIDDEN;
+
+    /**
+     * Parse the comma separated traversal options, case insensitive, e.g.
+     * {@code follow_links,include_hidden}.
+     *
+     * @param text the comma separated option names.
+     * @return the traversal options, empty if there is none.
+     * @throws IllegalArgumentException if an option name is unknown.
+     */
+    public static Set<TraversalOption> parse(final String text) {
+        var result = EnumSet.noneOf(TraversalOption.class);
+        for (final var name : text.split(",")) {
+            if (!name.isBlank()) {
+                result.add(TraversalOption.valueOf(name.strip().toUpperCase(Locale.ROOT)));
+            }
+        }
+        return result;
+    }
+
+}
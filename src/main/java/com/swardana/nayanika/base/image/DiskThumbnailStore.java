@@ -0,0 +1,368 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.image;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A picture thumbnail store on the disk.
+ * <p>
+ *     The thumbnails are kept across sessions on a sharded directory under
+ *     the user cache directory, one file for each thumbnail. A thumbnail is
+ *     identified by the picture file path, the thumbnail size, and the
+ *     picture file modified time and length, so a modified picture file
+ *     doesn't find its outdated thumbnail.
+ * </p>
+ * <p>
+ *     The stored thumbnails are kept within a byte budget, when exceeded the
+ *     least recently used thumbnails are pruned. The default byte budget
+ *     could be configured with the {@code nayanika.thumbnail.cache} system
+ *     property in bytes and the directory with the
+ *     {@code nayanika.thumbnail.dir} system property.
+ * </p>
+ * <p>
+ *     Each store counts the thumbnail bytes it keeps, so the application
+ *     shares the single store of the default directory, see
+ *     {@link #getInstance()}.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public final class DiskThumbnailStore implements ThumbnailStore {
+
+    private static final Logger LOGGER = Logger.getLogger(DiskThumbnailStore.class.getName());
+
+    private static final long DEFAULT_CAPACITY = 256L * 1024 * 1024;
+    private static final int MAGIC = 0x4E595448;
+    private static final int MAX_SIZE = 4096;
+    private static final int BYTES_PER_PIXEL = 4;
+    private static final String EXTENSION = ".thumb";
+
+    private final Path directory;
+    private final long capacity;
+
+    private long used;
+
+
+    /**
+     * Creates new DiskThumbnailStore.
+     *
+     * @param dir the thumbnail directory.
+     * @param capacity the maximum thumbnail file bytes to keep.
+     */
+    public DiskThumbnailStore(final Path dir, final long capacity) {
+        this.directory = dir;
+        this.capacity = capacity;
+        this.used = -1;
+    }
+
+    /**
+     * The thumbnail store on the default directory and byte budget, shared by
+     * the whole application.
+     *
+     * @return the default thumbnail store.
+     */
+    public static DiskThumbnailStore getInstance() {
+        return DiskThumbnailStoreHelper.INSTANCE;
+    }
+
+    @Override
+    public Image get(final Path file, final int size) {
+        Image result = null;
+        var entry = this.entry(file, size);
+        if (entry != null && Files.isRegularFile(entry)) {
+            try {
+                result = this.read(entry);
+                // touch the thumbnail, the prune order is the modified time.
+                Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            } catch (final IOException ex) {
+                LOGGER.log(
+                    Level.FINE,
+                    "Fail to read the thumbnail. [thumbnail={0}]",
+                    new Object[]{entry.toString()}
+                );
+                this.delete(entry);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void put(final Path file, final int size, final Image thumbnail) {
+        var entry = this.entry(file, size);
+        if (entry != null && thumbnail.getPixelReader() != null) {
+            try {
+                // count the stored thumbnails before the new one is added.
+                this.size();
+                Files.createDirectories(entry.getParent());
+                var temp = Files.createTempFile(entry.getParent(), null, null);
+                this.write(temp, thumbnail);
+                var bytes = Files.size(temp);
+                Files.move(
+                    temp, entry,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE
+                );
+                this.stored(bytes);
+            } catch (final IOException ex) {
+                LOGGER.log(
+                    Level.WARNING,
+                    "Fail to store the thumbnail. [file={0}]",
+                    new Object[]{file.toString()}
+                );
+            }
+        }
+    }
+
+    /**
+     * The thumbnail file bytes being kept.
+     *
+     * @return the thumbnail file bytes.
+     */
+    public synchronized long size() {
+        if (this.used < 0) {
+            this.used = this.thumbnails().stream().mapToLong(this::length).sum();
+        }
+        return this.used;
+    }
+
+    private synchronized void stored(final long bytes) {
+        this.used = this.size() + bytes;
+        if (this.used > this.capacity) {
+            this.prune();
+        }
+    }
+
+    /**
+     * Remove the least recently used thumbnails, until a quarter of the
+     * budget is free, so the next thumbnails doesn't prune again right away.
+     */
+    private void prune() {
+        var target = this.capacity - this.capacity / 4;
+        var thumbnails = this.thumbnails();
+        // recount, a replaced thumbnail is counted twice.
+        this.used = thumbnails.stream().mapToLong(this::length).sum();
+        thumbnails.sort(Comparator.comparing(this::modified));
+        var iterator = thumbnails.iterator();
+        while (this.used > target && iterator.hasNext()) {
+            var thumbnail = iterator.next();
+            this.used -= this.length(thumbnail);
+            this.delete(thumbnail);
+        }
+        LOGGER.log(
+            Level.FINE,
+            "Pruned the thumbnails. [dir={0}, bytes={1}]",
+            new Object[]{this.directory.toString(), this.used}
+        );
+    }
+
+    private List<Path> thumbnails() {
+        List<Path> result = new ArrayList<>();
+        if (Files.isDirectory(this.directory)) {
+            try (var files = Files.walk(this.directory, 2)) {
+                result = files.filter(path -> path.toString().endsWith(EXTENSION))
+                    .collect(Collectors.toCollection(ArrayList::new));
+            } catch (final IOException ex) {
+                LOGGER.log(
+                    Level.WARNING,
+                    "Fail to list the thumbnails. [dir={0}]",
+                    new Object[]{this.directory.toString()}
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The thumbnail file of a picture file, the first two characters of the
+     * thumbnail identity is the shard directory.
+     *
+     * @param file the picture file.
+     * @param size the thumbnail size.
+     * @return the thumbnail file, or {@code null} if the picture file is not
+     *         available.
+     */
+    private Path entry(final Path file, final int size) {
+        Path result = null;
+        if (file != null) {
+            try {
+                var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                var identity = file.toAbsolutePath().normalize()
+                    + "|" + size
+                    + "|" + attributes.lastModifiedTime().toMillis()
+                    + "|" + attributes.size();
+                var key = HexFormat.of().formatHex(
+                    digest().digest(identity.getBytes(StandardCharsets.UTF_8))
+                );
+                result = this.directory.resolve(key.substring(0, 2)).resolve(key + EXTENSION);
+            } catch (final IOException ex) {
+                LOGGER.log(
+                    Level.FINE,
+                    "Fail to identify the picture file. [file={0}]",
+                    new Object[]{file.toString()}
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Write the thumbnail premultiplied BGRA pixels, deflated.
+     */
+    private void write(final Path target, final Image thumbnail) throws IOException {
+        var width = (int) thumbnail.getWidth();
+        var height = (int) thumbnail.getHeight();
+        var pixels = new byte[width * height * BYTES_PER_PIXEL];
+        thumbnail.getPixelReader().getPixels(
+            0, 0, width, height,
+            PixelFormat.getByteBgraPreInstance(), pixels, 0, width * BYTES_PER_PIXEL
+        );
+        var file = new BufferedOutputStream(Files.newOutputStream(target));
+        try (var out = new DataOutputStream(file)) {
+            out.writeInt(MAGIC);
+            out.writeInt(width);
+            out.writeInt(height);
+            var deflater = new DeflaterOutputStream(out);
+            deflater.write(pixels);
+            deflater.finish();
+        }
+    }
+
+    private Image read(final Path source) throws IOException {
+        var file = new BufferedInputStream(Files.newInputStream(source));
+        try (var in = new DataInputStream(file)) {
+            var magic = in.readInt();
+            var width = in.readInt();
+            var height = in.readInt();
+            if (magic != MAGIC || outOfBounds(width) || outOfBounds(height)) {
+                throw new IOException("Not a thumbnail file: " + source);
+            }
+            var pixels = new InflaterInputStream(in).readNBytes(width * height * BYTES_PER_PIXEL);
+            if (pixels.length != width * height * BYTES_PER_PIXEL) {
+                throw new IOException("Truncated thumbnail file: " + source);
+            }
+            var result = new WritableImage(width, height);
+            result.getPixelWriter().setPixels(
+                0, 0, width, height,
+                PixelFormat.getByteBgraPreInstance(), pixels, 0, width * BYTES_PER_PIXEL
+            );
+            return result;
+        }
+    }
+
+    private long length(final Path thumbnail) {
+        long result = 0;
+        try {
+            result = Files.size(thumbnail);
+        } catch (final IOException ex) {
+            LOGGER.log(Level.FINER, "The thumbnail is already removed.");
+        }
+        return result;
+    }
+
+    private FileTime modified(final Path thumbnail) {
+        FileTime result = FileTime.fromMillis(0);
+        try {
+            result = Files.getLastModifiedTime(thumbnail);
+        } catch (final IOException ex) {
+            LOGGER.log(Level.FINER, "The thumbnail is already removed.");
+        }
+        return result;
+    }
+
+    private void delete(final Path thumbnail) {
+        try {
+            Files.deleteIfExists(thumbnail);
+        } catch (final IOException ex) {
+            LOGGER.log(
+                Level.FINE,
+                "Fail to remove the thumbnail. [thumbnail={0}]",
+                new Object[]{thumbnail.toString()}
+            );
+        }
+    }
+
+    private static boolean outOfBounds(final int length) {
+        return length <= 0 || length > MAX_SIZE;
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-1 is required on every Java platform.", ex);
+        }
+    }
+
+    /**
+     * The user cache directory of the operating system.
+     *
+     * @return the default thumbnail directory.
+     */
+    private static Path defaultDirectory() {
+        final Path result;
+        var configured = System.getProperty("nayanika.thumbnail.dir");
+        var system = System.getProperty("os.name", "").toLowerCase();
+        var home = System.getProperty("user.home");
+        if (configured != null) {
+            result = Paths.get(configured);
+        } else if (system.contains("win") && System.getenv("LOCALAPPDATA") != null) {
+            result = Paths.get(System.getenv("LOCALAPPDATA"), "nayanika", "thumbnails");
+        } else if (system.contains("mac")) {
+            result = Paths.get(home, "Library", "Caches", "nayanika", "thumbnails");
+        } else if (System.getenv("XDG_CACHE_HOME") != null) {
+            result = Paths.get(System.getenv("XDG_CACHE_HOME"), "nayanika", "thumbnails");
+        } else {
+            result = Paths.get(home, ".cache", "nayanika", "thumbnails");
+        }
+        return result;
+    }
+
+    private static class DiskThumbnailStoreHelper {
+        private static final DiskThumbnailStore INSTANCE = new DiskThumbnailStore(
+            defaultDirectory(),
+            Long.getLong("nayanika.thumbnail.cache", DEFAULT_CAPACITY)
+        );
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.image;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A JPEG embedded EXIF thumbnail.
+ * <p>
+ *     Most cameras embed a small JPEG thumbnail on the EXIF metadata segment,
+ *     which sit on the beginning of the JPEG byte data. Reading it only need
+ *     the metadata segments, not the whole picture byte data.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public final class ExifThumbnail {
+
+    private static final int MARKER = 0xFF;
+    private static final int START_OF_IMAGE = 0xD8;
+    private static final int FIRST_APPLICATION = 0xE0;
+    private static final int EXIF_APPLICATION = 0xE1;
+    private static final int LAST_APPLICATION = 0xEF;
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int TIFF_MAGIC = 42;
+    private static final int IFD_ENTRY_BYTES = 12;
+    private static final int THUMBNAIL_OFFSET_TAG = 0x0201;
+    private static final int THUMBNAIL_LENGTH_TAG = 0x0202;
+
+    private final InputStream stream;
+
+    /**
+     * Creates new ExifThumbnail.
+     *
+     * @param stream the picture byte data stream.
+     */
+    public ExifThumbnail(final InputStream stream) {
+        this.stream = stream;
+    }
+
+    /**
+     * Read the embedded thumbnail.
+     * <p>
+     *     The picture byte data stream is read until the embedded thumbnail
+     *     is found or the metadata segments end.
+     * </p>
+     *
+     * @return the thumbnail JPEG byte data, or {@code null} if the picture
+     *         is not a JPEG or it doesn't have an embedded thumbnail.
+     * @throws IOException if fail to read the picture byte data stream.
+     */
+    public byte[] bytes() throws IOException {
+        byte[] result = null;
+        var data = new DataInputStream(this.stream);
+        var jpeg = data.readUnsignedByte() == MARKER
+            && data.readUnsignedByte() == START_OF_IMAGE;
+        var segment = 0;
+        while (jpeg && result == null && segment >= 0) {
+            segment = this.nextApplicationSegment(data);
+            if (segment == EXIF_APPLICATION) {
+                var payload = new byte[data.readUnsignedShort() - 2];
+                data.readFully(payload);
+                result = this.thumbnail(payload);
+            } else if (segment >= 0) {
+                data.skipNBytes(data.readUnsignedShort() - 2);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Read the next application metadata segment marker.
+     *
+     * @param data the JPEG byte data.
+     * @return the segment marker, or {@code -1} if the metadata segments end.
+     * @throws IOException if fail to read the byte data.
+     */
+    private int nextApplicationSegment(final DataInputStream data) throws IOException {
+        var result = -1;
+        if (data.readUnsignedByte() == MARKER) {
+            var marker = data.readUnsignedByte();
+            if (marker >= FIRST_APPLICATION && marker <= LAST_APPLICATION) {
+                result = marker;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Find the thumbnail on the EXIF segment, the thumbnail offset and length
+     * are on the second image file directory of the TIFF structure.
+     *
+     * @param payload the application segment payload.
+     * @return the thumbnail, or {@code null} if not found.
+     */
+    private byte[] thumbnail(final byte[] payload) {
+        byte[] result = null;
+        var header = Arrays.copyOf(payload, Math.min(payload.length, EXIF_HEADER.length));
+        if (Arrays.equals(header, EXIF_HEADER)) {
+            var tiff = ByteBuffer.wrap(
+                payload, EXIF_HEADER.length, payload.length - EXIF_HEADER.length
+            ).slice();
+            if (tiff.remaining() > 8 && tiff.get(0) == 'I') {
+                tiff.order(ByteOrder.LITTLE_ENDIAN);
+            }
+            if (tiff.remaining() > 8 && tiff.getShort(2) == TIFF_MAGIC) {
+                var second = this.nextDirectory(tiff, tiff.getInt(4));
+                result = this.thumbnail(tiff, second);
+            }
+        }
+        return result;
+    }
+
+    private int nextDirectory(final ByteBuffer tiff, final int directory) {
+        var result = -1;
+        if (directory > 0 && directory <= tiff.limit() - 2) {
+            var entries = Short.toUnsignedInt(tiff.getShort(directory));
+            var next = directory + 2 + entries * IFD_ENTRY_BYTES;
+            if (next <= tiff.limit() - 4) {
+                result = tiff.getInt(next);
+            }
+        }
+        return result;
+    }
+
+    private byte[] thumbnail(final ByteBuffer tiff, final int directory) {
+        byte[] result = null;
+        var offset = -1;
+        var length = -1;
+        if (directory > 0 && directory <= tiff.limit() - 2) {
+            var entries = Short.toUnsignedInt(tiff.getShort(directory));
+            for (int i = 0; i < entries; i++) {
+                var entry = directory + 2 + i * IFD_ENTRY_BYTES;
+                if (entry <= tiff.limit() - IFD_ENTRY_BYTES) {
+                    var tag = Short.toUnsignedInt(tiff.getShort(entry));
+                    if (tag == THUMBNAIL_OFFSET_TAG) {
+                        offset = tiff.getInt(entry + 8);
+                    } else if (tag == THUMBNAIL_LENGTH_TAG) {
+                        length = tiff.getInt(entry + 8);
+                    }
+                }
+            }
+        }
+        if (offset > 0 && length > 0 && length <= tiff.limit() - offset) {
+            result = new byte[length];
+            tiff.get(offset, result);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.image;
+
+/**
+ * A share of the decoded image memory budget.
+ * <p>
+ *     Every {@link ImageCache} of the application takes its byte budget from
+ *     a single decoded image budget, half of the maximum heap by default, it
+ *     could be configured with the {@code nayanika.image.cache} system
+ *     property in bytes. The decoded pictures take half of the budget, the
+ *     thumbnails and the picture tiles a quarter each.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public enum ImageBudget {
+
+    /**
+     * The decoded pictures shown on the frame and their prefetch.
+     */
+    PICTURES(2),
+
+    /**
+     * The thumbnails of the browser.
+     */
+    THUMBNAILS(1),
+
+    /**
+     * The tiles of the zoomed in huge picture.
+     */
+    TILES(1);
+
+    private static final int SHARES = 4;
+
+    private final int share;
+
+    ImageBudget(final int share) {
+        this.share = share;
+    }
+
+    /**
+     * The decoded image bytes shared by every cache.
+     *
+     * @return the whole budget in bytes.
+     */
+    public static long total() {
+        return Long.getLong("nayanika.image.cache", Runtime.getRuntime().maxMemory() / 2);
+    }
+
+    /**
+     * The decoded image bytes of this share.
+     *
+     * @return the share of the budget in bytes.
+     */
+    public long capacity() {
+        return total() / SHARES * this.share;
+    }
+
+}
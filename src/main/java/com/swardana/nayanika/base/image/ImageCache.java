@@ -0,0 +1,300 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.base.image;
+
+import javafx.scene.image.Image;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A decoded image cache.
+ * <p>
+ *     Keep the decoded images within a byte budget, the byte size of an image
+ *     is its decoded pixels, {@code width * height * 4}. When the budget is
+ *     exceeded, the least recently used image is evicted first.
+ * </p>
+ * <p>
+ *     The evicted image is demoted to a soft reachable tier instead of being
+ *     dropped, it could still be found as long as the garbage collector
+ *     haven't reclaim it and it is promoted back when found. The soft tier
+ *     doesn't count toward the byte budget.
+ * </p>
+ * <p>
+ *     The default byte budget is the {@link ImageBudget#PICTURES} share of
+ *     the decoded image budget.
+ * </p>
+ *
+ * @param <K> the type of image key.
+ * @author Sukma Wardana
+ */
+public final class ImageCache<K> {
+
+    private static final Logger LOGGER = Logger.getLogger(ImageCache.class.getName());
+
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final long capacity;
+    private final Map<K, Image> images;
+    private final Map<K, SoftImage<K>> softImages;
+    private final ReferenceQueue<Image> reclaimed;
+
+    private long size;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates new ImageCache.
+     * <p>
+     *     Assign default byte budget.
+     * </p>
+     */
+    public ImageCache() {
+        this(ImageBudget.PICTURES.capacity());
+    }
+
+    /**
+     * Creates new ImageCache.
+     *
+     * @param capacity the maximum decoded pixel bytes to keep.
+     */
+    public ImageCache(final long capacity) {
+        this.capacity = capacity;
+        this.images = new LinkedHashMap<>(16, 0.75f, true);
+        this.softImages = new HashMap<>();
+        this.reclaimed = new ReferenceQueue<>();
+    }
+
+    /**
+     * Get the decoded image.
+     * <p>
+     *     The image found on the soft tier is promoted back.
+     * </p>
+     *
+     * @param key the image key.
+     * @return the decoded image, or {@code null} if not cached.
+     */
+    public synchronized Image get(final K key) {
+        this.purge();
+        var img = this.images.get(key);
+        if (img == null) {
+            img = this.promote(key);
+        }
+        if (img == null) {
+            this.misses++;
+        } else {
+            this.hits++;
+        }
+        return img;
+    }
+
+    /**
+     * Check whether the decoded image is cached or not.
+     * <p>
+     *     This operation doesn't affect the recently used order nor the
+     *     counters.
+     * </p>
+     *
+     * @param key the image key.
+     * @return {@code true} if the decoded image is cached.
+     */
+    public synchronized boolean contains(final K key) {
+        this.purge();
+        var soft = this.softImages.get(key);
+        return this.images.containsKey(key) || soft != null && soft.get() != null;
+    }
+
+    /**
+     * Get the decoded image without counting the lookup.
+     * <p>
+     *     This operation doesn't affect the counters, the image found is still
+     *     treated as recently used but the image found on the soft tier is
+     *     not promoted.
+     * </p>
+     *
+     * @param key the image key.
+     * @return the decoded image, or {@code null} if not cached.
+     */
+    public synchronized Image peek(final K key) {
+        this.purge();
+        var img = this.images.get(key);
+        var soft = this.softImages.get(key);
+        if (img == null && soft != null) {
+            img = soft.get();
+        }
+        return img;
+    }
+
+    /**
+     * Keep the decoded image.
+     * <p>
+     *     The image larger than the whole budget is kept on the soft tier only.
+     * </p>
+     *
+     * @param key the image key.
+     * @param img the decoded image.
+     */
+    public synchronized void put(final K key, final Image img) {
+        this.purge();
+        this.softImages.remove(key);
+        var weight = weight(img);
+        var previous = this.images.remove(key);
+        if (previous != null) {
+            this.size -= weight(previous);
+        }
+        if (weight > this.capacity) {
+            LOGGER.log(
+                Level.FINE,
+                "The decoded image is larger than the cache. [key={0}, bytes={1}]",
+                new Object[]{key, weight}
+            );
+            this.softImages.put(key, new SoftImage<>(key, img, this.reclaimed));
+            return;
+        }
+        this.images.put(key, img);
+        this.size += weight;
+        this.evict();
+    }
+
+    /**
+     * Remove every decoded image.
+     */
+    public synchronized void clear() {
+        this.images.clear();
+        this.softImages.clear();
+        this.size = 0;
+    }
+
+    /**
+     * The decoded pixel bytes being kept, excluding the soft tier.
+     *
+     * @return the decoded pixel bytes.
+     */
+    public synchronized long size() {
+        return this.size;
+    }
+
+    /**
+     * The maximum decoded pixel bytes to keep.
+     *
+     * @return the byte budget.
+     */
+    public long capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * The number of lookup that found the decoded image.
+     *
+     * @return the hit count.
+     */
+    public synchronized long hits() {
+        return this.hits;
+    }
+
+    /**
+     * The number of lookup that didn't find the decoded image.
+     *
+     * @return the miss count.
+     */
+    public synchronized long misses() {
+        return this.misses;
+    }
+
+    /**
+     * The number of decoded image demoted to the soft tier due to the budget.
+     *
+     * @return the eviction count.
+     */
+    public synchronized long evictions() {
+        return this.evictions;
+    }
+
+    /**
+     * The decoded pixel bytes of an image.
+     *
+     * @param img the decoded image.
+     * @return the decoded pixel bytes.
+     */
+    public static long weight(final Image img) {
+        return (long) img.getWidth() * (long) img.getHeight() * BYTES_PER_PIXEL;
+    }
+
+    private Image promote(final K key) {
+        Image img = null;
+        var soft = this.softImages.get(key);
+        if (soft != null) {
+            img = soft.get();
+        }
+        if (img != null) {
+            this.put(key, img);
+        }
+        return img;
+    }
+
+    private void evict() {
+        var iterator = this.images.entrySet().iterator();
+        while (this.size > this.capacity && iterator.hasNext()) {
+            var eldest = iterator.next();
+            this.size -= weight(eldest.getValue());
+            this.evictions++;
+            this.softImages.put(
+                eldest.getKey(),
+                new SoftImage<>(eldest.getKey(), eldest.getValue(), this.reclaimed)
+            );
+            iterator.remove();
+            LOGGER.log(
+                Level.FINER,
+                "Evict the decoded image. [key={0}, size={1}]",
+                new Object[]{eldest.getKey(), this.size}
+            );
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void purge() {
+        SoftImage<K> soft;
+        while ((soft = (SoftImage<K>) this.reclaimed.poll()) != null) {
+            this.softImages.remove(soft.key, soft);
+        }
+    }
+
+    /**
+     * A soft reachable decoded image.
+     *
+     * @param <K> the type of image key.
+     */
+    private static final class SoftImage<K> extends SoftReference<Image> {
+
+        private final K key;
+
+        SoftImage(final K key, final Image img, final ReferenceQueue<Image> queue) {
+            super(img, queue);
+            this.key = key;
+        }
+
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.image;
+
+import javafx.scene.image.Image;
+
+import java.nio.file.Path;
+
+/**
+ * A picture thumbnail store.
+ * <p>
+ *     Keep the small decoded image of a picture file, so it could be shown
+ *     again without reading the original picture file.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public interface ThumbnailStore {
+
+    /**
+     * Get the thumbnail of a picture file.
+     * <p>
+     *     A thumbnail stored before the picture file is modified is not found.
+     * </p>
+     *
+     * @param file the picture file, could be {@code null}.
+     * @param size the thumbnail bounding box size in pixels.
+     * @return the thumbnail, or {@code null} if not stored.
+     */
+    Image get(Path file, int size);
+
+    /**
+     * Keep the thumbnail of a picture file.
+     *
+     * @param file the picture file, could be {@code null}.
+     * @param size the thumbnail bounding box size in pixels.
+     * @param thumbnail the thumbnail.
+     */
+    void put(Path file, int size, Image thumbnail);
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.image;
+
+import java.util.Objects;
+
+/**
+ * A tile of a {@link TilePyramid} level.
+ *
+ * @author Sukma Wardana
+ */
+public final class Tile {
+
+    private final int level;
+    private final int column;
+    private final int row;
+
+    /**
+     * Creates new Tile.
+     *
+     * @param level the pyramid level, {@code 0} is the full resolution.
+     * @param column the tile column on the level.
+     * @param row the tile row on the level.
+     */
+    public Tile(final int level, final int column, final int row) {
+        this.level = level;
+        this.column = column;
+        this.row = row;
+    }
+
+    /**
+     * The pyramid level of this tile.
+     *
+     * @return the pyramid level, {@code 0} is the full resolution.
+     */
+    public int level() {
+        return this.level;
+    }
+
+    /**
+     * The column of this tile on its level.
+     *
+     * @return the tile column.
+     */
+    public int column() {
+        return this.column;
+    }
+
+    /**
+     * The row of this tile on its level.
+     *
+     * @return the tile row.
+     */
+    public int row() {
+        return this.row;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        var result = this == obj;
+        if (!result && obj instanceof Tile other) {
+            result = this.level == other.level
+                && this.column == other.column
+                && this.row == other.row;
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.level, this.column, this.row);
+    }
+
+    @Override
+    public String toString() {
+        return "Tile{level=" + this.level + ", column=" + this.column + ", row=" + this.row + "}";
+    }
+
+}
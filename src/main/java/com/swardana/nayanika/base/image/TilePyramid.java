@@ -0,0 +1,179 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.image;
+
+import javafx.geometry.Rectangle2D;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A tile pyramid of a picture.
+ * <p>
+ *     The picture is split into square tiles on several resolution levels.
+ *     The level {@code 0} is the full resolution, each next level halves the
+ *     resolution of the previous one, up to the level which fits a single
+ *     tile. A tile covers the same number of pixels on every level, so it
+ *     covers four times the picture area of the tile on the previous level.
+ * </p>
+ * <p>
+ *     The pyramid only computes the tile positions, the tiles are decoded
+ *     on demand by the {@link TileSource}.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public final class TilePyramid {
+
+    /**
+     * The default tile side in pixels.
+     */
+    public static final int TILE_SIZE = 512;
+
+    private final int width;
+    private final int height;
+    private final int tileSize;
+    private final int levels;
+
+    /**
+     * Creates new TilePyramid.
+     * <p>
+     *     Assign default tile size.
+     * </p>
+     *
+     * @param width the picture full resolution width.
+     * @param height the picture full resolution height.
+     */
+    public TilePyramid(final int width, final int height) {
+        this(width, height, TILE_SIZE);
+    }
+
+    /**
+     * Creates new TilePyramid.
+     *
+     * @param width the picture full resolution width.
+     * @param height the picture full resolution height.
+     * @param tileSize the tile side in pixels.
+     */
+    public TilePyramid(final int width, final int height, final int tileSize) {
+        this.width = width;
+        this.height = height;
+        this.tileSize = tileSize;
+        var count = 1;
+        while (Math.max(width, height) > (long) tileSize << (count - 1)) {
+            count++;
+        }
+        this.levels = count;
+    }
+
+    /**
+     * The picture full resolution width.
+     *
+     * @return the width in pixels.
+     */
+    public int width() {
+        return this.width;
+    }
+
+    /**
+     * The picture full resolution height.
+     *
+     * @return the height in pixels.
+     */
+    public int height() {
+        return this.height;
+    }
+
+    /**
+     * The number of resolution levels.
+     *
+     * @return the level count, at least {@code 1}.
+     */
+    public int levels() {
+        return this.levels;
+    }
+
+    /**
+     * The coarsest level which is still sharp on the screen.
+     *
+     * @param pixelsPerScreen the full resolution pixels shown on a screen
+     *                        pixel.
+     * @return the pyramid level.
+     */
+    public int level(final double pixelsPerScreen) {
+        var result = 0;
+        while (result < this.levels - 1 && 2L << result <= pixelsPerScreen) {
+            result++;
+        }
+        return result;
+    }
+
+    /**
+     * The tiles of a level covering the picture region.
+     *
+     * @param level the pyramid level.
+     * @param region the picture region on full resolution pixels.
+     * @return the tiles covering the region, empty if the region is outside
+     *         the picture.
+     */
+    public List<Tile> tiles(final int level, final Rectangle2D region) {
+        var span = this.span(level);
+        var firstColumn = (int) Math.max(0, Math.floor(region.getMinX() / span));
+        var firstRow = (int) Math.max(0, Math.floor(region.getMinY() / span));
+        var lastColumn = (int) Math.min(
+            this.count(this.width, span) - 1, Math.ceil(region.getMaxX() / span) - 1
+        );
+        var lastRow = (int) Math.min(
+            this.count(this.height, span) - 1, Math.ceil(region.getMaxY() / span) - 1
+        );
+        var result = new ArrayList<Tile>();
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                result.add(new Tile(level, column, row));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The picture region covered by a tile.
+     *
+     * @param tile the tile.
+     * @return the picture region on full resolution pixels.
+     */
+    public Rectangle2D bounds(final Tile tile) {
+        var span = this.span(tile.level());
+        var minX = tile.column() * span;
+        var minY = tile.row() * span;
+        return new Rectangle2D(
+            minX,
+            minY,
+            Math.min(span, this.width - minX),
+            Math.min(span, this.height - minY)
+        );
+    }
+
+    private long span(final int level) {
+        return (long) this.tileSize << level;
+    }
+
+    private long count(final int length, final long span) {
+        return (length + span - 1) / span;
+    }
+
+}
@@ -0,0 +1,270 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.image;
+
+import com.swardana.nayanika.base.gallery.Picture;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.Rectangle;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A picture decoded by regions.
+ * <p>
+ *     Decode a region of the picture at a time, optionally subsampled, so a
+ *     picture larger than the memory or the graphic texture limit could be
+ *     shown tile by tile. Only the decoded region is kept in memory, but the
+ *     sequential formats, e.g. JPEG and PNG, are still scanned from the
+ *     beginning up to the region.
+ * </p>
+ * <p>
+ *     Each region is decoded by its own reader, so the regions could be
+ *     decoded in parallel. A {@link Pass} decodes the regions one after
+ *     another with a single reader instead, e.g. the tile rows of a level
+ *     from the top, so the picture is opened and its header is read once.
+ *     The picture file is read with random access, any other picture is read
+ *     through a memory cached stream.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public final class TileSource {
+
+    private final Picture picture;
+    private final int width;
+    private final int height;
+
+    private TileSource(final Picture picture, final int width, final int height) {
+        this.picture = picture;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Open the picture, only its header is read.
+     *
+     * @param picture the picture.
+     * @return the picture decoded by regions.
+     * @throws IOException if fail to read the picture or its format is not
+     *         supported.
+     */
+    public static TileSource open(final Picture picture) throws IOException {
+        int[] size = read(picture, reader -> new int[]{reader.getWidth(0), reader.getHeight(0)});
+        return new TileSource(picture, size[0], size[1]);
+    }
+
+    /**
+     * The picture full resolution width.
+     *
+     * @return the width in pixels.
+     */
+    public int width() {
+        return this.width;
+    }
+
+    /**
+     * The picture full resolution height.
+     *
+     * @return the height in pixels.
+     */
+    public int height() {
+        return this.height;
+    }
+
+    /**
+     * Decode a region of the picture.
+     *
+     * @param region the picture region on full resolution pixels.
+     * @param subsampling the number of pixels on each axis decoded as a
+     *                    single pixel, {@code 1} for the full resolution.
+     * @return the decoded region.
+     * @throws IOException if fail to decode the picture.
+     */
+    public Image read(final Rectangle2D region, final int subsampling) throws IOException {
+        return read(this.picture, reader -> decode(reader, region, subsampling));
+    }
+
+    /**
+     * Start a sequential pass over the picture regions.
+     * <p>
+     *     The pass must be closed once it is done.
+     * </p>
+     *
+     * @return the pass decoding the regions with a single reader.
+     * @throws IOException if fail to read the picture or its format is not
+     *         supported.
+     */
+    public Pass pass() throws IOException {
+        var input = input(this.picture);
+        try {
+            return new Pass(input, reader(input));
+        } catch (final IOException ex) {
+            input.close();
+            throw ex;
+        }
+    }
+
+    private static Image decode(
+        final ImageReader reader,
+        final Rectangle2D region,
+        final int subsampling
+    ) throws IOException {
+        var param = reader.getDefaultReadParam();
+        param.setSourceRegion(new Rectangle(
+            (int) region.getMinX(),
+            (int) region.getMinY(),
+            (int) region.getWidth(),
+            (int) region.getHeight()
+        ));
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        var decoded = reader.read(0, param);
+        var tileWidth = decoded.getWidth();
+        var tileHeight = decoded.getHeight();
+        var pixels = decoded.getRGB(0, 0, tileWidth, tileHeight, null, 0, tileWidth);
+        var result = new WritableImage(tileWidth, tileHeight);
+        result.getPixelWriter().setPixels(
+            0, 0, tileWidth, tileHeight, PixelFormat.getIntArgbInstance(), pixels, 0, tileWidth
+        );
+        return result;
+    }
+
+    private static <T> T read(final Picture picture, final Decode<T> decode) throws IOException {
+        try (var input = input(picture)) {
+            var reader = reader(input);
+            try {
+                return decode.apply(reader);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static ImageReader reader(final ImageInputStream input) throws IOException {
+        var readers = ImageIO.getImageReaders(input);
+        if (!readers.hasNext()) {
+            throw new IOException("Unsupported picture format!");
+        }
+        var result = readers.next();
+        result.setInput(input, false, true);
+        return result;
+    }
+
+    private static ImageInputStream input(final Picture picture) throws IOException {
+        ImageInputStream result;
+        var path = picture.path();
+        if (path == null) {
+            result = new ClosingInputStream(picture);
+        } else {
+            result = ImageIO.createImageInputStream(path.toFile());
+        }
+        if (result == null) {
+            throw new IOException("Fail to read the picture!");
+        }
+        return result;
+    }
+
+    /**
+     * A decode step with the picture reader.
+     *
+     * @param <T> the type of decoded result.
+     */
+    private interface Decode<T> {
+
+        T apply(ImageReader reader) throws IOException;
+
+    }
+
+    /**
+     * A sequential pass over the picture regions, decoded by a single reader.
+     * <p>
+     *     The pass is not thread safe, its regions are decoded one after
+     *     another.
+     * </p>
+     */
+    public static final class Pass implements Closeable {
+
+        private final ImageInputStream input;
+        private final ImageReader reader;
+
+        private Pass(final ImageInputStream input, final ImageReader reader) {
+            this.input = input;
+            this.reader = reader;
+        }
+
+        /**
+         * Decode the next region of the picture.
+         *
+         * @param region the picture region on full resolution pixels.
+         * @param subsampling the number of pixels on each axis decoded as a
+         *                    single pixel, {@code 1} for the full resolution.
+         * @return the decoded region.
+         * @throws IOException if fail to decode the picture.
+         */
+        public Image read(final Rectangle2D region, final int subsampling) throws IOException {
+            return decode(this.reader, region, subsampling);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                this.reader.dispose();
+            } finally {
+                this.input.close();
+            }
+        }
+
+    }
+
+    /**
+     * A memory cached picture stream, which closes the picture byte data
+     * stream as well.
+     */
+    private static final class ClosingInputStream extends MemoryCacheImageInputStream {
+
+        private final InputStream origin;
+
+        ClosingInputStream(final Picture picture) throws IOException {
+            this(picture.read());
+        }
+
+        private ClosingInputStream(final InputStream origin) {
+            super(origin);
+            this.origin = origin;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                this.origin.close();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.slideshow;
+
+import java.util.SplittableRandom;
+
+/**
+ * The slide-show play orders.
+ *
+ * @author Sukma Wardana
+ */
+public enum PlayOrder {
+
+    /**
+     * Show the pictures forward, stop on the last picture.
+     */
+    FORWARD {
+        @Override
+        public SlideOrder sequence(final int start) {
+            return (index, size, slides) -> position(index + slides < size, index + slides);
+        }
+    },
+    /**
+     * Show the pictures forward, continue from the first picture after the
+     * last picture.
+     */
+    LOOP {
+        @Override
+        public SlideOrder sequence(final int start) {
+            return (index, size, slides) -> position(
+                size > 0, (index + slides) % Math.max(size, 1)
+            );
+        }
+    },
+    /**
+     * Show the pictures backward, stop on the first picture.
+     */
+    REVERSE {
+        @Override
+        public SlideOrder sequence(final int start) {
+            return (index, size, slides) -> position(index - slides >= 0, index - slides);
+        }
+    },
+    /**
+     * Show every picture once on a random order, see {@link ShuffleOrder}.
+     */
+    SHUFFLE {
+        @Override
+        public SlideOrder sequence(final int start) {
+            return new ShuffleOrder(new SplittableRandom().nextLong(), start);
+        }
+    };
+
+    /**
+     * The slide-show order starting from the given picture.
+     *
+     * @param start the position of the picture the slide-show starts from.
+     * @return the slide-show order.
+     */
+    public abstract SlideOrder sequence(int start);
+
+    private static int position(final boolean available, final int index) {
+        var result = SlideOrder.END;
+        if (available) {
+            result = index;
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.slideshow;
+
+import com.swardana.nayanika.base.gallery.Gallery;
+
+/**
+ * A random slide-show order showing every picture once.
+ * <p>
+ *     The order is a permutation of the picture positions computed on demand
+ *     by a keyed Feistel network, instead of a shuffled copy of the
+ *     positions. The network permutes the smallest power of four range
+ *     covering the gallery, a permuted position outside the gallery is
+ *     permuted again until it falls inside the gallery. Each slide costs a
+ *     few rounds of arithmetic, whatever the gallery size.
+ * </p>
+ * <p>
+ *     The picture the slide-show starts from is skipped, it is already shown.
+ *     When the gallery size changes, e.g. the pictures are found or deleted
+ *     during the slide-show, a new permutation starts from the current
+ *     picture.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+final class ShuffleOrder implements SlideOrder {
+
+    private static final int ROUNDS = 4;
+
+    private final long seed;
+    private final long[] keys;
+
+    private int start;
+    private int total;
+    private int position;
+    private int half;
+    private long mask;
+
+    /**
+     * Creates new ShuffleOrder.
+     *
+     * @param seed the permutation seed.
+     * @param start the position of the picture the slide-show starts from.
+     */
+    ShuffleOrder(final long seed, final int start) {
+        this.seed = seed;
+        this.keys = new long[ROUNDS];
+        this.start = start;
+        this.total = -1;
+    }
+
+    @Override
+    public int ahead(final int index, final int size, final int slides) {
+        if (size != this.total) {
+            this.reset(index, size);
+        }
+        var found = this.seek(slides);
+        var result = END;
+        if (found < this.total) {
+            result = this.permute(found);
+        }
+        return result;
+    }
+
+    /**
+     * Move the gallery to the picture of the next slide.
+     * <p>
+     *     The order is moved forward before the gallery, so the upcoming
+     *     slides are already the next ones once the gallery is moved.
+     * </p>
+     *
+     * @param gallery the slide-show gallery.
+     * @return {@code false} if the slide-show is over.
+     */
+    @Override
+    public boolean advance(final Gallery gallery) {
+        var next = this.ahead(gallery.index(), gallery.size(), 1);
+        var moved = next != END;
+        if (moved) {
+            this.position = this.seek(1) + 1;
+            gallery.current(gallery.picture(next));
+        }
+        return moved;
+    }
+
+    /**
+     * Find the permutation step of the picture shown the given slides later.
+     *
+     * @param slides the number of slides ahead.
+     * @return the permutation step, or the gallery size if there is none.
+     */
+    private int seek(final int slides) {
+        var step = this.position;
+        var remaining = slides;
+        while (step < this.total && remaining > 0) {
+            if (this.permute(step) != this.start) {
+                remaining--;
+            }
+            if (remaining > 0) {
+                step++;
+            }
+        }
+        return step;
+    }
+
+    private void reset(final int index, final int count) {
+        this.start = index;
+        this.total = count;
+        this.position = 0;
+        var bits = 2;
+        while (1L << bits < count) {
+            bits += 2;
+        }
+        this.half = bits / 2;
+        this.mask = (1L << this.half) - 1;
+        var key = this.seed + count;
+        for (int i = 0; i < ROUNDS; i++) {
+            key = mix(key);
+            this.keys[i] = key;
+        }
+    }
+
+    /**
+     * The picture position at the given permutation step.
+     *
+     * @param step the permutation step, within the gallery size.
+     * @return the picture position, within the gallery size.
+     */
+    private int permute(final int step) {
+        var result = this.feistel(step);
+        while (result >= this.total) {
+            result = this.feistel(result);
+        }
+        return (int) result;
+    }
+
+    private long feistel(final long value) {
+        var left = value >>> this.half;
+        var right = value & this.mask;
+        for (final long key : this.keys) {
+            var next = left ^ (mix(right ^ key) & this.mask);
+            left = right;
+            right = next;
+        }
+        return left << this.half | right;
+    }
+
+    /**
+     * The SplitMix64 finalizer, spread every input bit over the output bits.
+     *
+     * @param value the input.
+     * @return the mixed output.
+     */
+    private static long mix(final long value) {
+        var result = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        result = (result ^ (result >>> 27)) * 0x94d049bb133111ebL;
+        return result ^ (result >>> 31);
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.slideshow;
+
+import com.swardana.nayanika.base.gallery.Gallery;
+
+/**
+ * The order the gallery pictures are shown on a slide-show.
+ * <p>
+ *     The order works on the picture positions of the gallery, the gallery
+ *     pictures are never copied.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public interface SlideOrder {
+
+    /**
+     * The position when there is no more slide.
+     */
+    int END = -1;
+
+    /**
+     * The position of the picture shown the given slides after the current
+     * picture.
+     * <p>
+     *     This operation doesn't move the order forward.
+     * </p>
+     *
+     * @param index the position of the current picture.
+     * @param size the number of pictures on the gallery.
+     * @param slides the number of slides ahead, start from {@code 1}.
+     * @return the picture position, or {@link #END} if the slide-show is
+     *         over before.
+     */
+    int ahead(int index, int size, int slides);
+
+    /**
+     * Move the gallery to the picture of the next slide.
+     * <p>
+     *     The neighbour picture is moved to with {@link Gallery#next()} or
+     *     {@link Gallery#previous()}, so the gallery prefetch follows the
+     *     slide-show direction.
+     * </p>
+     *
+     * @param gallery the slide-show gallery.
+     * @return {@code false} if the slide-show is over.
+     */
+    default boolean advance(final Gallery gallery) {
+        var index = gallery.index();
+        var next = this.ahead(index, gallery.size(), 1);
+        if (next == index + 1) {
+            gallery.next();
+        } else if (next == index - 1) {
+            gallery.previous();
+        } else if (next != END) {
+            gallery.current(gallery.picture(next));
+        }
+        return next != END;
+    }
+
+}
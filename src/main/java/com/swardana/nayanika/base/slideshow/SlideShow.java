@@ -35,4 +35,12 @@ public interface SlideShow {
      */
     void stop();
 
+    /**
+     * Set the action to run when the slide-show is over, e.g. the last
+     * picture of the play order is shown.
+     *
+     * @param action the action to run once the slide-show is over.
+     */
+    void setOnFinished(Runnable action);
+
 }
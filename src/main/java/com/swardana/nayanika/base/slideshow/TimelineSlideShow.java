@@ -37,18 +37,21 @@ public class TimelineSlideShow implements SlideShow {
     private final Timeline timeline;
     private final Gallery gallery;
     private final double time;
+    private final PlayOrder order;
 
     private final EventHandler<ActionEvent> transitionAction = new EventHandler<ActionEvent>() {
         @Override
         public void handle(final ActionEvent event) {
-            if (gallery.isLast()) {
+            if (!sequence.advance(gallery)) {
                 stop();
-            } else {
-                gallery.next();
+                finished.run();
             }
         }
     };
 
+    private SlideOrder sequence;
+    private Runnable finished;
+
     /**
      * Creates new TimelineSlideShow.
      * <p>
@@ -78,13 +81,31 @@ public class TimelineSlideShow implements SlideShow {
      * @param duration the transition time duration
      */
     public TimelineSlideShow(final Gallery gallery, final double duration) {
+        this(gallery, duration, PlayOrder.FORWARD);
+    }
+
+    /**
+     * Creates new TimelineSlideShow.
+     *
+     * @param gallery the animated gallery during slide-show presentation.
+     * @param duration the transition time duration
+     * @param order the slide-show play order.
+     */
+    public TimelineSlideShow(
+        final Gallery gallery,
+        final double duration,
+        final PlayOrder order
+    ) {
         this.gallery = gallery;
         this.time = duration;
+        this.order = order;
         this.timeline = new Timeline();
+        this.finished = () -> { };
     }
 
     @Override
     public final void play() {
+        this.sequence = this.order.sequence(this.gallery.index());
         var keyFrame = new KeyFrame(
             Duration.seconds(this.time),
             this.transitionAction
@@ -100,4 +121,9 @@ public class TimelineSlideShow implements SlideShow {
         this.timeline.getKeyFrames().clear();
     }
 
+    @Override
+    public final void setOnFinished(final Runnable action) {
+        this.finished = action;
+    }
+
 }
@@ -18,20 +18,41 @@
 
 package com.swardana.nayanika.command;
 
+import com.swardana.nayanika.base.ThreadExecutor;
 import com.swardana.nayanika.base.gallery.AscendingSortedPictures;
 import com.swardana.nayanika.base.gallery.Exhibition;
 import com.swardana.nayanika.base.gallery.FolderStorage;
-import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.base.gallery.FolderWatch;
+import com.swardana.nayanika.base.gallery.Gallery;
+import com.swardana.nayanika.base.gallery.RecursiveFolderStorage;
+import com.swardana.nayanika.base.gallery.SortedPictures;
 import com.swardana.nayanika.base.gallery.StaticPicture;
+import com.swardana.nayanika.base.gallery.Storage;
 import com.swardana.nayanika.base.gallery.SupportedPicture;
+import com.swardana.nayanika.base.gallery.TraversalOption;
+import javafx.application.Platform;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Supplier;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * An abstract command for opening picture gallery.
@@ -39,13 +60,53 @@ import java.util.function.Supplier;
  *     The command to search pictures is done in asynchronous manner and the
  *     result is automatically sort in ascending order.
  * </p>
+ * <p>
+ *     The pictures are found in batches. The gallery is exhibited as soon as
+ *     the opened picture, or the first batch of the opened folder, is
+ *     available and the later batches are merged into the exhibited gallery
+ *     in the background.
+ * </p>
+ * <p>
+ *     The opened picture is exhibited as a single picture gallery without
+ *     waiting for its folder search, so its decode is requested ahead of the
+ *     folder listing. The gallery then grows around the opened picture, which
+ *     stays the current active picture.
+ * </p>
+ * <p>
+ *     The command doesn't wait for the search, the gallery is exhibited on
+ *     the publisher executor, which is the JavaFX Application Thread by
+ *     default, as well as the number of pictures found so far. Opening
+ *     another gallery cancels the search of the previous one.
+ * </p>
+ * <p>
+ *     The opened folder is watched while its gallery is exhibited, so the
+ *     pictures created on or deleted from the folder are applied to the
+ *     gallery, see {@link FolderWatch}. It could be turned off with the
+ *     {@code nayanika.gallery.watch} system property.
+ * </p>
+ * <p>
+ *     The opened folder is searched alone by default, or its sub-folders as
+ *     well up to the {@link #depth(int)} folder depth with the
+ *     {@link #traversal(Set)} options. The default depth is the
+ *     {@code nayanika.gallery.depth} system property.
+ * </p>
  *
  * @author Sukma Wardana
  */
 public class OpenGallery {
 
+    private static final Logger LOGGER = Logger.getLogger(OpenGallery.class.getName());
+
     private final Exhibition exhibition;
     private final ExecutorService executor;
+    private final Executor publisher;
+    private final BooleanProperty openingProperty;
+    private final IntegerProperty scannedProperty;
+
+    private FolderWatch watching;
+    private Opening opening;
+    private volatile int depth;
+    private volatile Set<TraversalOption> options;
 
     /**
      * Creates new OpenGallery.
@@ -54,30 +115,149 @@ public class OpenGallery {
      * @param executor the asynchronous task executor.
      */
     public OpenGallery(final Exhibition exhibition, final ExecutorService executor) {
+        this(exhibition, executor, Platform::runLater);
+    }
+
+    /**
+     * Creates new OpenGallery.
+     *
+     * @param exhibition the picture gallery exhibition.
+     * @param executor the asynchronous task executor.
+     * @param publisher the executor to exhibit the gallery and its progress.
+     */
+    public OpenGallery(
+        final Exhibition exhibition,
+        final ExecutorService executor,
+        final Executor publisher
+    ) {
         this.exhibition = exhibition;
         this.executor = executor;
+        this.publisher = publisher;
+        this.openingProperty = new SimpleBooleanProperty(this, "opening", false);
+        this.scannedProperty = new SimpleIntegerProperty(this, "scanned", 0);
+        this.depth = Integer.getInteger("nayanika.gallery.depth", 1);
+        this.options = EnumSet.noneOf(TraversalOption.class);
+    }
+
+    /**
+     * Change the folder depth of the next openings.
+     *
+     * @param maxDepth the maximum folder depth to search, {@code 1} only
+     *                 search the opened folder.
+     */
+    public void depth(final int maxDepth) {
+        this.depth = maxDepth;
+    }
+
+    /**
+     * Change the sub-folders traversal options of the next openings.
+     *
+     * @param traversal the folder traversal options, e.g. follow the
+     *                  symbolic links.
+     */
+    public void traversal(final Set<TraversalOption> traversal) {
+        this.options = Set.copyOf(traversal);
     }
 
     /**
      * Execute picture gallery exhibition.
      * <p>
-     *     This will perform {@code Exhibition.exhibits()} method.
+     *     This will perform {@code Exhibition.exhibits()} method on the
+     *     publisher executor, right away for the opened picture, or once the
+     *     first batch of the opened folder is found. The previous opening is
+     *     cancelled.
+     * </p>
+     * <p>
+     *     The command could be executed before the publisher executor runs,
+     *     e.g. on launch while the window is being created, the search is
+     *     started right away.
      * </p>
      *
      * @param file the picture gallery file.
      * @param filter the applied supported picture format filter.
+     * @return the exhibited gallery, cancel it to cancel the opening as
+     *         {@link #cancel()} does, as long as it is not exhibited yet.
      */
-    public void execute(final File file, final SupportedPicture filter) {
+    public CompletableFuture<Gallery> execute(final File file, final SupportedPicture filter) {
+        this.cancel();
         var target = this.source(file);
-        var pictures = this.ascendingPictures(target, filter);
+        var current = new Opening();
+        var exhibited = current.exhibited;
+        this.opening = current;
+        this.scannedProperty.set(0);
+        this.openingProperty.set(true);
+        this.completed(current, target);
         if (file.isFile()) {
             var picture = new StaticPicture(file.getName(), file);
-            this.exhibition.exhibits(target.toString(), pictures, picture);
+            this.publisher.execute(() -> {
+                if (!exhibited.isDone()) {
+                    exhibited.complete(
+                        this.exhibition.exhibits(target.toString(), List.of(picture), picture)
+                    );
+                }
+            });
+            this.searchFolder(target, filter, current);
         } else {
-            this.exhibition.exhibits(target.toString(), pictures);
+            this.search(target, filter, current).whenCompleteAsync((first, ex) -> {
+                if (ex != null) {
+                    exhibited.completeExceptionally(ex);
+                } else if (!exhibited.isDone()) {
+                    exhibited.complete(
+                        this.exhibition.exhibits(target.toString(), first.sorted())
+                    );
+                }
+            }, this.publisher);
+        }
+        return exhibited;
+    }
+
+    /**
+     * Cancel the current opening.
+     * <p>
+     *     The search is stopped, and its gallery is not exhibited if it is
+     *     not exhibited yet.
+     * </p>
+     */
+    public void cancel() {
+        var current = this.opening;
+        if (current != null) {
+            this.cancel(current);
         }
     }
 
+    /**
+     * Whether a gallery is being opened or not.
+     * <p>
+     *     The gallery is being opened until its search is done, including the
+     *     later batches merged after it is exhibited.
+     * </p>
+     *
+     * @return the opening state property.
+     */
+    public ReadOnlyBooleanProperty openingProperty() {
+        return this.openingProperty;
+    }
+
+    /**
+     * The number of pictures found so far by the current opening.
+     *
+     * @return the found picture count property.
+     */
+    public ReadOnlyIntegerProperty scannedProperty() {
+        return this.scannedProperty;
+    }
+
+    private Storage storage(final Path src) {
+        final Storage result;
+        var maxDepth = this.depth;
+        if (maxDepth > 1) {
+            result = new RecursiveFolderStorage(src, maxDepth, this.options);
+        } else {
+            result = new FolderStorage(src);
+        }
+        return result;
+    }
+
     private Path source(final File file) {
         final Path result;
         if (file.isFile()) {
@@ -89,54 +269,213 @@ public class OpenGallery {
     }
 
     /**
-     * Search pictures on computer folder and sort in ascending order
-     * asynchronously.
+     * Search pictures on computer folder in batches asynchronously.
+     * <p>
+     *     The first batch is returned, the later batches are sorted and merged
+     *     into the exhibited gallery. The search stops at the next batch once
+     *     the opening is cancelled.
+     * </p>
+     *
+     * @param src the directory of computer folder.
+     * @param filter the supported picture filter.
+     * @param current the gallery opening.
+     * @return the first batch of pictures in ascending order.
+     */
+    private CompletableFuture<SortedPictures> search(
+        final Path src,
+        final SupportedPicture filter,
+        final Opening current
+    ) {
+        var exhibited = current.exhibited;
+        var watch = this.watch(src, filter, exhibited);
+        current.watch = watch;
+        var storage = this.storage(src);
+        var first = new CompletableFuture<SortedPictures>();
+        CompletableFuture<Void> done;
+        try {
+            done = CompletableFuture.runAsync(new Runnable() {
+                @Override
+                public void run() {
+                    storage.search(filter, batch -> {
+                        if (current.cancelled) {
+                            throw new CancellationException("The gallery opening is cancelled.");
+                        }
+                        if (watch != null) {
+                            watch.found(batch);
+                        }
+                        progress(current, current.found.addAndGet(batch.size()));
+                        var sorted = new AscendingSortedPictures(batch);
+                        if (!first.complete(sorted)) {
+                            merge(exhibited, sorted);
+                        }
+                    });
+                }
+            }, this.executor);
+        } catch (final RejectedExecutionException ex) {
+            done = CompletableFuture.failedFuture(ex);
+        }
+        done.whenComplete((searched, ex) -> {
+            if (ex != null) {
+                first.completeExceptionally(ex);
+            } else {
+                first.complete(new AscendingSortedPictures(List.of()));
+            }
+            this.publisher.execute(() -> this.finished(current));
+        });
+        return first;
+    }
+
+    /**
+     * Stop the gallery opening once its exhibited gallery is cancelled, or
+     * log when it fails.
      *
-     * @param src the directtory of computer folder.
-     * @param filter the supportted picture filter.
-     * @return the list of picture in ascending order.
+     * @param current the gallery opening.
+     * @param src the directory of computer folder.
      */
-    private List<Picture> ascendingPictures(final Path src, final SupportedPicture filter) {
-        return this.asyncPictures(src, filter)
-            .thenCompose(this::asyncAscendingPictures)
-            .join();
+    private void completed(final Opening current, final Path src) {
+        var exhibited = current.exhibited;
+        exhibited.whenComplete((gallery, ex) -> {
+            if (exhibited.isCancelled()) {
+                current.cancelled = true;
+                this.publisher.execute(() -> this.cancel(current));
+            } else if (ex != null && !(ex instanceof CancellationException)) {
+                LOGGER.log(
+                    Level.WARNING,
+                    "Fail to open the picture gallery. [src={0}]",
+                    new Object[]{src.toString()}
+                );
+            }
+        });
     }
 
     /**
-     * Search picture on computer folder storage asynchronously.
+     * Search the folder of the opened picture, its pictures are merged into
+     * the already exhibited gallery.
      *
      * @param src the directory of computer folder.
      * @param filter the supported picture filter.
-     * @return the list of pictures.
+     * @param current the gallery opening.
      */
-    private CompletableFuture<List<Picture>> asyncPictures(
+    private void searchFolder(
         final Path src,
-        final SupportedPicture filter
+        final SupportedPicture filter,
+        final Opening current
     ) {
-        return CompletableFuture.supplyAsync(new Supplier<List<Picture>>() {
-            @Override
-            public List<Picture> get() {
-                var storage = new FolderStorage(src);
-                return storage.search(filter);
+        this.search(src, filter, current).whenComplete((first, ex) -> {
+            if (ex == null) {
+                this.merge(current.exhibited, first);
+            } else if (!current.cancelled) {
+                LOGGER.log(
+                    Level.WARNING,
+                    "Fail to search the picture gallery folder. [src={0}]",
+                    new Object[]{src.toString()}
+                );
             }
-        }, this.executor);
+        });
     }
 
     /**
-     * Asynchronously sorting picture in ascending order.
+     * Cancel a gallery opening, and stop watching its folder.
      *
-     * @param pictures the list of pictures
-     * @return the list of picture in ascending order.
+     * @param current the gallery opening.
      */
-    private CompletableFuture<List<Picture>> asyncAscendingPictures(
-        final List<Picture> pictures
+    private void cancel(final Opening current) {
+        current.cancelled = true;
+        current.exhibited.cancel(false);
+        if (current.watch != null && this.watching == current.watch) {
+            this.watching.close();
+            this.watching = null;
+        }
+        this.finished(current);
+    }
+
+    private void progress(final Opening current, final int found) {
+        this.publisher.execute(() -> {
+            if (this.opening == current && !current.cancelled) {
+                this.scannedProperty.set(Math.max(this.scannedProperty.get(), found));
+            }
+        });
+    }
+
+    private void finished(final Opening current) {
+        if (this.opening == current) {
+            this.opening = null;
+            this.openingProperty.set(false);
+        }
+    }
+
+    /**
+     * Watch the opened folder, instead of the previously opened one.
+     *
+     * @param src the directory of computer folder.
+     * @param filter the supported picture filter.
+     * @param exhibited the exhibited gallery.
+     * @return the folder watch, or {@code null} if not watched.
+     */
+    private FolderWatch watch(
+        final Path src,
+        final SupportedPicture filter,
+        final CompletableFuture<Gallery> exhibited
     ) {
-        return CompletableFuture.supplyAsync(new Supplier<List<Picture>>() {
-            @Override
-            public List<Picture> get() {
-                return new AscendingSortedPictures(pictures).sorted();
+        if (this.watching != null) {
+            this.watching.close();
+            this.watching = null;
+        }
+        if (Boolean.parseBoolean(System.getProperty("nayanika.gallery.watch", "true"))) {
+            try {
+                var watch = new FolderWatch(src, filter);
+                exhibited.thenAcceptAsync(
+                    watch::watch,
+                    ThreadExecutor.getInstance().watchExecutor()
+                );
+                this.watching = watch;
+            } catch (final IOException ex) {
+                LOGGER.log(
+                    Level.WARNING,
+                    "Fail to watch the gallery folder. [dir={0}]",
+                    new Object[]{src.toString()}
+                );
             }
-        }, this.executor);
+        }
+        return this.watching;
+    }
+
+    /**
+     * Merge the later batch of pictures into the exhibited gallery.
+     *
+     * @param exhibited the exhibited gallery.
+     * @param batch the batch of pictures.
+     */
+    private void merge(
+        final CompletableFuture<Gallery> exhibited,
+        final SortedPictures batch
+    ) {
+        var pictures = batch.sorted();
+        exhibited.thenAccept(gallery -> {
+            LOGGER.log(
+                Level.FINE,
+                "Merge the found pictures into the gallery. [size={0}]",
+                new Object[]{pictures.size()}
+            );
+            gallery.merge(pictures, batch.order());
+        });
+    }
+
+    /**
+     * A gallery opening.
+     */
+    private static final class Opening {
+
+        private final CompletableFuture<Gallery> exhibited;
+        private final AtomicInteger found;
+        private volatile boolean cancelled;
+        private FolderWatch watch;
+
+        Opening() {
+            this.exhibited = new CompletableFuture<>();
+            this.found = new AtomicInteger();
+        }
+
     }
 
 }
@@ -0,0 +1,184 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.control;
+
+import com.swardana.nayanika.base.ThreadExecutor;
+import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.base.image.DiskThumbnailStore;
+import com.swardana.nayanika.base.image.ImageBudget;
+import com.swardana.nayanika.base.image.ImageCache;
+import com.swardana.nayanika.base.image.ThumbnailStore;
+import javafx.application.Platform;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.image.Image;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A thumbnail browser control.
+ * <p>
+ *     The thumbnails are loaded on a bounded background executor, from the
+ *     {@link ThumbnailStore} when available, otherwise decoded from the
+ *     picture and stored for the next time. The recently loaded thumbnails
+ *     are kept on memory as well. The thumbnail rejected by the executor is
+ *     cancelled.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public class BrowserControl implements BrowserSubject {
+
+    private static final Logger LOGGER = Logger.getLogger(BrowserControl.class.getName());
+
+    private static final int THUMBNAIL_SIZE = 160;
+
+    private final Executor loader;
+    private final ThumbnailStore thumbnails;
+    private final Executor publisher;
+    private final ImageCache<Picture> cache;
+    private final ObjectProperty<Layout> layoutProperty;
+
+    private Layout layout;
+
+    /**
+     * Creates new BrowserControl.
+     */
+    public BrowserControl() {
+        this(
+            ThreadExecutor.getInstance().thumbnailExecutor(),
+            DiskThumbnailStore.getInstance(),
+            Platform::runLater
+        );
+    }
+
+    /**
+     * Creates new BrowserControl.
+     *
+     * @param loader the bounded background executor to load the thumbnail.
+     * @param thumbnails the thumbnail store.
+     * @param publisher the executor to publish the loaded thumbnail.
+     */
+    BrowserControl(
+        final Executor loader,
+        final ThumbnailStore thumbnails,
+        final Executor publisher
+    ) {
+        this.loader = loader;
+        this.thumbnails = thumbnails;
+        this.publisher = publisher;
+        this.cache = new ImageCache<>(ImageBudget.THUMBNAILS.capacity());
+        this.layout = Layout.HIDDEN;
+        this.layoutProperty = new SimpleObjectProperty<>(this, "layout", Layout.HIDDEN);
+    }
+
+    @Override
+    public final void showFilmstrip() {
+        this.layout = Layout.FILMSTRIP;
+        this.layoutStateChanged();
+    }
+
+    @Override
+    public final void showGrid() {
+        this.layout = Layout.GRID;
+        this.layoutStateChanged();
+    }
+
+    @Override
+    public final void hideBrowser() {
+        this.layout = Layout.HIDDEN;
+        this.layoutStateChanged();
+    }
+
+    @Override
+    public final Layout layout() {
+        return this.layout;
+    }
+
+    @Override
+    public final ReadOnlyObjectProperty<Layout> layoutProperty() {
+        return this.layoutProperty;
+    }
+
+    @Override
+    public final CompletableFuture<Image> thumbnail(final Picture pic) {
+        CompletableFuture<Image> result;
+        var img = this.cache.get(pic);
+        if (img == null) {
+            var future = new CompletableFuture<Image>();
+            var cancelled = new AtomicBoolean(false);
+            future.whenComplete((thumbnail, error) -> cancelled.set(future.isCancelled()));
+            try {
+                this.loader.execute(() -> {
+                    if (!future.isDone()) {
+                        var thumbnail = this.load(pic, cancelled);
+                        this.publisher.execute(() -> future.complete(thumbnail));
+                    }
+                });
+            } catch (final RejectedExecutionException ex) {
+                LOGGER.log(
+                    Level.FINE,
+                    "The thumbnail load is rejected. [pic={0}]",
+                    new Object[]{pic.name()}
+                );
+                future.cancel(false);
+            }
+            result = future;
+        } else {
+            result = CompletableFuture.completedFuture(img);
+        }
+        return result;
+    }
+
+    private Image load(final Picture pic, final AtomicBoolean cancelled) {
+        var result = this.thumbnails.get(pic.path(), THUMBNAIL_SIZE);
+        if (result == null) {
+            try (var stream = new CancellableInputStream(pic.read(), cancelled)) {
+                result = new Image(stream, THUMBNAIL_SIZE, THUMBNAIL_SIZE, true, true);
+            } catch (final IOException ex) {
+                LOGGER.log(
+                    Level.FINE,
+                    "Fail to read the picture thumbnail. [pic={0}]",
+                    new Object[]{pic.name()}
+                );
+            }
+            if (result != null && result.isError()) {
+                result = null;
+            }
+            if (result != null) {
+                this.thumbnails.put(pic.path(), THUMBNAIL_SIZE, result);
+            }
+        }
+        if (result != null) {
+            this.cache.put(pic, result);
+        }
+        return result;
+    }
+
+    private void layoutStateChanged() {
+        this.layoutProperty.setValue(this.layout);
+    }
+
+}
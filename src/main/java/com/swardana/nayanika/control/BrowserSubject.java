@@ -0,0 +1,59 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.control;
+
+import com.swardana.nayanika.base.Browser;
+import com.swardana.nayanika.base.gallery.Picture;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.scene.image.Image;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An observable subject for thumbnail browser.
+ *
+ * @author Sukma Wardana
+ */
+public interface BrowserSubject extends Browser {
+
+    /**
+     * An observable browser layout property.
+     * <p>
+     *     Whenever the {@link #layout()} state is change, it will trigger to
+     *     change this observable layout property.
+     * </p>
+     *
+     * @return the observable layout property.
+     */
+    ReadOnlyObjectProperty<Layout> layoutProperty();
+
+    /**
+     * Load the thumbnail of a picture in the background.
+     * <p>
+     *     The most recently requested thumbnail is loaded first. Cancelling
+     *     the returned future cancel the thumbnail load, e.g. when the picture
+     *     is scrolled out of view.
+     * </p>
+     *
+     * @param pic the picture.
+     * @return the thumbnail, completed on the same executor the observable
+     *         properties are changed on.
+     */
+    CompletableFuture<Image> thumbnail(Picture pic);
+
+}
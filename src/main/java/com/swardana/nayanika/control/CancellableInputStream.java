@@ -0,0 +1,65 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.control;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A picture byte data stream that stop being read once its decode is
+ * cancelled, so the abandoned decode release the decoder thread early.
+ *
+ * @author Sukma Wardana
+ */
+final class CancellableInputStream extends FilterInputStream {
+
+    private final AtomicBoolean cancelled;
+
+    /**
+     * Creates new CancellableInputStream.
+     *
+     * @param stream the picture byte data stream.
+     * @param cancelled the decode cancellation state.
+     */
+    CancellableInputStream(final InputStream stream, final AtomicBoolean cancelled) {
+        super(stream);
+        this.cancelled = cancelled;
+    }
+
+    @Override
+    public int read() throws IOException {
+        this.ensureActive();
+        return super.read();
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int off, final int len) throws IOException {
+        this.ensureActive();
+        return super.read(buffer, off, len);
+    }
+
+    private void ensureActive() throws InterruptedIOException {
+        if (this.cancelled.get()) {
+            throw new InterruptedIOException("The picture decode is cancelled.");
+        }
+    }
+
+}
@@ -18,26 +18,46 @@
 
 package com.swardana.nayanika.control;
 
+import com.swardana.nayanika.base.ThreadExecutor;
 import com.swardana.nayanika.base.gallery.Exhibition;
 import com.swardana.nayanika.base.gallery.Gallery;
 import com.swardana.nayanika.base.gallery.GalleryExhibition;
 import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.base.image.DiskThumbnailStore;
+import com.swardana.nayanika.base.image.ImageCache;
+import com.swardana.nayanika.base.image.ThumbnailStore;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.application.Platform;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.image.Image;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * An observable exhibition state control.
+ * <p>
+ *     Every exhibited gallery share the same decoded picture cache, so the
+ *     decoded pixels kept in memory stay within one budget. They share the
+ *     same picture decoder as well, so a picture decoded ahead of its
+ *     exhibition, e.g. the picture opened on launch, is not decoded twice.
+ * </p>
+ * <p>
+ *     The exhibited gallery is the observable {@link GallerySubject}, so the
+ *     pictures merged into it later are observed as well.
+ * </p>
  *
  * @author Sukma Wardana
  */
 public class ExhibitionControl implements ExhibitionSubject {
 
     private final Exhibition origin;
+    private final PicturePrefetch prefetch;
     private final ObjectProperty<GallerySubject> galleryProperty;
 
+    private GalleryControl exhibited;
+
     /**
      * Creates new ExhibitionControl.
      */
@@ -51,15 +71,43 @@ public class ExhibitionControl implements ExhibitionSubject {
      * @param exhibition the exhibition for others to observe.
      */
     public ExhibitionControl(final Exhibition exhibition) {
+        this(exhibition, new ImageCache<>(), DiskThumbnailStore.getInstance());
+    }
+
+    /**
+     * Creates new ExhibitionControl.
+     *
+     * @param exhibition the exhibition for others to observe.
+     * @param cache the decoded picture cache shared by the galleries.
+     * @param thumbnails the picture preview store shared by the galleries.
+     */
+    public ExhibitionControl(
+        final Exhibition exhibition,
+        final ImageCache<Picture> cache,
+        final ThumbnailStore thumbnails
+    ) {
+        this(
+            exhibition,
+            new PicturePrefetch(ThreadExecutor.getInstance().picturePools(), cache, thumbnails)
+        );
+    }
+
+    /**
+     * Creates new ExhibitionControl.
+     *
+     * @param exhibition the exhibition for others to observe.
+     * @param prefetch the picture decoder shared by the galleries.
+     */
+    ExhibitionControl(final Exhibition exhibition, final PicturePrefetch prefetch) {
         this.origin = exhibition;
+        this.prefetch = prefetch;
         this.galleryProperty = new SimpleObjectProperty<>(this, "gallery", null);
     }
 
     @Override
     public final Gallery exhibits(final String name, final List<Picture> pictures) {
         var gallery = this.origin.exhibits(name, pictures);
-        this.galleryChanged(gallery);
-        return gallery;
+        return this.galleryChanged(gallery);
     }
 
     @Override
@@ -67,8 +115,7 @@ public class ExhibitionControl implements ExhibitionSubject {
         final String name, final List<Picture> pictures, final Picture pic
     ) {
         var gallery = this.origin.exhibits(name, pictures, pic);
-        this.galleryChanged(gallery);
-        return gallery;
+        return this.galleryChanged(gallery);
     }
 
     @Override
@@ -76,10 +123,32 @@ public class ExhibitionControl implements ExhibitionSubject {
         return this.galleryProperty;
     }
 
-    private void galleryChanged(final Gallery gallery) {
-        this.galleryProperty.setValue(
-            new GalleryControl(gallery)
-        );
+    /**
+     * Decode a picture ahead of its exhibition.
+     * <p>
+     *     The exhibited picture joins the running decode, as long as its
+     *     resolution bounding box is not larger than the given one.
+     * </p>
+     *
+     * @param pic the picture.
+     * @param width the resolution bounding box width.
+     * @param height the resolution bounding box height.
+     * @return the decoded image.
+     */
+    public final CompletableFuture<Image> preload(
+        final Picture pic, final double width, final double height
+    ) {
+        this.prefetch.resolution(width, height);
+        return this.prefetch.load(pic);
+    }
+
+    private Gallery galleryChanged(final Gallery gallery) {
+        if (this.exhibited != null) {
+            this.exhibited.dispose();
+        }
+        this.exhibited = new GalleryControl(gallery, this.prefetch, Platform::runLater);
+        this.galleryProperty.setValue(this.exhibited);
+        return this.exhibited;
     }
 
 }
@@ -18,30 +18,75 @@
 
 package com.swardana.nayanika.control;
 
+import com.swardana.nayanika.base.ThreadExecutor;
 import com.swardana.nayanika.base.gallery.Gallery;
 import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.base.image.DiskThumbnailStore;
+import com.swardana.nayanika.base.image.ImageCache;
+import com.swardana.nayanika.base.image.ThumbnailStore;
+import com.swardana.nayanika.base.slideshow.SlideOrder;
+import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.scene.image.Image;
 
-import java.io.IOException;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * An observable picture gallery state control.
+ * <p>
+ *     The active picture is decoded on the background executor and the
+ *     decoded image is published to the {@link #imageProperty()} on the
+ *     publisher executor, which is the JavaFX Application Thread by default.
+ *     A decode that is still running when the active picture changes again is
+ *     never published. While the decode is running, a fast low resolution
+ *     preview is published first if the picture has one, the decoded image
+ *     then replace it without changing the {@link #pictureProperty()}.
+ * </p>
+ * <p>
+ *     The neighbour pictures of the active picture are prefetched toward the
+ *     navigation direction, see {@link PicturePrefetch}, or the upcoming
+ *     pictures of the {@link #prefetchOrder(SlideOrder)} when there is one.
+ * </p>
+ * <p>
+ *     The pictures are decoded to fit the requested {@link #resolution(double, double)}
+ *     rather than on their full resolution, until the active picture is
+ *     requested on its {@link #fullResolution()}.
+ * </p>
  *
  * @author Sukma Wardana
  */
 class GalleryControl implements GallerySubject {
 
+    private static final Logger LOGGER = Logger.getLogger(GalleryControl.class.getName());
+
     private final Gallery origin;
+    private final PicturePrefetch prefetch;
+    private final Executor publisher;
+    private final AtomicLong generation;
     private final ObjectProperty<Image> imageProperty;
     private final BooleanProperty firstProperty;
     private final BooleanProperty lastProperty;
+    private final BooleanProperty loadingProperty;
+    private final ObjectProperty<Picture> pictureProperty;
+    private final IntegerProperty sizeProperty;
+
+    private PicturePrefetch.Direction direction;
+    private volatile Picture decoding;
 
     /**
      * Creates new GalleryControl.
@@ -49,10 +94,55 @@ class GalleryControl implements GallerySubject {
      * @param gallery the picture gallery for others to observe.
      */
     GalleryControl(final Gallery gallery) {
+        this(gallery, new ImageCache<>(), DiskThumbnailStore.getInstance());
+    }
+
+    /**
+     * Creates new GalleryControl.
+     *
+     * @param gallery the picture gallery for others to observe.
+     * @param cache the decoded picture cache.
+     * @param thumbnails the picture preview store.
+     */
+    GalleryControl(
+        final Gallery gallery,
+        final ImageCache<Picture> cache,
+        final ThumbnailStore thumbnails
+    ) {
+        this(
+            gallery,
+            new PicturePrefetch(
+                ThreadExecutor.getInstance().picturePools(),
+                cache,
+                thumbnails
+            ),
+            Platform::runLater
+        );
+    }
+
+    /**
+     * Creates new GalleryControl.
+     *
+     * @param gallery the picture gallery for others to observe.
+     * @param prefetch the picture decoder and neighbour pictures prefetch.
+     * @param publisher the executor to publish the decoded image.
+     */
+    GalleryControl(
+        final Gallery gallery,
+        final PicturePrefetch prefetch,
+        final Executor publisher
+    ) {
         this.origin = gallery;
+        this.prefetch = prefetch;
+        this.publisher = publisher;
+        this.direction = PicturePrefetch.Direction.FORWARD;
+        this.generation = new AtomicLong();
         this.imageProperty = new SimpleObjectProperty<>(this, "image", null);
         this.firstProperty = new SimpleBooleanProperty(this, "first", false);
         this.lastProperty = new SimpleBooleanProperty(this, "last", false);
+        this.loadingProperty = new SimpleBooleanProperty(this, "loading", false);
+        this.pictureProperty = new SimpleObjectProperty<>(this, "picture", null);
+        this.sizeProperty = new SimpleIntegerProperty(this, "size", gallery.size());
 
         // initially called to populate image data from the origin gallery.
         this.pictureChanged();
@@ -67,6 +157,7 @@ class GalleryControl implements GallerySubject {
     public final void first() {
         if (!this.isFirst()) {
             this.origin.first();
+            this.direction = PicturePrefetch.Direction.FORWARD;
             this.pictureChanged();
         }
     }
@@ -75,6 +166,7 @@ class GalleryControl implements GallerySubject {
     public final void last() {
         if (!this.isLast()) {
             this.origin.last();
+            this.direction = PicturePrefetch.Direction.BACKWARD;
             this.pictureChanged();
         }
     }
@@ -84,16 +176,57 @@ class GalleryControl implements GallerySubject {
         return this.origin.current();
     }
 
+    @Override
+    public final Picture picture(final int index) {
+        return this.origin.picture(index);
+    }
+
+    @Override
+    public final int index() {
+        return this.origin.index();
+    }
+
+    @Override
+    public final int size() {
+        return this.origin.size();
+    }
+
     @Override
     public final void current(final Picture pic) {
         this.origin.current(pic);
         this.pictureChanged();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     *     The pictures are merged on the publisher executor, the same executor
+     *     the observable properties are changed on.
+     * </p>
+     */
+    @Override
+    public final void merge(final List<Picture> sorted, final Comparator<Picture> order) {
+        this.publisher.execute(() -> {
+            var before = this.active();
+            this.origin.merge(sorted, order);
+            this.contentChanged(before);
+        });
+    }
+
+    @Override
+    public final void remove(final List<Picture> pictures) {
+        this.publisher.execute(() -> {
+            var before = this.active();
+            this.origin.remove(pictures);
+            this.contentChanged(before);
+        });
+    }
+
     @Override
     public final void next() {
         if (!this.isLast()) {
             this.origin.next();
+            this.direction = PicturePrefetch.Direction.FORWARD;
             this.pictureChanged();
         }
     }
@@ -102,6 +235,7 @@ class GalleryControl implements GallerySubject {
     public final void previous() {
         if (!this.isFirst()) {
             this.origin.previous();
+            this.direction = PicturePrefetch.Direction.BACKWARD;
             this.pictureChanged();
         }
     }
@@ -136,23 +270,164 @@ class GalleryControl implements GallerySubject {
         return this.lastProperty;
     }
 
+    @Override
+    public final ReadOnlyBooleanProperty loadingProperty() {
+        return this.loadingProperty;
+    }
+
+    @Override
+    public final ReadOnlyObjectProperty<Picture> pictureProperty() {
+        return this.pictureProperty;
+    }
+
+    @Override
+    public final ReadOnlyIntegerProperty sizeProperty() {
+        return this.sizeProperty;
+    }
+
+    @Override
+    public final void resolution(final double width, final double height) {
+        if (this.prefetch.resolution(width, height)) {
+            var img = this.imageProperty.get();
+            if (this.loadingProperty.get() || img == null || !this.prefetch.fits(img)) {
+                this.pictureChanged();
+            } else {
+                this.prefetch.prefetch(this.origin, this.origin.current(), this.direction);
+            }
+        }
+    }
+
+    @Override
+    public final void fullResolution() {
+        var picture = this.pictureProperty.get();
+        if (!this.loadingProperty.get() && picture != null) {
+            this.publish(picture, this.prefetch.loadFull(picture));
+        }
+    }
+
+    @Override
+    public final CompletableFuture<Image> preload(final int index) {
+        return this.prefetch.load(this.origin.picture(index));
+    }
+
+    @Override
+    public final void prefetchOrder(final SlideOrder order) {
+        this.prefetch.order(order);
+        if (!this.origin.isEmpty()) {
+            this.prefetch.prefetch(this.origin, this.origin.current(), this.direction);
+        }
+    }
+
     @Override
     public final Iterator<Picture> iterator() {
         return this.origin.iterator();
     }
 
+    /**
+     * Stop every running decode of this gallery.
+     * <p>
+     *     Called when this gallery is no longer exhibited.
+     * </p>
+     */
+    final void dispose() {
+        this.generation.incrementAndGet();
+        this.prefetch.order(null);
+        this.prefetch.cancel();
+    }
+
+    private Picture active() {
+        Picture result = null;
+        if (!this.origin.isEmpty()) {
+            result = this.origin.current();
+        }
+        return result;
+    }
+
+    private void contentChanged(final Picture before) {
+        this.sizeProperty.setValue(this.origin.size());
+        if (this.active() == before) {
+            this.firstProperty.setValue(this.origin.isFirst());
+            this.lastProperty.setValue(this.origin.isLast());
+            if (before != null) {
+                this.prefetch.prefetch(this.origin, before, this.direction);
+            }
+        } else {
+            this.pictureChanged();
+        }
+    }
+
     private void pictureChanged() {
-        try {
-            this.imageProperty.setValue(
-                new Image(
-                    this.origin.current().read()
-                )
-            );
-        } catch (final IOException ex) {
-            throw new RuntimeException("Fail to read picture byte data!");
+        if (this.origin.isEmpty()) {
+            this.generation.incrementAndGet();
+            this.decoding = null;
+            this.imageProperty.setValue(null);
+            this.pictureProperty.setValue(null);
+            this.loadingProperty.setValue(false);
+        } else {
+            var picture = this.origin.current();
+            var decode = this.prefetch.load(picture);
+            var ticket = this.publish(picture, decode);
+            if (!decode.isDone()) {
+                this.prefetch.preview(picture)
+                    .thenAcceptAsync(img -> this.preview(ticket, img), this.publisher);
+            }
+            this.prefetch.prefetch(this.origin, picture, this.direction);
         }
         this.firstProperty.setValue(this.origin.isFirst());
         this.lastProperty.setValue(this.origin.isLast());
     }
 
+    private long publish(final Picture picture, final CompletableFuture<Image> decode) {
+        this.decoding = picture;
+        var ticket = this.generation.incrementAndGet();
+        this.loadingProperty.setValue(true);
+        decode.whenCompleteAsync((img, error) -> this.publish(ticket, img, error), this.publisher);
+        return ticket;
+    }
+
+    /**
+     * Publish the preview of the picture being decoded, as long as the
+     * decoded image is not published yet.
+     *
+     * @param ticket the decode generation ticket.
+     * @param img the preview image, could be {@code null}.
+     */
+    private void preview(final long ticket, final Image img) {
+        if (!this.isStale(ticket) && this.loadingProperty.get() && img != null && !img.isError()) {
+            LOGGER.log(
+                Level.FINER,
+                "Publish the picture preview. [ticket={0}]",
+                new Object[]{ticket}
+            );
+            this.imageProperty.setValue(img);
+            this.pictureProperty.setValue(this.decoding);
+        }
+    }
+
+    private void publish(final long ticket, final Image img, final Throwable error) {
+        if (this.isStale(ticket)) {
+            LOGGER.log(
+                Level.FINER,
+                "Discard the stale decoded picture. [ticket={0}]",
+                new Object[]{ticket}
+            );
+            return;
+        }
+        if (error != null) {
+            LOGGER.log(Level.WARNING, "Fail to decode the picture!", error);
+            this.imageProperty.setValue(null);
+        } else {
+            if (img.isError()) {
+                LOGGER.log(Level.WARNING, "The decoded picture is broken!", img.getException());
+            }
+            this.imageProperty.setValue(img);
+        }
+        this.pictureProperty.setValue(this.decoding);
+        this.loadingProperty.setValue(false);
+    }
+
+    private boolean isStale(final long ticket) {
+        return this.generation.get() != ticket;
+    }
+
 }
@@ -19,10 +19,15 @@
 package com.swardana.nayanika.control;
 
 import com.swardana.nayanika.base.gallery.Gallery;
+import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.base.slideshow.SlideOrder;
 import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.scene.image.Image;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * An observable subject for gallery.
  *
@@ -63,4 +68,90 @@ public interface GallerySubject extends Gallery {
      */
     ReadOnlyObjectProperty<Image> imageProperty();
 
+    /**
+     * An observable boolean loading picture property.
+     * <p>
+     *     Whenever the {@link #current()} active picture state is change, the
+     *     picture is decoded in the background and this observable loading
+     *     property is {@code true} until the decoded image is published to
+     *     the {@link #imageProperty()}.
+     * </p>
+     *
+     * @return the observable loading picture property.
+     */
+    ReadOnlyBooleanProperty loadingProperty();
+
+    /**
+     * An observable picture property.
+     * <p>
+     *     The picture of the image published to the {@link #imageProperty()}.
+     *     It is not changed when the same picture is published again on other
+     *     resolution.
+     * </p>
+     *
+     * @return the observable picture property.
+     */
+    ReadOnlyObjectProperty<Picture> pictureProperty();
+
+    /**
+     * An observable number of pictures property.
+     * <p>
+     *     Whenever the pictures are merged into or removed from this gallery,
+     *     it will trigger to change this observable size property.
+     * </p>
+     *
+     * @return the observable number of pictures property.
+     */
+    ReadOnlyIntegerProperty sizeProperty();
+
+    /**
+     * Request the pictures to be decoded within a resolution bounding box.
+     * <p>
+     *     The active picture is decoded again if its decoded image is smaller
+     *     than the bounding box.
+     * </p>
+     *
+     * @param width the bounding box width in pixels, zero for full resolution.
+     * @param height the bounding box height in pixels, zero for full resolution.
+     */
+    void resolution(double width, double height);
+
+    /**
+     * Request the active picture to be decoded on its full resolution.
+     * <p>
+     *     Used when the active picture is displayed larger than its decoded
+     *     image, e.g. zoomed in.
+     * </p>
+     */
+    void fullResolution();
+
+    /**
+     * Request a picture of this gallery to be decoded ahead of showing it.
+     * <p>
+     *     The picture is decoded within the resolution bounding box. Return
+     *     immediately if the picture is already decoded, or join its running
+     *     prefetch. Used to show the picture once it is ready, e.g. on the
+     *     slide-show presentation.
+     * </p>
+     *
+     * @param index the picture position.
+     * @return the decoded image.
+     */
+    CompletableFuture<Image> preload(int index);
+
+    /**
+     * Prefetch the upcoming pictures of a slide-show order, instead of the
+     * neighbour pictures of the active picture.
+     * <p>
+     *     Used while the pictures are not shown in the gallery order, e.g. on
+     *     the shuffled slide-show presentation, so the prefetch doesn't decode
+     *     the pictures which are never shown next, nor cancel the decode of
+     *     the next slides.
+     * </p>
+     *
+     * @param order the slide-show order, or {@code null} to prefetch the
+     *              neighbour pictures again.
+     */
+    void prefetchOrder(SlideOrder order);
+
 }
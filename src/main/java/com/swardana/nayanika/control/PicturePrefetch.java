@@ -0,0 +1,678 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.control;
+
+import com.swardana.nayanika.base.PicturePools;
+import com.swardana.nayanika.base.TaskPriority;
+import com.swardana.nayanika.base.gallery.ByteBufferInputStream;
+import com.swardana.nayanika.base.gallery.Gallery;
+import com.swardana.nayanika.base.gallery.MappedPicture;
+import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.base.image.ExifThumbnail;
+import com.swardana.nayanika.base.image.ImageCache;
+import com.swardana.nayanika.base.image.ThumbnailStore;
+import com.swardana.nayanika.base.slideshow.SlideOrder;
+import javafx.scene.image.Image;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A neighbour pictures prefetch.
+ * <p>
+ *     Decode the pictures around the current active picture of a gallery
+ *     ahead of time and keep them on the {@link ImageCache}, so navigating to
+ *     the neighbour picture doesn't need to decode it again. The prefetch
+ *     window is direction-aware, it reach further on the navigation direction
+ *     than on the opposite one. While there is a {@link SlideOrder}, the
+ *     window is the upcoming pictures of the order instead.
+ * </p>
+ * <p>
+ *     A decode for a picture that falls out of the window is cancelled. The
+ *     prefetch is decoded with the {@link TaskPriority#BACKGROUND} priority,
+ *     a prefetch which is loaded before it starts is submitted again with the
+ *     {@link TaskPriority#VISIBLE} priority. A decode rejected by the
+ *     executor fails.
+ * </p>
+ * <p>
+ *     The picture byte data is read whole on the fetcher executor, which
+ *     could wait on many slow reads at once, then the picture is decoded on
+ *     the decoder executor, which is bound to the processors. A picture file
+ *     is read as a {@link MappedPicture}, the large picture file is memory
+ *     mapped and paged in on the fetcher executor instead of being copied
+ *     into the heap.
+ * </p>
+ * <p>
+ *     The pictures are decoded to fit the requested resolution bounding box,
+ *     or on their full resolution when there is no bounding box.
+ * </p>
+ * <p>
+ *     The picture previews are kept on the {@link ThumbnailStore}, so the
+ *     next preview of the same picture doesn't need to read its file.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+final class PicturePrefetch {
+
+    private static final Logger LOGGER = Logger.getLogger(PicturePrefetch.class.getName());
+
+    private static final double RESOLUTION_STEP = 128;
+    private static final int DEPTH = 2;
+    private static final int PREVIEW_SIZE = 320;
+    private static final int JPEG_MARKER = 0xFF;
+    private static final int JPEG_START = 0xD8;
+
+    private final Executor fetcher;
+    private final Executor decoder;
+    private final ImageCache<Picture> cache;
+    private final ThumbnailStore thumbnails;
+    private final Map<Picture, Decode> decodes;
+
+    private volatile double width;
+    private volatile double height;
+    private volatile Decode preview;
+    private volatile SlideOrder order;
+
+    /**
+     * Creates new PicturePrefetch.
+     *
+     * @param pools the executors to read and decode the picture.
+     * @param cache the decoded picture cache.
+     * @param thumbnails the picture preview store.
+     */
+    PicturePrefetch(
+        final PicturePools pools,
+        final ImageCache<Picture> cache,
+        final ThumbnailStore thumbnails
+    ) {
+        this.fetcher = pools.fetcher();
+        this.decoder = pools.decoder();
+        this.cache = cache;
+        this.thumbnails = thumbnails;
+        this.decodes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Load the decoded image of a picture.
+     * <p>
+     *     Return immediately if the picture is already cached, join the
+     *     running decode if the picture is being prefetched, otherwise start
+     *     a new decode.
+     * </p>
+     *
+     * @param pic the picture.
+     * @return the decoded image.
+     */
+    CompletableFuture<Image> load(final Picture pic) {
+        CompletableFuture<Image> result;
+        var img = this.cache.get(pic);
+        if (img != null && this.fits(img)) {
+            LOGGER.log(
+                Level.FINER,
+                "Found the decoded picture. [pic={0}]",
+                new Object[]{pic.name()}
+            );
+            result = CompletableFuture.completedFuture(img);
+        } else {
+            result = this.decode(pic, TaskPriority.VISIBLE).future;
+        }
+        return result;
+    }
+
+    /**
+     * Load the full resolution decoded image of a picture.
+     *
+     * @param pic the picture.
+     * @return the full resolution decoded image.
+     */
+    CompletableFuture<Image> loadFull(final Picture pic) {
+        CompletableFuture<Image> result;
+        var img = this.cache.get(pic);
+        if (img != null && isFull(img)) {
+            result = CompletableFuture.completedFuture(img);
+        } else {
+            var running = this.decodes.remove(pic);
+            if (running != null) {
+                running.cancel();
+            }
+            result = this.schedule(pic, new Decode(0, 0), TaskPriority.VISIBLE).future;
+        }
+        return result;
+    }
+
+    /**
+     * Load a fast low resolution preview of a picture being decoded.
+     * <p>
+     *     The preview is the stored thumbnail of the picture when available.
+     *     Otherwise the preview of a JPEG picture is its embedded EXIF
+     *     thumbnail, or a low resolution decode which the JPEG decoder scale
+     *     down while decoding, and it is stored for the next time. Other
+     *     pictures have no preview, their low resolution decode is not faster
+     *     than the full one.
+     * </p>
+     * <p>
+     *     Only one preview is loaded at a time, the previous one is cancelled.
+     *     The preview is cancelled as well once the picture decode is done.
+     * </p>
+     *
+     * @param pic the picture.
+     * @return the preview image, or {@code null} if the picture doesn't have
+     *         a preview.
+     */
+    CompletableFuture<Image> preview(final Picture pic) {
+        var previous = this.preview;
+        if (previous != null) {
+            previous.cancel();
+        }
+        var decode = new Decode(PREVIEW_SIZE, PREVIEW_SIZE);
+        var future = decode.future;
+        this.preview = decode;
+        var running = this.decodes.get(pic);
+        if (running != null) {
+            running.future.whenComplete((img, error) -> decode.cancel());
+        }
+        try {
+            this.decoder.execute(TaskPriority.VISIBLE.task(() -> {
+                if (!future.isDone()) {
+                    future.complete(this.readPreview(pic, decode));
+                }
+            }));
+        } catch (final RejectedExecutionException ex) {
+            future.complete(null);
+        }
+        return future;
+    }
+
+    /**
+     * Change the resolution bounding box of the decoded pictures.
+     * <p>
+     *     The bounding box is rounded up to a step, so a window being resized
+     *     doesn't trigger a decode on every pixel. Every running decode which
+     *     is not sharp enough for the rounded bounding box is cancelled when
+     *     it is changed, e.g. the picture decoded ahead for the launch window
+     *     is kept.
+     * </p>
+     *
+     * @param requestedWidth the bounding box width, zero or less for the
+     *                       full resolution.
+     * @param requestedHeight the bounding box height, zero or less for the
+     *                        full resolution.
+     * @return {@code true} if the resolution bounding box is changed.
+     */
+    boolean resolution(final double requestedWidth, final double requestedHeight) {
+        var boxWidth = roundUp(requestedWidth);
+        var boxHeight = roundUp(requestedHeight);
+        if (boxWidth <= 0 || boxHeight <= 0) {
+            boxWidth = 0;
+            boxHeight = 0;
+        }
+        var changed = boxWidth != this.width || boxHeight != this.height;
+        if (changed) {
+            LOGGER.log(
+                Level.FINE,
+                "Change the decoded picture resolution. [width={0}, height={1}]",
+                new Object[]{boxWidth, boxHeight}
+            );
+            this.width = boxWidth;
+            this.height = boxHeight;
+            this.cancelSmaller(boxWidth, boxHeight);
+        }
+        return changed;
+    }
+
+    /**
+     * Check whether the decoded image is sharp enough for the requested
+     * resolution bounding box or not.
+     *
+     * @param img the decoded image.
+     * @return {@code true} if the decoded image fits the bounding box.
+     */
+    boolean fits(final Image img) {
+        var boxWidth = this.width;
+        var boxHeight = this.height;
+        boolean result;
+        if (isFull(img)) {
+            result = true;
+        } else if (boxWidth <= 0 || boxHeight <= 0) {
+            result = false;
+        } else {
+            // the decoded image preserve its ratio, it touch one of the box side.
+            result = img.getWidth() >= boxWidth - 1 || img.getHeight() >= boxHeight - 1;
+        }
+        return result;
+    }
+
+    /**
+     * Prefetch the neighbour pictures of the current active picture.
+     *
+     * @param gallery the picture gallery.
+     * @param current the current active picture of the gallery.
+     * @param direction the navigation direction.
+     */
+    void prefetch(final Gallery gallery, final Picture current, final Direction direction) {
+        var window = this.window(gallery, direction);
+        var retained = new HashSet<>(window);
+        retained.add(current);
+        this.decodes.forEach((pic, decode) -> {
+            if (!retained.contains(pic)) {
+                decode.cancel();
+                this.decodes.remove(pic, decode);
+            }
+        });
+        for (final var pic : window) {
+            var img = this.cache.peek(pic);
+            if (img == null || !this.fits(img)) {
+                this.decode(pic, TaskPriority.BACKGROUND);
+            }
+        }
+    }
+
+    /**
+     * Change the order of the pictures to prefetch.
+     *
+     * @param upcoming the slide-show order to prefetch its upcoming pictures,
+     *                 or {@code null} to prefetch the neighbour pictures.
+     */
+    void order(final SlideOrder upcoming) {
+        this.order = upcoming;
+    }
+
+    /**
+     * Cancel every running decode.
+     */
+    void cancel() {
+        this.decodes.forEach((pic, decode) -> decode.cancel());
+        this.decodes.clear();
+        var previous = this.preview;
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    /**
+     * Cancel every running decode which is smaller than a resolution bounding
+     * box.
+     *
+     * @param boxWidth the bounding box width, zero for the full resolution.
+     * @param boxHeight the bounding box height, zero for the full resolution.
+     */
+    private void cancelSmaller(final double boxWidth, final double boxHeight) {
+        this.decodes.forEach((pic, decode) -> {
+            if (!decode.covers(boxWidth, boxHeight)) {
+                decode.cancel();
+                this.decodes.remove(pic, decode);
+            }
+        });
+        var previous = this.preview;
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    /**
+     * The pictures to prefetch, the upcoming pictures of the order if there
+     * is one, otherwise the neighbour pictures.
+     *
+     * @param gallery the picture gallery.
+     * @param direction the navigation direction.
+     * @return the pictures to prefetch, nearest first.
+     */
+    private List<Picture> window(final Gallery gallery, final Direction direction) {
+        var upcoming = this.order;
+        final List<Picture> result;
+        if (upcoming == null) {
+            result = neighbours(gallery, direction);
+        } else {
+            result = upcoming(gallery, upcoming);
+        }
+        return result;
+    }
+
+    /**
+     * The upcoming pictures of a slide-show order, the next slide first.
+     *
+     * @param gallery the picture gallery.
+     * @param upcoming the slide-show order.
+     * @return the upcoming pictures.
+     */
+    private static List<Picture> upcoming(final Gallery gallery, final SlideOrder upcoming) {
+        var index = gallery.index();
+        var size = gallery.size();
+        var result = new ArrayList<Picture>(DEPTH);
+        for (int slides = 1; slides <= DEPTH; slides++) {
+            var next = upcoming.ahead(index, size, slides);
+            if (next != SlideOrder.END) {
+                result.add(gallery.picture(next));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The neighbour pictures to prefetch, nearest first and the navigation
+     * direction first.
+     *
+     * @param gallery the picture gallery.
+     * @param direction the navigation direction.
+     * @return the neighbour pictures.
+     */
+    private static List<Picture> neighbours(final Gallery gallery, final Direction direction) {
+        var index = gallery.index();
+        var size = gallery.size();
+        var lead = DEPTH;
+        var trail = Math.max(1, DEPTH / 2);
+        var step = 1;
+        if (direction == Direction.BACKWARD) {
+            step = -1;
+        }
+        var result = new ArrayList<Picture>(lead + trail);
+        for (int distance = 1; distance <= lead; distance++) {
+            var ahead = index + distance * step;
+            if (ahead >= 0 && ahead < size) {
+                result.add(gallery.picture(ahead));
+            }
+            var behind = index - distance * step;
+            if (distance <= trail && behind >= 0 && behind < size) {
+                result.add(gallery.picture(behind));
+            }
+        }
+        return result;
+    }
+
+    private Decode decode(final Picture pic, final TaskPriority priority) {
+        var running = this.decodes.get(pic);
+        if (running == null) {
+            running = this.schedule(pic, new Decode(this.width, this.height), priority);
+        } else if (priority == TaskPriority.VISIBLE && running.priority != priority) {
+            this.promote(pic, running);
+        }
+        return running;
+    }
+
+    private void promote(final Picture pic, final Decode decode) {
+        decode.priority = TaskPriority.VISIBLE;
+        if (decode.bytes != null) {
+            try {
+                this.submit(pic, decode);
+            } catch (final RejectedExecutionException ex) {
+                LOGGER.log(
+                    Level.FINE,
+                    "Keep the picture prefetch priority. [pic={0}]",
+                    new Object[]{pic.name()}
+                );
+            }
+        }
+    }
+
+    private Decode schedule(final Picture pic, final Decode decode, final TaskPriority priority) {
+        var future = decode.future;
+        decode.priority = priority;
+        this.decodes.put(pic, decode);
+        future.whenComplete((img, error) -> {
+            this.decodes.remove(pic, decode);
+            if (error == null && !img.isError()) {
+                this.cache.put(pic, img);
+            }
+        });
+        try {
+            this.fetcher.execute(() -> this.fetch(pic, decode));
+        } catch (final RejectedExecutionException ex) {
+            reject(pic, decode, ex);
+        }
+        return decode;
+    }
+
+    private void fetch(final Picture pic, final Decode decode) {
+        var future = decode.future;
+        if (!future.isDone()) {
+            try {
+                decode.bytes = fetched(pic, decode);
+            } catch (final IOException ex) {
+                future.completeExceptionally(
+                    new UncheckedIOException("Fail to read picture byte data!", ex)
+                );
+            }
+        }
+        if (!future.isDone()) {
+            try {
+                this.submit(pic, decode);
+            } catch (final RejectedExecutionException ex) {
+                reject(pic, decode, ex);
+            }
+        }
+    }
+
+    private void submit(final Picture pic, final Decode decode) {
+        var future = decode.future;
+        this.decoder.execute(decode.priority.task(() -> {
+            if (!future.isDone() && decode.started.compareAndSet(false, true)) {
+                try {
+                    future.complete(this.read(pic, decode));
+                } catch (final UncheckedIOException ex) {
+                    future.completeExceptionally(ex);
+                }
+            }
+        }));
+    }
+
+    private Image read(final Picture pic, final Decode decode) {
+        LOGGER.log(
+            Level.FINER,
+            "Decode the picture. [pic={0}, width={1}, height={2}]",
+            new Object[]{pic.name(), decode.width, decode.height}
+        );
+        try (var stream = new CancellableInputStream(source(pic, decode), decode.cancelled)) {
+            final Image result;
+            if (decode.width > 0 && decode.height > 0) {
+                result = new Image(stream, decode.width, decode.height, true, true);
+            } else {
+                result = new Image(stream);
+            }
+            return result;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Fail to read picture byte data!", ex);
+        }
+    }
+
+    private Image readPreview(final Picture pic, final Decode decode) {
+        var result = this.thumbnails.get(pic.path(), PREVIEW_SIZE);
+        if (result == null) {
+            result = this.decodePreview(pic, decode);
+        }
+        return result;
+    }
+
+    private Image decodePreview(final Picture pic, final Decode decode) {
+        Image result = null;
+        try (
+            var origin = new CancellableInputStream(pic.read(), decode.cancelled);
+            var stream = new BufferedInputStream(origin)
+        ) {
+            stream.mark(2);
+            var jpeg = stream.read() == JPEG_MARKER && stream.read() == JPEG_START;
+            stream.reset();
+            if (jpeg) {
+                result = this.readThumbnail(stream);
+            }
+            if (jpeg && result == null) {
+                result = this.read(pic, decode);
+            }
+            if (result != null && !result.isError()) {
+                this.thumbnails.put(pic.path(), PREVIEW_SIZE, result);
+            }
+        } catch (final IOException | UncheckedIOException ex) {
+            LOGGER.log(
+                Level.FINE,
+                "Fail to preview the picture. [pic={0}]",
+                new Object[]{pic.name()}
+            );
+        }
+        return result;
+    }
+
+    private Image readThumbnail(final InputStream stream) throws IOException {
+        Image result = null;
+        var thumbnail = new ExifThumbnail(stream).bytes();
+        if (thumbnail != null) {
+            result = new Image(new ByteArrayInputStream(thumbnail));
+        }
+        return result;
+    }
+
+    /**
+     * Read the picture byte data.
+     *
+     * @param pic the picture.
+     * @param decode the picture decode.
+     * @return the picture byte data.
+     * @throws IOException if fail to read the picture.
+     */
+    private static ByteBuffer fetched(final Picture pic, final Decode decode) throws IOException {
+        final ByteBuffer result;
+        var path = pic.path();
+        if (path == null) {
+            try (var stream = new CancellableInputStream(pic.read(), decode.cancelled)) {
+                result = ByteBuffer.wrap(stream.readAllBytes());
+            }
+        } else {
+            result = new MappedPicture(pic.name(), path).buffer();
+        }
+        if (result instanceof MappedByteBuffer mapped) {
+            mapped.load();
+        }
+        return result;
+    }
+
+    private static InputStream source(final Picture pic, final Decode decode) throws IOException {
+        final InputStream result;
+        var bytes = decode.bytes;
+        if (bytes == null) {
+            result = pic.read();
+        } else {
+            result = new ByteBufferInputStream(bytes.duplicate());
+        }
+        return result;
+    }
+
+    private static void reject(
+        final Picture pic,
+        final Decode decode,
+        final RejectedExecutionException cause
+    ) {
+        LOGGER.log(
+            Level.FINE,
+            "The picture decode is rejected. [pic={0}]",
+            new Object[]{pic.name()}
+        );
+        decode.future.completeExceptionally(cause);
+    }
+
+    private static boolean isFull(final Image img) {
+        return img.getRequestedWidth() <= 0 && img.getRequestedHeight() <= 0;
+    }
+
+    private static double roundUp(final double length) {
+        return Math.ceil(length / RESOLUTION_STEP) * RESOLUTION_STEP;
+    }
+
+    /**
+     * The gallery navigation direction.
+     */
+    enum Direction {
+        /**
+         * Navigate toward the last picture.
+         */
+        FORWARD,
+        /**
+         * Navigate toward the first picture.
+         */
+        BACKWARD
+    }
+
+    /**
+     * A running picture decode and its resolution bounding box.
+     */
+    private static final class Decode {
+
+        private final CompletableFuture<Image> future;
+        private final double width;
+        private final double height;
+        private final AtomicBoolean cancelled;
+        private final AtomicBoolean started;
+        private volatile TaskPriority priority;
+        private volatile ByteBuffer bytes;
+
+        Decode(final double width, final double height) {
+            this.future = new CompletableFuture<>();
+            this.width = width;
+            this.height = height;
+            this.cancelled = new AtomicBoolean(false);
+            this.started = new AtomicBoolean(false);
+            this.priority = TaskPriority.VISIBLE;
+        }
+
+        void cancel() {
+            this.cancelled.set(true);
+            this.future.cancel(false);
+        }
+
+        /**
+         * Whether the decoded image is sharp enough for a resolution bounding
+         * box or not.
+         * <p>
+         *     A full resolution decode only covers the full resolution, it is
+         *     much slower than the decode which fits the bounding box.
+         * </p>
+         *
+         * @param boxWidth the bounding box width, zero for the full resolution.
+         * @param boxHeight the bounding box height, zero for the full
+         *                  resolution.
+         * @return {@code true} if this decode covers the bounding box.
+         */
+        boolean covers(final double boxWidth, final double boxHeight) {
+            var full = this.width <= 0 || this.height <= 0;
+            boolean result;
+            if (boxWidth <= 0 || boxHeight <= 0) {
+                result = full;
+            } else {
+                result = !full && this.width >= boxWidth && this.height >= boxHeight;
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,310 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.control;
+
+import com.swardana.nayanika.base.slideshow.PlayOrder;
+import com.swardana.nayanika.base.slideshow.SlideOrder;
+import com.swardana.nayanika.base.slideshow.SlideShow;
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A slide-show presentation which advances once the next picture is ready.
+ * <p>
+ *     The next two pictures on the {@link PlayOrder} are decoded in the
+ *     background while the current picture is shown, the gallery prefetch
+ *     follows the play order until the slide-show is stopped. Once the slide interval
+ *     is over, the slide-show advances right away if the next picture is
+ *     decoded, otherwise waits for its decode. The slide-show doesn't wait
+ *     longer than another slide interval, it advances anyway and the picture
+ *     preview is shown until the picture is decoded, counted as a degraded
+ *     slide.
+ * </p>
+ * <p>
+ *     The actual slide interval is measured against the target interval,
+ *     each slide is logged on the {@code FINE} level and the summary once
+ *     the slide-show is stopped.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+final class PreloadSlideShow implements SlideShow {
+
+    private static final Logger LOGGER = Logger.getLogger(PreloadSlideShow.class.getName());
+
+    private static final int AHEAD = 2;
+
+    private final GallerySubject gallery;
+    private final long interval;
+    private final PlayOrder order;
+    private final Pacer pacer;
+
+    private SlideOrder sequence;
+    private Runnable finished;
+    private long ticket;
+    private boolean playing;
+    private long shown;
+    private long slides;
+    private long elapsed;
+    private long late;
+    private long degraded;
+
+    /**
+     * Creates new PreloadSlideShow.
+     * <p>
+     *     The slide-show is paced on the JavaFX Application Thread.
+     * </p>
+     *
+     * @param gallery the animated gallery during slide-show presentation.
+     * @param duration the slide interval in seconds.
+     * @param order the slide-show play order.
+     */
+    PreloadSlideShow(
+        final GallerySubject gallery,
+        final double duration,
+        final PlayOrder order
+    ) {
+        this(gallery, duration, order, new FxPacer());
+    }
+
+    /**
+     * Creates new PreloadSlideShow.
+     *
+     * @param gallery the animated gallery during slide-show presentation.
+     * @param duration the slide interval in seconds.
+     * @param order the slide-show play order.
+     * @param pacer the slide-show clock and thread.
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    PreloadSlideShow(
+        final GallerySubject gallery,
+        final double duration,
+        final PlayOrder order,
+        final Pacer pacer
+    ) {
+        this.gallery = gallery;
+        this.interval = (long) (duration * TimeUnit.SECONDS.toNanos(1));
+        this.order = order;
+        this.pacer = pacer;
+        this.finished = () -> { };
+    }
+
+    @Override
+    public void play() {
+        if (!this.playing) {
+            this.playing = true;
+            this.sequence = this.order.sequence(this.gallery.index());
+            this.gallery.prefetchOrder(this.sequence);
+            this.shown();
+        }
+    }
+
+    @Override
+    public void setOnFinished(final Runnable action) {
+        this.finished = action;
+    }
+
+    @Override
+    public void stop() {
+        if (this.playing) {
+            this.playing = false;
+            this.ticket++;
+            this.gallery.prefetchOrder(null);
+            LOGGER.log(
+                Level.INFO,
+                "Stop the slide-show. [slides={0}, target={1} ms, average={2} ms, "
+                    + "late={3} ms, degraded={4}]",
+                new Object[]{
+                    this.slides,
+                    millis(this.interval),
+                    this.averageInterval(),
+                    millis(this.late),
+                    this.degraded,
+                }
+            );
+        }
+    }
+
+    /**
+     * The average actual slide interval.
+     *
+     * @return the average slide interval in milliseconds, or zero if the
+     *         slide-show never advances.
+     */
+    long averageInterval() {
+        long result = 0;
+        if (this.slides > 0) {
+            result = millis(this.elapsed / this.slides);
+        }
+        return result;
+    }
+
+    /**
+     * The longest slide interval delay beyond the target interval.
+     *
+     * @return the longest delay in milliseconds.
+     */
+    long lateInterval() {
+        return millis(this.late);
+    }
+
+    /**
+     * The number of slides advanced before their picture is decoded.
+     *
+     * @return the degraded slide count.
+     */
+    long degraded() {
+        return this.degraded;
+    }
+
+    private static long millis(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Start the slide interval of the current picture and preload the next
+     * pictures meanwhile.
+     */
+    private void shown() {
+        var current = ++this.ticket;
+        this.shown = this.pacer.now();
+        for (int ahead = 1; ahead <= AHEAD; ahead++) {
+            var next = this.upcoming(ahead);
+            if (next != SlideOrder.END) {
+                this.gallery.preload(next);
+            }
+        }
+        this.pacer.later(() -> this.due(current), this.interval);
+    }
+
+    /**
+     * The slide interval is over, advance once the next picture is ready.
+     *
+     * @param current the slide ticket.
+     */
+    private void due(final long current) {
+        if (current == this.ticket) {
+            if (this.upcoming(1) == SlideOrder.END) {
+                this.finish();
+            } else {
+                this.pacer.later(() -> this.advance(current, true), this.interval);
+                this.await(current);
+            }
+        }
+    }
+
+    private void await(final long current) {
+        var index = this.upcoming(1);
+        CompletableFuture<Image> next = CompletableFuture.completedFuture(null);
+        if (index != SlideOrder.END) {
+            next = this.gallery.preload(index);
+        }
+        if (next.isDone()) {
+            this.advance(current, false);
+        } else {
+            next.whenComplete((img, error) -> this.pacer.later(() -> {
+                if (error instanceof CancellationException) {
+                    // the decode is cancelled, e.g. the resolution is changed.
+                    this.await(current);
+                } else {
+                    this.advance(current, false);
+                }
+            }, 0));
+        }
+    }
+
+    private void advance(final long current, final boolean overdue) {
+        if (current == this.ticket && this.playing) {
+            var actual = this.pacer.now() - this.shown;
+            if (this.sequence.advance(this.gallery)) {
+                this.slides++;
+                this.elapsed += actual;
+                this.late = Math.max(this.late, actual - this.interval);
+                if (overdue) {
+                    this.degraded++;
+                }
+                LOGGER.log(
+                    Level.FINE,
+                    "Advance the slide. [target={0} ms, actual={1} ms, degraded={2}]",
+                    new Object[]{millis(this.interval), millis(actual), overdue}
+                );
+                this.shown();
+            } else {
+                // the gallery is shrunk meanwhile.
+                this.finish();
+            }
+        }
+    }
+
+    private int upcoming(final int ahead) {
+        return this.sequence.ahead(this.gallery.index(), this.gallery.size(), ahead);
+    }
+
+    private void finish() {
+        this.stop();
+        this.finished.run();
+    }
+
+    /**
+     * The slide-show clock and the thread the slide-show runs on.
+     */
+    interface Pacer {
+
+        /**
+         * The current time.
+         *
+         * @return the current time in nanoseconds.
+         */
+        long now();
+
+        /**
+         * Run the task later on the slide-show thread.
+         *
+         * @param task the task.
+         * @param delay the delay in nanoseconds.
+         */
+        void later(Runnable task, long delay);
+
+    }
+
+    /**
+     * The slide-show paced on the JavaFX Application Thread.
+     */
+    private static final class FxPacer implements Pacer {
+
+        @Override
+        public long now() {
+            return System.nanoTime();
+        }
+
+        @Override
+        public void later(final Runnable task, final long delay) {
+            CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, Platform::runLater)
+                .execute(task);
+        }
+
+    }
+
+}
@@ -19,6 +19,7 @@
 package com.swardana.nayanika.control;
 
 import com.swardana.nayanika.base.gallery.Gallery;
+import com.swardana.nayanika.base.slideshow.PlayOrder;
 import com.swardana.nayanika.base.slideshow.SlideShow;
 import com.swardana.nayanika.base.slideshow.TimelineSlideShow;
 import javafx.beans.property.BooleanProperty;
@@ -35,6 +36,7 @@ public class PresentationControl implements PresentationSubject {
     private final BooleanProperty runningProperty;
 
     private double timeTransition;
+    private PlayOrder playOrder;
     private Gallery slideGallery;
     private SlideShow slideShow;
     private boolean running;
@@ -46,6 +48,7 @@ public class PresentationControl implements PresentationSubject {
         this.runningProperty = new SimpleBooleanProperty(this, "running", false);
         this.running = false;
         this.timeTransition = 8.0;
+        this.playOrder = PlayOrder.FORWARD;
     }
 
     @Override
@@ -60,6 +63,22 @@ public class PresentationControl implements PresentationSubject {
         this.updateSlide();
     }
 
+    @Override
+    public final void order(final PlayOrder order) {
+        this.playOrder = order;
+        this.updateSlide();
+    }
+
+    @Override
+    public final PlayOrder order() {
+        return this.playOrder;
+    }
+
+    @Override
+    public final double time() {
+        return this.timeTransition;
+    }
+
     @Override
     public final void start() {
         if (this.slideShow != null) {
@@ -92,8 +111,30 @@ public class PresentationControl implements PresentationSubject {
         this.runningProperty.setValue(this.isRunning());
     }
 
+    /**
+     * Replace the slide-show for the current gallery and transition time.
+     * <p>
+     *     The observable gallery is presented once its next picture is
+     *     decoded, see {@link PreloadSlideShow}. The running slide-show keeps
+     *     running on the replacement, and stops once its play order is over.
+     * </p>
+     */
     private void updateSlide() {
-        this.slideShow = new TimelineSlideShow(this.slideGallery, this.timeTransition);
+        var previous = this.slideShow;
+        if (this.slideGallery instanceof GallerySubject) {
+            this.slideShow = new PreloadSlideShow(
+                (GallerySubject) this.slideGallery, this.timeTransition, this.playOrder
+            );
+        } else {
+            this.slideShow = new TimelineSlideShow(
+                this.slideGallery, this.timeTransition, this.playOrder
+            );
+        }
+        this.slideShow.setOnFinished(this::stop);
+        if (this.running && previous != null && this.slideGallery != null) {
+            previous.stop();
+            this.slideShow.play();
+        }
     }
 
 }
@@ -35,4 +35,11 @@ public interface PresentationSubject extends Presentation {
      */
     ReadOnlyBooleanProperty runningProperty();
 
+    /**
+     * The current time transition for presentation slide.
+     *
+     * @return the time transition in seconds.
+     */
+    double time();
+
 }
@@ -18,6 +18,7 @@
 
 package com.swardana.nayanika.gui;
 
+import com.swardana.nayanika.base.Browser;
 import com.swardana.nayanika.base.FullScreen;
 
 import java.util.logging.Level;
@@ -34,16 +35,19 @@ class AppBehavior {
 
     private final AppView view;
     private final FullScreen control;
+    private final Browser browser;
 
     /**
      * Creates new AppBehavior.
      *
      * @param view the app view counter-part.
      * @param control the app full-screen window.
+     * @param browser the thumbnail browser.
      */
-    AppBehavior(final AppView view, final FullScreen control) {
+    AppBehavior(final AppView view, final FullScreen control, final Browser browser) {
         this.view = view;
         this.control = control;
+        this.browser = browser;
     }
 
     /**
@@ -121,4 +125,27 @@ class AppBehavior {
         LOGGER.log(Level.INFO, "Successfully change the visual full-screen state.");
     }
 
+    /**
+     * Handle when the control browser layout changes, will arrange the
+     * thumbnail browser around the picture frame.
+     */
+    final void onBrowserControlChange() {
+        switch (this.browser.layout()) {
+            case FILMSTRIP:
+                this.view.showFilmstrip();
+                break;
+            case GRID:
+                this.view.showGrid();
+                break;
+            default:
+                this.view.hideBrowser();
+                break;
+        }
+        LOGGER.log(
+            Level.FINE,
+            "The control browser layout is changed. [layout={0}]",
+            new Object[]{this.browser.layout()}
+        );
+    }
+
 }
@@ -0,0 +1,97 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.gui;
+
+import com.swardana.nayanika.control.BrowserControl;
+import com.swardana.nayanika.control.BrowserSubject;
+import com.swardana.nayanika.control.ExhibitionSubject;
+import com.swardana.nayanika.control.FullScreenControl;
+import com.swardana.nayanika.control.FullScreenSubject;
+
+/**
+ * The observable state controls shared by the app visuals.
+ * <p>
+ *     The browser subject holds the thumbnail collaborators of the browser,
+ *     i.e. its thumbnail store, its thumbnail cache and its executors.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public final class AppSubjects {
+
+    private final FullScreenSubject fullScreen;
+    private final ExhibitionSubject exhibition;
+    private final BrowserSubject browser;
+
+    /**
+     * Creates new AppSubjects.
+     * <p>
+     *     Assign default full-screen and browser controls.
+     * </p>
+     *
+     * @param exhibition the exhibition observable state control.
+     */
+    public AppSubjects(final ExhibitionSubject exhibition) {
+        this(new FullScreenControl(), exhibition, new BrowserControl());
+    }
+
+    /**
+     * Creates new AppSubjects.
+     *
+     * @param fullScreen the full-screen observable state control.
+     * @param exhibition the exhibition observable state control.
+     * @param browser the browser observable state control.
+     */
+    public AppSubjects(
+        final FullScreenSubject fullScreen,
+        final ExhibitionSubject exhibition,
+        final BrowserSubject browser
+    ) {
+        this.fullScreen = fullScreen;
+        this.exhibition = exhibition;
+        this.browser = browser;
+    }
+
+    /**
+     * The full-screen observable state control.
+     *
+     * @return the full-screen subject.
+     */
+    public FullScreenSubject fullScreen() {
+        return this.fullScreen;
+    }
+
+    /**
+     * The exhibition observable state control.
+     *
+     * @return the exhibition subject.
+     */
+    public ExhibitionSubject exhibition() {
+        return this.exhibition;
+    }
+
+    /**
+     * The browser observable state control.
+     *
+     * @return the browser subject.
+     */
+    public BrowserSubject browser() {
+        return this.browser;
+    }
+
+}
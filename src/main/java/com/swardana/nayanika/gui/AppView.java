@@ -42,4 +42,19 @@ public interface AppView {
      */
     boolean isFullScreen();
 
+    /**
+     * Operation to display the thumbnail filmstrip along the picture frame.
+     */
+    void showFilmstrip();
+
+    /**
+     * Operation to display the thumbnail grid instead of the picture frame.
+     */
+    void showGrid();
+
+    /**
+     * Operation to hide the thumbnail browser.
+     */
+    void hideBrowser();
+
 }
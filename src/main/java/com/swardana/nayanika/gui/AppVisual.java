@@ -18,11 +18,14 @@
 
 package com.swardana.nayanika.gui;
 
-import com.swardana.nayanika.base.gallery.GalleryExhibition;
-import com.swardana.nayanika.control.ExhibitionControl;
+import com.swardana.nayanika.base.Browser;
+import com.swardana.nayanika.command.OpenGallery;
+import com.swardana.nayanika.control.BrowserSubject;
 import com.swardana.nayanika.control.ExhibitionSubject;
-import com.swardana.nayanika.control.FullScreenControl;
 import com.swardana.nayanika.control.FullScreenSubject;
+import com.swardana.nayanika.control.PresentationControl;
+import com.swardana.nayanika.control.ToolbarControl;
+import com.swardana.nayanika.gui.browser.BrowserVisual;
 import com.swardana.nayanika.gui.frame.FrameVisual;
 import com.swardana.nayanika.gui.menu.MenuVisual;
 import javafx.beans.value.ChangeListener;
@@ -32,6 +35,9 @@ import javafx.stage.Stage;
 
 /**
  * A app container visual.
+ * <p>
+ *     The thumbnail browser is created once it is shown for the first time.
+ * </p>
  *
  * @author Sukma Wardana
  */
@@ -44,43 +50,62 @@ public class AppVisual extends BorderPane implements AppView {
 
     private final AppBehavior behavior;
     private final FullScreenSubject control;
+    private final ExhibitionSubject exhibitionSubject;
+    private final BrowserSubject browserSubject;
+
+    private BrowserVisual browserVisual;
 
     /**
      * Creates new AppVisual.
+     * <p>
+     *     The exhibition could already exhibit a gallery, e.g. the picture
+     *     opened on the application launch.
+     * </p>
      *
      * @param stage the primary stage.
+     * @param exhibitionSubject the exhibition observable state control.
+     * @param openGallery the open gallery command of the exhibition.
      */
-    public AppVisual(final Stage stage) {
-        this(
-            stage,
-            new FullScreenControl(),
-            new ExhibitionControl(
-                new GalleryExhibition()
-            )
-        );
+    public AppVisual(
+        final Stage stage,
+        final ExhibitionSubject exhibitionSubject,
+        final OpenGallery openGallery
+    ) {
+        this(stage, new AppSubjects(exhibitionSubject), openGallery);
     }
 
     /**
      * Creates new AppVisual.
      *
      * @param stage the primary stage.
-     * @param fullScreenSubject the full-screen observable state control.
-     * @param exhibitionSubject the exhibition observable state control.
+     * @param subjects the observable state controls shared by the visuals.
+     * @param openGallery the open gallery command of the exhibition.
      */
     public AppVisual(
         final Stage stage,
-        final FullScreenSubject fullScreenSubject,
-        final ExhibitionSubject exhibitionSubject
+        final AppSubjects subjects,
+        final OpenGallery openGallery
     ) {
         this.owner = stage;
 
+        var presentationSubject = new PresentationControl();
         this.menuVisual = new MenuVisual(
-            stage, fullScreenSubject, exhibitionSubject
+            stage,
+            subjects.fullScreen(),
+            subjects.exhibition(),
+            subjects.browser(),
+            new ToolbarControl(),
+            presentationSubject,
+            openGallery
+        );
+        this.frameVisual = new FrameVisual(
+            subjects.fullScreen(), subjects.exhibition(), presentationSubject
         );
-        this.frameVisual = new FrameVisual(fullScreenSubject, exhibitionSubject);
 
-        this.behavior = new AppBehavior(this, fullScreenSubject);
-        this.control = fullScreenSubject;
+        this.behavior = new AppBehavior(this, subjects.fullScreen(), subjects.browser());
+        this.control = subjects.fullScreen();
+        this.exhibitionSubject = subjects.exhibition();
+        this.browserSubject = subjects.browser();
 
         this.initGraphics();
         this.registerListeners();
@@ -102,6 +127,31 @@ public class AppVisual extends BorderPane implements AppView {
         return this.owner.isFullScreen();
     }
 
+    @Override
+    public final void showFilmstrip() {
+        this.setCenter(this.frameVisual);
+        this.setBottom(this.browser());
+    }
+
+    @Override
+    public final void showGrid() {
+        this.setBottom(null);
+        this.setCenter(this.browser());
+    }
+
+    @Override
+    public final void hideBrowser() {
+        this.setBottom(null);
+        this.setCenter(this.frameVisual);
+    }
+
+    private BrowserVisual browser() {
+        if (this.browserVisual == null) {
+            this.browserVisual = new BrowserVisual(this.exhibitionSubject, this.browserSubject);
+        }
+        return this.browserVisual;
+    }
+
     private void initGraphics() {
         this.setId("app");
         this.getStyleClass().add("theme-presets");
@@ -132,6 +182,16 @@ public class AppVisual extends BorderPane implements AppView {
                 behavior.onFullScreenControlChange();
             }
         });
+        this.browserSubject.layoutProperty().addListener(new ChangeListener<Browser.Layout>() {
+            @Override
+            public void changed(
+                final ObservableValue<? extends Browser.Layout> observable,
+                final Browser.Layout oldLayout,
+                final Browser.Layout newLayout
+            ) {
+                behavior.onBrowserControlChange();
+            }
+        });
     }
 
 }
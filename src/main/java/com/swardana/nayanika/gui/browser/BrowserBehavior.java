@@ -0,0 +1,170 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.gui.browser;
+
+import com.swardana.nayanika.base.Browser;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A behavior of {@link BrowserView}.
+ *
+ * @author Sukma Wardana
+ */
+class BrowserBehavior {
+
+    private static final Logger LOGGER = Logger.getLogger(BrowserBehavior.class.getName());
+
+    /**
+     * The thumbnail cell size, including its spacing.
+     */
+    static final double CELL_SIZE = 168;
+
+    private final BrowserView view;
+    private final Browser browser;
+
+    private int columns;
+
+    /**
+     * Creates new BrowserBehavior.
+     *
+     * @param view the browser view counter-part.
+     * @param browser the thumbnail browser.
+     */
+    BrowserBehavior(final BrowserView view, final Browser browser) {
+        this.view = view;
+        this.browser = browser;
+        this.columns = 1;
+    }
+
+    /**
+     * Called by the view.
+     * <p>
+     *     Set up the initial data or configuration for browser view.
+     * </p>
+     */
+    final void initView() {
+        this.onBrowserControlChange();
+        this.onGalleryChange();
+    }
+
+    /**
+     * Handle when the control browser layout changes.
+     */
+    final void onBrowserControlChange() {
+        switch (this.browser.layout()) {
+            case FILMSTRIP:
+                this.view.showFilmstrip();
+                break;
+            case GRID:
+                this.view.showGrid(this.columns);
+                break;
+            default:
+                break;
+        }
+        LOGGER.log(
+            Level.FINE,
+            "The browser layout is changed. [layout={0}]",
+            new Object[]{this.browser.layout()}
+        );
+    }
+
+    /**
+     * Called by the view.
+     * <p>
+     *     Handle when the browser view is resized, the grid fits as many
+     *     thumbnail columns as the width allows.
+     * </p>
+     *
+     * @param width the browser view width.
+     */
+    final void onViewResize(final double width) {
+        var fit = Math.max(1, (int) (width / CELL_SIZE));
+        if (fit != this.columns) {
+            this.columns = fit;
+            if (this.browser.layout() == Browser.Layout.GRID) {
+                this.view.showGrid(this.columns);
+            }
+        }
+    }
+
+    /**
+     * Handle when the browsed picture gallery changes.
+     */
+    final void onGalleryChange() {
+        var gallery = this.view.gallery();
+        if (gallery != null) {
+            this.view.updatePictures(gallery.size());
+            this.view.showPicture(gallery.index());
+        }
+    }
+
+    /**
+     * Handle when the pictures are merged into, or removed from, the browsed
+     * picture gallery.
+     * <p>
+     *     The pictures could be merged or removed anywhere in the gallery, so
+     *     every thumbnail is shown again and the current active picture is
+     *     marked on its new index.
+     * </p>
+     */
+    final void onGallerySizeChange() {
+        var gallery = this.view.gallery();
+        if (gallery != null) {
+            this.view.updatePictures(gallery.size());
+            this.view.showPicture(gallery.index());
+        }
+    }
+
+    /**
+     * Handle when the current active picture of the browsed picture gallery
+     * changes.
+     */
+    final void onPictureChange() {
+        var gallery = this.view.gallery();
+        if (gallery != null) {
+            this.view.showPicture(gallery.index());
+        }
+    }
+
+    /**
+     * Called by the view.
+     * <p>
+     *     Handle when a thumbnail is selected, the picture become the current
+     *     active picture and the grid gives way to the picture frame.
+     * </p>
+     *
+     * @param index the selected picture index.
+     */
+    final void onViewPictureSelect(final int index) {
+        var gallery = this.view.gallery();
+        if (gallery != null && index >= 0 && index < gallery.size()) {
+            gallery.current(gallery.picture(index));
+            if (this.browser.layout() == Browser.Layout.GRID) {
+                this.browser.showFilmstrip();
+            }
+            LOGGER.log(
+                Level.FINE,
+                "The thumbnail is selected. [index={0}]",
+                new Object[]{index}
+            );
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.gui.browser;
+
+import com.swardana.nayanika.base.gallery.Gallery;
+
+/**
+ * A view contract for the thumbnail browser.
+ *
+ * @author Sukma Wardana
+ */
+public interface BrowserView {
+
+    /**
+     * Operation to display the thumbnails on a single row.
+     */
+    void showFilmstrip();
+
+    /**
+     * Operation to display the thumbnails on rows of columns.
+     *
+     * @param columns the number of thumbnails on each row.
+     */
+    void showGrid(int columns);
+
+    /**
+     * Operation to change the number of pictures to browse, every thumbnail
+     * is shown again.
+     *
+     * @param size the number of pictures.
+     */
+    void updatePictures(int size);
+
+    /**
+     * Operation to mark the current active picture and scroll to it.
+     *
+     * @param index the current active picture index.
+     */
+    void showPicture(int index);
+
+    /**
+     * The picture gallery to browse.
+     *
+     * @return the picture gallery, or {@code null} if there is none.
+     */
+    Gallery gallery();
+
+}
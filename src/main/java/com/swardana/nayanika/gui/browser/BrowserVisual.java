@@ -0,0 +1,344 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.gui.browser;
+
+import com.swardana.nayanika.base.Browser;
+import com.swardana.nayanika.base.gallery.Gallery;
+import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.control.BrowserSubject;
+import com.swardana.nayanika.control.ExhibitionSubject;
+import com.swardana.nayanika.control.GallerySubject;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.css.PseudoClass;
+import javafx.geometry.Orientation;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A thumbnail browser visual.
+ * <p>
+ *     The thumbnails are laid on virtualized rows, only the rows on view have
+ *     a cell and only those cells hold thumbnail images. A thumbnail is
+ *     loaded when its cell shows the picture and its load is cancelled once
+ *     the cell is reused for other pictures, e.g. scrolled out of view.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public class BrowserVisual extends ListView<Integer> implements BrowserView {
+
+    private static final double THUMBNAIL_SIZE = 160;
+    private static final double SPACING = BrowserBehavior.CELL_SIZE - THUMBNAIL_SIZE;
+    private static final double SCROLL_BAR_SIZE = 16;
+    private static final PseudoClass CURRENT = PseudoClass.getPseudoClass("current");
+
+    private final RowList rows;
+    private final IntegerProperty current;
+
+    private final BrowserBehavior behavior;
+
+    private final ExhibitionSubject exhibitionSubject;
+    private final BrowserSubject browserSubject;
+
+    private int columns;
+    private int size;
+
+    private final ChangeListener<Number> sizeChangeAction = new ChangeListener<Number>() {
+        @Override
+        public void changed(
+            final ObservableValue<? extends Number> observable,
+            final Number oldSize,
+            final Number newSize
+        ) {
+            behavior.onGallerySizeChange();
+        }
+    };
+    private final ChangeListener<Picture> pictureChangeAction = new ChangeListener<Picture>() {
+        @Override
+        public void changed(
+            final ObservableValue<? extends Picture> observable,
+            final Picture oldPicture,
+            final Picture newPicture
+        ) {
+            behavior.onPictureChange();
+        }
+    };
+
+    /**
+     * Creates new BrowserVisual.
+     *
+     * @param exhibitionSubject the exhibition observable state control.
+     * @param browserSubject the browser observable state control.
+     */
+    public BrowserVisual(
+        final ExhibitionSubject exhibitionSubject,
+        final BrowserSubject browserSubject
+    ) {
+        this.rows = new RowList();
+        this.current = new SimpleIntegerProperty(this, "current", -1);
+        this.columns = 1;
+        this.behavior = new BrowserBehavior(this, browserSubject);
+        this.exhibitionSubject = exhibitionSubject;
+        this.browserSubject = browserSubject;
+
+        this.initGraphics();
+        this.registerListeners();
+    }
+
+    @Override
+    public final void showFilmstrip() {
+        this.setOrientation(Orientation.HORIZONTAL);
+        this.setPrefHeight(BrowserBehavior.CELL_SIZE + SCROLL_BAR_SIZE);
+        this.setMinHeight(BrowserBehavior.CELL_SIZE + SCROLL_BAR_SIZE);
+        this.columns = 1;
+        this.rows.reset(this.rowCount());
+        this.scrollToCurrent();
+    }
+
+    @Override
+    public final void showGrid(final int count) {
+        this.setOrientation(Orientation.VERTICAL);
+        this.setPrefHeight(Region.USE_COMPUTED_SIZE);
+        this.setMinHeight(Region.USE_COMPUTED_SIZE);
+        this.columns = count;
+        this.rows.reset(this.rowCount());
+        this.scrollToCurrent();
+    }
+
+    @Override
+    public final void updatePictures(final int count) {
+        this.size = count;
+        this.rows.reset(this.rowCount());
+    }
+
+    @Override
+    public final void showPicture(final int index) {
+        this.current.set(index);
+        this.scrollToCurrent();
+    }
+
+    @Override
+    public final Gallery gallery() {
+        return this.exhibitionSubject.galleryProperty().getValue();
+    }
+
+    private int rowCount() {
+        return (this.size + this.columns - 1) / this.columns;
+    }
+
+    private void scrollToCurrent() {
+        if (this.current.get() >= 0) {
+            this.scrollTo(this.current.get() / this.columns);
+        }
+    }
+
+    private void initGraphics() {
+        this.setId("browser");
+        this.getStyleClass().add("browser");
+        this.setFixedCellSize(BrowserBehavior.CELL_SIZE);
+        this.setCellFactory(list -> new ThumbnailRow());
+        this.setItems(this.rows);
+    }
+
+    private void registerListeners() {
+        this.behavior.initView();
+        this.widthProperty().addListener(new ChangeListener<Number>() {
+            @Override
+            public void changed(
+                final ObservableValue<? extends Number> observable,
+                final Number oldWidth,
+                final Number newWidth
+            ) {
+                behavior.onViewResize(newWidth.doubleValue());
+            }
+        });
+        this.browserSubject.layoutProperty().addListener(new ChangeListener<Browser.Layout>() {
+            @Override
+            public void changed(
+                final ObservableValue<? extends Browser.Layout> observable,
+                final Browser.Layout oldLayout,
+                final Browser.Layout newLayout
+            ) {
+                behavior.onBrowserControlChange();
+            }
+        });
+        this.exhibitionSubject.galleryProperty().addListener(new ChangeListener<GallerySubject>() {
+            @Override
+            public void changed(
+                final ObservableValue<? extends GallerySubject> observable,
+                final GallerySubject oldGallery,
+                final GallerySubject newGallery
+            ) {
+                handleExhibitionChange(oldGallery, newGallery);
+            }
+        });
+    }
+
+    /**
+     * Handle when the {@link GallerySubject} is changed.
+     * <p>
+     *     When the {@link GallerySubject} is changed, will need to un-bind from
+     *     old image gallery to the new one and browse its pictures.
+     * </p>
+     *
+     * @param oldSubject the previous gallery subject.
+     * @param subject the gallery subject.
+     */
+    private void handleExhibitionChange(
+        final GallerySubject oldSubject,
+        final GallerySubject subject
+    ) {
+        if (oldSubject != null) {
+            oldSubject.sizeProperty().removeListener(this.sizeChangeAction);
+            oldSubject.pictureProperty().removeListener(this.pictureChangeAction);
+        }
+        this.rows.reset(0);
+        this.size = 0;
+        subject.sizeProperty().addListener(this.sizeChangeAction);
+        subject.pictureProperty().addListener(this.pictureChangeAction);
+        this.behavior.onGalleryChange();
+    }
+
+    /**
+     * A row of thumbnails.
+     */
+    private final class ThumbnailRow extends ListCell<Integer> {
+
+        private final HBox box;
+        private final List<Thumbnail> thumbnails;
+        private final InvalidationListener highlightAction;
+
+        ThumbnailRow() {
+            this.box = new HBox(SPACING);
+            this.thumbnails = new ArrayList<>();
+            this.highlightAction = observable -> this.thumbnails.forEach(Thumbnail::highlight);
+            this.getStyleClass().add("thumbnail-row");
+            current.addListener(new WeakInvalidationListener(this.highlightAction));
+        }
+
+        @Override
+        protected void updateItem(final Integer row, final boolean empty) {
+            super.updateItem(row, empty);
+            var gallery = gallery();
+            if (empty || row == null || gallery == null) {
+                this.thumbnails.forEach(Thumbnail::clear);
+                this.setGraphic(null);
+            } else {
+                this.fill(columns);
+                for (int column = 0; column < columns; column++) {
+                    var index = row * columns + column;
+                    if (index < size) {
+                        this.thumbnails.get(column).show(index, gallery.picture(index));
+                    } else {
+                        this.thumbnails.get(column).clear();
+                    }
+                }
+                this.setGraphic(this.box);
+            }
+        }
+
+        private void fill(final int count) {
+            if (this.thumbnails.size() != count) {
+                while (this.thumbnails.size() > count) {
+                    this.thumbnails.remove(this.thumbnails.size() - 1).clear();
+                }
+                while (this.thumbnails.size() < count) {
+                    this.thumbnails.add(new Thumbnail());
+                }
+                this.box.getChildren().setAll(this.thumbnails);
+            }
+        }
+
+    }
+
+    /**
+     * A picture thumbnail.
+     */
+    private final class Thumbnail extends StackPane {
+
+        private final ImageView image;
+
+        private Picture picture;
+        private CompletableFuture<Image> loading;
+        private int index;
+
+        Thumbnail() {
+            this.image = new ImageView();
+            this.index = -1;
+            this.image.setFitWidth(THUMBNAIL_SIZE);
+            this.image.setFitHeight(THUMBNAIL_SIZE);
+            this.image.setPreserveRatio(true);
+            this.getStyleClass().add("thumbnail");
+            this.setPrefSize(THUMBNAIL_SIZE, THUMBNAIL_SIZE);
+            this.setMinSize(THUMBNAIL_SIZE, THUMBNAIL_SIZE);
+            this.getChildren().add(this.image);
+            this.setOnMouseClicked(event -> behavior.onViewPictureSelect(this.index));
+        }
+
+        void show(final int position, final Picture pic) {
+            this.index = position;
+            this.highlight();
+            if (pic != this.picture) {
+                this.cancel();
+                this.picture = pic;
+                var thumbnail = browserSubject.thumbnail(pic);
+                this.loading = thumbnail;
+                thumbnail.thenAccept(img -> {
+                    if (this.loading == thumbnail) {
+                        this.image.setImage(img);
+                    }
+                });
+            }
+        }
+
+        void clear() {
+            this.cancel();
+            this.index = -1;
+            this.highlight();
+        }
+
+        void highlight() {
+            this.pseudoClassStateChanged(CURRENT, this.index >= 0 && this.index == current.get());
+        }
+
+        private void cancel() {
+            if (this.loading != null) {
+                this.loading.cancel(false);
+            }
+            this.loading = null;
+            this.picture = null;
+            this.image.setImage(null);
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.gui.browser;
+
+import javafx.collections.ObservableListBase;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * The row indexes of the thumbnail browser.
+ * <p>
+ *     The row index is computed instead of kept, so a huge gallery doesn't
+ *     hold an element for every row. The thumbnails of a row are resolved by
+ *     its cell, only the cells on view exist.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+final class RowList extends ObservableListBase<Integer> {
+
+    private int rows;
+
+    @Override
+    public Integer get(final int index) {
+        if (index < 0 || index >= this.rows) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return index;
+    }
+
+    @Override
+    public int size() {
+        return this.rows;
+    }
+
+    /**
+     * Change every row, e.g. when the number of thumbnails of a row changes,
+     * or when the pictures are merged into the middle of the gallery.
+     *
+     * @param count the number of rows.
+     */
+    void reset(final int count) {
+        var previous = this.rows;
+        this.rows = count;
+        this.beginChange();
+        if (previous > 0) {
+            this.nextRemove(0, range(0, previous));
+        }
+        if (count > 0) {
+            this.nextAdd(0, count);
+        }
+        this.endChange();
+    }
+
+    private static List<Integer> range(final int from, final int until) {
+        return new AbstractList<>() {
+            @Override
+            public Integer get(final int index) {
+                return from + index;
+            }
+
+            @Override
+            public int size() {
+                return until - from;
+            }
+        };
+    }
+
+}
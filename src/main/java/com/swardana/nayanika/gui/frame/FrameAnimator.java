@@ -0,0 +1,285 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.gui.frame;
+
+import com.swardana.nayanika.base.ThreadExecutor;
+import com.swardana.nayanika.base.gallery.Picture;
+import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.geometry.Bounds;
+import javafx.scene.CacheHint;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Transform;
+import javafx.util.Duration;
+
+import java.util.function.LongConsumer;
+
+/**
+ * The moving parts of a picture frame.
+ * <p>
+ *     Drive the zoom and drag motion once per animation frame, animate the
+ *     {@link SlideTransition} between the two image views of the frame, and
+ *     keep the {@link TileLayer} over the frame image.
+ * </p>
+ * <p>
+ *     A layout requested several times within an animation frame, e.g. while
+ *     the scroll bars toggle, is done once on the next animation frame.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+final class FrameAnimator {
+
+    private final FramePane frame;
+    private final ImageView image;
+    private final ImageView backdrop;
+    private final Rectangle clip;
+    private final TileLayer tiles;
+    private final SlideTransition transition;
+
+    private final AnimationTimer motion = new AnimationTimer() {
+        @Override
+        public void handle(final long now) {
+            pulseAction.accept(now);
+        }
+    };
+    private final AnimationTimer layout = new AnimationTimer() {
+        @Override
+        public void handle(final long now) {
+            this.stop();
+            var action = layoutAction;
+            layoutAction = null;
+            if (action != null) {
+                action.run();
+            }
+        }
+    };
+    private final EventHandler<ActionEvent> finishedAction = new EventHandler<ActionEvent>() {
+        @Override
+        public void handle(final ActionEvent event) {
+            settle();
+        }
+    };
+    private final ChangeListener<Transform> tilesMovedAction = new ChangeListener<Transform>() {
+        @Override
+        public void changed(
+            final ObservableValue<? extends Transform> observable,
+            final Transform oldTransform,
+            final Transform newTransform
+        ) {
+            movedAction.run();
+        }
+    };
+
+    private LongConsumer pulseAction;
+    private Runnable movedAction;
+    private Runnable layoutAction;
+    private Animation animation;
+
+    /**
+     * Creates new FrameAnimator.
+     *
+     * @param frame the picture frame.
+     * @param image the frame image view.
+     * @param backdrop the frame image view of the outgoing picture.
+     */
+    FrameAnimator(final FramePane frame, final ImageView image, final ImageView backdrop) {
+        this.frame = frame;
+        this.image = image;
+        this.backdrop = backdrop;
+        this.clip = new Rectangle();
+        this.tiles = new TileLayer(
+            ThreadExecutor.getInstance().ioExecutor(),
+            ThreadExecutor.getInstance().decodeExecutor()
+        );
+        this.transition = SlideTransition.configured();
+        this.pulseAction = now -> { };
+        this.movedAction = () -> { };
+
+        this.initGraphics();
+    }
+
+    /**
+     * The action on every animation frame while the picture is moving.
+     *
+     * @param action the action, given the animation frame time in nanoseconds.
+     */
+    void setOnPulse(final LongConsumer action) {
+        this.pulseAction = action;
+    }
+
+    /**
+     * The action when the tiles are moved on the scene, e.g. the picture is
+     * zoomed or scrolled.
+     *
+     * @param action the action.
+     */
+    void setOnTilesMoved(final Runnable action) {
+        this.movedAction = action;
+    }
+
+    /**
+     * Start calling the pulse action on every animation frame.
+     * <p>
+     *     Meanwhile the picture is cached as scaled, so it is not drawn again
+     *     on every frame of the zoom.
+     * </p>
+     */
+    void startMotion() {
+        this.image.setCacheHint(CacheHint.SCALE);
+        this.motion.start();
+    }
+
+    /**
+     * Stop calling the pulse action.
+     */
+    void stopMotion() {
+        this.motion.stop();
+        this.image.setCacheHint(CacheHint.DEFAULT);
+    }
+
+    /**
+     * Run the layout action once on the next animation frame.
+     * <p>
+     *     The layout action requested earlier within the same animation frame
+     *     is replaced.
+     * </p>
+     *
+     * @param action the layout action.
+     */
+    void layoutOnPulse(final Runnable action) {
+        this.layoutAction = action;
+        this.layout.start();
+    }
+
+    /**
+     * Animate the transition from the shown picture to the next picture.
+     *
+     * @param next the next picture image.
+     * @param duration the transition duration.
+     */
+    void transit(final Image next, final Duration duration) {
+        this.finish();
+        this.backdrop.setImage(this.image.getImage());
+        this.image.setImage(next);
+        this.frame.setClip(this.clip);
+        this.image.setCacheHint(CacheHint.SPEED);
+        this.backdrop.setCacheHint(CacheHint.SPEED);
+        this.animation = this.transition.animate(this.image, this.backdrop, duration);
+        this.animation.setOnFinished(this.finishedAction);
+        this.animation.play();
+    }
+
+    /**
+     * Finish the running transition at once, the picture is shown as is.
+     */
+    void finish() {
+        if (this.animation != null) {
+            this.animation.stop();
+        }
+        this.settle();
+        this.image.setOpacity(1);
+        this.image.setTranslateX(0);
+        this.image.setScaleX(1);
+        this.image.setScaleY(1);
+        this.frame.setClip(null);
+    }
+
+    /**
+     * Open the tiles of the shown picture.
+     *
+     * @param picture the picture, or {@code null} to only release the tiles.
+     */
+    void openTiles(final Picture picture) {
+        this.tiles.open(picture);
+    }
+
+    /**
+     * Run one of the actions once the opened picture is known to be tiled or
+     * not.
+     *
+     * @param tiled the action when the picture is tiled.
+     * @param plain the action when the picture is not tiled.
+     */
+    void whenProbed(final Runnable tiled, final Runnable plain) {
+        this.tiles.whenProbed(tiled, plain);
+    }
+
+    /**
+     * Show the tiles within the viewport, as long as the tiled picture is
+     * zoomed in.
+     *
+     * @param viewport the visible region on the scene coordinates.
+     * @param screenScale the screen pixels per frame unit.
+     */
+    void showTiles(final Bounds viewport, final double screenScale) {
+        var scale = this.image.getScaleX();
+        if (this.tiles.isTiled() && scale > 1) {
+            this.tiles.update(this.tiles.sceneToLocal(viewport), scale * screenScale);
+        } else {
+            this.tiles.clear();
+        }
+    }
+
+    /**
+     * Hide every tile.
+     */
+    void hideTiles() {
+        this.tiles.clear();
+    }
+
+    /**
+     * Release the outgoing picture once the transition is finished.
+     * <p>
+     *     The incoming picture keeps its transform, e.g. the zoom of the
+     *     {@link SlideTransition#KEN_BURNS}, until the next transition.
+     * </p>
+     */
+    private void settle() {
+        this.animation = null;
+        this.backdrop.setImage(null);
+        this.backdrop.setOpacity(1);
+        this.backdrop.setTranslateX(0);
+        this.image.setCacheHint(CacheHint.DEFAULT);
+        this.backdrop.setCacheHint(CacheHint.DEFAULT);
+    }
+
+    private void initGraphics() {
+        this.image.setPreserveRatio(true);
+        this.image.setSmooth(true);
+        this.image.setCache(true);
+        this.backdrop.setPreserveRatio(true);
+        this.backdrop.setSmooth(true);
+        this.backdrop.setCache(true);
+        this.clip.widthProperty().bind(this.frame.widthProperty());
+        this.clip.heightProperty().bind(this.frame.heightProperty());
+        this.frame.setImage(this.image);
+        this.frame.setBackdrop(this.backdrop);
+        this.tiles.scaleXProperty().bind(this.image.scaleXProperty());
+        this.tiles.scaleYProperty().bind(this.image.scaleYProperty());
+        this.frame.setOverlay(this.tiles);
+        this.tiles.localToSceneTransformProperty().addListener(this.tilesMovedAction);
+    }
+
+}
@@ -19,12 +19,19 @@
 package com.swardana.nayanika.gui.frame;
 
 import com.swardana.nayanika.base.FullScreen;
+import com.swardana.nayanika.base.Presentation;
 
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * A behavior of {@link FrameView}.
+ * <p>
+ *     The zoom and drag input are coalesced on a {@link FrameMotion}, the
+ *     picture is eased toward it once per animation frame instead of on
+ *     every input event.
+ * </p>
  *
  * @author Sukma Wardana
  */
@@ -33,20 +40,33 @@ class FrameBehavior {
     private static final Logger LOGGER = Logger.getLogger(FrameBehavior.class.getName());
 
     private static final double SCALE_DELTA = 1.125;
-    private static final double MIN_SCALE = 1;
+    private static final double WHEEL_NOTCH = 40;
+    private static final double FRAME = 1 / 60.0;
+    private static final double MAX_FRAME = 0.1;
 
     private final FrameView view;
     private final FullScreen control;
+    private final Presentation presentation;
+    private final FrameMotion motion;
+
+    private long pulse;
 
     /**
      * Creates new FrameBehavior.
      *
      * @param view the frame view counter part.
      * @param control the app full-screen window.
+     * @param presentation the slide-show presentation.
      */
-    FrameBehavior(final FrameView view, final FullScreen control) {
+    FrameBehavior(
+        final FrameView view,
+        final FullScreen control,
+        final Presentation presentation
+    ) {
         this.view = view;
         this.control = control;
+        this.presentation = presentation;
+        this.motion = new FrameMotion();
     }
 
     /**
@@ -62,49 +82,94 @@ class FrameBehavior {
     /**
      * Called by the view.
      * <p>
-     *     Operation to handle picture zoom.
+     *     Operation to handle picture zoom by the scroll wheel or trackpad,
+     *     each wheel notch zoom by the {@code 1.125} scale. The picture is
+     *     zoomed around the cursor.
      * </p>
      *
      * @param delta the vertical scroll amount.
-     * @param horizontal the scale factor by which coordinates along the X axis.
-     * @param vertical the scale factor by which coordinates along the Y axis.
+     * @param pivotX the horizontal cursor point on the viewport.
+     * @param pivotY the vertical cursor point on the viewport.
      */
     final void onViewZoom(
         final double delta,
-        final double horizontal,
-        final double vertical
+        final double pivotX,
+        final double pivotY
     ) {
-        double scale = this.scaleFactor(delta);
-
-        /**
-         * Amount of scrolling in each direction in scrollContent coordinate
-         * units.
-         */
-        double scrollXOffset = this.view.horizontalScrollOffset();
-        double scrollYOffset = this.view.verticalScrollOffset();
+        this.zoom(Math.pow(SCALE_DELTA, delta / WHEEL_NOTCH), pivotX, pivotY);
+    }
 
-        double maxHorizontal = Math.max(horizontal * scale, MIN_SCALE);
-        double maxVertical = Math.max(vertical * scale, MIN_SCALE);
+    /**
+     * Called by the view.
+     * <p>
+     *     Operation to handle picture zoom by the pinch gesture. The picture
+     *     is zoomed around the gesture point.
+     * </p>
+     *
+     * @param factor the gesture zoom factor since the previous event.
+     * @param pivotX the horizontal gesture point on the viewport.
+     * @param pivotY the vertical gesture point on the viewport.
+     */
+    final void onViewPinch(
+        final double factor,
+        final double pivotX,
+        final double pivotY
+    ) {
+        this.zoom(factor, pivotX, pivotY);
+    }
 
-        this.view.rescalePicture(maxHorizontal, maxVertical);
-        LOGGER.log(
-            Level.FINER,
-            "Rescale the picture. "
-                + "[horizontal={0}, vertical={1}, scale={2}, "
-                + "min-scale={3}, max-horizontal={4}, max-vertical={5}",
-            new Object[]{horizontal, vertical, scale, MIN_SCALE, maxHorizontal, maxVertical}
-        );
+    /**
+     * Called by the view.
+     * <p>
+     *     Handle the animation frame while the picture is zoomed or dragged,
+     *     the picture is rescaled and scrolled once per frame whatever the
+     *     number of input since the previous frame.
+     * </p>
+     *
+     * @param now the frame timestamp in nanoseconds.
+     */
+    final void onViewPulse(final long now) {
+        var seconds = FRAME;
+        if (this.pulse > 0) {
+            var elapsed = (double) (now - this.pulse) / TimeUnit.SECONDS.toNanos(1);
+            seconds = Math.min(MAX_FRAME, elapsed);
+        }
+        this.pulse = now;
+        this.motion.step(seconds);
+        this.view.rescalePicture(this.motion.scale(), this.motion.scale());
+        this.view.scrollPicture(this.motion.horizontalOffset(), this.motion.verticalOffset());
+        this.motion.clamp(this.view.horizontalScrollOffset(), this.view.verticalScrollOffset());
+        if (!this.motion.isMoving()) {
+            this.stopMotion();
+            LOGGER.log(
+                Level.FINER,
+                "The picture motion is settled. "
+                    + "[scale={0}, scroll-x-offset={1}, scroll-y-offset={2}]",
+                new Object[]{
+                    this.motion.scale(),
+                    this.motion.horizontalOffset(),
+                    this.motion.verticalOffset(),
+                }
+            );
+        }
+    }
 
-        /**
-         * Move viewport so that old center remains in the center after the
-         * scaling.
-         */
-        this.view.repositionScroller(scale, scrollXOffset, scrollYOffset);
+    /**
+     * Called by the view.
+     * <p>
+     *     Handle when the frame is resized, the picture is decoded to fit the
+     *     frame instead of on its full resolution.
+     * </p>
+     *
+     * @param width the frame width in pixels.
+     * @param height the frame height in pixels.
+     */
+    final void onViewResize(final double width, final double height) {
+        this.view.requestPictureResolution(width, height);
         LOGGER.log(
             Level.FINER,
-            "Reposition the scroller. "
-                + "[scale={0}, scroll-x-offset={1}, scroll-y-offset={2}]",
-            new Object[]{scale, scrollXOffset, scrollYOffset}
+            "Resize the picture frame. [width={0}, height={1}]",
+            new Object[]{width, height}
         );
     }
 
@@ -119,7 +184,7 @@ class FrameBehavior {
      */
     final void onViewMouseClicked(final int count) {
         if (count == 2) {
-            this.view.resetPictureScale();
+            this.resetScale();
             LOGGER.log(
                 Level.FINER,
                 "Reset the picture scale on frame. [mouse-click={0}]",
@@ -149,8 +214,9 @@ class FrameBehavior {
         double deltaX = clickedX - draggedX;
         double deltaY = clickedY - draggedY;
 
-        this.view.horizontalMove(deltaX);
-        this.view.verticalMove(deltaY);
+        this.seedMotion();
+        this.motion.drag(deltaX, deltaY);
+        this.view.startMotion();
         LOGGER.log(
             Level.FINER,
             "Reposition the picture. "
@@ -183,12 +249,68 @@ class FrameBehavior {
     /**
      * Called by the view.
      * <p>
-     *     Handle when view image is change.
+     *     Handle when view picture is change. The same picture displayed on
+     *     other resolution is not a change.
      * </p>
      */
     final void onViewImageChange() {
         this.view.focus();
-        this.view.resetPictureScale();
+        this.resetScale();
+    }
+
+    /**
+     * Called by the view.
+     * <p>
+     *     Handle when the decoded image of the active picture is published.
+     *     Another picture is displayed through the transition while the
+     *     slide-show is running, the same picture on other resolution is
+     *     displayed at once.
+     * </p>
+     *
+     * @param another {@code true} if the image belongs to another picture.
+     */
+    final void onViewImageUpdate(final boolean another) {
+        if (another && this.presentation.isRunning()) {
+            this.view.transitPicture();
+        } else {
+            this.view.showPicture();
+        }
+    }
+
+    /**
+     * Called by the view.
+     * <p>
+     *     Handle when the slide-show start or stop running, the transition
+     *     doesn't outlive the slide-show.
+     * </p>
+     *
+     * @param running {@code true} if the slide-show is running.
+     */
+    final void onViewPresentationChange(final boolean running) {
+        if (!running) {
+            this.view.finishTransition();
+        }
+    }
+
+    /**
+     * Called by the view.
+     * <p>
+     *     Handle when the active picture start or finish being decoded.
+     * </p>
+     *
+     * @param loading {@code true} if the active picture is being decoded.
+     */
+    final void onViewLoadingChange(final boolean loading) {
+        if (loading) {
+            this.view.showLoading();
+        } else {
+            this.view.hideLoading();
+        }
+        LOGGER.log(
+            Level.FINER,
+            "The picture loading state is changed. [loading={0}]",
+            new Object[]{loading}
+        );
     }
 
     /**
@@ -199,18 +321,43 @@ class FrameBehavior {
      */
     final void onViewScreenChange() {
         this.zoomAvailability();
-        this.view.resetPictureScale();
+        this.resetScale();
         this.view.focus();
     }
 
-    private double scaleFactor(final double delta) {
-        final double result;
-        if (delta > 0) {
-            result = SCALE_DELTA;
-        } else {
-            result = MIN_SCALE / SCALE_DELTA;
+    private void zoom(final double factor, final double pivotX, final double pivotY) {
+        this.seedMotion();
+        this.motion.zoom(factor, pivotX, pivotY);
+        this.view.startMotion();
+        if (this.motion.targetScale() > FrameMotion.MIN_SCALE) {
+            // the picture is displayed larger than its frame sized decoded image.
+            this.view.requestFullPictureResolution();
         }
-        return result;
+        LOGGER.log(
+            Level.FINER,
+            "Rescale the picture. "
+                + "[factor={0}, pivot-x={1}, pivot-y={2}, target-scale={3}]",
+            new Object[]{factor, pivotX, pivotY, this.motion.targetScale()}
+        );
+    }
+
+    private void seedMotion() {
+        this.motion.seed(
+            this.view.pictureScale(),
+            this.view.horizontalScrollOffset(),
+            this.view.verticalScrollOffset()
+        );
+    }
+
+    private void stopMotion() {
+        this.pulse = 0;
+        this.view.stopMotion();
+    }
+
+    private void resetScale() {
+        this.motion.reset();
+        this.stopMotion();
+        this.view.resetPictureScale();
     }
 
     private void zoomAvailability() {
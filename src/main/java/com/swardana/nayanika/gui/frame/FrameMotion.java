@@ -0,0 +1,280 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.gui.frame;
+
+/**
+ * A picture zoom and pan motion.
+ * <p>
+ *     The zoom and pan input only move the motion target, any number of
+ *     input between two frames is coalesced. Each frame the picture scale
+ *     and scroll offset ease toward the target, the scale is eased on its
+ *     logarithm so each zoom step takes the same time whatever the scale.
+ * </p>
+ * <p>
+ *     The scroll offset is kept anchored on the zoom pivot, the point under
+ *     the cursor stays under the cursor while the picture is scaled. The
+ *     scroll offsets are the amount of scrolling in content units, the pivot
+ *     is the point on the viewport.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+final class FrameMotion {
+
+    /**
+     * The minimum picture scale, the picture fit the frame.
+     */
+    static final double MIN_SCALE = 1;
+
+    /**
+     * The maximum picture scale.
+     */
+    static final double MAX_SCALE = 64;
+
+    /**
+     * The time in seconds to cover about two third of the remaining motion.
+     */
+    private static final double EASING = 0.06;
+    private static final double SCALE_PRECISION = 1e-3;
+    private static final double OFFSET_PRECISION = 0.5;
+
+    private final Axis horizontal;
+    private final Axis vertical;
+
+    private double scale;
+    private double target;
+    private boolean moving;
+    private boolean snap;
+
+    /**
+     * Creates new FrameMotion.
+     */
+    FrameMotion() {
+        this.horizontal = new Axis();
+        this.vertical = new Axis();
+        this.reset();
+    }
+
+    /**
+     * Start the motion from the displayed picture state.
+     * <p>
+     *     Ignored while the motion is moving, the input is coalesced on the
+     *     running motion instead.
+     * </p>
+     *
+     * @param shown the displayed picture scale.
+     * @param scrollXOffset the displayed horizontal scroll offset.
+     * @param scrollYOffset the displayed vertical scroll offset.
+     */
+    void seed(final double shown, final double scrollXOffset, final double scrollYOffset) {
+        if (!this.moving) {
+            this.scale = Math.max(MIN_SCALE, Math.min(MAX_SCALE, shown));
+            this.target = this.scale;
+            this.horizontal.seed(scrollXOffset);
+            this.vertical.seed(scrollYOffset);
+        }
+    }
+
+    /**
+     * Zoom the target around the pivot.
+     *
+     * @param factor the scale factor, more than one to zoom in.
+     * @param pivotX the horizontal pivot on the viewport.
+     * @param pivotY the vertical pivot on the viewport.
+     */
+    void zoom(final double factor, final double pivotX, final double pivotY) {
+        var next = Math.max(MIN_SCALE, Math.min(MAX_SCALE, this.target * factor));
+        var growth = next / this.target;
+        this.horizontal.zoom(growth, pivotX);
+        this.vertical.zoom(growth, pivotY);
+        this.target = next;
+        this.moving = true;
+    }
+
+    /**
+     * Drag the picture.
+     * <p>
+     *     The drag follows the cursor at once on the next frame, the drag
+     *     distance is measured from the displayed picture.
+     * </p>
+     *
+     * @param deltaX the horizontal drag distance.
+     * @param deltaY the vertical drag distance.
+     */
+    void drag(final double deltaX, final double deltaY) {
+        this.horizontal.drag(deltaX);
+        this.vertical.drag(deltaY);
+        this.snap = true;
+        this.moving = true;
+    }
+
+    /**
+     * Move a frame toward the target.
+     *
+     * @param seconds the time elapsed since the previous frame.
+     * @return {@code true} if the motion is still moving.
+     */
+    boolean step(final double seconds) {
+        var ease = 1 - Math.exp(-seconds / EASING);
+        var next = this.scale * Math.pow(this.target / this.scale, ease);
+        if (Math.abs(Math.log(this.target / next)) < SCALE_PRECISION) {
+            next = this.target;
+        }
+        var follow = ease;
+        if (this.snap) {
+            follow = 1;
+        }
+        var growth = next / this.scale;
+        var remaining = this.target / next;
+        this.horizontal.step(growth, remaining, follow);
+        this.vertical.step(growth, remaining, follow);
+        this.scale = next;
+        this.snap = false;
+        this.moving = next != this.target
+            || !this.horizontal.arrived()
+            || !this.vertical.arrived();
+        if (!this.moving) {
+            this.horizontal.arrive();
+            this.vertical.arrive();
+        }
+        return this.moving;
+    }
+
+    /**
+     * Adopt the scroll offsets the view could actually scroll to.
+     * <p>
+     *     A scroll offset clamped by the view becomes the target, so the
+     *     motion doesn't keep pushing against the picture edge.
+     * </p>
+     *
+     * @param scrollXOffset the displayed horizontal scroll offset.
+     * @param scrollYOffset the displayed vertical scroll offset.
+     */
+    void clamp(final double scrollXOffset, final double scrollYOffset) {
+        this.horizontal.clamp(scrollXOffset);
+        this.vertical.clamp(scrollYOffset);
+    }
+
+    /**
+     * Stop the motion on the picture fit the frame.
+     */
+    void reset() {
+        this.scale = MIN_SCALE;
+        this.target = MIN_SCALE;
+        this.moving = false;
+        this.snap = false;
+        this.horizontal.seed(0);
+        this.vertical.seed(0);
+    }
+
+    /**
+     * Check whether the motion is still moving or not.
+     *
+     * @return {@code true} if the motion is still moving.
+     */
+    boolean isMoving() {
+        return this.moving;
+    }
+
+    /**
+     * The picture scale of the current frame.
+     *
+     * @return the picture scale.
+     */
+    double scale() {
+        return this.scale;
+    }
+
+    /**
+     * The picture scale the motion moves to.
+     *
+     * @return the target picture scale.
+     */
+    double targetScale() {
+        return this.target;
+    }
+
+    /**
+     * The horizontal scroll offset of the current frame.
+     *
+     * @return the horizontal scroll offset.
+     */
+    double horizontalOffset() {
+        return this.horizontal.offset;
+    }
+
+    /**
+     * The vertical scroll offset of the current frame.
+     *
+     * @return the vertical scroll offset.
+     */
+    double verticalOffset() {
+        return this.vertical.offset;
+    }
+
+    /**
+     * A scroll axis of the motion.
+     */
+    private static final class Axis {
+
+        private double offset;
+        private double target;
+        private double pivot;
+
+        void seed(final double scrollOffset) {
+            this.offset = scrollOffset;
+            this.target = scrollOffset;
+        }
+
+        void zoom(final double growth, final double point) {
+            this.target = Math.max(0, growth * this.target + (growth - 1) * point);
+            this.pivot = point;
+        }
+
+        void drag(final double delta) {
+            this.target = Math.max(0, this.offset - delta);
+        }
+
+        /**
+         * Scale the offset around the pivot, then ease the part of the target
+         * the pivot alone doesn't reach, e.g. the drag or another pivot.
+         */
+        void step(final double growth, final double remaining, final double follow) {
+            var anchored = growth * this.offset + (growth - 1) * this.pivot;
+            var projected = remaining * anchored + (remaining - 1) * this.pivot;
+            this.offset = anchored + follow * (this.target - projected) / remaining;
+        }
+
+        boolean arrived() {
+            return Math.abs(this.target - this.offset) < OFFSET_PRECISION;
+        }
+
+        void arrive() {
+            this.offset = this.target;
+        }
+
+        void clamp(final double scrollOffset) {
+            if (Math.abs(scrollOffset - this.offset) >= OFFSET_PRECISION) {
+                this.target = scrollOffset;
+            }
+            this.offset = scrollOffset;
+        }
+
+    }
+
+}
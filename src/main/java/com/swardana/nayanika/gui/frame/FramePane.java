@@ -25,6 +25,7 @@ import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.geometry.HPos;
 import javafx.geometry.VPos;
+import javafx.geometry.Bounds;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Region;
 
@@ -39,6 +40,16 @@ import javafx.scene.layout.Region;
  *     <a href="https://bugs.openjdk.java.net/browse/JDK-8091216">RT-21337</a>.
  * </p>
  * <p>
+ *     The backdrop {@code ImageView} is resized the same way and placed
+ *     behind the image, e.g. holding the outgoing picture of a slide-show
+ *     transition.
+ * </p>
+ * <p>
+ *     The overlay {@code Region} is placed in front of the image, covering
+ *     the area the image is actually displayed on, e.g. holding the sharper
+ *     tiles of a zoomed in huge picture.
+ * </p>
+ * <p>
  *     WARNING: ImageView attached to this FramePane, it's not allowed to bind
  *     the {@link ImageView#fitWidthProperty()} and
  *     {@link ImageView#fitHeightProperty()} to other Pane.
@@ -50,6 +61,8 @@ import javafx.scene.layout.Region;
 class FramePane extends Region {
 
     private final ObjectProperty<ImageView> image;
+    private final ObjectProperty<ImageView> backdrop;
+    private final ObjectProperty<Region> overlay;
 
     /**
      * Creates new FramePane.
@@ -65,6 +78,8 @@ class FramePane extends Region {
      */
     FramePane(@NamedArg("imageView") final ImageView imageView) {
         this.image = new SimpleObjectProperty<>(this, "image", null);
+        this.backdrop = new SimpleObjectProperty<>(this, "backdrop", null);
+        this.overlay = new SimpleObjectProperty<>(this, "overlay", null);
 
         this.image.addListener(new ChangeListener<ImageView>() {
             @Override
@@ -82,6 +97,38 @@ class FramePane extends Region {
             }
         });
 
+        this.backdrop.addListener(new ChangeListener<ImageView>() {
+            @Override
+            public void changed(
+                final ObservableValue<? extends ImageView> observable,
+                final ImageView oldImage,
+                final ImageView newImage
+            ) {
+                if (oldImage != null) {
+                    getChildren().remove(oldImage);
+                }
+                if (newImage != null) {
+                    getChildren().add(0, newImage);
+                }
+            }
+        });
+
+        this.overlay.addListener(new ChangeListener<Region>() {
+            @Override
+            public void changed(
+                final ObservableValue<? extends Region> observable,
+                final Region oldRegion,
+                final Region newRegion
+            ) {
+                if (oldRegion != null) {
+                    getChildren().remove(oldRegion);
+                }
+                if (newRegion != null) {
+                    getChildren().add(newRegion);
+                }
+            }
+        });
+
         this.setImage(imageView);
     }
 
@@ -97,9 +144,39 @@ class FramePane extends Region {
         return this.imageProperty().get();
     }
 
+    final ObjectProperty<ImageView> backdropProperty() {
+        return this.backdrop;
+    }
+
+    final void setBackdrop(final ImageView img) {
+        this.backdropProperty().set(img);
+    }
+
+    final ImageView getBackdrop() {
+        return this.backdropProperty().get();
+    }
+
+    final ObjectProperty<Region> overlayProperty() {
+        return this.overlay;
+    }
+
+    final void setOverlay(final Region region) {
+        this.overlayProperty().set(region);
+    }
+
+    final Region getOverlay() {
+        return this.overlayProperty().get();
+    }
+
     @Override
     protected void layoutChildren() {
-        var imgView = this.getImage();
+        this.fit(this.getBackdrop());
+        this.fit(this.getImage());
+        super.layoutChildren();
+        this.cover(this.getOverlay(), this.getImage());
+    }
+
+    private void fit(final ImageView imgView) {
         if (imgView != null) {
             imgView.setFitWidth(getWidth());
             imgView.setFitHeight(getHeight());
@@ -107,7 +184,18 @@ class FramePane extends Region {
                 imgView, 0, 0, getWidth(), getHeight(), 0, HPos.CENTER, VPos.CENTER
             );
         }
-        super.layoutChildren();
+    }
+
+    private void cover(final Region region, final ImageView imgView) {
+        if (region != null && imgView != null) {
+            Bounds shown = imgView.getLayoutBounds();
+            region.resizeRelocate(
+                imgView.getLayoutX() + shown.getMinX(),
+                imgView.getLayoutY() + shown.getMinY(),
+                shown.getWidth(),
+                shown.getHeight()
+            );
+        }
     }
 
 }
@@ -66,6 +66,13 @@ public interface FrameView {
         this.rescalePicture(1, 1);
     }
 
+    /**
+     * Figure the displayed picture scale.
+     *
+     * @return the picture scale, {@code 1} when the picture fit the frame.
+     */
+    double pictureScale();
+
     /**
      * Figure the horizontal scroll offset position.
      *
@@ -81,31 +88,67 @@ public interface FrameView {
     double verticalScrollOffset();
 
     /**
-     * Reposition the viewport of Scroller.
+     * Scroll the viewport to the offset position, clamped to the picture.
      *
-     * @param scaleFactor the scale factor.
      * @param scrollXOffset the horizontal offset position.
      * @param scrollYOffset the vertical offset position.
      */
-    void repositionScroller(
-        double scaleFactor,
-        double scrollXOffset,
-        double scrollYOffset
-    );
+    void scrollPicture(double scrollXOffset, double scrollYOffset);
 
     /**
-     * Move the node horizontally based on delta x.
-     *
-     * @param deltaX the delta x.
+     * Start calling the behavior on every animation frame, until the motion
+     * is stopped.
+     * <p>
+     *     The picture is only transformed meanwhile, it may be drawn at a
+     *     lower quality.
+     * </p>
      */
-    void horizontalMove(double deltaX);
+    void startMotion();
 
     /**
-     * Move the node vertically based on delta y.
+     * Stop calling the behavior on every animation frame.
+     */
+    void stopMotion();
+
+    /**
+     * Request the picture to be decoded within the frame size.
      *
-     * @param deltaY the delta y.
+     * @param width the frame width.
+     * @param height the frame height.
+     */
+    void requestPictureResolution(double width, double height);
+
+    /**
+     * Request the picture to be decoded on its full resolution.
+     */
+    void requestFullPictureResolution();
+
+    /**
+     * Display the current picture at once.
+     */
+    void showPicture();
+
+    /**
+     * Display the current picture through the slide-show transition from the
+     * picture being displayed.
+     */
+    void transitPicture();
+
+    /**
+     * Finish the running slide-show transition, leaving only the current
+     * picture displayed.
+     */
+    void finishTransition();
+
+    /**
+     * Display the picture loading indicator.
+     */
+    void showLoading();
+
+    /**
+     * Hide the picture loading indicator.
      */
-    void verticalMove(double deltaY);
+    void hideLoading();
 
     /**
      * The current active gallery.
@@ -18,10 +18,13 @@
 
 package com.swardana.nayanika.gui.frame;
 
+import com.swardana.nayanika.base.StartupTiming;
 import com.swardana.nayanika.base.gallery.Gallery;
+import com.swardana.nayanika.base.gallery.Picture;
 import com.swardana.nayanika.control.ExhibitionSubject;
 import com.swardana.nayanika.control.FullScreenSubject;
 import com.swardana.nayanika.control.GallerySubject;
+import com.swardana.nayanika.control.PresentationSubject;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
@@ -29,6 +32,7 @@ import javafx.beans.value.ObservableValue;
 import javafx.event.EventHandler;
 import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
+import javafx.scene.Cursor;
 import javafx.scene.Group;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.image.Image;
@@ -36,9 +40,29 @@ import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.input.ScrollEvent;
+import javafx.scene.input.ZoomEvent;
+import javafx.util.Duration;
 
 /**
  * A picture frame visual.
+ * <p>
+ *     While the slide-show is running, the next picture is displayed through
+ *     the {@link SlideTransition} between two image views, see
+ *     {@link FrameAnimator}. The slide-show only advances to the decoded
+ *     picture, the transition animates the opacity and the transform of the
+ *     cached image views without any decode work.
+ * </p>
+ * <p>
+ *     A huge picture is never decoded on its full resolution, when it is
+ *     zoomed in the {@link TileLayer} shows the sharper tiles within the
+ *     viewport over the frame sized picture instead.
+ * </p>
+ * <p>
+ *     The picture is zoomed and dragged through the animation frames, only
+ *     its transform and the scroll position change meanwhile. The viewport
+ *     changes, e.g. the scroll bars shown once the picture is zoomed past
+ *     the viewport, resize the frame once on the next animation frame.
+ * </p>
  *
  * @author Sukma Wardana
  */
@@ -47,11 +71,13 @@ public class FrameVisual extends ScrollPane implements FrameView {
     private final FramePane frame;
     private final ImageView image;
     private final Group content;
+    private final FrameAnimator animator;
 
     private final FrameBehavior behavior;
 
     private final ExhibitionSubject exhibitionSubject;
     private final FullScreenSubject fullScreenSubject;
+    private final PresentationSubject presentationSubject;
 
     private final ObjectProperty<Point2D> mouseAnchor;
     private final EventHandler<ScrollEvent> scrolledAction = new EventHandler<ScrollEvent>() {
@@ -61,11 +87,16 @@ public class FrameVisual extends ScrollPane implements FrameView {
             if (event.getDeltaY() == 0) {
                 return;
             }
-            behavior.onViewZoom(
-                event.getDeltaY(),
-                image.getScaleX(),
-                image.getScaleY()
-            );
+            var pivot = pivot(event.getSceneX(), event.getSceneY());
+            behavior.onViewZoom(event.getDeltaY(), pivot.getX(), pivot.getY());
+        }
+    };
+    private final EventHandler<ZoomEvent> pinchedAction = new EventHandler<ZoomEvent>() {
+        @Override
+        public void handle(final ZoomEvent event) {
+            event.consume();
+            var pivot = pivot(event.getSceneX(), event.getSceneY());
+            behavior.onViewPinch(event.getZoomFactor(), pivot.getX(), pivot.getY());
         }
     };
     private final ChangeListener<Bounds> boundsAction = new ChangeListener<Bounds>() {
@@ -75,10 +106,22 @@ public class FrameVisual extends ScrollPane implements FrameView {
             final Bounds oldBounds,
             final Bounds newBounds
         ) {
+            animator.layoutOnPulse(resizedAction);
+        }
+    };
+    private final Runnable resizedAction = new Runnable() {
+        @Override
+        public void run() {
+            var bounds = getViewportBounds();
             frame.setPrefSize(
-                newBounds.getWidth(),
-                newBounds.getHeight()
+                bounds.getWidth(),
+                bounds.getHeight()
+            );
+            behavior.onViewResize(
+                bounds.getWidth() * outputScale(),
+                bounds.getHeight() * outputScale()
             );
+            refreshTiles();
         }
     };
     private final EventHandler<MouseEvent> mouseClickedAction = new EventHandler<MouseEvent>() {
@@ -127,34 +170,77 @@ public class FrameVisual extends ScrollPane implements FrameView {
             }
         }
     };
-    private final ChangeListener<Image> imgChangeAction = new ChangeListener<Image>() {
+    private final ChangeListener<Picture> pictureChangeAction = new ChangeListener<Picture>() {
         @Override
         public void changed(
-            final ObservableValue<? extends Image> observable,
-            final Image oldImg,
-            final Image newImg
+            final ObservableValue<? extends Picture> observable,
+            final Picture oldPicture,
+            final Picture newPicture
         ) {
+            animator.openTiles(newPicture);
             behavior.onViewImageChange();
         }
     };
+    private final ChangeListener<Image> imageChangeAction = new ChangeListener<Image>() {
+        @Override
+        public void changed(
+            final ObservableValue<? extends Image> observable,
+            final Image oldImage,
+            final Image newImage
+        ) {
+            var subject = exhibitionSubject.galleryProperty().getValue();
+            behavior.onViewImageUpdate(
+                oldImage != null
+                    && newImage != null
+                    && subject.current() != subject.pictureProperty().get()
+            );
+        }
+    };
+    private final ChangeListener<Image> firstPictureAction = new ChangeListener<Image>() {
+        @Override
+        public void changed(
+            final ObservableValue<? extends Image> observable,
+            final Image oldImage,
+            final Image newImage
+        ) {
+            if (newImage != null) {
+                observable.removeListener(this);
+                StartupTiming.getInstance().pictureShown(getScene());
+            }
+        }
+    };
+    private final ChangeListener<Boolean> loadingChangeAction = new ChangeListener<Boolean>() {
+        @Override
+        public void changed(
+            final ObservableValue<? extends Boolean> observable,
+            final Boolean oldVal,
+            final Boolean newVal
+        ) {
+            behavior.onViewLoadingChange(newVal);
+        }
+    };
 
     /**
      * Creates new FrameVisual.
      *
      * @param fullScreenSubject the full-screen observable state control.
      * @param exhibitionSubject the exhibition observable state control.
+     * @param presentationSubject the presentation observable state control.
      */
     public FrameVisual(
         final FullScreenSubject fullScreenSubject,
-        final ExhibitionSubject exhibitionSubject
+        final ExhibitionSubject exhibitionSubject,
+        final PresentationSubject presentationSubject
     ) {
         this.frame = new FramePane();
         this.image = new ImageView();
         this.content = new Group();
+        this.animator = new FrameAnimator(this.frame, this.image, new ImageView());
 
         this.fullScreenSubject = fullScreenSubject;
         this.exhibitionSubject = exhibitionSubject;
-        this.behavior = new FrameBehavior(this, fullScreenSubject);
+        this.presentationSubject = presentationSubject;
+        this.behavior = new FrameBehavior(this, fullScreenSubject, presentationSubject);
 
         this.mouseAnchor = new SimpleObjectProperty<>(this, "mouse", null);
 
@@ -171,11 +257,13 @@ public class FrameVisual extends ScrollPane implements FrameView {
     @Override
     public final void enableZoom() {
         this.frame.setOnScroll(this.scrolledAction);
+        this.frame.setOnZoom(this.pinchedAction);
     }
 
     @Override
     public final void disableZoom() {
         this.frame.setOnScroll(null);
+        this.frame.setOnZoom(null);
     }
 
     @Override
@@ -211,24 +299,20 @@ public class FrameVisual extends ScrollPane implements FrameView {
     }
 
     @Override
-    public final void repositionScroller(
-        final double scaleFactor,
-        final double scrollXOffset,
-        final double scrollYOffset
-    ) {
+    public final double pictureScale() {
+        return this.image.getScaleX();
+    }
+
+    @Override
+    public final void scrollPicture(final double scrollXOffset, final double scrollYOffset) {
         double extraWidth = this.content.getLayoutBounds().getWidth()
             - this.getViewportBounds().getWidth();
 
         if (extraWidth > 0) {
-            double halfWidth = this.getViewportBounds().getWidth() / 2;
+            double desiredH = this.getHmin() + scrollXOffset
+                * (this.getHmax() - this.getHmin()) / extraWidth;
 
-            double newScrollXOffset = (scaleFactor - 1)
-                *  halfWidth + scaleFactor * scrollXOffset;
-
-            this.setHvalue(
-                this.getHmin() + newScrollXOffset
-                    * (this.getHmax() - this.getHmin()) / extraWidth
-            );
+            this.setHvalue(Math.max(this.getHmin(), Math.min(this.getHmax(), desiredH)));
         } else {
             this.setHvalue(this.getHmin());
         }
@@ -237,42 +321,67 @@ public class FrameVisual extends ScrollPane implements FrameView {
             - this.getViewportBounds().getHeight();
 
         if (extraHeight > 0) {
-            double halfHeight = this.getViewportBounds().getHeight() / 2;
-
-            double newScrollYOffset = (scaleFactor - 1)
-                * halfHeight + scaleFactor * scrollYOffset;
+            double desiredV = this.getVmin() + scrollYOffset
+                * (this.getVmax() - this.getVmin()) / extraHeight;
 
-            this.setVvalue(
-                this.getVmin() + newScrollYOffset
-                    * (this.getVmax() - this.getVmin()) / extraHeight
-            );
+            this.setVvalue(Math.max(this.getVmin(), Math.min(this.getVmax(), desiredV)));
         } else {
-            this.setHvalue(this.getHmin());
+            this.setVvalue(this.getVmin());
         }
     }
 
     @Override
-    public final void horizontalMove(final double deltaX) {
-        double extraWidth = this.content.getLayoutBounds().getWidth()
-            - this.getViewportBounds().getWidth();
+    public final void startMotion() {
+        this.animator.startMotion();
+    }
 
-        double deltaH = deltaX * (this.getHmax() - this.getHmin()) / extraWidth;
+    @Override
+    public final void stopMotion() {
+        this.animator.stopMotion();
+    }
 
-        double desiredH = this.getHvalue() - deltaH;
+    @Override
+    public final void requestPictureResolution(final double width, final double height) {
+        var subject = this.exhibitionSubject.galleryProperty().getValue();
+        if (subject != null) {
+            subject.resolution(width, height);
+        }
+    }
 
-        this.setHvalue(Math.max(0, Math.min(this.getHmax(), desiredH)));
+    @Override
+    public final void requestFullPictureResolution() {
+        var subject = this.exhibitionSubject.galleryProperty().getValue();
+        if (subject != null) {
+            this.animator.whenProbed(this::refreshTiles, subject::fullResolution);
+        }
     }
 
     @Override
-    public final void verticalMove(final double deltaY) {
-        double extraHeight = this.content.getLayoutBounds().getHeight()
-            - this.getViewportBounds().getHeight();
+    public final void showPicture() {
+        this.image.setImage(this.currentImage());
+    }
+
+    @Override
+    public final void transitPicture() {
+        this.animator.transit(
+            this.currentImage(),
+            Duration.seconds(this.presentationSubject.time())
+        );
+    }
 
-        double deltaV = deltaY * (this.getHmax() - this.getHmin()) / extraHeight;
+    @Override
+    public final void finishTransition() {
+        this.animator.finish();
+    }
 
-        double desiredV = this.getVvalue() - deltaV;
+    @Override
+    public final void showLoading() {
+        this.setCursor(Cursor.WAIT);
+    }
 
-        this.setVvalue(Math.max(0, Math.min(this.getVmax(), desiredV)));
+    @Override
+    public final void hideLoading() {
+        this.setCursor(Cursor.DEFAULT);
     }
 
     @Override
@@ -280,11 +389,64 @@ public class FrameVisual extends ScrollPane implements FrameView {
         return this.exhibitionSubject.galleryProperty().getValue();
     }
 
+    /**
+     * The screen pixels per frame unit, more than one on a high density
+     * screen.
+     *
+     * @return the output scale.
+     */
+    private double outputScale() {
+        double result = 1;
+        var scene = this.getScene();
+        if (scene != null && scene.getWindow() != null) {
+            result = scene.getWindow().getOutputScaleX();
+        }
+        return result;
+    }
+
+    /**
+     * Show the tiles within the viewport of the zoomed in huge picture.
+     * <p>
+     *     The tiles are hidden when the picture is not zoomed in or while the
+     *     slide-show is running.
+     * </p>
+     */
+    private void refreshTiles() {
+        if (this.presentationSubject.runningProperty().get()) {
+            this.animator.hideTiles();
+        } else {
+            this.animator.showTiles(
+                this.localToScene(this.getLayoutBounds()),
+                this.outputScale()
+            );
+        }
+    }
+
+    /**
+     * The cursor point on the viewport.
+     *
+     * @param sceneX the horizontal cursor point on the scene.
+     * @param sceneY the vertical cursor point on the scene.
+     * @return the cursor point on the viewport.
+     */
+    private Point2D pivot(final double sceneX, final double sceneY) {
+        var local = this.sceneToLocal(sceneX, sceneY);
+        return new Point2D(
+            local.getX() - this.snappedLeftInset(),
+            local.getY() - this.snappedTopInset()
+        );
+    }
+
+    private Image currentImage() {
+        Image result = null;
+        var subject = this.exhibitionSubject.galleryProperty().getValue();
+        if (subject != null) {
+            result = subject.imageProperty().get();
+        }
+        return result;
+    }
+
     private void initGraphics() {
-        this.image.setPreserveRatio(true);
-        this.image.setSmooth(true);
-        this.image.setCache(true);
-        this.frame.setImage(this.image);
         this.content.getChildren().add(this.frame);
         this.setContent(this.content);
     }
@@ -297,7 +459,9 @@ public class FrameVisual extends ScrollPane implements FrameView {
         this.content.setOnMousePressed(mousePressedAction);
         this.content.setOnMouseDragged(mouseDraggedAction);
         this.frame.setOnScroll(this.scrolledAction);
-        this.image.imageProperty().addListener(this.imgChangeAction);
+        this.animator.setOnPulse(this.behavior::onViewPulse);
+        this.animator.setOnTilesMoved(this::refreshTiles);
+        this.image.imageProperty().addListener(this.firstPictureAction);
         this.exhibitionSubject.galleryProperty().addListener(new ChangeListener<GallerySubject>() {
             @Override
             public void changed(
@@ -305,9 +469,12 @@ public class FrameVisual extends ScrollPane implements FrameView {
                 final GallerySubject oldGallery,
                 final GallerySubject newGallery
             ) {
-                handleExhibitionChange(newGallery);
+                handleExhibitionChange(oldGallery, newGallery);
             }
         });
+        if (this.exhibitionSubject.galleryProperty().getValue() != null) {
+            this.handleExhibitionChange(null, this.exhibitionSubject.galleryProperty().getValue());
+        }
         this.fullScreenSubject.fullScreenProperty().addListener(new ChangeListener<Boolean>() {
             @Override
             public void changed(
@@ -318,21 +485,50 @@ public class FrameVisual extends ScrollPane implements FrameView {
                 behavior.onViewScreenChange();
             }
         });
+        this.presentationSubject.runningProperty().addListener(new ChangeListener<Boolean>() {
+            @Override
+            public void changed(
+                final ObservableValue<? extends Boolean> observable,
+                final Boolean oldValue,
+                final Boolean newValue
+            ) {
+                behavior.onViewPresentationChange(newValue);
+            }
+        });
     }
 
     /**
      * Handle when the {@link GallerySubject} is changed.
      * <p>
      *     When the {@link GallerySubject} is changed, will need to un-bind from
-     *     old image gallery to the new one. Also require to reset picture scale
-     *     and focus.
+     *     old image gallery to the new one and request the pictures decoded to
+     *     fit the frame. Also require to reset picture scale and focus, the
+     *     picture of the new gallery is displayed without transition.
      * </p>
      *
+     * @param oldSubject the previous gallery subject.
      * @param subject the gallery subject.
      */
-    private void handleExhibitionChange(final GallerySubject subject) {
-        this.image.imageProperty().unbind();
-        this.image.imageProperty().bind(subject.imageProperty());
+    private void handleExhibitionChange(
+        final GallerySubject oldSubject,
+        final GallerySubject subject
+    ) {
+        if (oldSubject != null) {
+            oldSubject.loadingProperty().removeListener(this.loadingChangeAction);
+            oldSubject.pictureProperty().removeListener(this.pictureChangeAction);
+            oldSubject.imageProperty().removeListener(this.imageChangeAction);
+        }
+        this.finishTransition();
+        this.showPicture();
+        this.animator.openTiles(subject.pictureProperty().get());
+        subject.imageProperty().addListener(this.imageChangeAction);
+        this.behavior.onViewResize(
+            this.getViewportBounds().getWidth() * this.outputScale(),
+            this.getViewportBounds().getHeight() * this.outputScale()
+        );
+        subject.loadingProperty().addListener(this.loadingChangeAction);
+        subject.pictureProperty().addListener(this.pictureChangeAction);
+        this.behavior.onViewLoadingChange(subject.loadingProperty().get());
         this.resetPictureScale();
         this.focus();
     }
@@ -0,0 +1,183 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.gui.frame;
+
+import javafx.animation.Animation;
+import javafx.animation.FadeTransition;
+import javafx.animation.Interpolator;
+import javafx.animation.ParallelTransition;
+import javafx.animation.PauseTransition;
+import javafx.animation.ScaleTransition;
+import javafx.animation.TranslateTransition;
+import javafx.scene.image.ImageView;
+import javafx.util.Duration;
+
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A transition between two slide-show pictures.
+ * <p>
+ *     The transition only animates the opacity and the transform of the two
+ *     image views holding the already decoded images, no decode nor layout
+ *     happens while it runs.
+ * </p>
+ * <p>
+ *     The transition could be chosen with the
+ *     {@code nayanika.slideshow.transition} system property, i.e.
+ *     {@code none}, {@code fade}, {@code slide} or {@code ken_burns}.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+enum SlideTransition {
+
+    /**
+     * Swap the picture at once.
+     */
+    NONE {
+        @Override
+        Animation animate(
+            final ImageView incoming,
+            final ImageView outgoing,
+            final Duration slide
+        ) {
+            return new PauseTransition(Duration.ZERO);
+        }
+    },
+
+    /**
+     * Cross-fade the outgoing picture into the incoming picture.
+     */
+    FADE {
+        @Override
+        Animation animate(
+            final ImageView incoming,
+            final ImageView outgoing,
+            final Duration slide
+        ) {
+            return new ParallelTransition(
+                fade(incoming, 0, 1),
+                fade(outgoing, 1, 0)
+            );
+        }
+    },
+
+    /**
+     * Push the outgoing picture aside with the incoming picture.
+     */
+    SLIDE {
+        @Override
+        Animation animate(
+            final ImageView incoming,
+            final ImageView outgoing,
+            final Duration slide
+        ) {
+            var width = incoming.getFitWidth();
+            return new ParallelTransition(
+                move(incoming, width, 0),
+                move(outgoing, 0, -width)
+            );
+        }
+    },
+
+    /**
+     * Cross-fade into the incoming picture, then slowly zoom and pan it for
+     * the rest of the slide.
+     */
+    KEN_BURNS {
+        @Override
+        Animation animate(
+            final ImageView incoming,
+            final ImageView outgoing,
+            final Duration slide
+        ) {
+            var zoom = new ScaleTransition(slide, incoming);
+            zoom.setFromX(1);
+            zoom.setFromY(1);
+            zoom.setToX(KEN_BURNS_SCALE);
+            zoom.setToY(KEN_BURNS_SCALE);
+            zoom.setInterpolator(Interpolator.LINEAR);
+            var pan = new TranslateTransition(slide, incoming);
+            pan.setFromX(0);
+            pan.setToX(incoming.getFitWidth() * (KEN_BURNS_SCALE - 1) / 2);
+            pan.setInterpolator(Interpolator.LINEAR);
+            return new ParallelTransition(
+                FADE.animate(incoming, outgoing, slide),
+                zoom,
+                pan
+            );
+        }
+    };
+
+    private static final Logger LOGGER = Logger.getLogger(SlideTransition.class.getName());
+
+    private static final Duration DURATION = Duration.millis(600);
+    private static final double KEN_BURNS_SCALE = 1.08;
+
+    /**
+     * Create the animation from the outgoing picture to the incoming picture.
+     *
+     * @param incoming the image view of the incoming picture.
+     * @param outgoing the image view of the outgoing picture.
+     * @param slide the slide-show time transition.
+     * @return the animation to play.
+     */
+    abstract Animation animate(ImageView incoming, ImageView outgoing, Duration slide);
+
+    /**
+     * The transition chosen by the {@code nayanika.slideshow.transition}
+     * system property.
+     * <p>
+     *     Fallback to {@link #FADE} when the property is absent or unknown.
+     * </p>
+     *
+     * @return the configured slide-show transition.
+     */
+    static SlideTransition configured() {
+        var name = System.getProperty("nayanika.slideshow.transition", FADE.name());
+        var result = FADE;
+        try {
+            result = valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException ex) {
+            LOGGER.log(
+                Level.WARNING,
+                "Unknown slide-show transition, use the default. [transition={0}]",
+                new Object[]{name}
+            );
+        }
+        return result;
+    }
+
+    private static Animation fade(final ImageView view, final double start, final double end) {
+        var fade = new FadeTransition(DURATION, view);
+        fade.setFromValue(start);
+        fade.setToValue(end);
+        return fade;
+    }
+
+    private static Animation move(final ImageView view, final double start, final double end) {
+        var move = new TranslateTransition(DURATION, view);
+        move.setFromX(start);
+        move.setToX(end);
+        move.setInterpolator(Interpolator.EASE_BOTH);
+        return move;
+    }
+
+}
@@ -0,0 +1,427 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.gui.frame;
+
+import com.swardana.nayanika.base.TaskPriority;
+import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.base.image.ImageBudget;
+import com.swardana.nayanika.base.image.ImageCache;
+import com.swardana.nayanika.base.image.Tile;
+import com.swardana.nayanika.base.image.TilePyramid;
+import com.swardana.nayanika.base.image.TileSource;
+import javafx.application.Platform;
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A tiled picture layer.
+ * <p>
+ *     A picture with a side larger than the {@code nayanika.image.tiled}
+ *     pixels, by default the common graphic texture limit, is never decoded
+ *     on its full resolution. When such a picture is zoomed in, this layer
+ *     shows the tiles of its {@link TilePyramid} level sharp enough for the
+ *     zoom, and only the tiles within the viewport, over the frame sized
+ *     decoded image.
+ * </p>
+ * <p>
+ *     The tiles are decoded in the background and kept on a tile cache of
+ *     the {@link ImageBudget#TILES} bytes, the frame sized image is shown
+ *     until the tiles are decoded. A tile which leaves the viewport before
+ *     its decode starts is not decoded.
+ * </p>
+ * <p>
+ *     The tiles of a level are decoded by a single {@link TileSource.Pass},
+ *     a row band of the wanted tiles at a time from the top, instead of a
+ *     reader for each tile. The pass stops between the bands once another
+ *     picture is opened, or no tile of its level is wanted any more.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+final class TileLayer extends Pane {
+
+    private static final Logger LOGGER = Logger.getLogger(TileLayer.class.getName());
+
+    private static final int TILED_SIDE = Integer.getInteger("nayanika.image.tiled", 8192);
+
+    private final Executor reader;
+    private final Executor decoder;
+    private final Executor publisher;
+    private final ImageCache<Tile> cache;
+    private final Map<Tile, ImageView> shown;
+    private final Set<Tile> wanted;
+    private final Set<Tile> loading;
+    private final Set<Integer> decoding;
+
+    private CompletableFuture<Boolean> probe;
+    private TileSource source;
+    private TilePyramid pyramid;
+    private volatile long generation;
+
+    /**
+     * Creates new TileLayer.
+     *
+     * @param reader the background executor to read the picture header.
+     * @param decoder the background executor to decode the tiles.
+     */
+    TileLayer(final Executor reader, final Executor decoder) {
+        this(reader, decoder, Platform::runLater);
+    }
+
+    /**
+     * Creates new TileLayer.
+     *
+     * @param reader the background executor to read the picture header.
+     * @param decoder the background executor to decode the tiles.
+     * @param publisher the executor to show the decoded tiles.
+     */
+    TileLayer(final Executor reader, final Executor decoder, final Executor publisher) {
+        this.reader = reader;
+        this.decoder = decoder;
+        this.publisher = publisher;
+        this.cache = new ImageCache<>(ImageBudget.TILES.capacity());
+        this.shown = new HashMap<>();
+        this.wanted = ConcurrentHashMap.newKeySet();
+        this.loading = new HashSet<>();
+        this.decoding = new HashSet<>();
+        this.probe = CompletableFuture.completedFuture(false);
+        this.setMouseTransparent(true);
+    }
+
+    /**
+     * Open the tiles of a picture.
+     * <p>
+     *     The tiles of the previous picture are released, and its pending
+     *     decodes are not shown. The picture header is read in the background
+     *     to find out whether the picture is tiled.
+     * </p>
+     *
+     * @param picture the picture, or {@code null} to only release the tiles.
+     */
+    void open(final Picture picture) {
+        var ticket = ++this.generation;
+        this.clear();
+        this.loading.clear();
+        this.decoding.clear();
+        this.cache.clear();
+        this.source = null;
+        this.pyramid = null;
+        if (picture == null) {
+            this.probe = CompletableFuture.completedFuture(false);
+        } else {
+            this.probe = CompletableFuture.supplyAsync(() -> probe(picture), this.reader)
+                .thenApplyAsync(src -> this.opened(ticket, src), this.publisher);
+        }
+    }
+
+    /**
+     * Run one of the actions once the opened picture is known to be tiled or
+     * not, on the JavaFX Application Thread.
+     * <p>
+     *     Neither action runs when another picture is opened meanwhile.
+     * </p>
+     *
+     * @param tiled the action when the picture is tiled.
+     * @param plain the action when the picture is not tiled.
+     */
+    void whenProbed(final Runnable tiled, final Runnable plain) {
+        var ticket = this.generation;
+        this.probe.thenAcceptAsync(result -> {
+            if (ticket == this.generation && result) {
+                tiled.run();
+            } else if (ticket == this.generation) {
+                plain.run();
+            }
+        }, this.publisher);
+    }
+
+    /**
+     * Check whether the opened picture is tiled or not.
+     *
+     * @return {@code true} if the opened picture is tiled.
+     */
+    boolean isTiled() {
+        return this.pyramid != null;
+    }
+
+    /**
+     * Show the tiles within the viewport.
+     *
+     * @param viewport the visible region on this layer coordinates.
+     * @param screenScale the screen pixels per this layer unit.
+     */
+    void update(final Bounds viewport, final double screenScale) {
+        var visible = new HashSet<Tile>();
+        if (this.pyramid != null && this.getWidth() > 0 && this.getHeight() > 0) {
+            var horizontal = this.pyramid.width() / this.getWidth();
+            var vertical = this.pyramid.height() / this.getHeight();
+            var level = this.pyramid.level(horizontal / screenScale);
+            var region = new Rectangle2D(
+                viewport.getMinX() * horizontal,
+                viewport.getMinY() * vertical,
+                viewport.getWidth() * horizontal,
+                viewport.getHeight() * vertical
+            );
+            visible.addAll(this.pyramid.tiles(level, region));
+        }
+        this.wanted.retainAll(visible);
+        this.wanted.addAll(visible);
+        this.shown.entrySet().removeIf(entry -> {
+            var hidden = !visible.contains(entry.getKey());
+            if (hidden) {
+                this.getChildren().remove(entry.getValue());
+            }
+            return hidden;
+        });
+        for (final var tile : visible) {
+            this.show(tile);
+        }
+    }
+
+    /**
+     * Hide every tile.
+     */
+    void clear() {
+        this.wanted.clear();
+        this.shown.clear();
+        this.getChildren().clear();
+    }
+
+    private static TileSource probe(final Picture picture) {
+        TileSource result = null;
+        try {
+            var src = TileSource.open(picture);
+            if (src.width() > TILED_SIDE || src.height() > TILED_SIDE) {
+                result = src;
+            }
+        } catch (final IOException ex) {
+            LOGGER.log(
+                Level.FINE,
+                "The picture can't be tiled. [pic={0}]",
+                new Object[]{picture.name()}
+            );
+        }
+        return result;
+    }
+
+    private boolean opened(final long ticket, final TileSource src) {
+        if (ticket == this.generation && src != null) {
+            this.source = src;
+            this.pyramid = new TilePyramid(src.width(), src.height());
+            LOGGER.log(
+                Level.FINE,
+                "Open the tiled picture. [width={0}, height={1}, levels={2}]",
+                new Object[]{src.width(), src.height(), this.pyramid.levels()}
+            );
+        }
+        return src != null;
+    }
+
+    private void show(final Tile tile) {
+        var view = this.shown.get(tile);
+        if (view == null) {
+            var img = this.cache.get(tile);
+            if (img == null) {
+                this.load(tile);
+            } else {
+                view = new ImageView(img);
+                view.setSmooth(true);
+                this.shown.put(tile, view);
+                this.getChildren().add(view);
+            }
+        }
+        if (view != null) {
+            this.place(view, tile);
+        }
+    }
+
+    private void place(final ImageView view, final Tile tile) {
+        var bounds = this.pyramid.bounds(tile);
+        var horizontal = this.getWidth() / this.pyramid.width();
+        var vertical = this.getHeight() / this.pyramid.height();
+        view.setX(bounds.getMinX() * horizontal);
+        view.setY(bounds.getMinY() * vertical);
+        view.setFitWidth(bounds.getWidth() * horizontal);
+        view.setFitHeight(bounds.getHeight() * vertical);
+    }
+
+    /**
+     * Load a tile, by the running pass of its level or a new one.
+     *
+     * @param tile the tile.
+     */
+    private void load(final Tile tile) {
+        var level = tile.level();
+        if (this.loading.add(tile) && this.decoding.add(level)) {
+            var pass = new LevelPass(this.generation, level);
+            try {
+                this.decoder.execute(TaskPriority.VISIBLE.task(pass));
+            } catch (final RejectedExecutionException ex) {
+                this.loading.remove(tile);
+                this.decoding.remove(level);
+            }
+        }
+    }
+
+    private void loaded(final long ticket, final Tile tile, final Image img) {
+        if (ticket == this.generation) {
+            this.loading.remove(tile);
+            if (img != null) {
+                this.cache.put(tile, img);
+            }
+            if (img != null && this.wanted.contains(tile)) {
+                this.show(tile);
+            }
+        }
+    }
+
+    /**
+     * The pass of a level is done, the wanted tiles of the level left behind
+     * by the pass are loaded again.
+     *
+     * @param ticket the opened picture ticket.
+     * @param level the pyramid level.
+     * @param complete {@code false} if the pass fails.
+     */
+    private void passed(final long ticket, final int level, final boolean complete) {
+        if (ticket == this.generation) {
+            this.decoding.remove(level);
+            this.loading.removeIf(tile -> tile.level() == level);
+            if (complete) {
+                for (final var tile : new ArrayList<>(this.wanted)) {
+                    if (tile.level() == level) {
+                        this.show(tile);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A sequential decode of the wanted tiles of a pyramid level.
+     */
+    private final class LevelPass implements Runnable {
+
+        private final long ticket;
+        private final TileSource src;
+        private final TilePyramid tiles;
+        private final int level;
+
+        LevelPass(final long ticket, final int level) {
+            this.ticket = ticket;
+            this.src = source;
+            this.tiles = pyramid;
+            this.level = level;
+        }
+
+        @Override
+        public void run() {
+            var done = new HashSet<Tile>();
+            var complete = true;
+            try (var pass = this.src.pass()) {
+                var band = this.band(done);
+                while (!band.isEmpty() && this.ticket == generation) {
+                    this.decode(pass, band);
+                    done.addAll(band);
+                    band = this.band(done);
+                }
+            } catch (final IOException ex) {
+                complete = false;
+                LOGGER.log(
+                    Level.FINE,
+                    "Fail to decode the picture tiles. [level={0}]",
+                    new Object[]{this.level}
+                );
+            }
+            var passed = complete;
+            publisher.execute(() -> passed(this.ticket, this.level, passed));
+        }
+
+        /**
+         * The wanted tiles of the topmost row which are not decoded yet.
+         *
+         * @param done the tiles decoded by this pass.
+         * @return the tiles of the row band, from the left, empty if there is
+         *         none.
+         */
+        private List<Tile> band(final Set<Tile> done) {
+            var pending = new ArrayList<Tile>();
+            for (final var tile : wanted) {
+                if (tile.level() == this.level && !done.contains(tile)
+                    && cache.peek(tile) == null) {
+                    pending.add(tile);
+                }
+            }
+            var top = pending.stream().mapToInt(Tile::row).min().orElse(-1);
+            pending.removeIf(tile -> tile.row() != top);
+            pending.sort(Comparator.comparingInt(Tile::column));
+            return pending;
+        }
+
+        /**
+         * Decode a row band at once, then split it into its tiles.
+         *
+         * @param pass the sequential pass over the picture.
+         * @param band the tiles of the row band, from the left.
+         * @throws IOException if fail to decode the picture.
+         */
+        private void decode(final TileSource.Pass pass, final List<Tile> band) throws IOException {
+            var first = this.tiles.bounds(band.get(0));
+            var last = this.tiles.bounds(band.get(band.size() - 1));
+            var region = new Rectangle2D(
+                first.getMinX(),
+                first.getMinY(),
+                last.getMaxX() - first.getMinX(),
+                first.getHeight()
+            );
+            var subsampling = 1 << this.level;
+            var img = pass.read(region, subsampling);
+            var pixels = img.getPixelReader();
+            for (final var tile : band) {
+                var bounds = this.tiles.bounds(tile);
+                var offset = (int) ((bounds.getMinX() - region.getMinX()) / subsampling);
+                var width = (int) Math.min(img.getWidth() - offset, TilePyramid.TILE_SIZE);
+                Image decoded = new WritableImage(
+                    pixels, offset, 0, width, (int) img.getHeight()
+                );
+                publisher.execute(() -> loaded(this.ticket, tile, decoded));
+            }
+        }
+
+    }
+
+}
@@ -20,9 +20,9 @@ package com.swardana.nayanika.gui.menu;
 
 import com.swardana.nayanika.base.FullScreen;
 import com.swardana.nayanika.base.Presentation;
-import com.swardana.nayanika.base.ThreadExecutor;
-import com.swardana.nayanika.base.gallery.Exhibition;
 import com.swardana.nayanika.base.gallery.SupportedPicture;
+import com.swardana.nayanika.base.slideshow.PlayOrder;
+import com.swardana.nayanika.base.slideshow.SlideOrder;
 import com.swardana.nayanika.command.OpenGallery;
 
 import java.io.File;
@@ -45,21 +45,19 @@ public abstract class GalleryMenuBehavior {
      *
      * @param view the toolbar view counter-part.
      * @param fullScreen the app full-screen window.
-     * @param exhibition the exhibition.
+     * @param openGallery the open gallery command, shared by the menus.
      * @param presentation the slide-show presentation.
      */
     public GalleryMenuBehavior(
         final GalleryMenuView view,
         final FullScreen fullScreen,
-        final Exhibition exhibition,
+        final OpenGallery openGallery,
         final Presentation presentation
     ) {
         this.view = view;
         this.fullScreen = fullScreen;
         this.presentation = presentation;
-        this.openGallery = new OpenGallery(
-            exhibition, ThreadExecutor.getInstance().executor()
-        );
+        this.openGallery = openGallery;
     }
 
     /**
@@ -182,11 +180,15 @@ public abstract class GalleryMenuBehavior {
     /**
      * Called by the view.
      * <p>
-     *     Handle operation to start slide presentation.
+     *     Handle operation to start slide presentation, unless there is no
+     *     next slide on the play order.
      * </p>
      */
     public final void onViewStartPresentation() {
-        if (this.view.gallery().isLast()) {
+        var gallery = this.view.gallery();
+        var index = gallery.index();
+        var next = this.presentation.order().sequence(index).ahead(index, gallery.size(), 1);
+        if (next == SlideOrder.END) {
             return;
         }
         if (!this.fullScreen.isFullScreen()) {
@@ -205,6 +207,18 @@ public abstract class GalleryMenuBehavior {
         this.presentation.stop();
     }
 
+    /**
+     * Called by the view.
+     * <p>
+     *     Handle operation to change the slide presentation play order.
+     * </p>
+     *
+     * @param order the new play order.
+     */
+    public final void onViewPresentationOrder(final PlayOrder order) {
+        this.presentation.order(order);
+    }
+
     /**
      * Handle when observable presentation subject changed.
      */
@@ -18,14 +18,16 @@
 
 package com.swardana.nayanika.gui.menu;
 
+import com.swardana.nayanika.command.OpenGallery;
+import com.swardana.nayanika.control.BrowserSubject;
 import com.swardana.nayanika.control.ExhibitionSubject;
 import com.swardana.nayanika.control.FullScreenSubject;
-import com.swardana.nayanika.control.GallerySubject;
 import com.swardana.nayanika.control.PresentationControl;
 import com.swardana.nayanika.control.PresentationSubject;
 import com.swardana.nayanika.control.ToolbarControl;
 import com.swardana.nayanika.control.ToolbarSubject;
 import com.swardana.nayanika.gui.menu.menubar.MenubarVisual;
+import com.swardana.nayanika.gui.menu.opening.OpeningVisual;
 import com.swardana.nayanika.gui.menu.toolbar.ToolbarVisual;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
@@ -34,6 +36,9 @@ import javafx.stage.Stage;
 
 /**
  * A menu visual.
+ * <p>
+ *     The gallery opening progress is shown below the menus.
+ * </p>
  *
  * @author Sukma Wardana
  */
@@ -41,10 +46,9 @@ public class MenuVisual extends VBox implements MenuView {
 
     private final MenubarVisual menubarVisual;
     private final ToolbarVisual toolbarVisual;
+    private final OpeningVisual openingVisual;
 
     private final MenuBehavior behavior;
-    private final ExhibitionSubject exhibitionSubject;
-    private final PresentationSubject presentationSubject;
     private final ToolbarSubject toolbarSubject;
 
     /**
@@ -53,18 +57,24 @@ public class MenuVisual extends VBox implements MenuView {
      * @param stage the primary stage.
      * @param fullScreenSubject the full-screen observable state control.
      * @param exhibitionSubject the exhibition observable state control.
+     * @param browserSubject the browser observable state control.
+     * @param openGallery the open gallery command shared by the menus.
      */
     public MenuVisual(
         final Stage stage,
         final FullScreenSubject fullScreenSubject,
-        final ExhibitionSubject exhibitionSubject
+        final ExhibitionSubject exhibitionSubject,
+        final BrowserSubject browserSubject,
+        final OpenGallery openGallery
     ) {
         this(
             stage,
             fullScreenSubject,
             exhibitionSubject,
+            browserSubject,
             new ToolbarControl(),
-            new PresentationControl()
+            new PresentationControl(),
+            openGallery
         );
     }
 
@@ -74,29 +84,34 @@ public class MenuVisual extends VBox implements MenuView {
      * @param stage the primary stage.
      * @param fullScreenSubject the full-screen observable state control.
      * @param exhibitionSubject the exhibition observable state control.
+     * @param browserSubject the browser observable state control.
      * @param toolbarSubject the toolbar observable state control.
      * @param presentationSubject the presentation observable state control.
+     * @param openGallery the open gallery command shared by the menus.
      */
     public MenuVisual(
         final Stage stage,
         final FullScreenSubject fullScreenSubject,
         final ExhibitionSubject exhibitionSubject,
+        final BrowserSubject browserSubject,
         final ToolbarSubject toolbarSubject,
-        final PresentationSubject presentationSubject
+        final PresentationSubject presentationSubject,
+        final OpenGallery openGallery
     ) {
         this.menubarVisual = new MenubarVisual(
             stage,
             fullScreenSubject,
             exhibitionSubject,
             presentationSubject,
-            toolbarSubject
+            toolbarSubject,
+            browserSubject,
+            openGallery
         );
         this.toolbarVisual = new ToolbarVisual(
-            stage, fullScreenSubject, exhibitionSubject, presentationSubject
+            stage, fullScreenSubject, exhibitionSubject, presentationSubject, openGallery
         );
+        this.openingVisual = new OpeningVisual(openGallery);
         this.behavior = new MenuBehavior(this, toolbarSubject);
-        this.exhibitionSubject = exhibitionSubject;
-        this.presentationSubject = presentationSubject;
         this.toolbarSubject = toolbarSubject;
 
         this.initGraphics();
@@ -105,17 +120,17 @@ public class MenuVisual extends VBox implements MenuView {
 
     @Override
     public final void showToolbar() {
-        this.getChildren().setAll(this.menubarVisual, this.toolbarVisual);
+        this.getChildren().setAll(this.menubarVisual, this.toolbarVisual, this.openingVisual);
     }
 
     @Override
     public final void hideToolbar() {
-        this.getChildren().setAll(this.menubarVisual);
+        this.getChildren().setAll(this.menubarVisual, this.openingVisual);
     }
 
     private void initGraphics() {
         this.setId("menu");
-        this.getChildren().setAll(this.menubarVisual, this.toolbarVisual);
+        this.getChildren().setAll(this.menubarVisual, this.toolbarVisual, this.openingVisual);
     }
 
     private void registerListeners() {
@@ -129,30 +144,6 @@ public class MenuVisual extends VBox implements MenuView {
                 behavior.onToolbarControlChange();
             }
         });
-        this.presentationSubject.runningProperty().addListener(new ChangeListener<Boolean>() {
-            @Override
-            public void changed(
-                final ObservableValue<? extends Boolean> observable,
-                final Boolean oldVal,
-                final Boolean newVal
-            ) {
-                stopSlideShowOnLastPicture();
-            }
-        });
-    }
-
-    /**
-     * Operation to stop presentation when picture gallery already on the last.
-     * <p>
-     *     This operation will listen to the active {@link GallerySubject} and
-     *     whenever the {@link GallerySubject#lastProperty()} is {@code true}
-     *     will call the {@link PresentationSubject#stop()}.
-     * </p>
-     */
-    private void stopSlideShowOnLastPicture() {
-        this.exhibitionSubject.galleryProperty().getValue()
-            .lastProperty()
-            .addListener((obv, old, val) -> this.presentationSubject.stop());
     }
 
 }
@@ -19,10 +19,11 @@
 package com.swardana.nayanika.gui.menu.menubar;
 
 import com.swardana.nayanika.I18N;
+import com.swardana.nayanika.base.Browser;
 import com.swardana.nayanika.base.FullScreen;
 import com.swardana.nayanika.base.Presentation;
 import com.swardana.nayanika.base.Toolbar;
-import com.swardana.nayanika.base.gallery.Exhibition;
+import com.swardana.nayanika.command.OpenGallery;
 import com.swardana.nayanika.gui.menu.GalleryMenuBehavior;
 
 import java.util.Locale;
@@ -40,26 +41,30 @@ class MenubarBehavior extends GalleryMenuBehavior {
 
     private final MenubarView view;
     private final Toolbar toolbar;
+    private final Browser browser;
 
     /**
      * Creates new MenubarBehavior.
      *
      * @param view the toolbar view counter part.
      * @param fullScreen the app full-screen window.
-     * @param exhibition the exhibition.
+     * @param openGallery the open gallery command.
      * @param presentation the slide-show presentation.
      * @param toolbar the toolbar menu.
+     * @param browser the thumbnail browser.
      */
     MenubarBehavior(
         final MenubarView view,
         final FullScreen fullScreen,
-        final Exhibition exhibition,
+        final OpenGallery openGallery,
         final Presentation presentation,
-        final Toolbar toolbar
+        final Toolbar toolbar,
+        final Browser browser
     ) {
-        super(view, fullScreen, exhibition, presentation);
+        super(view, fullScreen, openGallery, presentation);
         this.view = view;
         this.toolbar = toolbar;
+        this.browser = browser;
     }
 
     /**
@@ -71,6 +76,7 @@ class MenubarBehavior extends GalleryMenuBehavior {
     final void initView() {
         this.view.updateActiveLanguage("EN");
         this.view.updateToolbarVisibility(true);
+        this.view.updateBrowserLayout(this.browser.layout());
     }
 
     /**
@@ -93,6 +99,52 @@ class MenubarBehavior extends GalleryMenuBehavior {
         LOGGER.log(Level.INFO, "Successfully change the control toolbar state.");
     }
 
+    /**
+     * Called by the view.
+     * <p>
+     *     Handle when the thumbnail filmstrip visibility menu state is changed.
+     * </p>
+     */
+    final void onFilmstripVisibilityChange() {
+        if (this.view.isFilmstripVisible()) {
+            this.browser.showFilmstrip();
+        } else if (this.browser.layout() == Browser.Layout.FILMSTRIP) {
+            this.browser.hideBrowser();
+        }
+        LOGGER.log(
+            Level.FINE,
+            "The control browser state is changed. [layout={0}]",
+            new Object[]{this.browser.layout()}
+        );
+    }
+
+    /**
+     * Called by the view.
+     * <p>
+     *     Handle when the thumbnail grid visibility menu state is changed.
+     * </p>
+     */
+    final void onGridVisibilityChange() {
+        if (this.view.isGridVisible()) {
+            this.browser.showGrid();
+        } else if (this.browser.layout() == Browser.Layout.GRID) {
+            this.browser.hideBrowser();
+        }
+        LOGGER.log(
+            Level.FINE,
+            "The control browser state is changed. [layout={0}]",
+            new Object[]{this.browser.layout()}
+        );
+    }
+
+    /**
+     * Handle when the control browser layout changes, will affect the
+     * thumbnail browser menu state.
+     */
+    final void onBrowserControlChange() {
+        this.view.updateBrowserLayout(this.browser.layout());
+    }
+
     /**
      * Called by the view.
      * <p>
@@ -18,6 +18,7 @@
 
 package com.swardana.nayanika.gui.menu.menubar;
 
+import com.swardana.nayanika.base.Browser;
 import com.swardana.nayanika.gui.menu.GalleryMenuView;
 
 /**
@@ -41,6 +42,13 @@ public interface MenubarView extends GalleryMenuView {
      */
     void updateToolbarVisibility(boolean val);
 
+    /**
+     * Operation to update the thumbnail browser menu.
+     *
+     * @param layout the new thumbnail browser layout.
+     */
+    void updateBrowserLayout(Browser.Layout layout);
+
     /**
      * Operation to display setting dialog window.
      */
@@ -58,4 +66,18 @@ public interface MenubarView extends GalleryMenuView {
      */
     boolean isToolbarVisible();
 
+    /**
+     * The current thumbnail filmstrip visibility menu.
+     *
+     * @return {@code true} if the thumbnail filmstrip is display.
+     */
+    boolean isFilmstripVisible();
+
+    /**
+     * The current thumbnail grid visibility menu.
+     *
+     * @return {@code true} if the thumbnail grid is display.
+     */
+    boolean isGridVisible();
+
 }
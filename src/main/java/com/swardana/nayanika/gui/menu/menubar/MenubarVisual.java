@@ -20,8 +20,12 @@ package com.swardana.nayanika.gui.menu.menubar;
 
 import com.swardana.nayanika.AppPlatform;
 import com.swardana.nayanika.I18N;
+import com.swardana.nayanika.base.Browser;
 import com.swardana.nayanika.base.gallery.Gallery;
 import com.swardana.nayanika.base.gallery.SupportedPicture;
+import com.swardana.nayanika.base.slideshow.PlayOrder;
+import com.swardana.nayanika.command.OpenGallery;
+import com.swardana.nayanika.control.BrowserSubject;
 import com.swardana.nayanika.control.ExhibitionSubject;
 import com.swardana.nayanika.control.FullScreenSubject;
 import com.swardana.nayanika.control.GallerySubject;
@@ -38,7 +42,9 @@ import javafx.scene.control.ChoiceDialog;
 import javafx.scene.control.Menu;
 import javafx.scene.control.MenuBar;
 import javafx.scene.control.MenuItem;
+import javafx.scene.control.RadioMenuItem;
 import javafx.scene.control.SeparatorMenuItem;
+import javafx.scene.control.ToggleGroup;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCodeCombination;
 import javafx.scene.input.KeyCombination;
@@ -48,11 +54,12 @@ import javafx.stage.Stage;
 
 import java.io.File;
 import java.util.Arrays;
+import java.util.Locale;
 
 public class MenubarVisual extends MenuBar implements MenubarView {
 
-    private static final int MENU_SCREEN_INDEX = 2;
-    private static final int MENU_SLIDE_INDEX = 3;
+    private static final int MENU_SCREEN_INDEX = 4;
+    private static final int MENU_SLIDE_INDEX = 5;
 
     private static final KeyCombination.Modifier MODIFIER;
     private static final SupportedPicture PICTURE_FILTER = SupportedPicture.ALL;
@@ -75,10 +82,14 @@ public class MenubarVisual extends MenuBar implements MenubarView {
     // View Menu
     private final Menu viewMenu = new Menu();
     private final CheckMenuItem toolBarCheckMenu = new CheckMenuItem();
+    private final CheckMenuItem filmstripCheckMenu = new CheckMenuItem();
+    private final CheckMenuItem gridCheckMenu = new CheckMenuItem();
     private final MenuItem enterFullScreen = new MenuItem();
     private final MenuItem exitFullScreen = new MenuItem();
     private final MenuItem startSlideShow = new MenuItem();
     private final MenuItem stopSlideShow = new MenuItem();
+    private final Menu slideShowOrder = new Menu();
+    private final ToggleGroup slideShowOrderGroup = new ToggleGroup();
 
     // Setting Menu
     private final Menu settingMenu = new Menu();
@@ -91,11 +102,12 @@ public class MenubarVisual extends MenuBar implements MenubarView {
     private final Menu helpMenu = new Menu();
     private final MenuItem about = new MenuItem();
 
-    private final AboutVisual aboutVisual;
+    private AboutVisual aboutVisual;
 
     private final FullScreenSubject fullScreenSubject;
     private final ExhibitionSubject exhibitionSubject;
     private final PresentationSubject presentationSubject;
+    private final BrowserSubject browserSubject;
     private final MenubarBehavior behavior;
 
     private double time;
@@ -189,6 +201,28 @@ public class MenubarVisual extends MenuBar implements MenubarView {
         }
     };
 
+    private final ChangeListener<Boolean> filmstripListen = new ChangeListener<Boolean>() {
+        @Override
+        public void changed(
+            final ObservableValue<? extends Boolean> observable,
+            final Boolean oldVal,
+            final Boolean newVal
+        ) {
+            behavior.onFilmstripVisibilityChange();
+        }
+    };
+
+    private final ChangeListener<Boolean> gridListen = new ChangeListener<Boolean>() {
+        @Override
+        public void changed(
+            final ObservableValue<? extends Boolean> observable,
+            final Boolean oldVal,
+            final Boolean newVal
+        ) {
+            behavior.onGridVisibilityChange();
+        }
+    };
+
     static {
         if (AppPlatform.IS_MAC) {
             MODIFIER = KeyCombination.META_DOWN;
@@ -206,23 +240,31 @@ public class MenubarVisual extends MenuBar implements MenubarView {
      * @param exhibitionSubject the exhibition observable subject.
      * @param presentationSubject the presentation observable subject.
      * @param toolbarSubject the toolbar observable subject.
+     * @param browserSubject the browser observable subject.
+     * @param openGallery the open gallery command.
      */
     public MenubarVisual(
         final Stage stage,
         final FullScreenSubject fullScreenSubject,
         final ExhibitionSubject exhibitionSubject,
         final PresentationSubject presentationSubject,
-        final ToolbarSubject toolbarSubject
+        final ToolbarSubject toolbarSubject,
+        final BrowserSubject browserSubject,
+        final OpenGallery openGallery
     ) {
         this.owner = stage;
 
-        this.aboutVisual = new AboutVisual();
-
         this.fullScreenSubject = fullScreenSubject;
         this.exhibitionSubject = exhibitionSubject;
         this.presentationSubject = presentationSubject;
+        this.browserSubject = browserSubject;
         this.behavior = new MenubarBehavior(
-            this, fullScreenSubject, exhibitionSubject, presentationSubject, toolbarSubject
+            this,
+            fullScreenSubject,
+            openGallery,
+            presentationSubject,
+            toolbarSubject,
+            browserSubject
         );
         this.time = 8.0;
 
@@ -280,6 +322,12 @@ public class MenubarVisual extends MenuBar implements MenubarView {
         this.toolBarCheckMenu.setSelected(val);
     }
 
+    @Override
+    public final void updateBrowserLayout(final Browser.Layout layout) {
+        this.filmstripCheckMenu.setSelected(layout == Browser.Layout.FILMSTRIP);
+        this.gridCheckMenu.setSelected(layout == Browser.Layout.GRID);
+    }
+
     @Override
     public final void showSettingDialog() {
         var choices = Arrays.asList(
@@ -301,6 +349,10 @@ public class MenubarVisual extends MenuBar implements MenubarView {
 
     @Override
     public final void showAboutDialog() {
+        // the about dialog is rarely used, created once it is requested.
+        if (this.aboutVisual == null) {
+            this.aboutVisual = new AboutVisual();
+        }
         this.aboutVisual.showAbout();
     }
 
@@ -309,6 +361,16 @@ public class MenubarVisual extends MenuBar implements MenubarView {
         return this.toolBarCheckMenu.isSelected();
     }
 
+    @Override
+    public final boolean isFilmstripVisible() {
+        return this.filmstripCheckMenu.isSelected();
+    }
+
+    @Override
+    public final boolean isGridVisible() {
+        return this.gridCheckMenu.isSelected();
+    }
+
     @Override
     public final Gallery gallery() {
         return this.exhibitionSubject.galleryProperty().getValue();
@@ -398,6 +460,10 @@ public class MenubarVisual extends MenuBar implements MenubarView {
     private void initViewMenuGraphics() {
         this.toolBarCheckMenu.textProperty()
             .bind(I18N.INSTANCE.bind("menu.title.view.toolbar"));
+        this.filmstripCheckMenu.textProperty()
+            .bind(I18N.INSTANCE.bind("menu.title.view.filmstrip"));
+        this.gridCheckMenu.textProperty()
+            .bind(I18N.INSTANCE.bind("menu.title.view.grid"));
         this.enterFullScreen.textProperty()
             .bind(I18N.INSTANCE.bind("menu.title.view.enterFullScreen"));
         this.exitFullScreen.textProperty()
@@ -410,10 +476,29 @@ public class MenubarVisual extends MenuBar implements MenubarView {
 
         this.viewMenu.getItems().setAll(
             this.toolBarCheckMenu,
+            this.filmstripCheckMenu,
+            this.gridCheckMenu,
             new SeparatorMenuItem(),
             this.enterFullScreen,
-            this.startSlideShow
+            this.startSlideShow,
+            this.slideShowOrder
         );
+        this.initSlideShowOrderGraphics();
+    }
+
+    private void initSlideShowOrderGraphics() {
+        this.slideShowOrder.textProperty()
+            .bind(I18N.INSTANCE.bind("menu.title.view.slideShowOrder"));
+        for (final var order : PlayOrder.values()) {
+            var item = new RadioMenuItem();
+            item.textProperty().bind(I18N.INSTANCE.bind(
+                "menu.title.view.slideShowOrder." + order.name().toLowerCase(Locale.ROOT)
+            ));
+            item.setToggleGroup(this.slideShowOrderGroup);
+            item.setSelected(order == this.presentationSubject.order());
+            item.setOnAction(event -> this.behavior.onViewPresentationOrder(order));
+            this.slideShowOrder.getItems().add(item);
+        }
     }
 
     private void initSettingMenuGraphics() {
@@ -472,6 +557,16 @@ public class MenubarVisual extends MenuBar implements MenubarView {
                 behavior.onPresentationControlChange();
             }
         });
+        this.browserSubject.layoutProperty().addListener(new ChangeListener<Browser.Layout>() {
+            @Override
+            public void changed(
+                final ObservableValue<? extends Browser.Layout> observable,
+                final Browser.Layout oldLayout,
+                final Browser.Layout newLayout
+            ) {
+                behavior.onBrowserControlChange();
+            }
+        });
         this.exhibitionSubject.galleryProperty().addListener(new ChangeListener<GallerySubject>() {
             @Override
             public void changed(
@@ -479,11 +574,18 @@ public class MenubarVisual extends MenuBar implements MenubarView {
                 final GallerySubject oldGallery,
                 final GallerySubject newGallery
             ) {
-                behavior.onPictureGalleryChange();
-                presentationSubject.gallery(newGallery);
-                bindGalleryNavigationControl(newGallery);
+                handleExhibitionChange(newGallery);
             }
         });
+        if (this.exhibitionSubject.galleryProperty().getValue() != null) {
+            this.handleExhibitionChange(this.exhibitionSubject.galleryProperty().getValue());
+        }
+    }
+
+    private void handleExhibitionChange(final GallerySubject subject) {
+        this.behavior.onPictureGalleryChange();
+        this.presentationSubject.gallery(subject);
+        this.bindGalleryNavigationControl(subject);
     }
 
     private void bindGalleryNavigationControl(final GallerySubject subject) {
@@ -516,6 +618,10 @@ public class MenubarVisual extends MenuBar implements MenubarView {
 
     private void registerViewMenuListeners() {
         this.toolBarCheckMenu.selectedProperty().addListener(this.toolbarListen);
+        this.filmstripCheckMenu.setAccelerator(new KeyCodeCombination(KeyCode.B, MODIFIER));
+        this.filmstripCheckMenu.selectedProperty().addListener(this.filmstripListen);
+        this.gridCheckMenu.setAccelerator(new KeyCodeCombination(KeyCode.G, MODIFIER));
+        this.gridCheckMenu.selectedProperty().addListener(this.gridListen);
         this.enterFullScreen.setOnAction(this.fullScreenAction);
         this.exitFullScreen.setOnAction(this.exitFullScreenAction);
         this.startSlideShow.setOnAction(this.startSlideAction);
@@ -0,0 +1,73 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.gui.menu.opening;
+
+import com.swardana.nayanika.command.OpenGallery;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A behavior of {@link OpeningView}.
+ *
+ * @author Sukma Wardana
+ */
+class OpeningBehavior {
+
+    private static final Logger LOGGER = Logger.getLogger(OpeningBehavior.class.getName());
+
+    private final OpeningView view;
+    private final OpenGallery openGallery;
+
+    /**
+     * Creates new OpeningBehavior.
+     *
+     * @param view the opening view counter part.
+     * @param openGallery the open gallery command.
+     */
+    OpeningBehavior(final OpeningView view, final OpenGallery openGallery) {
+        this.view = view;
+        this.openGallery = openGallery;
+    }
+
+    /**
+     * Called by the view.
+     * <p>
+     *     Handle when the gallery opening state or its progress changes.
+     * </p>
+     */
+    final void onOpeningChange() {
+        if (this.openGallery.openingProperty().get()) {
+            this.view.showOpening(this.openGallery.scannedProperty().get());
+        } else {
+            this.view.hideOpening();
+        }
+    }
+
+    /**
+     * Called by the view.
+     * <p>
+     *     Handle when the gallery opening is cancelled by the user.
+     * </p>
+     */
+    final void onOpeningCancel() {
+        this.openGallery.cancel();
+        LOGGER.log(Level.INFO, "Cancel the gallery opening.");
+    }
+
+}
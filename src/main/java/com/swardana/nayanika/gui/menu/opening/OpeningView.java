@@ -0,0 +1,39 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.gui.menu.opening;
+
+/**
+ * A view contract for gallery opening progress visual.
+ *
+ * @author Sukma Wardana
+ */
+public interface OpeningView {
+
+    /**
+     * Operation to display the gallery opening progress.
+     *
+     * @param scanned the number of pictures found so far.
+     */
+    void showOpening(int scanned);
+
+    /**
+     * Operation to hide the gallery opening progress.
+     */
+    void hideOpening();
+
+}
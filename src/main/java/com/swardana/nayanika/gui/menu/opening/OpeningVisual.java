@@ -0,0 +1,117 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.gui.menu.opening;
+
+import com.swardana.nayanika.I18N;
+import com.swardana.nayanika.command.OpenGallery;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.HBox;
+
+/**
+ * A gallery opening progress visual.
+ * <p>
+ *     Show the number of pictures found while a gallery is being opened,
+ *     along with the button to cancel the opening.
+ * </p>
+ *
+ * @author Sukma Wardana
+ */
+public class OpeningVisual extends HBox implements OpeningView {
+
+    private final Label openingLabel;
+    private final Button openingCancel;
+
+    private final OpeningBehavior behavior;
+    private final OpenGallery openGallery;
+
+    /**
+     * Creates new OpeningVisual.
+     *
+     * @param openGallery the open gallery command shared by the menus.
+     */
+    public OpeningVisual(final OpenGallery openGallery) {
+        this.openingLabel = new Label();
+        this.openingCancel = new Button();
+        this.openGallery = openGallery;
+        this.behavior = new OpeningBehavior(this, openGallery);
+
+        this.initGraphics();
+        this.registerListeners();
+    }
+
+    @Override
+    public final void showOpening(final int scanned) {
+        this.openingLabel.textProperty().bind(I18N.INSTANCE.bind("label.opening", scanned));
+        this.setVisible(true);
+        this.setManaged(true);
+    }
+
+    @Override
+    public final void hideOpening() {
+        this.setVisible(false);
+        this.setManaged(false);
+    }
+
+    private void initGraphics() {
+        var progress = new ProgressBar(ProgressBar.INDETERMINATE_PROGRESS);
+        this.openingCancel.textProperty().bind(I18N.INSTANCE.bind("label.cancel"));
+        this.setId("opening");
+        this.setAlignment(Pos.CENTER_LEFT);
+        this.setSpacing(8.0);
+        this.getChildren().setAll(progress, this.openingLabel, this.openingCancel);
+        this.hideOpening();
+    }
+
+    private void registerListeners() {
+        this.openingCancel.setOnAction(new EventHandler<ActionEvent>() {
+            @Override
+            public void handle(final ActionEvent event) {
+                behavior.onOpeningCancel();
+            }
+        });
+        this.openGallery.openingProperty().addListener(new ChangeListener<Boolean>() {
+            @Override
+            public void changed(
+                final ObservableValue<? extends Boolean> observable,
+                final Boolean oldVal,
+                final Boolean newVal
+            ) {
+                behavior.onOpeningChange();
+            }
+        });
+        this.openGallery.scannedProperty().addListener(new ChangeListener<Number>() {
+            @Override
+            public void changed(
+                final ObservableValue<? extends Number> observable,
+                final Number oldVal,
+                final Number newVal
+            ) {
+                behavior.onOpeningChange();
+            }
+        });
+        this.behavior.onOpeningChange();
+    }
+
+}
@@ -20,7 +20,7 @@ package com.swardana.nayanika.gui.menu.toolbar;
 
 import com.swardana.nayanika.base.FullScreen;
 import com.swardana.nayanika.base.Presentation;
-import com.swardana.nayanika.base.gallery.Exhibition;
+import com.swardana.nayanika.command.OpenGallery;
 import com.swardana.nayanika.gui.menu.GalleryMenuBehavior;
 
 /**
@@ -35,16 +35,16 @@ class ToolbarBehavior extends GalleryMenuBehavior {
      *
      * @param view the toolbar view counter part.
      * @param fullScreen the app full-screen window.
-     * @param exhibition the exhibition.
+     * @param openGallery the open gallery command.
      * @param presentation the slide-show presentation.
      */
     ToolbarBehavior(
         final ToolbarView view,
         final FullScreen fullScreen,
-        final Exhibition exhibition,
+        final OpenGallery openGallery,
         final Presentation presentation
     ) {
-        super(view, fullScreen, exhibition, presentation);
+        super(view, fullScreen, openGallery, presentation);
     }
 
 }
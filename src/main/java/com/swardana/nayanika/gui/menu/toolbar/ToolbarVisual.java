@@ -22,6 +22,7 @@ import com.swardana.mangata.metro.MetroIconFont;
 import com.swardana.mangata.metro.MetroIcon;
 import com.swardana.nayanika.base.gallery.Gallery;
 import com.swardana.nayanika.base.gallery.SupportedPicture;
+import com.swardana.nayanika.command.OpenGallery;
 import com.swardana.nayanika.control.ExhibitionSubject;
 import com.swardana.nayanika.control.FullScreenSubject;
 import com.swardana.nayanika.control.GallerySubject;
@@ -143,12 +144,14 @@ public class ToolbarVisual extends ToolBar implements ToolbarView {
      * @param fullScreenSubject the full-screen observable subject.
      * @param exhibitionSubject the exhibition observable subject.
      * @param presentationSubject the presentation observable subject.
+     * @param openGallery the open gallery command.
      */
     public ToolbarVisual(
         final Stage stage,
         final FullScreenSubject fullScreenSubject,
         final ExhibitionSubject exhibitionSubject,
-        final PresentationSubject presentationSubject
+        final PresentationSubject presentationSubject,
+        final OpenGallery openGallery
     ) {
         this.owner = stage;
         this.openPictureBtn = new Button();
@@ -165,7 +168,7 @@ public class ToolbarVisual extends ToolBar implements ToolbarView {
         this.presentationSubject = presentationSubject;
         this.exhibitionSubject = exhibitionSubject;
         this.behavior = new ToolbarBehavior(
-            this, fullScreenSubject, exhibitionSubject, presentationSubject
+            this, fullScreenSubject, openGallery, presentationSubject
         );
 
         this.initGraphics();
@@ -303,11 +306,18 @@ public class ToolbarVisual extends ToolBar implements ToolbarView {
                 final GallerySubject oldGallery,
                 final GallerySubject newGallery
             ) {
-                behavior.onPictureGalleryChange();
-                presentationSubject.gallery(newGallery);
-                bindGalleryNavigationControl(newGallery);
+                handleExhibitionChange(newGallery);
             }
         });
+        if (this.exhibitionSubject.galleryProperty().getValue() != null) {
+            this.handleExhibitionChange(this.exhibitionSubject.galleryProperty().getValue());
+        }
+    }
+
+    private void handleExhibitionChange(final GallerySubject subject) {
+        this.behavior.onPictureGalleryChange();
+        this.presentationSubject.gallery(subject);
+        this.bindGalleryNavigationControl(subject);
     }
 
     private void bindGalleryNavigationControl(final GallerySubject subject) {
@@ -25,6 +25,7 @@ module com.swardana.nayanika {
 
     requires java.base;
     requires java.logging;
+    requires java.desktop;
 
     requires javafx.base;
     requires javafx.controls;
@@ -0,0 +1,121 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit test for {@link TaskPool}.
+ *
+ * @author Sukma Wardana
+ */
+class TaskPoolTest {
+
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private final List<String> ran = new CopyOnWriteArrayList<>();
+
+    private TaskPool pool;
+
+    @AfterEach
+    public void tearDown() {
+        this.blocked.countDown();
+        this.pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Test run the visible task before the background tasks")
+    public void testRunVisibleTaskBeforeBackgroundTasks() throws InterruptedException {
+        this.pool = TaskPool.priority("test", 1, 8);
+        this.pool.execute(this::block);
+        this.pool.execute(TaskPriority.BACKGROUND.task(() -> this.ran.add("first")));
+        this.pool.execute(TaskPriority.BACKGROUND.task(() -> this.ran.add("second")));
+        this.pool.execute(TaskPriority.VISIBLE.task(() -> this.ran.add("visible")));
+        this.finish();
+
+        assertThat(this.ran).containsExactly("visible", "first", "second");
+    }
+
+    @Test
+    @DisplayName("Test run the most recently submitted task first")
+    public void testRunMostRecentlySubmittedTaskFirst() throws InterruptedException {
+        this.pool = TaskPool.lifo("test", 1, 8);
+        this.pool.execute(this::block);
+        this.pool.execute(() -> this.ran.add("first"));
+        this.pool.execute(() -> this.ran.add("second"));
+        this.finish();
+
+        assertThat(this.ran).containsExactly("second", "first");
+    }
+
+    @Test
+    @DisplayName("Test reject the task submitted to a full pool")
+    public void testRejectTaskSubmittedToFullPool() throws InterruptedException {
+        this.pool = TaskPool.fifo("test", 1, 1);
+        this.pool.execute(this::block);
+        this.pool.execute(() -> this.ran.add("queued"));
+
+        assertThatThrownBy(() -> this.pool.execute(() -> this.ran.add("rejected")))
+            .isInstanceOf(RejectedExecutionException.class);
+        assertThat(this.pool.rejected()).isEqualTo(1);
+        assertThat(this.pool.queued()).isEqualTo(1);
+        this.finish();
+        assertThat(this.ran).containsExactly("queued");
+    }
+
+    @Test
+    @DisplayName("Test measure the finished tasks")
+    public void testMeasureFinishedTasks() throws InterruptedException {
+        this.pool = TaskPool.fifo("test", 1, 8);
+        this.pool.execute(this::block);
+        this.pool.execute(() -> this.ran.add("queued"));
+        Thread.sleep(20);
+        this.finish();
+
+        assertThat(this.pool.getCompletedTaskCount()).isEqualTo(2);
+        assertThat(this.pool.averageWait()).isPositive();
+        assertThat(this.pool.averageRun()).isPositive();
+        assertThat(this.pool.toString()).startsWith("test[").contains("completed=2");
+    }
+
+    private void block() {
+        try {
+            this.blocked.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void finish() throws InterruptedException {
+        this.blocked.countDown();
+        this.pool.shutdown();
+        assertThat(this.pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+}
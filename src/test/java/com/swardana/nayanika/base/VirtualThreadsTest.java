@@ -0,0 +1,56 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Unit test for {@link VirtualThreads}.
+ *
+ * @author Sukma Wardana
+ */
+class VirtualThreadsTest {
+
+    @Test
+    @DisplayName("Test virtual threads are not available before Java 19")
+    public void testNotAvailableOnOlderJava() {
+        if (Runtime.version().feature() < 19) {
+            assertThat(VirtualThreads.available()).isFalse();
+            assertThat(VirtualThreads.executor()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Test run the task on the virtual thread executor when available")
+    public void testRunTaskOnVirtualThreadExecutor() {
+        var executor = VirtualThreads.executor();
+        assertThat(executor != null).isEqualTo(VirtualThreads.available());
+        if (executor != null) {
+            var actual = CompletableFuture.supplyAsync(() -> "done", executor).join();
+            executor.shutdown();
+            assertThat(actual).isEqualTo("done");
+        }
+    }
+
+}
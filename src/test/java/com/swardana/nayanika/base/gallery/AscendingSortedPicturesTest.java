@@ -125,8 +125,75 @@ class AscendingSortedPicturesTest {
             .isNotEmpty()
             .hasSize(3)
             .extracting(Picture::name)
-            .containsExactly("BXS-001", "02.jpg", "XY-003")
+            .containsExactly("02.jpg", "BXS-001", "XY-003")
             .doesNotContainNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Test sort pictures ascending when name has numbered chunks")
+    public void testSortPictureAscendingWhenPictureNameHasNumberedChunks() {
+        var pictures = new ArrayList<Picture>();
+        pictures.add(
+            new StaticPicture("img10.jpg", new File("foo/img10.jpg"))
+        );
+        pictures.add(
+            new StaticPicture("IMG2.jpg", new File("foo/IMG2.jpg"))
+        );
+        pictures.add(
+            new StaticPicture("img02.jpg", new File("foo/img02.jpg"))
+        );
+        pictures.add(
+            new StaticPicture("img1.jpg", new File("foo/img1.jpg"))
+        );
+
+        var actual = new AscendingSortedPictures(pictures).sorted();
+
+        assertThat(actual)
+            .extracting(Picture::name)
+            .containsExactly("img1.jpg", "IMG2.jpg", "img02.jpg", "img10.jpg");
+    }
+
+    @Test
+    @DisplayName("Test sort pictures ascending when name has a number longer than a long")
+    public void testSortPictureAscendingWhenPictureNameHasLongNumber() {
+        var pictures = new ArrayList<Picture>();
+        pictures.add(
+            new StaticPicture("scan-100000000000000000000", new File("foo/a.png"))
+        );
+        pictures.add(
+            new StaticPicture("scan-99999999999999999999", new File("foo/b.png"))
+        );
+        pictures.add(
+            new StaticPicture("scan-0000000000000000000000001", new File("foo/c.png"))
+        );
+
+        var actual = new AscendingSortedPictures(pictures).sorted();
+
+        assertThat(actual)
+            .extracting(Picture::name)
+            .containsExactly(
+                "scan-0000000000000000000000001",
+                "scan-99999999999999999999",
+                "scan-100000000000000000000"
+            );
+    }
+
+    @Test
+    @DisplayName("Test the order agrees with the sorted pictures")
+    public void testOrderAgreesWithSortedPictures() {
+        var pictures = new ArrayList<Picture>();
+        pictures.add(
+            new StaticPicture("img10.jpg", new File("foo/img10.jpg"))
+        );
+        pictures.add(
+            new StaticPicture("img9.jpg", new File("foo/img9.jpg"))
+        );
+        var sorted = new AscendingSortedPictures(pictures);
+
+        var actual = new ArrayList<>(pictures);
+        actual.sort(sorted.order());
+
+        assertThat(actual).containsExactlyElementsOf(sorted.sorted());
+    }
+
+}
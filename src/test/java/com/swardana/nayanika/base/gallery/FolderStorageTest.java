@@ -24,6 +24,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 
 /**
  * Unit test for {@link FolderStorage}.
@@ -62,4 +63,13 @@ class FolderStorageTest {
         assertThat(actual).isNotEmpty().hasSize(expected);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Test search supported picture in given folder in batches")
+    public void testSearchSupportedMediaPictureFormatInBatches() {
+        var path = Paths.get(FOLDER);
+        var actual = new ArrayList<Integer>();
+        new FolderStorage(path, 3).search(SupportedPicture.ALL, batch -> actual.add(batch.size()));
+        assertThat(actual).containsExactly(3, 1);
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.base.gallery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit test for {@link FolderWatch}.
+ *
+ * @author Sukma Wardana
+ */
+class FolderWatchTest {
+
+    private Path folder;
+    private Gallery gallery;
+    private FolderWatch watch;
+    private CompletableFuture<Void> watching;
+
+    @BeforeEach
+    public void setup(@TempDir final Path dir) throws IOException {
+        this.folder = dir;
+        this.gallery = mock(Gallery.class);
+        this.watch = new FolderWatch(dir, SupportedPicture.ALL);
+        this.watching = CompletableFuture.runAsync(() -> this.watch.watch(this.gallery));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.watch.close();
+    }
+
+    @Test
+    @DisplayName("Test merge the created pictures into the gallery")
+    public void testMergeCreatedPictures() throws IOException {
+        Files.createFile(this.folder.resolve("02.jpg"));
+        Files.createFile(this.folder.resolve("01.png"));
+        Files.createFile(this.folder.resolve("notes.txt"));
+
+        verify(this.gallery, timeout(5000)).merge(
+            argThat(list -> list.size() == 2 && "01.png".equals(list.get(0).name())),
+            any()
+        );
+        verify(this.gallery, never()).remove(any());
+    }
+
+    @Test
+    @DisplayName("Test remove the deleted pictures from the gallery")
+    public void testRemoveDeletedPictures() throws IOException {
+        var known = Files.createFile(this.folder.resolve("01.jpg"));
+        this.watch.found(
+            List.of(
+                new StaticPicture("01.jpg", known.toFile()),
+                new StaticPicture("other.jpg", new File("other/other.jpg"))
+            )
+        );
+
+        Files.delete(known);
+
+        verify(this.gallery, timeout(5000)).remove(
+            argThat(list -> list.size() == 1 && known.equals(list.get(0).path()))
+        );
+        verify(this.gallery, never()).merge(any(), any());
+    }
+
+    @Test
+    @DisplayName("Test stop watching when closed")
+    public void testStopWatchingWhenClosed() throws Exception {
+        this.watch.close();
+
+        this.watching.get(5, TimeUnit.SECONDS);
+
+        assertThat(this.watching).isDone();
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.base.gallery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Unit test for {@link MappedPicture}.
+ *
+ * @author Sukma Wardana
+ */
+class MappedPictureTest {
+
+    @Test
+    @DisplayName("Test read small picture byte data from MappedPicture")
+    public void testReadSmallPicture(final @TempDir Path temp) throws IOException {
+        var expected = bytes(4096);
+        var img = Files.write(temp.resolve("panorama.jpg"), expected);
+        var picture = new MappedPicture("panorama.jpg", img);
+        try (var stream = picture.read()) {
+            assertThat(stream.readAllBytes()).isEqualTo(expected);
+        }
+        var buffer = picture.buffer();
+        assertThat(buffer.isReadOnly()).isTrue();
+        assertThat(buffer).isEqualTo(ByteBuffer.wrap(expected));
+    }
+
+    @Test
+    @DisplayName("Test the same picture file opened again is an equal picture")
+    public void testSamePictureFileIsEqualPicture(final @TempDir Path temp) {
+        var picture = new MappedPicture("panorama.jpg", temp.resolve("panorama.jpg"));
+        var reopened = new MappedPicture(
+            "panorama.jpg", temp.resolve("album").resolve("..").resolve("panorama.jpg")
+        );
+
+        assertThat(reopened).isEqualTo(picture).hasSameHashCodeAs(picture);
+        assertThat(new MappedPicture("portrait.jpg", temp.resolve("portrait.jpg")))
+            .isNotEqualTo(picture);
+    }
+
+    @Test
+    @DisplayName("Test read mapped picture byte data from MappedPicture")
+    public void testReadMappedPicture(final @TempDir Path temp) throws IOException {
+        var expected = bytes(3 << 20);
+        var img = Files.write(temp.resolve("panorama.jpg"), expected);
+        var picture = new MappedPicture("panorama.jpg", img);
+        var buffer = picture.buffer();
+        assertThat(buffer.isDirect()).isTrue();
+        assertThat(buffer.isReadOnly()).isTrue();
+        assertThat(buffer).isEqualTo(ByteBuffer.wrap(expected));
+        try (var stream = picture.read()) {
+            assertThat(stream.readAllBytes()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Test skip and reset the picture byte data stream of MappedPicture")
+    public void testSkipAndResetStream(final @TempDir Path temp) throws IOException {
+        var expected = bytes(64);
+        var img = Files.write(temp.resolve("panorama.jpg"), expected);
+        var picture = new MappedPicture("panorama.jpg", img);
+        try (var stream = picture.read()) {
+            assertThat(stream.skip(10)).isEqualTo(10);
+            stream.mark(64);
+            assertThat(stream.read()).isEqualTo(expected[10] & 0xFF);
+            stream.reset();
+            assertThat(stream.available()).isEqualTo(54);
+            assertThat(stream.skip(100)).isEqualTo(54);
+            assertThat(stream.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    @DisplayName("Test throw exception when fail read picture byte data from MappedPicture")
+    public void testThrowExceptionWhenPictureIsNotExist(final @TempDir Path temp) {
+        var img = temp.resolve("panorama.jpg");
+        var picture = new MappedPicture("panorama.jpg", img);
+        assertThat(picture.name()).isEqualTo("panorama.jpg");
+        assertThat(picture.path()).isEqualTo(img);
+        assertThatThrownBy(() -> picture.read()).isInstanceOf(IOException.class);
+    }
+
+    private static byte[] bytes(final int size) {
+        var result = new byte[size];
+        new Random(size).nextBytes(result);
+        return result;
+    }
+
+}
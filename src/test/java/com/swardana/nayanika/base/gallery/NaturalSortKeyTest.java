@@ -0,0 +1,59 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.base.gallery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link NaturalSortKey}.
+ *
+ * @author Sukma Wardana
+ */
+class NaturalSortKeyTest {
+
+    @Test
+    @DisplayName("Test compare the digit runs by their numeric value")
+    public void testCompareDigitRunsByNumericValue() {
+        assertThat(new NaturalSortKey("a2b")).isLessThan(new NaturalSortKey("a10b"));
+        assertThat(new NaturalSortKey("a010")).isGreaterThan(new NaturalSortKey("a9"));
+    }
+
+    @Test
+    @DisplayName("Test compare the digit run before the text run")
+    public void testCompareDigitRunBeforeTextRun() {
+        assertThat(new NaturalSortKey("1z")).isLessThan(new NaturalSortKey("a"));
+        assertThat(new NaturalSortKey("a1")).isLessThan(new NaturalSortKey("a-"));
+    }
+
+    @Test
+    @DisplayName("Test compare the equal numbers and letter case by the name as is")
+    public void testCompareTieByName() {
+        var zeros = new NaturalSortKey("01");
+        var plain = new NaturalSortKey("1");
+
+        assertThat(zeros).isLessThan(plain);
+        assertThat(new NaturalSortKey("A")).isLessThan(new NaturalSortKey("a"));
+        assertThat(new NaturalSortKey("")).isLessThan(new NaturalSortKey("0"));
+        assertThat(zeros.compareTo(new NaturalSortKey("01"))).isZero();
+    }
+
+}
@@ -20,6 +20,8 @@ package com.swardana.nayanika.base.gallery;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -195,4 +197,154 @@ class PictureGalleryTest {
         );
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Test get picture position and picture at position")
+    public void testPicturePositionOnGallery() {
+        var gallery = new PictureGallery("foo", this.pictures);
+        gallery.current(this.pictures.get(3));
+
+        assertThat(gallery.index()).isEqualTo(3);
+        assertThat(gallery.size()).isEqualTo(this.pictures.size());
+        assertThat(gallery.picture(5).name()).isEqualTo(this.pictures.get(5).name());
+    }
+
+    @Test
+    @DisplayName("Test merge pictures into gallery keep the order and current picture")
+    public void testMergePicturesKeepOrderAndCurrentPicture() {
+        var gallery = new PictureGallery(
+            "foo", List.of(this.pictures.get(1), this.pictures.get(3))
+        );
+        gallery.last();
+        var sorted = new AscendingSortedPictures(
+            List.of(
+                this.pictures.get(4),
+                this.pictures.get(0),
+                new StaticPicture("04.jpg", new File("foo/04.jpg")),
+                this.pictures.get(2)
+            )
+        );
+
+        gallery.merge(sorted.sorted(), sorted.order());
+
+        var actual = new ArrayList<String>();
+        gallery.forEach(pic -> actual.add(pic.name()));
+        assertThat(actual).containsExactly("01.jpg", "02.jpg", "03.jpg", "04.jpg", "05.jpg");
+        assertThat(gallery.current()).isSameAs(this.pictures.get(3));
+        assertThat(gallery.index()).isEqualTo(3);
+        assertThat(gallery.isLast()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test update current picture with the same name on another folder")
+    public void testUpdateCurrentPictureWithSameNameOnAnotherFolder() {
+        var other = new StaticPicture("02.jpg", new File("bar/02.jpg"));
+        var gallery = new PictureGallery(
+            "foo", List.of(this.pictures.get(0), this.pictures.get(1), other)
+        );
+
+        gallery.current(new StaticPicture("02.jpg", new File("bar/../bar/02.jpg")));
+
+        assertThat(gallery.index()).isEqualTo(2);
+        assertThat(gallery.current()).isSameAs(other);
+    }
+
+    @Test
+    @DisplayName("Test update current picture with the merged picture")
+    public void testUpdateCurrentPictureWithMergedPicture() {
+        var gallery = new PictureGallery("foo", List.of(this.pictures.get(1)));
+        var other = new StaticPicture("02.jpg", new File("bar/02.jpg"));
+        var sorted = new AscendingSortedPictures(
+            List.of(this.pictures.get(0), other, this.pictures.get(1), this.pictures.get(2))
+        );
+
+        gallery.merge(sorted.sorted(), sorted.order());
+        gallery.current(new StaticPicture("03.jpg", new File("foo/03.jpg")));
+
+        assertThat(gallery.size()).isEqualTo(4);
+        assertThat(gallery.index()).isEqualTo(3);
+        gallery.current(other);
+        assertThat(gallery.current()).isSameAs(other);
+    }
+
+    @Test
+    @DisplayName("Test update current picture that is not a file by its name")
+    public void testUpdateCurrentPictureNotFileByName() {
+        var first = mock(Picture.class);
+        var second = mock(Picture.class);
+        when(first.name()).thenReturn("first");
+        when(second.name()).thenReturn("second");
+        var gallery = new PictureGallery("foo", List.of(first, second));
+        var lookup = mock(Picture.class);
+        when(lookup.name()).thenReturn("second");
+
+        gallery.current(lookup);
+
+        assertThat(gallery.current()).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("Test merge a few pictures keep the order and current picture")
+    public void testMergeFewPicturesKeepOrderAndCurrentPicture() {
+        var gallery = new PictureGallery(
+            "foo",
+            List.of(
+                this.pictures.get(0),
+                this.pictures.get(1),
+                this.pictures.get(3),
+                this.pictures.get(4),
+                this.pictures.get(5)
+            )
+        );
+        gallery.current(this.pictures.get(3));
+        var sorted = new AscendingSortedPictures(
+            List.of(this.pictures.get(2), new StaticPicture("05.jpg", new File("foo/05.jpg")))
+        );
+
+        gallery.merge(sorted.sorted(), sorted.order());
+
+        var actual = new ArrayList<String>();
+        gallery.forEach(pic -> actual.add(pic.name()));
+        assertThat(actual).containsExactly(
+            "01.jpg", "02.jpg", "03.jpg", "04.jpg", "05.jpg", "06.jpg"
+        );
+        assertThat(gallery.current()).isSameAs(this.pictures.get(3));
+        assertThat(gallery.index()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Test remove pictures keep the current picture")
+    public void testRemovePicturesKeepCurrentPicture() {
+        var gallery = new PictureGallery("foo", this.pictures);
+        gallery.current(this.pictures.get(3));
+
+        gallery.remove(
+            List.of(
+                new StaticPicture("01.jpg", new File("foo/01.jpg")),
+                this.pictures.get(5),
+                new StaticPicture("unknown", new File("unknown"))
+            )
+        );
+
+        assertThat(gallery.size()).isEqualTo(4);
+        assertThat(gallery.current()).isSameAs(this.pictures.get(3));
+        assertThat(gallery.index()).isEqualTo(2);
+        assertThat(gallery.isLast()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test remove the current picture change to the next or the last picture")
+    public void testRemoveCurrentPictureChangeToNextPicture() {
+        var gallery = new PictureGallery("foo", this.pictures);
+        gallery.current(this.pictures.get(4));
+
+        gallery.remove(List.of(this.pictures.get(4)));
+
+        assertThat(gallery.current()).isSameAs(this.pictures.get(5));
+
+        gallery.remove(List.of(this.pictures.get(5)));
+
+        assertThat(gallery.current()).isSameAs(this.pictures.get(3));
+        assertThat(gallery.isLast()).isTrue();
+    }
+
+}
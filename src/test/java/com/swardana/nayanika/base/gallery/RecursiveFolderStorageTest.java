@@ -0,0 +1,114 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.gallery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Unit test for {@link RecursiveFolderStorage}.
+ *
+ * @author Sukma Wardana
+ */
+class RecursiveFolderStorageTest {
+
+    private Path folder;
+
+    @BeforeEach
+    public void setup(@TempDir final Path dir) throws IOException {
+        this.folder = dir;
+        Files.createFile(this.folder.resolve("01.jpg"));
+        Files.createFile(this.folder.resolve("notes.txt"));
+        Files.createDirectories(this.folder.resolve("2020/summer"));
+        Files.createFile(this.folder.resolve("2020/01.jpg"));
+        Files.createFile(this.folder.resolve("2020/summer/02.png"));
+        Files.createDirectories(this.folder.resolve(".cache"));
+        Files.createFile(this.folder.resolve(".cache/03.jpg"));
+    }
+
+    @Test
+    @DisplayName("Test search supported picture in every sub-folder")
+    public void testSearchSupportedPictureInEverySubFolder() {
+        var storage = new RecursiveFolderStorage(this.folder);
+        var actual = this.names(storage.search(SupportedPicture.ALL));
+        assertThat(actual).containsExactlyInAnyOrder(
+            "01.jpg",
+            Path.of("2020", "01.jpg").toString(),
+            Path.of("2020", "summer", "02.png").toString()
+        );
+    }
+
+    @Test
+    @DisplayName("Test search supported picture up to the maximum depth")
+    public void testSearchSupportedPictureUpToMaximumDepth() {
+        var storage = new RecursiveFolderStorage(
+            this.folder, 2, EnumSet.noneOf(TraversalOption.class)
+        );
+        var actual = this.names(storage.search(SupportedPicture.ALL));
+        assertThat(actual).containsExactlyInAnyOrder(
+            "01.jpg",
+            Path.of("2020", "01.jpg").toString()
+        );
+    }
+
+    @Test
+    @DisplayName("Test search hidden picture when it is included")
+    public void testSearchHiddenPictureWhenIncluded() {
+        var storage = new RecursiveFolderStorage(
+            this.folder, Integer.MAX_VALUE, EnumSet.of(TraversalOption.INCLUDE_HIDDEN)
+        );
+        var actual = this.names(storage.search(SupportedPicture.JPG));
+        assertThat(actual).contains(Path.of(".cache", "03.jpg").toString()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Test followed symbolic link loop is searched once")
+    public void testFollowedSymbolicLinkLoopIsSearchedOnce() throws IOException {
+        Files.createSymbolicLink(this.folder.resolve("2020/summer/loop"), this.folder);
+        var storage = new RecursiveFolderStorage(
+            this.folder, Integer.MAX_VALUE, EnumSet.of(TraversalOption.FOLLOW_LINKS)
+        );
+        var actual = this.names(storage.search(SupportedPicture.ALL));
+        assertThat(actual).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Test search picture on missing folder")
+    public void testSearchPictureOnMissingFolder() {
+        var storage = new RecursiveFolderStorage(this.folder.resolve("missing"));
+        assertThatThrownBy(() -> storage.search(SupportedPicture.ALL))
+            .isInstanceOf(RuntimeException.class);
+    }
+
+    private List<String> names(final List<Picture> pictures) {
+        return pictures.stream().map(Picture::name).collect(Collectors.toList());
+    }
+
+}
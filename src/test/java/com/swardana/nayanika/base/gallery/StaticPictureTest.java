@@ -53,4 +53,17 @@ class StaticPictureTest {
         assertThatThrownBy(() -> picture.read()).isInstanceOf(IOException.class);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Test the same picture file opened again is an equal picture")
+    public void testSamePictureFileIsEqualPicture(final @TempDir Path temp) {
+        var picture = new StaticPicture("panorama.jpg", temp.resolve("panorama.jpg").toFile());
+        var reopened = new StaticPicture(
+            "panorama.jpg", temp.resolve("album").resolve("..").resolve("panorama.jpg").toFile()
+        );
+        var other = new StaticPicture("portrait.jpg", temp.resolve("portrait.jpg").toFile());
+
+        assertThat(reopened).isEqualTo(picture).hasSameHashCodeAs(picture);
+        assertThat(other).isNotEqualTo(picture);
+    }
+
+}
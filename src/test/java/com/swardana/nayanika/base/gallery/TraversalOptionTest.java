@@ -0,0 +1,51 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.gallery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link TraversalOption}.
+ *
+ * @author Sukma Wardana
+ */
+class TraversalOptionTest {
+
+    @Test
+    @DisplayName("Test parse the comma separated options")
+    public void testParseCommaSeparatedOptions() {
+        var actual = TraversalOption.parse("follow_links, INCLUDE_HIDDEN");
+
+        assertThat(actual).containsExactlyInAnyOrder(
+            TraversalOption.FOLLOW_LINKS, TraversalOption.INCLUDE_HIDDEN
+        );
+        assertThat(TraversalOption.parse("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test reject the unknown option")
+    public void testRejectUnknownOption() {
+        assertThatThrownBy(() -> TraversalOption.parse("follow_links,foo"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
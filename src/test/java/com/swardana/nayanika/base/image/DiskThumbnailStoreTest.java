@@ -0,0 +1,114 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Unit test for {@link DiskThumbnailStore}.
+ *
+ * @author Sukma Wardana
+ */
+class DiskThumbnailStoreTest {
+
+    private Path folder;
+    private Path picture;
+
+    @BeforeEach
+    public void setup(@TempDir final Path dir) throws IOException {
+        this.folder = dir.resolve("thumbnails");
+        this.picture = Files.write(dir.resolve("01.jpg"), new byte[]{1, 2, 3});
+    }
+
+    @Test
+    @DisplayName("Test get the stored thumbnail pixels")
+    public void testGetStoredThumbnailPixels() {
+        var thumbnail = new WritableImage(4, 3);
+        thumbnail.getPixelWriter().setArgb(1, 2, 0xFF336699);
+        var store = new DiskThumbnailStore(this.folder, Long.MAX_VALUE);
+        store.put(this.picture, 320, thumbnail);
+        var actual = store.get(this.picture, 320);
+
+        assertThat(actual.getWidth()).isEqualTo(4);
+        assertThat(actual.getHeight()).isEqualTo(3);
+        assertThat(actual.getPixelReader().getArgb(1, 2)).isEqualTo(0xFF336699);
+        assertThat(store.get(this.picture, 160)).isNull();
+    }
+
+    @Test
+    @DisplayName("Test modified picture doesn't get its outdated thumbnail")
+    public void testModifiedPictureDoesNotGetOutdatedThumbnail() throws IOException {
+        var store = new DiskThumbnailStore(this.folder, Long.MAX_VALUE);
+        store.put(this.picture, 320, new WritableImage(4, 3));
+        Files.setLastModifiedTime(this.picture, FileTime.fromMillis(0));
+
+        assertThat(store.get(this.picture, 320)).isNull();
+    }
+
+    @Test
+    @DisplayName("Test prune the least recently used thumbnail")
+    public void testPruneLeastRecentlyUsedThumbnail() throws IOException {
+        var thumbnail = new WritableImage(16, 16);
+        var store = new DiskThumbnailStore(this.folder, Long.MAX_VALUE);
+        store.put(this.picture, 1, thumbnail);
+        var bytes = store.size();
+
+        var bounded = new DiskThumbnailStore(this.folder, 3 * bytes - 1);
+        bounded.put(this.picture, 2, thumbnail);
+        try (var files = Files.walk(this.folder)) {
+            for (final var file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(1000));
+            }
+        }
+        bounded.get(this.picture, 1);
+        bounded.put(this.picture, 3, thumbnail);
+
+        assertThat(bounded.size()).isEqualTo(2 * bytes);
+        assertThat(bounded.get(this.picture, 1)).isNotNull();
+        assertThat(bounded.get(this.picture, 2)).isNull();
+    }
+
+    @Test
+    @DisplayName("Test missing picture doesn't have thumbnail")
+    public void testMissingPictureDoesNotHaveThumbnail() {
+        var store = new DiskThumbnailStore(this.folder, Long.MAX_VALUE);
+        store.put(this.folder.resolve("missing.jpg"), 320, new WritableImage(4, 3));
+
+        assertThat(store.get(this.folder.resolve("missing.jpg"), 320)).isNull();
+        assertThat(store.get(null, 320)).isNull();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test share the default thumbnail store")
+    public void testShareDefaultThumbnailStore() {
+        assertThat(DiskThumbnailStore.getInstance()).isSameAs(DiskThumbnailStore.getInstance());
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Unit test for {@link ExifThumbnail}.
+ *
+ * @author Sukma Wardana
+ */
+class ExifThumbnailTest {
+
+    private static final String JPEG = "src/test/resources"
+        + "/com/swardana/nayanika/base/gallery/tattoo-wolf-jpg.jpg";
+    private static final String PNG = "src/test/resources"
+        + "/com/swardana/nayanika/base/gallery/tattoo-wolf-png.png";
+
+    @Test
+    @DisplayName("Test read the embedded thumbnail of JPEG picture")
+    public void testReadEmbeddedThumbnailOfJpegPicture() throws IOException {
+        var expected = Files.readAllBytes(Path.of(JPEG));
+        var picture = this.exifJpeg(expected);
+
+        var actual = new ExifThumbnail(new ByteArrayInputStream(picture)).bytes();
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Test JPEG picture without EXIF has no thumbnail")
+    public void testJpegPictureWithoutExifHasNoThumbnail() throws IOException {
+        try (var stream = new FileInputStream(JPEG)) {
+            assertThat(new ExifThumbnail(stream).bytes()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Test PNG picture has no thumbnail")
+    public void testPngPictureHasNoThumbnail() throws IOException {
+        try (var stream = new FileInputStream(PNG)) {
+            assertThat(new ExifThumbnail(stream).bytes()).isNull();
+        }
+    }
+
+    /**
+     * Embed a thumbnail on the second image file directory of a big endian
+     * TIFF structure within the EXIF segment.
+     */
+    private byte[] exifJpeg(final byte[] thumbnail) throws IOException {
+        var tiff = ByteBuffer.allocate(44 + thumbnail.length);
+        tiff.put("MM".getBytes(StandardCharsets.US_ASCII)).putShort((short) 42).putInt(8);
+        // first image file directory without entry.
+        tiff.putShort((short) 0).putInt(14);
+        // second image file directory with the thumbnail offset and length.
+        tiff.putShort((short) 2);
+        tiff.putShort((short) 0x0201).putShort((short) 4).putInt(1).putInt(44);
+        tiff.putShort((short) 0x0202).putShort((short) 4).putInt(1).putInt(thumbnail.length);
+        tiff.putInt(0);
+        tiff.put(thumbnail);
+
+        var exif = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+        var segment = exif.length + tiff.capacity() + 2;
+        var result = new ByteArrayOutputStream();
+        result.write(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE1});
+        result.write(new byte[]{(byte) (segment >> 8), (byte) segment});
+        result.write(exif);
+        result.write(tiff.array());
+        result.write(thumbnail, 2, thumbnail.length - 2);
+        return result.toByteArray();
+    }
+
+}
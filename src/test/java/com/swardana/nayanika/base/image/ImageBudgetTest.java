@@ -0,0 +1,62 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link ImageBudget}.
+ *
+ * @author Sukma Wardana
+ */
+class ImageBudgetTest {
+
+    private static final String PROPERTY = "nayanika.image.cache";
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(PROPERTY);
+    }
+
+    @Test
+    @DisplayName("Test every share stays within the whole budget")
+    public void testSharesWithinWholeBudget() {
+        var shares = ImageBudget.PICTURES.capacity()
+            + ImageBudget.THUMBNAILS.capacity()
+            + ImageBudget.TILES.capacity();
+
+        assertThat(shares).isLessThanOrEqualTo(ImageBudget.total());
+        assertThat(ImageBudget.total()).isLessThan(Runtime.getRuntime().maxMemory());
+    }
+
+    @Test
+    @DisplayName("Test split the configured budget")
+    public void testSplitConfiguredBudget() {
+        System.setProperty(PROPERTY, "4096");
+
+        assertThat(ImageBudget.PICTURES.capacity()).isEqualTo(2048);
+        assertThat(ImageBudget.THUMBNAILS.capacity()).isEqualTo(1024);
+        assertThat(ImageBudget.TILES.capacity()).isEqualTo(1024);
+        assertThat(new ImageCache<String>().capacity()).isEqualTo(2048);
+    }
+
+}
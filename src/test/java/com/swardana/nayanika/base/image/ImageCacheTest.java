@@ -0,0 +1,117 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link ImageCache}.
+ *
+ * @author Sukma Wardana
+ */
+class ImageCacheTest {
+
+    private static final long PICTURE_BYTES = 10L * 10L * 4L;
+
+    @Test
+    @DisplayName("Test weight of decoded picture is the pixels bytes")
+    public void testWeightOfDecodedPicture() {
+        var expected = 10L * 20L * 4L;
+        var actual = ImageCache.weight(new WritableImage(10, 20));
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Test evict the least recently used picture when over budget")
+    public void testEvictLeastRecentlyUsedPictureWhenOverBudget() {
+        var first = new WritableImage(10, 10);
+        var second = new WritableImage(10, 10);
+        var third = new WritableImage(10, 10);
+
+        var cache = new ImageCache<String>(2 * PICTURE_BYTES);
+        cache.put("01.jpg", first);
+        cache.put("02.jpg", second);
+        cache.get("01.jpg");
+        cache.put("03.jpg", third);
+
+        assertThat(cache.evictions()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(2 * PICTURE_BYTES);
+    }
+
+    @Test
+    @DisplayName("Test evicted picture is promoted back from the soft tier")
+    public void testEvictedPictureIsPromotedBackFromSoftTier() {
+        var first = new WritableImage(10, 10);
+        var second = new WritableImage(10, 10);
+
+        var cache = new ImageCache<String>(PICTURE_BYTES);
+        cache.put("01.jpg", first);
+        cache.put("02.jpg", second);
+
+        assertThat(cache.contains("01.jpg")).isTrue();
+        assertThat(cache.get("01.jpg")).isSameAs(first);
+        assertThat(cache.evictions()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(PICTURE_BYTES);
+    }
+
+    @Test
+    @DisplayName("Test picture larger than the budget is kept on the soft tier only")
+    public void testPictureLargerThanBudgetIsKeptOnSoftTierOnly() {
+        var img = new WritableImage(10, 10);
+
+        var cache = new ImageCache<String>(10);
+        cache.put("01.jpg", img);
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.contains("01.jpg")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test count the hits and misses of the lookup")
+    public void testCountHitsAndMissesOfLookup() {
+        var cache = new ImageCache<String>(PICTURE_BYTES);
+        cache.put("01.jpg", new WritableImage(10, 10));
+
+        cache.get("01.jpg");
+        cache.get("01.jpg");
+        cache.get("02.jpg");
+        cache.contains("02.jpg");
+
+        assertThat(cache.hits()).isEqualTo(2);
+        assertThat(cache.misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test clear remove every picture")
+    public void testClearRemoveEveryPicture() {
+        var cache = new ImageCache<String>(PICTURE_BYTES);
+        cache.put("01.jpg", new WritableImage(10, 10));
+        cache.put("02.jpg", new WritableImage(10, 10));
+
+        cache.clear();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.contains("01.jpg")).isFalse();
+        assertThat(cache.contains("02.jpg")).isFalse();
+    }
+
+}
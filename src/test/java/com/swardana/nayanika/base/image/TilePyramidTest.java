@@ -0,0 +1,82 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javafx.geometry.Rectangle2D;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link TilePyramid}.
+ *
+ * @author Sukma Wardana
+ */
+class TilePyramidTest {
+
+    @Test
+    @DisplayName("Test count the levels until a single tile")
+    public void testCountLevelsUntilSingleTile() {
+        assertThat(new TilePyramid(512, 300).levels()).isEqualTo(1);
+        assertThat(new TilePyramid(513, 300).levels()).isEqualTo(2);
+        assertThat(new TilePyramid(20000, 10000).levels()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Test choose the coarsest level still sharp on the screen")
+    public void testChooseCoarsestLevelStillSharp() {
+        var pyramid = new TilePyramid(20000, 10000);
+
+        assertThat(pyramid.level(0.5)).isZero();
+        assertThat(pyramid.level(1.9)).isZero();
+        assertThat(pyramid.level(2)).isEqualTo(1);
+        assertThat(pyramid.level(5)).isEqualTo(2);
+        assertThat(pyramid.level(1000)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Test get the tiles covering the region")
+    public void testGetTilesCoveringRegion() {
+        var pyramid = new TilePyramid(2000, 1000);
+
+        var actual = pyramid.tiles(0, new Rectangle2D(500, 0, 600, 100));
+
+        assertThat(actual).containsExactly(
+            new Tile(0, 0, 0), new Tile(0, 1, 0), new Tile(0, 2, 0)
+        );
+        assertThat(pyramid.tiles(1, new Rectangle2D(0, 0, 2000, 1000))).containsExactly(
+            new Tile(1, 0, 0), new Tile(1, 1, 0)
+        );
+        assertThat(pyramid.tiles(0, new Rectangle2D(3000, 0, 100, 100))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test tile bounds are clipped to the picture")
+    public void testTileBoundsAreClippedToPicture() {
+        var pyramid = new TilePyramid(2000, 1000);
+
+        assertThat(pyramid.bounds(new Tile(0, 1, 1))).isEqualTo(
+            new Rectangle2D(512, 512, 512, 488)
+        );
+        assertThat(pyramid.bounds(new Tile(1, 1, 0))).isEqualTo(
+            new Rectangle2D(1024, 0, 976, 1000)
+        );
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.swardana.nayanika.base.gallery.MappedPicture;
+import javafx.geometry.Rectangle2D;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+
+/**
+ * Unit test for {@link TileSource}.
+ *
+ * @author Sukma Wardana
+ */
+class TileSourceTest {
+
+    private Path picture;
+
+    @BeforeEach
+    public void setup(@TempDir final Path dir) throws IOException {
+        var img = new BufferedImage(300, 200, BufferedImage.TYPE_INT_ARGB);
+        for (int row = 0; row < 200; row++) {
+            for (int column = 0; column < 150; column++) {
+                img.setRGB(column, row, 0xFF336699);
+                img.setRGB(column + 150, row, 0xFFCC0000);
+            }
+        }
+        this.picture = dir.resolve("huge.png");
+        ImageIO.write(img, "png", this.picture.toFile());
+    }
+
+    @Test
+    @DisplayName("Test open the picture full resolution size")
+    public void testOpenPictureFullResolutionSize() throws IOException {
+        var source = TileSource.open(new MappedPicture("huge.png", this.picture));
+
+        assertThat(source.width()).isEqualTo(300);
+        assertThat(source.height()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Test read the subsampled region")
+    public void testReadSubsampledRegion() throws IOException {
+        var source = TileSource.open(new MappedPicture("huge.png", this.picture));
+
+        var actual = source.read(new Rectangle2D(100, 0, 200, 100), 2);
+
+        assertThat(actual.getWidth()).isEqualTo(100);
+        assertThat(actual.getHeight()).isEqualTo(50);
+        assertThat(actual.getPixelReader().getArgb(0, 0)).isEqualTo(0xFF336699);
+        assertThat(actual.getPixelReader().getArgb(99, 49)).isEqualTo(0xFFCC0000);
+    }
+
+    @Test
+    @DisplayName("Test read the regions one after another by a single pass")
+    public void testReadRegionsBySinglePass() throws IOException {
+        var source = TileSource.open(new MappedPicture("huge.png", this.picture));
+
+        try (var pass = source.pass()) {
+            var top = pass.read(new Rectangle2D(0, 0, 300, 100), 1);
+            var bottom = pass.read(new Rectangle2D(150, 100, 150, 100), 1);
+
+            assertThat(top.getWidth()).isEqualTo(300);
+            assertThat(top.getPixelReader().getArgb(0, 99)).isEqualTo(0xFF336699);
+            assertThat(bottom.getHeight()).isEqualTo(100);
+            assertThat(bottom.getPixelReader().getArgb(0, 0)).isEqualTo(0xFFCC0000);
+        }
+    }
+
+}
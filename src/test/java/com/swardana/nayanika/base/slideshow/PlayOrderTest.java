@@ -0,0 +1,62 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.slideshow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link PlayOrder}.
+ *
+ * @author Sukma Wardana
+ */
+class PlayOrderTest {
+
+    @Test
+    @DisplayName("Test forward order stops on the last picture")
+    public void testForwardOrder() {
+        var order = PlayOrder.FORWARD.sequence(0);
+
+        assertThat(order.ahead(0, 3, 1)).isEqualTo(1);
+        assertThat(order.ahead(1, 3, 2)).isEqualTo(SlideOrder.END);
+        assertThat(order.ahead(2, 3, 1)).isEqualTo(SlideOrder.END);
+    }
+
+    @Test
+    @DisplayName("Test loop order continues from the first picture")
+    public void testLoopOrder() {
+        var order = PlayOrder.LOOP.sequence(0);
+
+        assertThat(order.ahead(2, 3, 1)).isZero();
+        assertThat(order.ahead(2, 3, 2)).isEqualTo(1);
+        assertThat(order.ahead(0, 0, 1)).isEqualTo(SlideOrder.END);
+    }
+
+    @Test
+    @DisplayName("Test reverse order stops on the first picture")
+    public void testReverseOrder() {
+        var order = PlayOrder.REVERSE.sequence(2);
+
+        assertThat(order.ahead(2, 3, 1)).isEqualTo(1);
+        assertThat(order.ahead(2, 3, 2)).isZero();
+        assertThat(order.ahead(0, 3, 1)).isEqualTo(SlideOrder.END);
+    }
+
+}
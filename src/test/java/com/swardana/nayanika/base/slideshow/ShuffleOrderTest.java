@@ -0,0 +1,156 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.base.slideshow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.swardana.nayanika.base.gallery.Gallery;
+import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.base.gallery.PictureGallery;
+import com.swardana.nayanika.base.gallery.StaticPicture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Unit test for {@link ShuffleOrder}.
+ *
+ * @author Sukma Wardana
+ */
+class ShuffleOrderTest {
+
+    @Test
+    @DisplayName("Test show every picture once")
+    public void testShowEveryPictureOnce() {
+        var gallery = gallery(100);
+        gallery.current(gallery.picture(17));
+        var order = new ShuffleOrder(42, 17);
+
+        var shown = new HashSet<Integer>();
+        shown.add(gallery.index());
+        while (order.advance(gallery)) {
+            assertThat(shown.add(gallery.index())).isTrue();
+        }
+
+        assertThat(shown).hasSize(100);
+        assertThat(order.ahead(gallery.index(), gallery.size(), 1)).isEqualTo(SlideOrder.END);
+    }
+
+    @Test
+    @DisplayName("Test look ahead doesn't move the order")
+    public void testLookAheadDoesntMoveOrder() {
+        var gallery = gallery(10);
+        var order = new ShuffleOrder(7, 0);
+
+        var first = order.ahead(0, 10, 1);
+        var second = order.ahead(0, 10, 2);
+        assertThat(order.ahead(0, 10, 1)).isEqualTo(first);
+
+        order.advance(gallery);
+        assertThat(gallery.index()).isEqualTo(first);
+        assertThat(order.ahead(gallery.index(), 10, 1)).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("Test the upcoming slide is the next one once the gallery is moved")
+    public void testUpcomingSlideOnceGalleryIsMoved() {
+        var pictures = new ArrayList<Picture>();
+        for (int i = 0; i < 10; i++) {
+            pictures.add(mock(Picture.class));
+        }
+        var mockGallery = mock(Gallery.class);
+        when(mockGallery.size()).thenReturn(10);
+        when(mockGallery.picture(anyInt())).thenAnswer(
+            invocation -> pictures.get(invocation.getArgument(0))
+        );
+        var order = new ShuffleOrder(7, 0);
+        var second = order.ahead(0, 10, 2);
+
+        var upcoming = new ArrayList<Integer>();
+        doAnswer(invocation -> {
+            var index = pictures.indexOf(invocation.getArgument(0));
+            upcoming.add(order.ahead(index, 10, 1));
+            return null;
+        }).when(mockGallery).current(any(Picture.class));
+        order.advance(mockGallery);
+
+        assertThat(upcoming).containsExactly(second);
+    }
+
+    @Test
+    @DisplayName("Test the same seed gives the same order")
+    public void testSameSeedSameOrder() {
+        var order = new ShuffleOrder(3, 0);
+        var same = new ShuffleOrder(3, 0);
+        var other = new ShuffleOrder(4, 0);
+
+        var sequence = new ArrayList<Integer>();
+        var otherSequence = new ArrayList<Integer>();
+        for (int slides = 1; slides < 50; slides++) {
+            sequence.add(order.ahead(0, 50, slides));
+            assertThat(same.ahead(0, 50, slides)).isEqualTo(sequence.get(slides - 1));
+            otherSequence.add(other.ahead(0, 50, slides));
+        }
+
+        assertThat(sequence).doesNotHaveDuplicates().doesNotContain(0);
+        assertThat(sequence).isNotEqualTo(otherSequence);
+    }
+
+    @Test
+    @DisplayName("Test look ahead on a huge gallery")
+    public void testLookAheadOnHugeGallery() {
+        var order = new ShuffleOrder(11, 500_000);
+
+        var next = order.ahead(500_000, 1_000_000, 1);
+
+        assertThat(next).isBetween(0, 999_999).isNotEqualTo(500_000);
+    }
+
+    @Test
+    @DisplayName("Test restart the order from the current picture when the gallery size changes")
+    public void testRestartOnGallerySizeChange() {
+        var order = new ShuffleOrder(5, 0);
+        order.ahead(0, 3, 1);
+
+        var shown = new HashSet<Integer>();
+        for (int slides = 1; slides < 6; slides++) {
+            shown.add(order.ahead(4, 6, slides));
+        }
+
+        assertThat(shown).hasSize(5).doesNotContain(4, SlideOrder.END);
+    }
+
+    private static Gallery gallery(final int size) {
+        List<Picture> pictures = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            var name = String.format("%03d.jpg", i);
+            pictures.add(new StaticPicture(name, new File("foo", name)));
+        }
+        return new PictureGallery("foo", pictures);
+    }
+
+}
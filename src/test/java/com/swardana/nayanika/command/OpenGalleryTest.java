@@ -18,26 +18,43 @@
 
 package com.swardana.nayanika.command;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.swardana.nayanika.base.gallery.Exhibition;
+import com.swardana.nayanika.base.gallery.Gallery;
 import com.swardana.nayanika.base.gallery.Picture;
 import com.swardana.nayanika.base.gallery.SupportedPicture;
+import com.swardana.nayanika.base.gallery.TraversalOption;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -77,10 +94,11 @@ class OpenGalleryTest {
     @DisplayName("Test exhibit picture gallery from directory")
     public void testExhibitPictureGalleryFromDirectory() {
         var mockExhibition = mock(Exhibition.class);
+        when(mockExhibition.exhibits(anyString(), anyList())).thenReturn(mock(Gallery.class));
         var file = new File("src/test/resources/com/swardana/nayanika/base/gallery");
 
-        var command = new OpenGallery(mockExhibition, this.executor);
-        command.execute(file, SupportedPicture.ALL);
+        var command = new OpenGallery(mockExhibition, this.executor, Runnable::run);
+        command.execute(file, SupportedPicture.ALL).join();
 
         verify(mockExhibition, never()).exhibits(anyString(), anyList(), any(Picture.class));
         verify(mockExhibition, times(1)).exhibits(anyString(), anyList());
@@ -90,15 +108,187 @@ class OpenGalleryTest {
     @DisplayName("Test exhibit picture gallery from picture")
     public void testExhibitPictureGalleryFromPicture() {
         var mockExhibition = mock(Exhibition.class);
+        when(mockExhibition.exhibits(anyString(), anyList(), any(Picture.class)))
+            .thenReturn(mock(Gallery.class));
         var file = new File(
             "src/test/resources/com/swardana/nayanika/base/gallery/tattoo-dragon-jpeg.jpeg"
         );
 
-        var command = new OpenGallery(mockExhibition, this.executor);
-        command.execute(file, SupportedPicture.ALL);
+        var command = new OpenGallery(mockExhibition, this.executor, Runnable::run);
+        command.execute(file, SupportedPicture.ALL).join();
 
         verify(mockExhibition, never()).exhibits(anyString(), anyList());
         verify(mockExhibition, times(1)).exhibits(anyString(), anyList(), any(Picture.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Test exhibit the opened picture on the publisher")
+    public void testExhibitPictureOnPublisher() {
+        var mockExhibition = mock(Exhibition.class);
+        when(mockExhibition.exhibits(anyString(), anyList(), any(Picture.class)))
+            .thenReturn(mock(Gallery.class));
+        var file = new File(
+            "src/test/resources/com/swardana/nayanika/base/gallery/tattoo-dragon-jpeg.jpeg"
+        );
+        var published = new ConcurrentLinkedQueue<Runnable>();
+
+        var command = new OpenGallery(mockExhibition, this.executor, published::add);
+        var actual = command.execute(file, SupportedPicture.ALL);
+
+        assertThat(actual).isNotDone();
+        verify(mockExhibition, never()).exhibits(anyString(), anyList(), any(Picture.class));
+
+        published.poll().run();
+
+        assertThat(actual).isCompleted();
+        verify(mockExhibition, times(1)).exhibits(anyString(), anyList(), any(Picture.class));
+    }
+
+    @Test
+    @DisplayName("Test exhibit the opened picture before merge the folder pictures")
+    public void testExhibitPictureBeforeMergeFolderPictures() {
+        var mockGallery = mock(Gallery.class);
+        var mockExhibition = mock(Exhibition.class);
+        when(mockExhibition.exhibits(anyString(), anyList(), any(Picture.class)))
+            .thenReturn(mockGallery);
+        var file = new File(
+            "src/test/resources/com/swardana/nayanika/base/gallery/tattoo-dragon-jpeg.jpeg"
+        );
+
+        var command = new OpenGallery(mockExhibition, this.executor, Runnable::run);
+        command.execute(file, SupportedPicture.ALL).join();
+
+        verify(mockExhibition, times(1)).exhibits(
+            anyString(), argThat(list -> list.size() == 1), any(Picture.class)
+        );
+        verify(mockGallery, timeout(5000)).merge(argThat(list -> list.size() == 4), any());
+    }
+
+    @Test
+    @DisplayName("Test cancel the previous opening")
+    public void testCancelPreviousOpening() {
+        var mockGallery = mock(Gallery.class);
+        var mockExhibition = mock(Exhibition.class);
+        when(mockExhibition.exhibits(anyString(), anyList())).thenReturn(mockGallery);
+        var file = new File("src/test/resources/com/swardana/nayanika/base/gallery");
+
+        var searching = new CountDownLatch(1);
+        this.executor.submit(() -> searching.await(5, TimeUnit.SECONDS));
+
+        var command = new OpenGallery(mockExhibition, this.executor, Runnable::run);
+        var previous = command.execute(file, SupportedPicture.ALL);
+        var current = command.execute(file, SupportedPicture.ALL);
+        searching.countDown();
+
+        assertThat(previous.isCancelled()).isTrue();
+        assertThat(current.join()).isSameAs(mockGallery);
+        verify(mockExhibition, times(1)).exhibits(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Test cancel the returned gallery cancel the opening")
+    public void testCancelReturnedGalleryCancelOpening() throws Exception {
+        var mockExhibition = mock(Exhibition.class);
+        when(mockExhibition.exhibits(anyString(), anyList())).thenReturn(mock(Gallery.class));
+        var file = new File("src/test/resources/com/swardana/nayanika/base/gallery");
+
+        var searching = new CountDownLatch(1);
+        this.executor.submit(() -> searching.await(5, TimeUnit.SECONDS));
+
+        var command = new OpenGallery(mockExhibition, this.executor, Runnable::run);
+        var exhibited = command.execute(file, SupportedPicture.ALL);
+        exhibited.cancel(false);
+        searching.countDown();
+        this.executor.submit(() -> { }).get();
+
+        assertThat(command.openingProperty().get()).isFalse();
+        assertThat(command.scannedProperty().get()).isZero();
+        verify(mockExhibition, never()).exhibits(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Test count the found pictures until the opening is finished")
+    public void testScannedPicturesUntilFinished() throws InterruptedException, ExecutionException {
+        var mockExhibition = mock(Exhibition.class);
+        when(mockExhibition.exhibits(anyString(), anyList())).thenReturn(mock(Gallery.class));
+        var file = new File("src/test/resources/com/swardana/nayanika/base/gallery");
+
+        var searching = new CountDownLatch(1);
+        this.executor.submit(() -> searching.await(5, TimeUnit.SECONDS));
+
+        var command = new OpenGallery(mockExhibition, this.executor, Runnable::run);
+        var exhibited = command.execute(file, SupportedPicture.ALL);
+        assertThat(command.openingProperty().get()).isTrue();
+        searching.countDown();
+        exhibited.join();
+        this.executor.submit(() -> { }).get();
+
+        assertThat(command.scannedProperty().get()).isEqualTo(4);
+        assertThat(command.openingProperty().get()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test search the sub-folders up to the opening depth")
+    public void testSearchSubFoldersUpToDepth(@TempDir final Path dir)
+        throws IOException, InterruptedException, ExecutionException {
+        Files.createFile(dir.resolve("01.jpg"));
+        Files.createDirectories(dir.resolve("2020/summer"));
+        Files.createFile(dir.resolve("2020/02.jpg"));
+        Files.createFile(dir.resolve("2020/summer/03.jpg"));
+        Files.createDirectories(dir.resolve(".cache"));
+        Files.createFile(dir.resolve(".cache/04.jpg"));
+        var mockExhibition = mock(Exhibition.class);
+        when(mockExhibition.exhibits(anyString(), anyList())).thenReturn(mock(Gallery.class));
+
+        var command = new OpenGallery(mockExhibition, this.executor, Runnable::run);
+        command.depth(2);
+        command.traversal(EnumSet.of(TraversalOption.INCLUDE_HIDDEN));
+        command.execute(dir.toFile(), SupportedPicture.ALL).join();
+        this.executor.submit(() -> { }).get();
+
+        assertThat(command.scannedProperty().get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Test exhibit the opened picture before search its folder")
+    public void testExhibitPictureBeforeSearchFolder() {
+        var mockExhibition = mock(Exhibition.class);
+        when(mockExhibition.exhibits(anyString(), anyList(), any(Picture.class)))
+            .thenReturn(mock(Gallery.class));
+        var mockExecutor = mock(ExecutorService.class);
+        var file = new File(
+            "src/test/resources/com/swardana/nayanika/base/gallery/tattoo-dragon-jpeg.jpeg"
+        );
+
+        var command = new OpenGallery(mockExhibition, mockExecutor, Runnable::run);
+        var exhibited = command.execute(file, SupportedPicture.ALL);
+
+        var order = inOrder(mockExhibition, mockExecutor);
+        order.verify(mockExhibition).exhibits(anyString(), anyList(), any(Picture.class));
+        order.verify(mockExecutor).execute(any(Runnable.class));
+        assertThat(exhibited).isCompleted();
+        command.cancel();
+    }
+
+    @Test
+    @DisplayName("Test finish the opening when the folder search of the picture fails")
+    public void testFinishOpeningWhenPictureFolderSearchFails() {
+        var mockGallery = mock(Gallery.class);
+        var mockExhibition = mock(Exhibition.class);
+        when(mockExhibition.exhibits(anyString(), anyList(), any(Picture.class)))
+            .thenReturn(mockGallery);
+        var mockExecutor = mock(ExecutorService.class);
+        doThrow(new RejectedExecutionException()).when(mockExecutor).execute(any(Runnable.class));
+        var file = new File(
+            "src/test/resources/com/swardana/nayanika/base/gallery/tattoo-dragon-jpeg.jpeg"
+        );
+
+        var command = new OpenGallery(mockExhibition, mockExecutor, Runnable::run);
+        var exhibited = command.execute(file, SupportedPicture.ALL);
+
+        assertThat(exhibited.join()).isSameAs(mockGallery);
+        assertThat(command.openingProperty().get()).isFalse();
+        verify(mockGallery, never()).merge(anyList(), any());
+    }
+
+}
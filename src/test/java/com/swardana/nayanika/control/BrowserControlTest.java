@@ -0,0 +1,118 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.control;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.swardana.nayanika.base.Browser;
+import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.base.image.ThumbnailStore;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+/**
+ * Unit test for {@link BrowserControl}.
+ *
+ * @author Sukma Wardana
+ */
+class BrowserControlTest {
+
+    private static final String PICTURE = "src/test/resources"
+        + "/com/swardana/nayanika/base/gallery/tattoo-wolf-png.png";
+
+    private Picture picture;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        this.picture = mock(Picture.class);
+        when(this.picture.name()).thenReturn("tattoo-wolf-png.png");
+        when(this.picture.path()).thenReturn(Path.of(PICTURE));
+        when(this.picture.read()).thenAnswer(invocation -> new FileInputStream(PICTURE));
+    }
+
+    @Test
+    @DisplayName("Test change the browser layout")
+    public void testChangeBrowserLayout() {
+        var control = new BrowserControl(Runnable::run, mock(ThumbnailStore.class), Runnable::run);
+        control.showGrid();
+
+        assertThat(control.layout()).isEqualTo(Browser.Layout.GRID);
+        assertThat(control.layoutProperty().get()).isEqualTo(Browser.Layout.GRID);
+    }
+
+    @Test
+    @DisplayName("Test load the stored thumbnail without read the picture")
+    public void testLoadStoredThumbnailWithoutReadPicture() throws IOException {
+        var thumbnail = new WritableImage(16, 16);
+        var thumbnails = mock(ThumbnailStore.class);
+        when(thumbnails.get(Path.of(PICTURE), 160)).thenReturn(thumbnail);
+
+        var control = new BrowserControl(Runnable::run, thumbnails, Runnable::run);
+        var actual = control.thumbnail(this.picture);
+
+        assertThat(actual.join()).isSameAs(thumbnail);
+        verify(this.picture, never()).read();
+    }
+
+    @Test
+    @DisplayName("Test decode and store the thumbnail once")
+    public void testDecodeAndStoreThumbnailOnce() throws IOException {
+        var thumbnails = mock(ThumbnailStore.class);
+
+        var control = new BrowserControl(Runnable::run, thumbnails, Runnable::run);
+        var actual = control.thumbnail(this.picture).join();
+        var again = control.thumbnail(this.picture).join();
+
+        assertThat(actual.getRequestedWidth()).isEqualTo(160);
+        assertThat(again).isSameAs(actual);
+        verify(thumbnails).put(Path.of(PICTURE), 160, actual);
+        verify(this.picture, times(1)).read();
+    }
+
+    @Test
+    @DisplayName("Test not load the cancelled thumbnail")
+    public void testNotLoadCancelledThumbnail() throws IOException {
+        var queue = new ArrayList<Runnable>();
+        var thumbnails = mock(ThumbnailStore.class);
+
+        var control = new BrowserControl(queue::add, thumbnails, Runnable::run);
+        control.thumbnail(this.picture).cancel(false);
+        queue.forEach(Runnable::run);
+
+        verify(this.picture, never()).read();
+        verify(thumbnails, never()).put(any(), anyInt(), any(Image.class));
+        verify(thumbnails, never()).get(any(), eq(160));
+    }
+
+}
@@ -19,20 +19,29 @@
 package com.swardana.nayanika.control;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.swardana.nayanika.base.PicturePools;
 import com.swardana.nayanika.base.gallery.Exhibition;
 import com.swardana.nayanika.base.gallery.Gallery;
 import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.base.image.ImageCache;
+import com.swardana.nayanika.base.image.ThumbnailStore;
+import javafx.scene.image.WritableImage;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -42,6 +51,9 @@ import java.util.List;
  */
 class ExhibitionControlTest {
 
+    private static final String PICTURE = "src/test/resources"
+        + "/com/swardana/nayanika/base/gallery/tattoo-wolf-png.png";
+
     @Test
     @DisplayName("Test exhibits a picture gallery")
     public void testExhibitPictureGalleryToRaiseEvent() throws IOException {
@@ -67,4 +79,38 @@ class ExhibitionControlTest {
         assertThat(command.galleryProperty().getValue()).isNotNull();
     }
 
+    @Test
+    @DisplayName("Test exhibit the preloaded picture without decode it again")
+    public void testExhibitPreloadedPictureWithoutDecodeAgain() throws IOException {
+        var mockPicture = mock(Picture.class);
+        when(mockPicture.read()).thenAnswer(invocation -> new FileInputStream(PICTURE));
+
+        var mockGallery = mock(Gallery.class);
+        when(mockGallery.current()).thenReturn(mockPicture);
+
+        var mockExhibition = mock(Exhibition.class);
+        when(mockExhibition.exhibits("foo", List.of(mockPicture))).thenReturn(mockGallery);
+
+        var thumbnails = mock(ThumbnailStore.class);
+        when(thumbnails.get(any(), anyInt())).thenReturn(new WritableImage(32, 32));
+
+        List<Runnable> tasks = new ArrayList<>();
+
+        var command = new ExhibitionControl(
+            mockExhibition,
+            new PicturePrefetch(
+                new PicturePools(tasks::add, tasks::add), new ImageCache<>(), thumbnails
+            )
+        );
+        var preloaded = command.preload(mockPicture, 600, 480);
+        command.exhibits("foo", List.of(mockPicture));
+        command.galleryProperty().getValue().resolution(500, 400);
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).run();
+        }
+
+        assertThat(preloaded).isCompleted();
+        verify(mockPicture, times(1)).read();
+    }
+
 }
\ No newline at end of file
@@ -18,21 +18,39 @@
 
 package com.swardana.nayanika.control;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.atMostOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.swardana.nayanika.base.PicturePools;
+import com.swardana.nayanika.base.gallery.AscendingSortedPictures;
 import com.swardana.nayanika.base.gallery.Gallery;
 import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.base.gallery.PictureGallery;
+import com.swardana.nayanika.base.gallery.StaticPicture;
+import com.swardana.nayanika.base.image.ImageCache;
+import com.swardana.nayanika.base.image.ThumbnailStore;
+import javafx.scene.image.WritableImage;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Unit test for {@link GalleryControl}.
@@ -41,6 +59,11 @@ import java.nio.charset.StandardCharsets;
  */
 class GalleryControlTest {
 
+    private static final String PICTURE = "src/test/resources"
+        + "/com/swardana/nayanika/base/gallery/tattoo-wolf-png.png";
+    private static final String JPEG = "src/test/resources"
+        + "/com/swardana/nayanika/base/gallery/tattoo-wolf-jpg.jpg";
+
     @Test
     @DisplayName("Test change current picture to the next")
     public void testChangeCurrentPictureToTheNextPicture() throws IOException {
@@ -233,4 +256,309 @@ class GalleryControlTest {
         verify(mockGallery, times(1)).isLast();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Test decoded picture is published by the publisher executor")
+    public void testDecodedPictureIsPublishedByPublisher() throws IOException {
+        var mockContent = new ByteArrayInputStream(
+            "content".getBytes(StandardCharsets.UTF_8)
+        );
+
+        var mockPicture = mock(Picture.class);
+        when(mockPicture.name()).thenReturn("1.jpg");
+        when(mockPicture.read()).thenReturn(mockContent);
+
+        var mockGallery = mock(Gallery.class);
+        when(mockGallery.current()).thenReturn(mockPicture);
+
+        var publications = new ArrayList<Runnable>();
+        Executor publisher = publications::add;
+
+        var subject = new GalleryControl(
+            mockGallery,
+            new PicturePrefetch(
+                new PicturePools(Runnable::run, Runnable::run),
+                new ImageCache<>(),
+                mock(ThumbnailStore.class)
+            ),
+            publisher
+        );
+
+        assertThat(subject.loadingProperty().get()).isTrue();
+        assertThat(subject.imageProperty().get()).isNull();
+
+        publications.forEach(Runnable::run);
+
+        assertThat(subject.loadingProperty().get()).isFalse();
+        assertThat(subject.imageProperty().get()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Test stale decoded picture is never published")
+    public void testStaleDecodedPictureIsNotPublished() throws IOException {
+        var mockFirstPicture = mock(Picture.class);
+        when(mockFirstPicture.read()).thenReturn(
+            new ByteArrayInputStream("first".getBytes(StandardCharsets.UTF_8))
+        );
+        var mockSecondPicture = mock(Picture.class);
+        when(mockSecondPicture.read()).thenReturn(
+            new ByteArrayInputStream("second".getBytes(StandardCharsets.UTF_8))
+        );
+
+        var mockGallery = mock(Gallery.class);
+        when(mockGallery.current()).thenReturn(mockFirstPicture, mockSecondPicture);
+        when(mockGallery.isLast()).thenReturn(false);
+
+        List<Runnable> tasks = new ArrayList<>();
+        List<Runnable> publications = new ArrayList<>();
+
+        var subject = new GalleryControl(
+            mockGallery,
+            new PicturePrefetch(
+                new PicturePools(tasks::add, tasks::add),
+                new ImageCache<>(),
+                mock(ThumbnailStore.class)
+            ),
+            publications::add
+        );
+        subject.next();
+
+        drain(tasks);
+        assertThat(publications).hasSize(3);
+
+        publications.get(0).run();
+        assertThat(subject.loadingProperty().get()).isTrue();
+        assertThat(subject.imageProperty().get()).isNull();
+
+        publications.subList(1, 3).forEach(Runnable::run);
+        assertThat(subject.loadingProperty().get()).isFalse();
+        verify(mockFirstPicture, never()).read();
+        verify(mockSecondPicture, times(2)).read();
+    }
+
+    @Test
+    @DisplayName("Test decode again when the resolution is larger than the decoded picture")
+    public void testDecodeAgainWhenResolutionIsLarger() throws IOException {
+        var mockPicture = mock(Picture.class);
+        when(mockPicture.read()).thenAnswer(invocation -> new FileInputStream(PICTURE));
+
+        var mockGallery = mock(Gallery.class);
+        when(mockGallery.current()).thenReturn(mockPicture);
+
+        var thumbnails = mock(ThumbnailStore.class);
+        when(thumbnails.get(any(), anyInt())).thenReturn(new WritableImage(32, 32));
+
+        List<Runnable> tasks = new ArrayList<>();
+
+        var subject = new GalleryControl(
+            mockGallery,
+            new PicturePrefetch(
+                new PicturePools(tasks::add, tasks::add),
+                new ImageCache<>(),
+                thumbnails
+            ),
+            Runnable::run
+        );
+        subject.resolution(100, 100);
+        drain(tasks);
+        tasks.clear();
+
+        assertThat(subject.imageProperty().get().getRequestedWidth()).isEqualTo(128);
+        assertThat(subject.pictureProperty().get()).isSameAs(mockPicture);
+
+        subject.resolution(50, 50);
+        assertThat(tasks).isEmpty();
+
+        subject.resolution(400, 400);
+        drain(tasks);
+
+        assertThat(subject.imageProperty().get().getRequestedWidth()).isEqualTo(512);
+        verify(mockPicture, times(2)).read();
+    }
+
+    @Test
+    @DisplayName("Test full resolution decode doesn't change the picture")
+    public void testFullResolutionDecodeDoesNotChangePicture() throws IOException {
+        var mockPicture = mock(Picture.class);
+        when(mockPicture.read()).thenAnswer(invocation -> new FileInputStream(PICTURE));
+
+        var mockGallery = mock(Gallery.class);
+        when(mockGallery.current()).thenReturn(mockPicture);
+
+        var subject = new GalleryControl(
+            mockGallery,
+            new PicturePrefetch(
+                new PicturePools(Runnable::run, Runnable::run),
+                new ImageCache<>(),
+                mock(ThumbnailStore.class)
+            ),
+            Runnable::run
+        );
+        subject.resolution(100, 100);
+        var changes = new ArrayList<Picture>();
+        subject.pictureProperty().addListener((observable, oldPic, newPic) -> changes.add(newPic));
+        subject.fullResolution();
+
+        assertThat(subject.imageProperty().get().getRequestedWidth()).isZero();
+        assertThat(subject.pictureProperty().get()).isSameAs(mockPicture);
+        assertThat(changes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test preview is published before the decoded picture")
+    public void testPreviewIsPublishedBeforeDecodedPicture() throws IOException {
+        var mockPicture = mock(Picture.class);
+        when(mockPicture.name()).thenReturn("1.jpg");
+        when(mockPicture.read()).thenAnswer(invocation -> new FileInputStream(JPEG));
+
+        var mockGallery = mock(Gallery.class);
+        when(mockGallery.current()).thenReturn(mockPicture);
+
+        List<Runnable> decodes = new ArrayList<>();
+
+        var subject = new GalleryControl(
+            mockGallery,
+            new PicturePrefetch(
+                new PicturePools(Runnable::run, decodes::add),
+                new ImageCache<>(),
+                mock(ThumbnailStore.class)
+            ),
+            Runnable::run
+        );
+        var changes = new ArrayList<Picture>();
+        subject.pictureProperty().addListener((observable, oldPic, newPic) -> changes.add(newPic));
+        assertThat(decodes).hasSize(2);
+
+        decodes.get(1).run();
+        assertThat(subject.loadingProperty().get()).isTrue();
+        assertThat(subject.imageProperty().get().getRequestedWidth()).isEqualTo(320);
+
+        decodes.get(0).run();
+        assertThat(subject.loadingProperty().get()).isFalse();
+        assertThat(subject.imageProperty().get().getRequestedWidth()).isZero();
+        assertThat(changes).containsExactly(mockPicture);
+    }
+
+    @Test
+    @DisplayName("Test merge pictures update the last picture state")
+    public void testMergePicturesUpdateLastPictureState() throws IOException {
+        var mockPicture = mock(Picture.class);
+        when(mockPicture.read()).thenAnswer(invocation -> new FileInputStream(PICTURE));
+        var mockMergedPicture = mock(Picture.class);
+        when(mockMergedPicture.read()).thenAnswer(invocation -> new FileInputStream(PICTURE));
+
+        var mockGallery = mock(Gallery.class);
+        when(mockGallery.current()).thenReturn(mockPicture);
+        when(mockGallery.picture(1)).thenReturn(mockMergedPicture);
+        when(mockGallery.isLast()).thenReturn(true, false);
+        var size = new AtomicInteger(1);
+        when(mockGallery.size()).thenAnswer(invocation -> size.get());
+        doAnswer(invocation -> size.incrementAndGet()).when(mockGallery).merge(any(), any());
+
+        var subject = new GalleryControl(
+            mockGallery,
+            new PicturePrefetch(
+                new PicturePools(Runnable::run, Runnable::run),
+                new ImageCache<>(),
+                mock(ThumbnailStore.class)
+            ),
+            Runnable::run
+        );
+        assertThat(subject.lastProperty().get()).isTrue();
+
+        Comparator<Picture> order = (first, second) -> 0;
+        subject.merge(List.of(mockMergedPicture), order);
+
+        verify(mockGallery).merge(List.of(mockMergedPicture), order);
+        assertThat(subject.lastProperty().get()).isFalse();
+        assertThat(subject.sizeProperty().get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test merge the folder pictures around the opened picture")
+    public void testMergeFolderPicturesAroundOpenedPicture() {
+        var opened = new StaticPicture("tattoo-wolf-jpg.jpg", new File(JPEG));
+        var subject = new GalleryControl(
+            new PictureGallery("foo", List.of(opened)),
+            new PicturePrefetch(
+                new PicturePools(Runnable::run, Runnable::run),
+                new ImageCache<>(),
+                mock(ThumbnailStore.class)
+            ),
+            Runnable::run
+        );
+        var img = subject.imageProperty().get();
+        assertThat(img).isNotNull();
+
+        var pictures = new ArrayList<Picture>();
+        for (final var file : new File(JPEG).getParentFile().listFiles()) {
+            pictures.add(new StaticPicture(file.getName(), file));
+        }
+        var sorted = new AscendingSortedPictures(pictures);
+        subject.merge(sorted.sorted(), sorted.order());
+
+        assertThat(subject.sizeProperty().get()).isEqualTo(4);
+        assertThat(subject.pictureProperty().get()).isSameAs(opened);
+        assertThat(subject.index()).isEqualTo(2);
+        assertThat(subject.imageProperty().get()).isSameAs(img);
+    }
+
+    @Test
+    @DisplayName("Test remove the current picture change to the next picture")
+    public void testRemoveCurrentPictureChangeToNextPicture() throws IOException {
+        var first = this.picture("01.png");
+        var second = this.picture("02.png");
+        var subject = new GalleryControl(
+            new PictureGallery("foo", List.of(first, second)),
+            new PicturePrefetch(
+                new PicturePools(Runnable::run, Runnable::run),
+                new ImageCache<>(),
+                mock(ThumbnailStore.class)
+            ),
+            Runnable::run
+        );
+        assertThat(subject.pictureProperty().get()).isSameAs(first);
+
+        subject.remove(List.of(first));
+
+        assertThat(subject.pictureProperty().get()).isSameAs(second);
+        assertThat(subject.sizeProperty().get()).isEqualTo(1);
+        assertThat(subject.lastProperty().get()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test remove every picture clear the published picture")
+    public void testRemoveEveryPictureClearPublishedPicture() throws IOException {
+        var first = this.picture("01.png");
+        var subject = new GalleryControl(
+            new PictureGallery("foo", List.of(first)),
+            new PicturePrefetch(
+                new PicturePools(Runnable::run, Runnable::run),
+                new ImageCache<>(),
+                mock(ThumbnailStore.class)
+            ),
+            Runnable::run
+        );
+        assertThat(subject.imageProperty().get()).isNotNull();
+
+        subject.remove(List.of(first));
+
+        assertThat(subject.isEmpty()).isTrue();
+        assertThat(subject.imageProperty().get()).isNull();
+        assertThat(subject.pictureProperty().get()).isNull();
+        assertThat(subject.loadingProperty().get()).isFalse();
+    }
+
+    private Picture picture(final String name) throws IOException {
+        var pic = mock(Picture.class);
+        when(pic.name()).thenReturn(name);
+        when(pic.read()).thenAnswer(invocation -> new FileInputStream(PICTURE));
+        return pic;
+    }
+
+    private static void drain(final List<Runnable> tasks) {
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).run();
+        }
+    }
+
+}
@@ -0,0 +1,320 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.control;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.swardana.nayanika.base.PicturePools;
+import com.swardana.nayanika.base.TaskPriority;
+import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.base.gallery.PictureGallery;
+import com.swardana.nayanika.base.image.ImageCache;
+import com.swardana.nayanika.base.image.ThumbnailStore;
+import com.swardana.nayanika.base.slideshow.SlideOrder;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Unit test for {@link PicturePrefetch}.
+ *
+ * @author Sukma Wardana
+ */
+class PicturePrefetchTest {
+
+    private static final String PICTURE = "src/test/resources"
+        + "/com/swardana/nayanika/base/gallery/tattoo-wolf-png.png";
+
+    private List<Picture> pictures;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        this.pictures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            var pic = mock(Picture.class);
+            when(pic.name()).thenReturn(i + ".png");
+            when(pic.read()).thenAnswer(invocation -> new FileInputStream(PICTURE));
+            this.pictures.add(pic);
+        }
+    }
+
+    @Test
+    @DisplayName("Test prefetch further toward the navigation direction")
+    public void testPrefetchFurtherTowardNavigationDirection() throws IOException {
+        var gallery = new PictureGallery("foo", this.pictures);
+        gallery.current(this.pictures.get(4));
+
+        var cache = new ImageCache<Picture>(Long.MAX_VALUE);
+        var prefetch = new PicturePrefetch(
+            new PicturePools(Runnable::run, Runnable::run), cache, mock(ThumbnailStore.class)
+        );
+        prefetch.prefetch(gallery, gallery.current(), PicturePrefetch.Direction.FORWARD);
+
+        verify(this.pictures.get(2), never()).read();
+        verify(this.pictures.get(3), times(1)).read();
+        verify(this.pictures.get(4), never()).read();
+        verify(this.pictures.get(5), times(1)).read();
+        verify(this.pictures.get(6), times(1)).read();
+        verify(this.pictures.get(7), never()).read();
+    }
+
+    @Test
+    @DisplayName("Test prefetch the upcoming pictures of the slide order")
+    public void testPrefetchUpcomingPicturesOfSlideOrder() throws IOException {
+        var gallery = new PictureGallery("foo", this.pictures);
+        SlideOrder order = (index, size, slides) -> (index + slides * 3) % size;
+
+        var cache = new ImageCache<Picture>(Long.MAX_VALUE);
+        var prefetch = new PicturePrefetch(
+            new PicturePools(Runnable::run, Runnable::run), cache, mock(ThumbnailStore.class)
+        );
+        prefetch.order(order);
+        prefetch.prefetch(gallery, gallery.current(), PicturePrefetch.Direction.FORWARD);
+
+        verify(this.pictures.get(1), never()).read();
+        verify(this.pictures.get(2), never()).read();
+        verify(this.pictures.get(3), times(1)).read();
+        verify(this.pictures.get(6), times(1)).read();
+    }
+
+    @Test
+    @DisplayName("Test keep the decode of the next slide when the slide advances")
+    public void testKeepNextSlideDecodeWhenSlideAdvances() throws IOException {
+        var queue = new ArrayList<Runnable>();
+        var gallery = new PictureGallery("foo", this.pictures);
+        SlideOrder order = (index, size, slides) -> (index + slides * 3) % size;
+
+        var cache = new ImageCache<Picture>(Long.MAX_VALUE);
+        var prefetch = new PicturePrefetch(
+            new PicturePools(queue::add, queue::add), cache, mock(ThumbnailStore.class)
+        );
+        prefetch.order(order);
+        prefetch.prefetch(gallery, gallery.current(), PicturePrefetch.Direction.FORWARD);
+        gallery.current(this.pictures.get(3));
+        prefetch.prefetch(gallery, gallery.current(), PicturePrefetch.Direction.FORWARD);
+        for (int i = 0; i < queue.size(); i++) {
+            queue.get(i).run();
+        }
+
+        verify(this.pictures.get(6), times(1)).read();
+        assertThat(cache.peek(this.pictures.get(6))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Test load prefetched picture without decode it again")
+    public void testLoadPrefetchedPictureWithoutDecodeAgain() throws IOException {
+        var gallery = new PictureGallery("foo", this.pictures);
+
+        var cache = new ImageCache<Picture>(Long.MAX_VALUE);
+        var prefetch = new PicturePrefetch(
+            new PicturePools(Runnable::run, Runnable::run), cache, mock(ThumbnailStore.class)
+        );
+        prefetch.prefetch(gallery, gallery.current(), PicturePrefetch.Direction.FORWARD);
+        var actual = prefetch.load(this.pictures.get(1));
+
+        assertThat(actual).isCompleted();
+        assertThat(actual.join().getWidth()).isPositive();
+        verify(this.pictures.get(1), times(1)).read();
+    }
+
+    @Test
+    @DisplayName("Test load the picture file through its mapped buffer")
+    public void testLoadPictureFileThroughMappedBuffer() throws IOException {
+        var pic = this.pictures.get(0);
+        when(pic.path()).thenReturn(Path.of(PICTURE));
+
+        var cache = new ImageCache<Picture>(Long.MAX_VALUE);
+        var prefetch = new PicturePrefetch(
+            new PicturePools(Runnable::run, Runnable::run), cache, mock(ThumbnailStore.class)
+        );
+        var actual = prefetch.load(pic);
+
+        assertThat(actual).isCompleted();
+        assertThat(actual.join().getWidth()).isPositive();
+        verify(pic, never()).read();
+    }
+
+    @Test
+    @DisplayName("Test cancel the queued decode that falls out of the window")
+    public void testCancelQueuedDecodeOutOfWindow() throws IOException {
+        var queue = new ArrayList<Runnable>();
+        var gallery = new PictureGallery("foo", this.pictures);
+
+        var cache = new ImageCache<Picture>(Long.MAX_VALUE);
+        var prefetch = new PicturePrefetch(
+            new PicturePools(queue::add, queue::add), cache, mock(ThumbnailStore.class)
+        );
+        prefetch.prefetch(gallery, gallery.current(), PicturePrefetch.Direction.FORWARD);
+        gallery.last();
+        prefetch.prefetch(gallery, gallery.current(), PicturePrefetch.Direction.BACKWARD);
+        for (int i = 0; i < queue.size(); i++) {
+            queue.get(i).run();
+        }
+
+        verify(this.pictures.get(1), never()).read();
+        verify(this.pictures.get(2), never()).read();
+        verify(this.pictures.get(6), times(1)).read();
+        verify(this.pictures.get(5), times(1)).read();
+    }
+
+    @Test
+    @DisplayName("Test load queued prefetch submit it again as visible")
+    public void testLoadQueuedPrefetchSubmitItAgainAsVisible() throws IOException {
+        var queue = new ArrayList<Runnable>();
+        var gallery = new PictureGallery("foo", this.pictures);
+
+        var cache = new ImageCache<Picture>(Long.MAX_VALUE);
+        var prefetch = new PicturePrefetch(
+            new PicturePools(Runnable::run, queue::add), cache, mock(ThumbnailStore.class)
+        );
+        prefetch.prefetch(gallery, gallery.current(), PicturePrefetch.Direction.FORWARD);
+        var prefetched = queue.size();
+        var actual = prefetch.load(this.pictures.get(1));
+        var visible = queue.get(queue.size() - 1);
+
+        assertThat(queue).hasSize(prefetched + 1);
+        assertThat(TaskPriority.from(queue.get(0))).isEqualTo(TaskPriority.BACKGROUND);
+        assertThat(TaskPriority.from(visible)).isEqualTo(TaskPriority.VISIBLE);
+        visible.run();
+        queue.forEach(Runnable::run);
+        assertThat(actual).isCompleted();
+        verify(this.pictures.get(1), times(1)).read();
+    }
+
+    @Test
+    @DisplayName("Test load picture being fetched decode it as visible")
+    public void testLoadPictureBeingFetchedDecodeItAsVisible() throws IOException {
+        var fetches = new ArrayList<Runnable>();
+        var decodes = new ArrayList<Runnable>();
+        var gallery = new PictureGallery("foo", this.pictures);
+
+        var cache = new ImageCache<Picture>(Long.MAX_VALUE);
+        var prefetch = new PicturePrefetch(
+            new PicturePools(fetches::add, decodes::add), cache, mock(ThumbnailStore.class)
+        );
+        prefetch.prefetch(gallery, gallery.current(), PicturePrefetch.Direction.FORWARD);
+        var actual = prefetch.load(this.pictures.get(1));
+        fetches.forEach(Runnable::run);
+
+        assertThat(fetches).hasSize(decodes.size());
+        assertThat(TaskPriority.from(decodes.get(0))).isEqualTo(TaskPriority.VISIBLE);
+        assertThat(TaskPriority.from(decodes.get(1))).isEqualTo(TaskPriority.BACKGROUND);
+        decodes.forEach(Runnable::run);
+        assertThat(actual).isCompleted();
+        verify(this.pictures.get(1), times(1)).read();
+    }
+
+    @Test
+    @DisplayName("Test fail the decode rejected by the executor")
+    public void testFailDecodeRejectedByExecutor() throws IOException {
+        var cache = new ImageCache<Picture>(Long.MAX_VALUE);
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException();
+        };
+        var prefetch = new PicturePrefetch(
+            new PicturePools(rejecting, rejecting), cache, mock(ThumbnailStore.class)
+        );
+        var actual = prefetch.load(this.pictures.get(0));
+
+        assertThat(actual).isCompletedExceptionally();
+        assertThat(prefetch.load(this.pictures.get(0))).isNotSameAs(actual);
+        verify(this.pictures.get(0), never()).read();
+    }
+
+    @Test
+    @DisplayName("Test decode picture to fit the resolution bounding box")
+    public void testDecodePictureToFitResolutionBoundingBox() {
+        var cache = new ImageCache<Picture>(Long.MAX_VALUE);
+        var prefetch = new PicturePrefetch(
+            new PicturePools(Runnable::run, Runnable::run), cache, mock(ThumbnailStore.class)
+        );
+        prefetch.resolution(100, 100);
+        var actual = prefetch.load(this.pictures.get(0)).join();
+
+        assertThat(actual.getRequestedWidth()).isEqualTo(128);
+        assertThat(actual.getRequestedHeight()).isEqualTo(128);
+        assertThat(prefetch.fits(actual)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test resolution bounding box is rounded up to a step")
+    public void testResolutionBoundingBoxIsRoundedUp() {
+        var cache = new ImageCache<Picture>(Long.MAX_VALUE);
+        var prefetch = new PicturePrefetch(
+            new PicturePools(Runnable::run, Runnable::run), cache, mock(ThumbnailStore.class)
+        );
+
+        assertThat(prefetch.resolution(100, 100)).isTrue();
+        assertThat(prefetch.resolution(120, 110)).isFalse();
+        assertThat(prefetch.resolution(130, 110)).isTrue();
+        assertThat(prefetch.resolution(0, 0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test load full resolution picture decode it again")
+    public void testLoadFullResolutionPictureDecodeAgain() throws IOException {
+        var pic = this.pictures.get(0);
+        var cache = new ImageCache<Picture>(Long.MAX_VALUE);
+        var prefetch = new PicturePrefetch(
+            new PicturePools(Runnable::run, Runnable::run), cache, mock(ThumbnailStore.class)
+        );
+        prefetch.resolution(100, 100);
+        prefetch.load(pic).join();
+        var actual = prefetch.loadFull(pic).join();
+
+        assertThat(actual.getRequestedWidth()).isZero();
+        assertThat(actual.getRequestedHeight()).isZero();
+        assertThat(prefetch.load(pic).join()).isSameAs(actual);
+        verify(pic, times(2)).read();
+    }
+
+    @Test
+    @DisplayName("Test preview the stored thumbnail without read the picture")
+    public void testPreviewStoredThumbnailWithoutReadPicture() throws IOException {
+        var pic = this.pictures.get(0);
+        var path = Path.of(PICTURE);
+        var thumbnail = new WritableImage(32, 32);
+        when(pic.path()).thenReturn(path);
+        var thumbnails = mock(ThumbnailStore.class);
+        when(thumbnails.get(path, 320)).thenReturn(thumbnail);
+        var cache = new ImageCache<Picture>(Long.MAX_VALUE);
+        var prefetch = new PicturePrefetch(
+            new PicturePools(Runnable::run, Runnable::run), cache, thumbnails
+        );
+        var actual = prefetch.preview(pic).join();
+
+        assertThat(actual).isSameAs(thumbnail);
+        verify(pic, never()).read();
+    }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.swardana.nayanika.control;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.swardana.nayanika.base.gallery.Picture;
+import com.swardana.nayanika.base.slideshow.PlayOrder;
+import com.swardana.nayanika.base.slideshow.SlideOrder;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit test for {@link PreloadSlideShow}.
+ *
+ * @author Sukma Wardana
+ */
+class PreloadSlideShowTest {
+
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(2);
+
+    @Test
+    @DisplayName("Test advance once the interval is over and the next picture is ready")
+    public void testAdvanceWhenNextPictureIsReady() {
+        var gallery = this.gallery(CompletableFuture.completedFuture(new WritableImage(1, 1)));
+        var pacer = new ManualPacer();
+
+        var slideShow = new PreloadSlideShow(gallery, 2, PlayOrder.FORWARD, pacer);
+        slideShow.play();
+        verify(gallery).preload(1);
+        verify(gallery).preload(2);
+        pacer.time = INTERVAL;
+        pacer.run(0);
+
+        verify(gallery, times(1)).next();
+        assertThat(slideShow.averageInterval()).isEqualTo(2000);
+        assertThat(slideShow.degraded()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test the gallery prefetch follows the play order while playing")
+    public void testGalleryPrefetchFollowsPlayOrder() {
+        var gallery = this.gallery(CompletableFuture.completedFuture(new WritableImage(1, 1)));
+
+        var slideShow = new PreloadSlideShow(gallery, 2, PlayOrder.SHUFFLE, new ManualPacer());
+        slideShow.play();
+        verify(gallery).prefetchOrder(any(SlideOrder.class));
+
+        slideShow.stop();
+        verify(gallery).prefetchOrder(isNull());
+    }
+
+    @Test
+    @DisplayName("Test wait for the next picture decode before advance")
+    public void testWaitNextPictureDecode() {
+        var decode = new CompletableFuture<Image>();
+        var gallery = this.gallery(decode);
+        var pacer = new ManualPacer();
+
+        var slideShow = new PreloadSlideShow(gallery, 2, PlayOrder.FORWARD, pacer);
+        slideShow.play();
+        pacer.time = INTERVAL;
+        pacer.run(0);
+        verify(gallery, never()).next();
+
+        pacer.time = INTERVAL + TimeUnit.MILLISECONDS.toNanos(300);
+        decode.complete(new WritableImage(1, 1));
+        pacer.run(2);
+        pacer.run(1);
+
+        verify(gallery, times(1)).next();
+        assertThat(slideShow.lateInterval()).isEqualTo(300);
+        assertThat(slideShow.degraded()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test advance anyway when the next picture decode can't keep up")
+    public void testAdvanceWhenDecodeCantKeepUp() {
+        var gallery = this.gallery(new CompletableFuture<>());
+        var pacer = new ManualPacer();
+
+        var slideShow = new PreloadSlideShow(gallery, 2, PlayOrder.FORWARD, pacer);
+        slideShow.play();
+        pacer.time = INTERVAL;
+        pacer.run(0);
+        verify(gallery, never()).next();
+
+        pacer.time = INTERVAL * 2;
+        pacer.run(1);
+
+        verify(gallery, times(1)).next();
+        assertThat(slideShow.lateInterval()).isEqualTo(2000);
+        assertThat(slideShow.degraded()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test stop on the last picture")
+    public void testStopOnLastPicture() {
+        var gallery = this.gallery(CompletableFuture.completedFuture(new WritableImage(1, 1)));
+        when(gallery.index()).thenReturn(2);
+        var pacer = new ManualPacer();
+        var finished = mock(Runnable.class);
+
+        var slideShow = new PreloadSlideShow(gallery, 2, PlayOrder.FORWARD, pacer);
+        slideShow.setOnFinished(finished);
+        slideShow.play();
+        pacer.run(0);
+
+        verify(gallery, never()).next();
+        verify(finished).run();
+        assertThat(pacer.tasks).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Test preload and advance following the play order")
+    public void testFollowPlayOrder() {
+        var gallery = this.gallery(CompletableFuture.completedFuture(new WritableImage(1, 1)));
+        var picture = mock(Picture.class);
+        when(gallery.index()).thenReturn(2);
+        when(gallery.picture(0)).thenReturn(picture);
+        var pacer = new ManualPacer();
+
+        var slideShow = new PreloadSlideShow(gallery, 2, PlayOrder.LOOP, pacer);
+        slideShow.play();
+        verify(gallery).preload(0);
+        verify(gallery).preload(1);
+        pacer.run(0);
+
+        verify(gallery).current(picture);
+    }
+
+    @Test
+    @DisplayName("Test not advance once stopped")
+    public void testNotAdvanceOnceStopped() {
+        var gallery = this.gallery(CompletableFuture.completedFuture(new WritableImage(1, 1)));
+        var pacer = new ManualPacer();
+
+        var slideShow = new PreloadSlideShow(gallery, 2, PlayOrder.FORWARD, pacer);
+        slideShow.play();
+        slideShow.stop();
+        pacer.run(0);
+
+        verify(gallery, never()).next();
+    }
+
+    private GallerySubject gallery(final CompletableFuture<Image> decode) {
+        var gallery = mock(GallerySubject.class);
+        when(gallery.index()).thenReturn(0);
+        when(gallery.size()).thenReturn(3);
+        when(gallery.preload(anyInt())).thenReturn(decode);
+        return gallery;
+    }
+
+    /**
+     * A slide-show clock moved by the test, the tasks run once requested.
+     */
+    private static final class ManualPacer implements PreloadSlideShow.Pacer {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+        private long time;
+
+        @Override
+        public long now() {
+            return this.time;
+        }
+
+        @Override
+        public void later(final Runnable task, final long delay) {
+            this.tasks.add(task);
+        }
+
+        void run(final int index) {
+            this.tasks.get(index).run();
+        }
+
+    }
+
+}
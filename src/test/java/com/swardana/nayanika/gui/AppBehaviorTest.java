@@ -23,6 +23,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.swardana.nayanika.base.Browser;
 import com.swardana.nayanika.base.FullScreen;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,7 +42,7 @@ class AppBehaviorTest {
         var mockControl = mock(FullScreen.class);
         when(mockControl.isFullScreen()).thenReturn(true);
 
-        var behavior = new AppBehavior(mockView, mockControl);
+        var behavior = new AppBehavior(mockView, mockControl, mock(Browser.class));
         behavior.initView();
 
         verify(mockView).enterFullScreen();
@@ -55,7 +56,7 @@ class AppBehaviorTest {
         var mockControl = mock(FullScreen.class);
         when(mockControl.isFullScreen()).thenReturn(true);
 
-        var behavior = new AppBehavior(mockView, mockControl);
+        var behavior = new AppBehavior(mockView, mockControl, mock(Browser.class));
         behavior.onViewWindowChange();
 
         verify(mockControl, never()).enterFullScreen();
@@ -70,7 +71,7 @@ class AppBehaviorTest {
         var mockControl = mock(FullScreen.class);
         when(mockControl.isFullScreen()).thenReturn(false);
 
-        var behavior = new AppBehavior(mockView, mockControl);
+        var behavior = new AppBehavior(mockView, mockControl, mock(Browser.class));
         behavior.onViewWindowChange();
 
         verify(mockControl).enterFullScreen();
@@ -84,7 +85,7 @@ class AppBehaviorTest {
         var mockControl = mock(FullScreen.class);
         when(mockControl.isFullScreen()).thenReturn(true);
 
-        var behavior = new AppBehavior(mockView, mockControl);
+        var behavior = new AppBehavior(mockView, mockControl, mock(Browser.class));
         behavior.onViewWindowChange();
 
         verify(mockControl).exitFullScreen();
@@ -98,7 +99,7 @@ class AppBehaviorTest {
         var mockControl = mock(FullScreen.class);
         when(mockControl.isFullScreen()).thenReturn(true);
 
-        var behavior = new AppBehavior(mockView, mockControl);
+        var behavior = new AppBehavior(mockView, mockControl, mock(Browser.class));
         behavior.onFullScreenControlChange();
 
         verify(mockView, never()).enterFullScreen();
@@ -113,7 +114,7 @@ class AppBehaviorTest {
         var mockControl = mock(FullScreen.class);
         when(mockControl.isFullScreen()).thenReturn(true);
 
-        var behavior = new AppBehavior(mockView, mockControl);
+        var behavior = new AppBehavior(mockView, mockControl, mock(Browser.class));
         behavior.onFullScreenControlChange();
 
         verify(mockView).enterFullScreen();
@@ -127,10 +128,24 @@ class AppBehaviorTest {
         var mockControl = mock(FullScreen.class);
         when(mockControl.isFullScreen()).thenReturn(false);
 
-        var behavior = new AppBehavior(mockView, mockControl);
+        var behavior = new AppBehavior(mockView, mockControl, mock(Browser.class));
         behavior.onFullScreenControlChange();
 
         verify(mockView).exitFullScreen();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Test display thumbnail grid instead of picture frame")
+    public void testDisplayThumbnailGridBecauseControlChange() {
+        var mockView = mock(AppView.class);
+        var mockBrowser = mock(Browser.class);
+        when(mockBrowser.layout()).thenReturn(Browser.Layout.GRID);
+
+        var behavior = new AppBehavior(mockView, mock(FullScreen.class), mockBrowser);
+        behavior.onBrowserControlChange();
+
+        verify(mockView).showGrid();
+        verify(mockView, never()).showFilmstrip();
+    }
+
+}
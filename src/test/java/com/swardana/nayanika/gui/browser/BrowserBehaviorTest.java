@@ -0,0 +1,118 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.gui.browser;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.swardana.nayanika.base.Browser;
+import com.swardana.nayanika.base.gallery.Gallery;
+import com.swardana.nayanika.base.gallery.Picture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link BrowserBehavior}.
+ *
+ * @author Sukma Wardana
+ */
+class BrowserBehaviorTest {
+
+    @Test
+    @DisplayName("Test browse the pictures of the new gallery")
+    public void testBrowsePicturesOfNewGallery() {
+        var mockView = mock(BrowserView.class);
+        var mockGallery = mock(Gallery.class);
+        when(mockView.gallery()).thenReturn(mockGallery);
+        when(mockGallery.size()).thenReturn(50000);
+        when(mockGallery.index()).thenReturn(42);
+
+        var behavior = new BrowserBehavior(mockView, mock(Browser.class));
+        behavior.onGalleryChange();
+
+        verify(mockView).updatePictures(50000);
+        verify(mockView).showPicture(42);
+    }
+
+    @Test
+    @DisplayName("Test show the thumbnails again when the pictures are merged mid-gallery")
+    public void testShowThumbnailsWhenPicturesMergedMidGallery() {
+        var mockView = mock(BrowserView.class);
+        var mockGallery = mock(Gallery.class);
+        when(mockView.gallery()).thenReturn(mockGallery);
+        when(mockGallery.size()).thenReturn(10, 13);
+        when(mockGallery.index()).thenReturn(6, 9);
+
+        var behavior = new BrowserBehavior(mockView, mock(Browser.class));
+        behavior.onGalleryChange();
+        behavior.onGallerySizeChange();
+
+        verify(mockView).updatePictures(13);
+        verify(mockView).showPicture(9);
+    }
+
+    @Test
+    @DisplayName("Test fit the grid columns to the view width")
+    public void testFitGridColumnsToViewWidth() {
+        var mockView = mock(BrowserView.class);
+        var mockBrowser = mock(Browser.class);
+        when(mockBrowser.layout()).thenReturn(Browser.Layout.GRID);
+
+        var behavior = new BrowserBehavior(mockView, mockBrowser);
+        behavior.onViewResize(BrowserBehavior.CELL_SIZE * 5 + 10);
+        behavior.onViewResize(BrowserBehavior.CELL_SIZE * 5 + 20);
+
+        verify(mockView).showGrid(5);
+    }
+
+    @Test
+    @DisplayName("Test not change the filmstrip when the view is resized")
+    public void testNotChangeFilmstripWhenViewResized() {
+        var mockView = mock(BrowserView.class);
+        var mockBrowser = mock(Browser.class);
+        when(mockBrowser.layout()).thenReturn(Browser.Layout.FILMSTRIP);
+
+        var behavior = new BrowserBehavior(mockView, mockBrowser);
+        behavior.onViewResize(BrowserBehavior.CELL_SIZE * 5);
+
+        verify(mockView, never()).showGrid(5);
+        verify(mockView, never()).showFilmstrip();
+    }
+
+    @Test
+    @DisplayName("Test select thumbnail on grid show the picture on the frame")
+    public void testSelectThumbnailOnGridShowPictureOnFrame() {
+        var mockView = mock(BrowserView.class);
+        var mockBrowser = mock(Browser.class);
+        var mockGallery = mock(Gallery.class);
+        var mockPicture = mock(Picture.class);
+        when(mockView.gallery()).thenReturn(mockGallery);
+        when(mockGallery.size()).thenReturn(10);
+        when(mockGallery.picture(7)).thenReturn(mockPicture);
+        when(mockBrowser.layout()).thenReturn(Browser.Layout.GRID);
+
+        var behavior = new BrowserBehavior(mockView, mockBrowser);
+        behavior.onViewPictureSelect(7);
+
+        verify(mockGallery).current(mockPicture);
+        verify(mockBrowser).showFilmstrip();
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.gui.browser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit test for {@link RowList}.
+ *
+ * @author Sukma Wardana
+ */
+class RowListTest {
+
+    @Test
+    @DisplayName("Test change every row when the pictures are merged mid-gallery")
+    public void testChangeEveryRowWhenPicturesMerged() {
+        var rows = new RowList();
+        rows.reset(3);
+        var changes = this.observe(rows);
+
+        rows.reset(4);
+
+        assertThat(rows).containsExactly(0, 1, 2, 3);
+        assertThat(changes).containsExactly("removed 0..3", "added 0..4");
+    }
+
+    @Test
+    @DisplayName("Test change every row when the number of rows stays the same")
+    public void testChangeEveryRowWhenRowCountStays() {
+        var rows = new RowList();
+        rows.reset(3);
+        var changes = this.observe(rows);
+
+        rows.reset(3);
+
+        assertThat(changes).containsExactly("removed 0..3", "added 0..3");
+    }
+
+    private List<String> observe(final RowList rows) {
+        var result = new ArrayList<String>();
+        rows.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                if (change.wasRemoved()) {
+                    result.add("removed " + change.getFrom() + ".." + change.getRemovedSize());
+                }
+                if (change.wasAdded()) {
+                    result.add("added " + change.getFrom() + ".." + change.getTo());
+                }
+            }
+        });
+        return result;
+    }
+
+}
@@ -20,12 +20,14 @@ package com.swardana.nayanika.gui.frame;
 
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.swardana.nayanika.base.FullScreen;
+import com.swardana.nayanika.base.Presentation;
 import com.swardana.nayanika.base.gallery.Gallery;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,15 +43,41 @@ class FrameBehaviorTest {
     @DisplayName("Test on view zoom")
     public void testViewOnZoomAction() {
         var mockView = mock(FrameView.class);
-        when(mockView.horizontalScrollOffset()).thenReturn(0.0);
-        when(mockView.verticalScrollOffset()).thenReturn(0.0);
+        when(mockView.pictureScale()).thenReturn(1.0);
         var mockControl = mock(FullScreen.class);
 
-        var behavior = new FrameBehavior(mockView, mockControl);
+        var behavior = new FrameBehavior(mockView, mockControl, mock(Presentation.class));
         behavior.onViewZoom(0.0, 0.0, 0.0);
+        behavior.onViewPulse(1);
 
+        verify(mockView).startMotion();
         verify(mockView).rescalePicture(anyDouble(), anyDouble());
-        verify(mockView).repositionScroller(anyDouble(), anyDouble(), anyDouble());
+        verify(mockView).scrollPicture(anyDouble(), anyDouble());
+        verify(mockView).stopMotion();
+    }
+
+    @Test
+    @DisplayName("Test zoom input between frames is coalesced and eased")
+    public void testZoomInputIsCoalescedAndEased() {
+        var mockView = mock(FrameView.class);
+        when(mockView.pictureScale()).thenReturn(1.0);
+
+        var mockControl = mock(FullScreen.class);
+
+        var behavior = new FrameBehavior(mockView, mockControl, mock(Presentation.class));
+        behavior.onViewZoom(40, 0, 0);
+        behavior.onViewPinch(2, 0, 0);
+        behavior.onViewPulse(1);
+
+        verify(mockView, never()).rescalePicture(eq(2.25), eq(2.25));
+        verify(mockView, never()).stopMotion();
+
+        for (int i = 1; i <= 20; i++) {
+            behavior.onViewPulse(1 + i * 100_000_000L);
+        }
+
+        verify(mockView, atLeastOnce()).rescalePicture(eq(2.25), eq(2.25));
+        verify(mockView, atLeastOnce()).stopMotion();
     }
 
     @Test
@@ -58,7 +86,7 @@ class FrameBehaviorTest {
         var mockView = mock(FrameView.class);
         var mockControl = mock(FullScreen.class);
 
-        var behavior = new FrameBehavior(mockView, mockControl);
+        var behavior = new FrameBehavior(mockView, mockControl, mock(Presentation.class));
         behavior.onViewMouseClicked(2);
 
         verify(mockView).resetPictureScale();
@@ -70,7 +98,7 @@ class FrameBehaviorTest {
         var mockView = mock(FrameView.class);
         var mockControl = mock(FullScreen.class);
 
-        var behavior = new FrameBehavior(mockView, mockControl);
+        var behavior = new FrameBehavior(mockView, mockControl, mock(Presentation.class));
         behavior.onViewMouseClicked(1);
 
         verify(mockView, never()).resetPictureScale();
@@ -82,11 +110,16 @@ class FrameBehaviorTest {
         var mockView = mock(FrameView.class);
         var mockControl = mock(FullScreen.class);
 
-        var behavior = new FrameBehavior(mockView, mockControl);
+        when(mockView.pictureScale()).thenReturn(2.0);
+        when(mockView.horizontalScrollOffset()).thenReturn(10.0);
+        when(mockView.verticalScrollOffset()).thenReturn(10.0);
+
+        var behavior = new FrameBehavior(mockView, mockControl, mock(Presentation.class));
         behavior.onViewMouseDragged(3, 2, 3, 2);
+        behavior.onViewPulse(1);
 
-        verify(mockView).horizontalMove(eq(1.0));
-        verify(mockView).verticalMove(eq(1.0));
+        verify(mockView).startMotion();
+        verify(mockView).scrollPicture(eq(9.0), eq(9.0));
     }
 
     @Test
@@ -97,7 +130,7 @@ class FrameBehaviorTest {
         when(mockView.gallery()).thenReturn(mockGallery);
         var mockControl = mock(FullScreen.class);
 
-        var behavior = new FrameBehavior(mockView, mockControl);
+        var behavior = new FrameBehavior(mockView, mockControl, mock(Presentation.class));
         behavior.onViewNextPicture();
 
         verify(mockView).gallery();
@@ -112,7 +145,7 @@ class FrameBehaviorTest {
         when(mockView.gallery()).thenReturn(mockGallery);
         var mockControl = mock(FullScreen.class);
 
-        var behavior = new FrameBehavior(mockView, mockControl);
+        var behavior = new FrameBehavior(mockView, mockControl, mock(Presentation.class));
         behavior.onViewPreviousPicture();
 
         verify(mockView).gallery();
@@ -125,11 +158,118 @@ class FrameBehaviorTest {
         var mockView = mock(FrameView.class);
         var mockControl = mock(FullScreen.class);
 
-        var behavior = new FrameBehavior(mockView, mockControl);
+        var behavior = new FrameBehavior(mockView, mockControl, mock(Presentation.class));
         behavior.onViewImageChange();
 
         verify(mockView).focus();
         verify(mockView).resetPictureScale();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Test view display loading indicator while picture is decoded")
+    public void testLoadingChangeTriggerLoadingIndicator() {
+        var mockView = mock(FrameView.class);
+        var mockControl = mock(FullScreen.class);
+
+        var behavior = new FrameBehavior(mockView, mockControl, mock(Presentation.class));
+        behavior.onViewLoadingChange(true);
+        behavior.onViewLoadingChange(false);
+
+        verify(mockView).showLoading();
+        verify(mockView).hideLoading();
+    }
+
+    @Test
+    @DisplayName("Test view resize request picture decoded within the frame")
+    public void testViewResizeRequestPictureResolution() {
+        var mockView = mock(FrameView.class);
+        var mockControl = mock(FullScreen.class);
+
+        var behavior = new FrameBehavior(mockView, mockControl, mock(Presentation.class));
+        behavior.onViewResize(800, 600);
+
+        verify(mockView).requestPictureResolution(eq(800.0), eq(600.0));
+    }
+
+    @Test
+    @DisplayName("Test zoom in request picture decoded on full resolution")
+    public void testViewZoomInRequestFullPictureResolution() {
+        var mockView = mock(FrameView.class);
+        var mockControl = mock(FullScreen.class);
+
+        var behavior = new FrameBehavior(mockView, mockControl, mock(Presentation.class));
+        behavior.onViewZoom(1.0, 1.0, 1.0);
+
+        verify(mockView).requestFullPictureResolution();
+    }
+
+    @Test
+    @DisplayName("Test zoom out doesn't request picture decoded on full resolution")
+    public void testViewZoomOutNotRequestFullPictureResolution() {
+        var mockView = mock(FrameView.class);
+        var mockControl = mock(FullScreen.class);
+
+        var behavior = new FrameBehavior(mockView, mockControl, mock(Presentation.class));
+        behavior.onViewZoom(-1.0, 1.0, 1.0);
+
+        verify(mockView, never()).requestFullPictureResolution();
+    }
+
+    @Test
+    @DisplayName("Test another picture is transited while the slide-show is running")
+    public void testTransitAnotherPictureOnRunningSlideShow() {
+        var mockView = mock(FrameView.class);
+        var mockPresentation = mock(Presentation.class);
+        when(mockPresentation.isRunning()).thenReturn(true);
+
+        var behavior = new FrameBehavior(mockView, mock(FullScreen.class), mockPresentation);
+        behavior.onViewImageUpdate(true);
+
+        verify(mockView).transitPicture();
+        verify(mockView, never()).showPicture();
+    }
+
+    @Test
+    @DisplayName("Test the same picture on other resolution is shown at once")
+    public void testShowSamePictureOnRunningSlideShow() {
+        var mockView = mock(FrameView.class);
+        var mockPresentation = mock(Presentation.class);
+        when(mockPresentation.isRunning()).thenReturn(true);
+
+        var behavior = new FrameBehavior(mockView, mock(FullScreen.class), mockPresentation);
+        behavior.onViewImageUpdate(false);
+
+        verify(mockView).showPicture();
+        verify(mockView, never()).transitPicture();
+    }
+
+    @Test
+    @DisplayName("Test another picture is shown at once without slide-show")
+    public void testShowAnotherPictureWithoutSlideShow() {
+        var mockView = mock(FrameView.class);
+
+        var behavior = new FrameBehavior(
+            mockView, mock(FullScreen.class), mock(Presentation.class)
+        );
+        behavior.onViewImageUpdate(true);
+
+        verify(mockView).showPicture();
+        verify(mockView, never()).transitPicture();
+    }
+
+    @Test
+    @DisplayName("Test stop the slide-show finish the transition")
+    public void testFinishTransitionOnStoppedSlideShow() {
+        var mockView = mock(FrameView.class);
+
+        var behavior = new FrameBehavior(
+            mockView, mock(FullScreen.class), mock(Presentation.class)
+        );
+        behavior.onViewPresentationChange(true);
+        verify(mockView, never()).finishTransition();
+
+        behavior.onViewPresentationChange(false);
+        verify(mockView).finishTransition();
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.gui.frame;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link FrameMotion}.
+ *
+ * @author Sukma Wardana
+ */
+class FrameMotionTest {
+
+    private static final double FRAME = 1 / 60.0;
+
+    @Test
+    @DisplayName("Test zoom keeps the pivot point still")
+    public void testZoomKeepsPivotPointStill() {
+        var motion = new FrameMotion();
+        motion.seed(1, 0, 0);
+        motion.zoom(2, 100, 50);
+
+        motion.step(FRAME);
+
+        assertThat(motion.scale()).isBetween(1.0, 2.0);
+        assertThat((motion.horizontalOffset() + 100) / motion.scale()).isCloseTo(100, within(1e-6));
+        assertThat((motion.verticalOffset() + 50) / motion.scale()).isCloseTo(50, within(1e-6));
+
+        this.settle(motion);
+
+        assertThat(motion.scale()).isEqualTo(2);
+        assertThat(motion.horizontalOffset()).isEqualTo(100);
+        assertThat(motion.verticalOffset()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Test zoom input is coalesced on the target")
+    public void testZoomInputIsCoalescedOnTarget() {
+        var motion = new FrameMotion();
+        motion.seed(1, 0, 0);
+        motion.zoom(2, 0, 0);
+        motion.zoom(1.5, 0, 0);
+
+        assertThat(motion.targetScale()).isEqualTo(3);
+        assertThat(motion.scale()).isEqualTo(1);
+        assertThat(motion.isMoving()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test zoom is limited to the scale range")
+    public void testZoomIsLimitedToScaleRange() {
+        var motion = new FrameMotion();
+        motion.seed(1, 0, 0);
+        motion.zoom(0.5, 0, 0);
+
+        assertThat(motion.targetScale()).isEqualTo(FrameMotion.MIN_SCALE);
+
+        motion.zoom(1000, 0, 0);
+
+        assertThat(motion.targetScale()).isEqualTo(FrameMotion.MAX_SCALE);
+    }
+
+    @Test
+    @DisplayName("Test drag follows on the next frame")
+    public void testDragFollowsOnNextFrame() {
+        var motion = new FrameMotion();
+        motion.seed(2, 40, 40);
+        motion.drag(10, -5);
+
+        assertThat(motion.step(FRAME)).isFalse();
+        assertThat(motion.horizontalOffset()).isEqualTo(30);
+        assertThat(motion.verticalOffset()).isEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("Test clamped scroll offset becomes the target")
+    public void testClampedScrollOffsetBecomesTarget() {
+        var motion = new FrameMotion();
+        motion.seed(2, 40, 40);
+        motion.drag(-100, 0);
+        motion.step(FRAME);
+        motion.clamp(100, 40);
+
+        assertThat(motion.step(FRAME)).isFalse();
+        assertThat(motion.horizontalOffset()).isEqualTo(100);
+    }
+
+    private void settle(final FrameMotion motion) {
+        var frames = 0;
+        while (motion.step(FRAME) && frames < 1000) {
+            frames++;
+        }
+    }
+
+}
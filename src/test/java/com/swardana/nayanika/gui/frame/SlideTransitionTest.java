@@ -0,0 +1,62 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.gui.frame;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link SlideTransition}.
+ *
+ * @author Sukma Wardana
+ */
+class SlideTransitionTest {
+
+    private static final String PROPERTY = "nayanika.slideshow.transition";
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(PROPERTY);
+    }
+
+    @Test
+    @DisplayName("Test cross-fade is the default transition")
+    public void testDefaultTransition() {
+        assertThat(SlideTransition.configured()).isEqualTo(SlideTransition.FADE);
+    }
+
+    @Test
+    @DisplayName("Test configure the transition by its name")
+    public void testConfiguredTransition() {
+        System.setProperty(PROPERTY, "Ken_Burns");
+
+        assertThat(SlideTransition.configured()).isEqualTo(SlideTransition.KEN_BURNS);
+    }
+
+    @Test
+    @DisplayName("Test unknown transition fallback to cross-fade")
+    public void testUnknownTransition() {
+        System.setProperty(PROPERTY, "dissolve");
+
+        assertThat(SlideTransition.configured()).isEqualTo(SlideTransition.FADE);
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.gui.frame;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.swardana.nayanika.base.gallery.MappedPicture;
+import com.swardana.nayanika.base.gallery.Picture;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.imageio.ImageIO;
+
+/**
+ * Unit test for {@link TileLayer}.
+ *
+ * @author Sukma Wardana
+ */
+class TileLayerTest {
+
+    private static final Bounds VIEWPORT = new BoundingBox(0, 0, 10, 10);
+
+    private List<Runnable> decodes;
+    private TileLayer layer;
+    private Picture first;
+    private Picture second;
+
+    @BeforeEach
+    public void setup(@TempDir final Path dir) throws IOException {
+        this.decodes = new ArrayList<>();
+        this.layer = new TileLayer(Runnable::run, this.decodes::add, Runnable::run);
+        this.layer.resize(100, 100);
+        this.first = huge(dir.resolve("first.png"));
+        this.second = huge(dir.resolve("second.png"));
+    }
+
+    @Test
+    @DisplayName("Test load the tiles within the viewport of the tiled picture")
+    public void testLoadVisibleTiles() {
+        this.layer.open(this.first);
+        this.layer.update(VIEWPORT, 100);
+
+        assertThat(this.layer.isTiled()).isTrue();
+        assertThat(this.decodes).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Test decode the visible tiles of a level by a single pass")
+    public void testDecodeVisibleTilesBySinglePass() {
+        this.layer.open(this.first);
+        this.layer.update(VIEWPORT, 100);
+        assertThat(this.decodes).hasSize(1);
+
+        this.decodes.get(0).run();
+
+        assertThat(this.layer.getChildren()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Test stop the pass once its tiles are no longer wanted")
+    public void testStopPassWhenTilesNoLongerWanted() {
+        this.layer.open(this.first);
+        this.layer.update(VIEWPORT, 100);
+        var pending = new ArrayList<>(this.decodes);
+
+        this.layer.clear();
+        this.decodes.clear();
+        pending.forEach(Runnable::run);
+
+        assertThat(this.layer.getChildren()).isEmpty();
+
+        this.layer.update(VIEWPORT, 100);
+
+        assertThat(this.decodes).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Test load the tiles again when the picture changes while they are decoded")
+    public void testLoadTilesAfterPictureChange() {
+        this.layer.open(this.first);
+        this.layer.update(VIEWPORT, 100);
+        var pending = new ArrayList<>(this.decodes);
+
+        this.layer.open(this.second);
+        this.decodes.clear();
+        pending.forEach(Runnable::run);
+        this.layer.update(VIEWPORT, 100);
+
+        assertThat(this.decodes).hasSameSizeAs(pending);
+    }
+
+    private static Picture huge(final Path file) throws IOException {
+        var img = new BufferedImage(8193, 16, BufferedImage.TYPE_BYTE_GRAY);
+        ImageIO.write(img, "png", file.toFile());
+        return new MappedPicture(file.getFileName().toString(), file);
+    }
+
+}
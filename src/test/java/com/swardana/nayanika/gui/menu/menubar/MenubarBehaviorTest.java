@@ -19,18 +19,19 @@
 package com.swardana.nayanika.gui.menu.menubar;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.swardana.nayanika.base.Browser;
 import com.swardana.nayanika.base.FullScreen;
 import com.swardana.nayanika.base.Toolbar;
-import com.swardana.nayanika.base.gallery.Exhibition;
 import com.swardana.nayanika.base.gallery.Gallery;
 import com.swardana.nayanika.base.gallery.SupportedPicture;
+import com.swardana.nayanika.base.slideshow.PlayOrder;
 import com.swardana.nayanika.base.Presentation;
+import com.swardana.nayanika.command.OpenGallery;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -51,7 +52,7 @@ class MenubarBehaviorTest {
     public void testEnablePresentationMenuWhenPictureGalleryChange() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
         var mockGallery = mock(Gallery.class);
@@ -59,7 +60,8 @@ class MenubarBehaviorTest {
         when(mockView.gallery()).thenReturn(mockGallery);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onPictureGalleryChange();
 
@@ -71,14 +73,15 @@ class MenubarBehaviorTest {
     public void testNotEnablePresentationMenuWhenPictureGalleryChangeToEmpty() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
 
         when(mockView.gallery()).thenReturn(null);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onPictureGalleryChange();
 
@@ -90,16 +93,17 @@ class MenubarBehaviorTest {
     public void testOpenPictureGalleryButUserNotChooseFile() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onOpenPictureGallery(null, SupportedPicture.ALL);
 
-        verify(mockExhibition, never()).exhibits(any(), any());
+        verify(mockOpenGallery, never()).execute(any(), any());
     }
 
     @Test
@@ -107,18 +111,19 @@ class MenubarBehaviorTest {
     public void testOpenPictureGalleryButUserChooseDirectory() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
         var mockFile = mock(File.class);
         when(mockFile.isDirectory()).thenReturn(true);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onOpenPictureGallery(mockFile, SupportedPicture.ALL);
 
-        verify(mockExhibition, never()).exhibits(any(), any());
+        verify(mockOpenGallery, never()).execute(any(), any());
     }
 
     @Test
@@ -126,7 +131,7 @@ class MenubarBehaviorTest {
     public void testOpenPictureGallery() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
         var mockFile = mock(File.class);
@@ -135,11 +140,12 @@ class MenubarBehaviorTest {
         when(mockFile.getAbsoluteFile()).thenReturn(new File(FOLDER));
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onOpenPictureGallery(mockFile, SupportedPicture.ALL);
 
-        verify(mockExhibition).exhibits(anyString(), any(), any());
+        verify(mockOpenGallery).execute(any(), any());
     }
 
     @Test
@@ -147,16 +153,17 @@ class MenubarBehaviorTest {
     public void testOpenPictureGalleryDirectoryButUserNotChooseDirectory() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onOpenPictureGalleryDirectory(null, SupportedPicture.ALL);
 
-        verify(mockExhibition, never()).exhibits(anyString(), any());
+        verify(mockOpenGallery, never()).execute(any(), any());
     }
 
     @Test
@@ -164,7 +171,7 @@ class MenubarBehaviorTest {
     public void testOpenPictureGalleryDirectory() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
         var mockFile = mock(File.class);
@@ -172,11 +179,12 @@ class MenubarBehaviorTest {
         when(mockFile.toPath()).thenReturn(Paths.get(FOLDER));
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onOpenPictureGalleryDirectory(mockFile, SupportedPicture.ALL);
 
-        verify(mockExhibition).exhibits(anyString(), any());
+        verify(mockOpenGallery).execute(any(), any());
     }
 
     @Test
@@ -184,7 +192,7 @@ class MenubarBehaviorTest {
     public void testChangeCurrentActivePictureToNext() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
         var mockGallery = mock(Gallery.class);
@@ -192,7 +200,8 @@ class MenubarBehaviorTest {
         when(mockView.gallery()).thenReturn(mockGallery);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onViewNextPicture();
 
@@ -205,7 +214,7 @@ class MenubarBehaviorTest {
     public void testChangeCurrentActivePictureToPrevious() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
         var mockGallery = mock(Gallery.class);
@@ -213,7 +222,8 @@ class MenubarBehaviorTest {
         when(mockView.gallery()).thenReturn(mockGallery);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onViewPreviousPicture();
 
@@ -226,7 +236,7 @@ class MenubarBehaviorTest {
     public void testChangeCurrentActivePictureToFirst() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
         var mockGallery = mock(Gallery.class);
@@ -234,7 +244,8 @@ class MenubarBehaviorTest {
         when(mockView.gallery()).thenReturn(mockGallery);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onViewFirstPicture();
 
@@ -247,7 +258,7 @@ class MenubarBehaviorTest {
     public void testChangeCurrentActivePictureToLast() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
         var mockGallery = mock(Gallery.class);
@@ -255,7 +266,8 @@ class MenubarBehaviorTest {
         when(mockView.gallery()).thenReturn(mockGallery);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onViewLastPicture();
 
@@ -268,12 +280,13 @@ class MenubarBehaviorTest {
     public void testEnterFullScreenMode() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onViewEnterFullScreen();
 
@@ -285,12 +298,13 @@ class MenubarBehaviorTest {
     public void testExitFullScreenMode() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onViewExitFullScreen();
 
@@ -302,14 +316,15 @@ class MenubarBehaviorTest {
     public void testReactFullScreenStateDisplayExitFullScreenMenu() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
 
         when(mockFullScreen.isFullScreen()).thenReturn(true);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onFullScreenControlChange();
 
@@ -321,14 +336,15 @@ class MenubarBehaviorTest {
     public void testReactFullScreenStateDisplayEnterFullScreenMenu() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
 
         when(mockFullScreen.isFullScreen()).thenReturn(false);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onFullScreenControlChange();
 
@@ -340,17 +356,20 @@ class MenubarBehaviorTest {
     public void testPlayPresentationWhenNotInFullScreenMode() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
         var mockGallery = mock(Gallery.class);
 
         when(mockView.gallery()).thenReturn(mockGallery);
         when(mockFullScreen.isFullScreen()).thenReturn(false);
-        when(mockGallery.isLast()).thenReturn(false);
+        when(mockGallery.index()).thenReturn(0);
+        when(mockGallery.size()).thenReturn(3);
+        when(mockPresentation.order()).thenReturn(PlayOrder.FORWARD);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onViewStartPresentation();
 
@@ -363,17 +382,20 @@ class MenubarBehaviorTest {
     public void testPlayPresentationWhenInFullScreenMode() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
         var mockGallery = mock(Gallery.class);
 
         when(mockView.gallery()).thenReturn(mockGallery);
         when(mockFullScreen.isFullScreen()).thenReturn(true);
-        when(mockGallery.isLast()).thenReturn(false);
+        when(mockGallery.index()).thenReturn(0);
+        when(mockGallery.size()).thenReturn(3);
+        when(mockPresentation.order()).thenReturn(PlayOrder.FORWARD);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onViewStartPresentation();
 
@@ -386,17 +408,20 @@ class MenubarBehaviorTest {
     public void testPlayPresentationWhenGalleryAlreadyInTheLastPicture() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
         var mockGallery = mock(Gallery.class);
 
         when(mockView.gallery()).thenReturn(mockGallery);
         when(mockFullScreen.isFullScreen()).thenReturn(false);
-        when(mockGallery.isLast()).thenReturn(true);
+        when(mockGallery.index()).thenReturn(2);
+        when(mockGallery.size()).thenReturn(3);
+        when(mockPresentation.order()).thenReturn(PlayOrder.FORWARD);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onViewStartPresentation();
 
@@ -404,17 +429,32 @@ class MenubarBehaviorTest {
         verify(mockPresentation, never()).start();
     }
 
+    @Test
+    @DisplayName("Test change slide-show play order")
+    public void testChangePresentationOrder() {
+        var mockPresentation = mock(Presentation.class);
+
+        var behavior = new MenubarBehavior(
+            mock(MenubarView.class), mock(FullScreen.class), mock(OpenGallery.class),
+            mockPresentation, mock(Toolbar.class), mock(Browser.class)
+        );
+        behavior.onViewPresentationOrder(PlayOrder.SHUFFLE);
+
+        verify(mockPresentation).order(PlayOrder.SHUFFLE);
+    }
+
     @Test
     @DisplayName("Test stop slide-show")
     public void testStopPresentation() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onViewStopPresentation();
 
@@ -426,14 +466,15 @@ class MenubarBehaviorTest {
     public void testReactPresentationStateDisplayStopPresentationMenu() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
 
         when(mockPresentation.isRunning()).thenReturn(true);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onPresentationControlChange();
 
@@ -445,19 +486,52 @@ class MenubarBehaviorTest {
     public void testReactPresentationStateDisplayStartPresentationMenu() {
         var mockView = mock(MenubarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockToolbar = mock(Toolbar.class);
 
         when(mockPresentation.isRunning()).thenReturn(false);
 
         var behavior = new MenubarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation, mockToolbar
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation, mockToolbar,
+            mock(Browser.class)
         );
         behavior.onPresentationControlChange();
 
         verify(mockView).showStartSlideShowMenu();
     }
 
+    @Test
+    @DisplayName("Test display thumbnail grid when its menu is checked")
+    public void testDisplayThumbnailGridWhenMenuChecked() {
+        var mockView = mock(MenubarView.class);
+        var mockBrowser = mock(Browser.class);
+        when(mockView.isGridVisible()).thenReturn(true);
+
+        var behavior = new MenubarBehavior(
+            mockView, mock(FullScreen.class), mock(OpenGallery.class), mock(Presentation.class),
+            mock(Toolbar.class), mockBrowser
+        );
+        behavior.onGridVisibilityChange();
+
+        verify(mockBrowser).showGrid();
+    }
+
+    @Test
+    @DisplayName("Test not hide thumbnail grid when filmstrip menu is unchecked")
+    public void testNotHideThumbnailGridWhenFilmstripMenuUnchecked() {
+        var mockView = mock(MenubarView.class);
+        var mockBrowser = mock(Browser.class);
+        when(mockView.isFilmstripVisible()).thenReturn(false);
+        when(mockBrowser.layout()).thenReturn(Browser.Layout.GRID);
+
+        var behavior = new MenubarBehavior(
+            mockView, mock(FullScreen.class), mock(OpenGallery.class), mock(Presentation.class),
+            mock(Toolbar.class), mockBrowser
+        );
+        behavior.onFilmstripVisibilityChange();
+
+        verify(mockBrowser, never()).hideBrowser();
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,77 @@
+/*
+ * Nayanika, picture viewer application
+ * Copyright (C) 2021  Sukma Wardana
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.swardana.nayanika.gui.menu.opening;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.swardana.nayanika.command.OpenGallery;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link OpeningBehavior}.
+ *
+ * @author Sukma Wardana
+ */
+class OpeningBehaviorTest {
+
+    @Test
+    @DisplayName("Test show the gallery opening progress")
+    public void testShowOpeningProgress() {
+        var mockView = mock(OpeningView.class);
+        var mockOpening = mock(OpenGallery.class);
+        when(mockOpening.openingProperty()).thenReturn(new SimpleBooleanProperty(true));
+        when(mockOpening.scannedProperty()).thenReturn(new SimpleIntegerProperty(12));
+
+        var behavior = new OpeningBehavior(mockView, mockOpening);
+        behavior.onOpeningChange();
+
+        verify(mockView).showOpening(12);
+        verify(mockView, never()).hideOpening();
+    }
+
+    @Test
+    @DisplayName("Test hide the gallery opening progress")
+    public void testHideOpeningProgress() {
+        var mockView = mock(OpeningView.class);
+        var mockOpening = mock(OpenGallery.class);
+        when(mockOpening.openingProperty()).thenReturn(new SimpleBooleanProperty(false));
+
+        var behavior = new OpeningBehavior(mockView, mockOpening);
+        behavior.onOpeningChange();
+
+        verify(mockView).hideOpening();
+    }
+
+    @Test
+    @DisplayName("Test cancel the gallery opening")
+    public void testCancelOpening() {
+        var mockOpening = mock(OpenGallery.class);
+
+        var behavior = new OpeningBehavior(mock(OpeningView.class), mockOpening);
+        behavior.onOpeningCancel();
+
+        verify(mockOpening).cancel();
+    }
+
+}
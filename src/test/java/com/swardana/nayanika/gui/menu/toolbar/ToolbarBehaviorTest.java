@@ -19,17 +19,17 @@
 package com.swardana.nayanika.gui.menu.toolbar;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.swardana.nayanika.base.FullScreen;
-import com.swardana.nayanika.base.gallery.Exhibition;
 import com.swardana.nayanika.base.gallery.Gallery;
 import com.swardana.nayanika.base.gallery.SupportedPicture;
+import com.swardana.nayanika.base.slideshow.PlayOrder;
 import com.swardana.nayanika.base.Presentation;
+import com.swardana.nayanika.command.OpenGallery;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -49,14 +49,14 @@ class ToolbarBehaviorTest {
     public void testEnablePresentationMenuWhenPictureGalleryChange() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockGallery = mock(Gallery.class);
 
         when(mockView.gallery()).thenReturn(mockGallery);
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onPictureGalleryChange();
 
@@ -68,13 +68,13 @@ class ToolbarBehaviorTest {
     public void testNotEnablePresentationMenuWhenPictureGalleryChangeToEmpty() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
 
         when(mockView.gallery()).thenReturn(null);
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onPictureGalleryChange();
 
@@ -86,15 +86,15 @@ class ToolbarBehaviorTest {
     public void testOpenPictureGalleryButUserNotChooseFile() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onOpenPictureGallery(null, SupportedPicture.ALL);
 
-        verify(mockExhibition, never()).exhibits(anyString(), any());
+        verify(mockOpenGallery, never()).execute(any(), any());
     }
 
     @Test
@@ -102,17 +102,17 @@ class ToolbarBehaviorTest {
     public void testOpenPictureGalleryButUserChooseDirectory() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockFile = mock(File.class);
         when(mockFile.isDirectory()).thenReturn(true);
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onOpenPictureGallery(mockFile, SupportedPicture.ALL);
 
-        verify(mockExhibition, never()).exhibits(anyString(), any());
+        verify(mockOpenGallery, never()).execute(any(), any());
     }
 
     @Test
@@ -120,7 +120,7 @@ class ToolbarBehaviorTest {
     public void testOpenPictureGallery() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockFile = mock(File.class);
         when(mockFile.isDirectory()).thenReturn(false);
@@ -128,11 +128,11 @@ class ToolbarBehaviorTest {
         when(mockFile.getAbsoluteFile()).thenReturn(new File(FOLDER));
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onOpenPictureGallery(mockFile, SupportedPicture.ALL);
 
-        verify(mockExhibition).exhibits(anyString(), any(), any());
+        verify(mockOpenGallery).execute(any(), any());
     }
 
     @Test
@@ -140,14 +140,14 @@ class ToolbarBehaviorTest {
     public void testChangeCurrentActivePictureToNext() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockGallery = mock(Gallery.class);
 
         when(mockView.gallery()).thenReturn(mockGallery);
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onViewNextPicture();
 
@@ -160,14 +160,14 @@ class ToolbarBehaviorTest {
     public void testChangeCurrentActivePictureToPrevious() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockGallery = mock(Gallery.class);
 
         when(mockView.gallery()).thenReturn(mockGallery);
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onViewPreviousPicture();
 
@@ -180,14 +180,14 @@ class ToolbarBehaviorTest {
     public void testChangeCurrentActivePictureToFirst() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockGallery = mock(Gallery.class);
 
         when(mockView.gallery()).thenReturn(mockGallery);
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onViewFirstPicture();
 
@@ -200,14 +200,14 @@ class ToolbarBehaviorTest {
     public void testChangeCurrentActivePictureToLast() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockGallery = mock(Gallery.class);
 
         when(mockView.gallery()).thenReturn(mockGallery);
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onViewLastPicture();
 
@@ -220,11 +220,11 @@ class ToolbarBehaviorTest {
     public void testEnterFullScreenMode() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onViewEnterFullScreen();
 
@@ -236,11 +236,11 @@ class ToolbarBehaviorTest {
     public void testExitFullScreenMode() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onViewExitFullScreen();
 
@@ -252,13 +252,13 @@ class ToolbarBehaviorTest {
     public void testReactFullScreenStateDisplayExitFullScreenMenu() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
 
         when(mockFullScreen.isFullScreen()).thenReturn(true);
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onFullScreenControlChange();
 
@@ -270,13 +270,13 @@ class ToolbarBehaviorTest {
     public void testReactFullScreenStateDisplayEnterFullScreenMenu() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
 
         when(mockFullScreen.isFullScreen()).thenReturn(false);
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onFullScreenControlChange();
 
@@ -288,16 +288,18 @@ class ToolbarBehaviorTest {
     public void testPlayPresentationWhenNotInFullScreenMode() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockGallery = mock(Gallery.class);
 
         when(mockView.gallery()).thenReturn(mockGallery);
         when(mockFullScreen.isFullScreen()).thenReturn(false);
-        when(mockGallery.isLast()).thenReturn(false);
+        when(mockGallery.index()).thenReturn(0);
+        when(mockGallery.size()).thenReturn(3);
+        when(mockPresentation.order()).thenReturn(PlayOrder.FORWARD);
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onViewStartPresentation();
 
@@ -310,16 +312,18 @@ class ToolbarBehaviorTest {
     public void testPlayPresentationWhenInFullScreenMode() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockGallery = mock(Gallery.class);
 
         when(mockView.gallery()).thenReturn(mockGallery);
         when(mockFullScreen.isFullScreen()).thenReturn(true);
-        when(mockGallery.isLast()).thenReturn(false);
+        when(mockGallery.index()).thenReturn(0);
+        when(mockGallery.size()).thenReturn(3);
+        when(mockPresentation.order()).thenReturn(PlayOrder.FORWARD);
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onViewStartPresentation();
 
@@ -332,16 +336,18 @@ class ToolbarBehaviorTest {
     public void testPlayPresentationWhenGalleryAlreadyInTheLastPicture() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
         var mockGallery = mock(Gallery.class);
 
         when(mockView.gallery()).thenReturn(mockGallery);
         when(mockFullScreen.isFullScreen()).thenReturn(false);
-        when(mockGallery.isLast()).thenReturn(true);
+        when(mockGallery.index()).thenReturn(2);
+        when(mockGallery.size()).thenReturn(3);
+        when(mockPresentation.order()).thenReturn(PlayOrder.FORWARD);
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onViewStartPresentation();
 
@@ -349,16 +355,39 @@ class ToolbarBehaviorTest {
         verify(mockPresentation, never()).start();
     }
 
+    @Test
+    @DisplayName("Test play looping slide-show when picture gallery already in the last")
+    public void testPlayLoopPresentationWhenGalleryAlreadyInTheLastPicture() {
+        var mockView = mock(ToolbarView.class);
+        var mockFullScreen = mock(FullScreen.class);
+        var mockOpenGallery = mock(OpenGallery.class);
+        var mockPresentation = mock(Presentation.class);
+        var mockGallery = mock(Gallery.class);
+
+        when(mockView.gallery()).thenReturn(mockGallery);
+        when(mockFullScreen.isFullScreen()).thenReturn(false);
+        when(mockGallery.index()).thenReturn(2);
+        when(mockGallery.size()).thenReturn(3);
+        when(mockPresentation.order()).thenReturn(PlayOrder.LOOP);
+
+        var behavior = new ToolbarBehavior(
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
+        );
+        behavior.onViewStartPresentation();
+
+        verify(mockPresentation).start();
+    }
+
     @Test
     @DisplayName("Test stop slide-show")
     public void testStopPresentation() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onViewStopPresentation();
 
@@ -370,13 +399,13 @@ class ToolbarBehaviorTest {
     public void testReactPresentationStateDisplayStopPresentationMenu() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
 
         when(mockPresentation.isRunning()).thenReturn(true);
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onPresentationControlChange();
 
@@ -388,13 +417,13 @@ class ToolbarBehaviorTest {
     public void testReactPresentationStateDisplayStartPresentationMenu() {
         var mockView = mock(ToolbarView.class);
         var mockFullScreen = mock(FullScreen.class);
-        var mockExhibition = mock(Exhibition.class);
+        var mockOpenGallery = mock(OpenGallery.class);
         var mockPresentation = mock(Presentation.class);
 
         when(mockPresentation.isRunning()).thenReturn(false);
 
         var behavior = new ToolbarBehavior(
-            mockView, mockFullScreen, mockExhibition, mockPresentation
+            mockView, mockFullScreen, mockOpenGallery, mockPresentation
         );
         behavior.onPresentationControlChange();
 